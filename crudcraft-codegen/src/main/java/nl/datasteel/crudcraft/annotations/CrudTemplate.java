@@ -24,8 +24,8 @@ import java.util.Set;
  * These templates can be used to configure the behavior of CRUD endpoints in applications.
  */
 public enum CrudTemplate implements CrudEndpointPolicy {
-    /** Full API with every endpoint enabled. */
-    FULL(EnumSet.allOf(CrudEndpoint.class)),
+    /** Full API with every endpoint enabled, except the opt-in {@link CrudEndpoint#STREAM}. */
+    FULL(EnumSet.complementOf(EnumSet.of(CrudEndpoint.STREAM))),
 
     /** Only read operations. */
     READ_ONLY(EnumSet.of(
@@ -63,10 +63,11 @@ public enum CrudTemplate implements CrudEndpointPolicy {
             CrudEndpoint.COUNT
     )),
 
-    /** Everything except delete. */
+    /** Everything except delete and the opt-in stream. */
     NO_DELETE(EnumSet.complementOf(EnumSet.of(
             CrudEndpoint.DELETE,
-            CrudEndpoint.BULK_DELETE
+            CrudEndpoint.BULK_DELETE,
+            CrudEndpoint.STREAM
     ))),
 
     /** No bulk operations at all. */
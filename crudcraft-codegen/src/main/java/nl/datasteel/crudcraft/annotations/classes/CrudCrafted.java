@@ -24,6 +24,7 @@ import nl.datasteel.crudcraft.annotations.CrudEndpointPolicy;
 import nl.datasteel.crudcraft.annotations.CrudTemplate;
 import nl.datasteel.crudcraft.annotations.security.CrudSecurityPolicy;
 import nl.datasteel.crudcraft.annotations.security.policy.PermitAllSecurityPolicy;
+import nl.datasteel.crudcraft.runtime.controller.HttpCaching;
 
 /**
  * Annotation to mark a class as a CrudCrafted entity. When applied,
@@ -68,12 +69,20 @@ public @interface CrudCrafted {
     Class<? extends CrudEndpointPolicy> endpointPolicy() default CrudTemplate.class;
 
     /**
-     * Toggle table/endpoint security. When {@code false}, no @PreAuthorize wrappers are generated.
+     * Toggle table/endpoint security. When {@code false}, no authorization checks are generated.
      */
     boolean secure() default true;
 
     /**
-     * The table-level security policy to use for generating @PreAuthorize expressions.
+     * The table-level security policy for the generated endpoints. Built-in expressions are
+     * compiled into direct checks; custom ones are applied with @PreAuthorize.
      */
     Class<? extends CrudSecurityPolicy> securityPolicy() default PermitAllSecurityPolicy.class;
+
+    /**
+     * The Cache-Control header sent by the generated read endpoints, next to their ETag.
+     * The default makes clients revalidate every time, which costs a single version
+     * lookup while the entity is unchanged. An empty value sends no header.
+     */
+    String cacheControl() default HttpCaching.DEFAULT_CACHE_CONTROL;
 }
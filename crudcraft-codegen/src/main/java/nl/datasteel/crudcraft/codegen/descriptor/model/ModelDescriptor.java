@@ -181,6 +181,16 @@ public class ModelDescriptor {
         return endpoints.getEndpointPolicy();
     }
 
+    /**
+     * Returns the Cache-Control header the read endpoints send, as declared on
+     * {@code @CrudCrafted}.
+     *
+     * @return the header value, empty when no header is sent
+     */
+    public String getCacheControl() {
+        return endpoints.getCacheControl();
+    }
+
     /**
      * Returns whether the model is secure, meaning it has a defined security policy.
      *
@@ -208,6 +218,15 @@ public class ModelDescriptor {
         return security.getRowSecurityHandlers();
     }
 
+    /**
+     * Returns the property row security filters on, as declared on {@code @RowSecurity}.
+     *
+     * @return the owner property name, or null if not declared
+     */
+    public String getRowSecurityOwnerField() {
+        return security.getRowSecurityOwnerField();
+    }
+
     /**
      * Returns whether any writable field (included in the request DTO)
      * in this model is annotated with {@code @Lob}.
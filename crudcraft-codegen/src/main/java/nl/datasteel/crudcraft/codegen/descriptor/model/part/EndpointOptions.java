@@ -20,6 +20,7 @@ import java.util.Objects;
 import nl.datasteel.crudcraft.annotations.CrudEndpoint;
 import nl.datasteel.crudcraft.annotations.CrudEndpointPolicy;
 import nl.datasteel.crudcraft.annotations.CrudTemplate;
+import nl.datasteel.crudcraft.runtime.controller.HttpCaching;
 
 /**
  * Options related to endpoint generation for a model.
@@ -28,10 +29,12 @@ import nl.datasteel.crudcraft.annotations.CrudTemplate;
  * @param omitEndpoints endpoints to omit
  * @param includeEndpoints endpoints to explicitly include
  * @param endpointPolicy custom policy class resolving endpoints
+ * @param cacheControl the Cache-Control header of the read endpoints, empty for none
  */
 public record EndpointOptions(CrudTemplate template,
                               CrudEndpoint[] omitEndpoints, CrudEndpoint[] includeEndpoints,
-                              Class<? extends CrudEndpointPolicy> endpointPolicy) {
+                              Class<? extends CrudEndpointPolicy> endpointPolicy,
+                              String cacheControl) {
 
     /**
      * Immutable constructor for EndpointOptions.
@@ -41,6 +44,22 @@ public record EndpointOptions(CrudTemplate template,
                 Arrays.copyOf(omitEndpoints, omitEndpoints.length);
         includeEndpoints = includeEndpoints == null ? new CrudEndpoint[0] :
                 Arrays.copyOf(includeEndpoints, includeEndpoints.length);
+        cacheControl = cacheControl == null ? "" : cacheControl.trim();
+    }
+
+    /**
+     * Creates endpoint options with the default Cache-Control policy.
+     *
+     * @param template the base endpoint template
+     * @param omitEndpoints endpoints to omit
+     * @param includeEndpoints endpoints to explicitly include
+     * @param endpointPolicy custom policy class resolving endpoints
+     */
+    public EndpointOptions(CrudTemplate template,
+                           CrudEndpoint[] omitEndpoints, CrudEndpoint[] includeEndpoints,
+                           Class<? extends CrudEndpointPolicy> endpointPolicy) {
+        this(template, omitEndpoints, includeEndpoints, endpointPolicy,
+                HttpCaching.DEFAULT_CACHE_CONTROL);
     }
 
     /**
@@ -95,6 +114,15 @@ public record EndpointOptions(CrudTemplate template,
         return endpointPolicy;
     }
 
+    /**
+     * Returns the Cache-Control header sent by the read endpoints of this model.
+     *
+     * @return the header value, empty when no header is sent
+     */
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
     /**
      * Checks if the EndpointOptions is equal to another object.
      *
@@ -107,22 +135,25 @@ public record EndpointOptions(CrudTemplate template,
                     CrudTemplate otherTemplate,
                     CrudEndpoint[] otherOmit,
                     CrudEndpoint[] otherInclude,
-                    Class<? extends CrudEndpointPolicy> otherPolicy
+                    Class<? extends CrudEndpointPolicy> otherPolicy,
+                    String otherCacheControl
                 )
                 && template == otherTemplate
                 && Arrays.equals(omitEndpoints, otherOmit)
                 && Arrays.equals(includeEndpoints, otherInclude)
-                && Objects.equals(endpointPolicy, otherPolicy);
+                && Objects.equals(endpointPolicy, otherPolicy)
+                && Objects.equals(cacheControl, otherCacheControl);
     }
 
     /**
      * Computes the hash code for the EndpointOptions.
      *
-     * @return the hash code based on template, omitEndpoints, includeEndpoints, and endpointPolicy
+     * @return the hash code based on template, omitEndpoints, includeEndpoints, endpointPolicy
+     *     and cacheControl
      */
     @Override
     public int hashCode() {
-        int result = Objects.hash(template, endpointPolicy);
+        int result = Objects.hash(template, endpointPolicy, cacheControl);
         result = 31 * result + Arrays.hashCode(omitEndpoints);
         result = 31 * result + Arrays.hashCode(includeEndpoints);
         return result;
@@ -140,6 +171,7 @@ public record EndpointOptions(CrudTemplate template,
                 + ", omitEndpoints=" + Arrays.toString(omitEndpoints)
                 + ", includeEndpoints=" + Arrays.toString(includeEndpoints)
                 + ", endpointPolicy=" + endpointPolicy
+                + ", cacheControl=" + cacheControl
                 + '}';
     }
 }
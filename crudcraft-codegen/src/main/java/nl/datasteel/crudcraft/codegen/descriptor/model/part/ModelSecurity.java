@@ -24,9 +24,22 @@ import nl.datasteel.crudcraft.annotations.security.CrudSecurityPolicy;
  * @param secure whether the model endpoints require security
  * @param securityPolicy the class handling security policies
  * @param rowSecurityHandlers optional row-level security handler class names
+ * @param rowSecurityOwnerField the property row security filters on, or null if not declared
  */
 public record ModelSecurity(boolean secure, Class<? extends CrudSecurityPolicy> securityPolicy,
-        List<String> rowSecurityHandlers) {
+        List<String> rowSecurityHandlers, String rowSecurityOwnerField) {
+
+    /**
+     * Creates security options without a declared row security owner field.
+     *
+     * @param secure whether the model endpoints require security
+     * @param securityPolicy the class handling security policies
+     * @param rowSecurityHandlers optional row-level security handler class names
+     */
+    public ModelSecurity(boolean secure, Class<? extends CrudSecurityPolicy> securityPolicy,
+                         List<String> rowSecurityHandlers) {
+        this(secure, securityPolicy, rowSecurityHandlers, null);
+    }
 
     /**
      * Returns true if the model endpoints require security.
@@ -54,4 +67,13 @@ public record ModelSecurity(boolean secure, Class<? extends CrudSecurityPolicy>
     public List<String> getRowSecurityHandlers() {
         return rowSecurityHandlers;
     }
+
+    /**
+     * Returns the property row security filters on, as declared on {@code @RowSecurity}.
+     *
+     * @return the owner property name, or null if not declared
+     */
+    public String getRowSecurityOwnerField() {
+        return rowSecurityOwnerField;
+    }
 }
@@ -36,6 +36,44 @@ public interface ProjectionMetadata<D> {
      */
     List<Attribute> attributes();
 
+    /**
+     * Precompiled JPQL select items for this DTO, with paths relative to {@code alias}.
+     * Columns are listed in the order {@link #instantiate} reads them; collection
+     * attributes are not selected and must be hydrated separately.
+     *
+     * @param alias the alias of the entity the DTO is projected from
+     * @return the comma separated select items, or {@code null} when the DTO has no
+     *         constructor matching its attributes and cannot be precompiled
+     */
+    default String jpqlSelect(String alias) {
+        return null;
+    }
+
+    /**
+     * Left joins required by {@link #jpqlSelect}, each prefixed with a space.
+     * Join aliases are derived from {@code alias}, so they never clash with it.
+     *
+     * @param alias the alias of the entity the DTO is projected from
+     * @return the join clauses, or an empty string when none are needed
+     */
+    default String jpqlJoins(String alias) {
+        return "";
+    }
+
+    /**
+     * Creates the DTO from a row selected with {@link #jpqlSelect}, leaving collection
+     * attributes empty.
+     *
+     * @param row the result row
+     * @param offset the index of the first column selected by {@link #jpqlSelect}
+     * @return the DTO instance
+     * @throws UnsupportedOperationException if {@link #jpqlSelect} returns {@code null}
+     */
+    default D instantiate(Object[] row, int offset) {
+        throw new UnsupportedOperationException(
+                "No precompiled JPQL projection for " + dtoType().getName());
+    }
+
     /**
      * Attribute binding between DTO constructor arguments and entity paths.
      */
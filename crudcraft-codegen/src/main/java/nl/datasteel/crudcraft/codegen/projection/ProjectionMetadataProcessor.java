@@ -28,8 +28,12 @@ import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import com.squareup.javapoet.WildcardTypeName;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import javax.annotation.processing.AbstractProcessor;
@@ -37,33 +41,71 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 import nl.datasteel.crudcraft.annotations.fields.ProjectionField;
 
 /**
  * Annotation processor that scans DTO classes and emits {@link ProjectionMetadata}
- * implementations along with a registry to expose them.
+ * implementations along with a registry to expose them. The registry is listed in
+ * {@code META-INF/services} so registries of several modules can be discovered
+ * with {@link java.util.ServiceLoader}. It is generated in the common package of the
+ * module's DTOs, so modules with DTOs in different packages get distinct registries.
  */
 @AutoService(Processor.class)
 @SupportedAnnotationTypes("*")
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions(ProjectionMetadataProcessor.REGISTRY_PACKAGE_OPTION)
 public class ProjectionMetadataProcessor extends AbstractProcessor {
 
+    /**
+     * Processor option naming the package of the generated registry, overriding the
+     * common package of the DTOs.
+     */
+    public static final String REGISTRY_PACKAGE_OPTION = "crudcraft.projection.registryPackage";
+
+    /**
+     * Package of the generated registry when {@link #REGISTRY_PACKAGE_OPTION} is not set
+     * and the DTOs share no package.
+     */
+    public static final String DEFAULT_REGISTRY_PACKAGE = "nl.datasteel.crudcraft.projection.mapping";
+
+    /**
+     * Simple name of the generated registry.
+     */
+    public static final String REGISTRY_NAME = "GeneratedProjectionMetadataRegistry";
+
+    /**
+     * Placeholder for the entity alias in precompiled JPQL templates.
+     */
+    private static final String ALIAS_TOKEN = "{alias}";
+
     /**
      * List of generated metadata classes.
      */
     private final List<ClassName> generatedMetadata = new ArrayList<>();
 
+    /**
+     * Cached results of {@link #isJpqlSupported}, keyed by DTO name.
+     */
+    private final Map<String, Boolean> jpqlSupport = new HashMap<>();
+
     /**
      * Types utility for type operations.
      */
@@ -279,16 +321,19 @@ public class ProjectionMetadataProcessor extends AbstractProcessor {
                 .addStatement("return ATTRIBUTES")
                 .build();
 
-        TypeSpec metadataType = TypeSpec.classBuilder(metadataClass)
+        TypeSpec.Builder metadataType = TypeSpec.classBuilder(metadataClass)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addSuperinterface(metadataInterface)
                 .addField(attributesField)
                 .addMethod(dtoType)
-                .addMethod(attributes)
-                .addType(attrClass)
-                .build();
+                .addMethod(attributes);
+        JpqlShape shape = jpqlShape(dto);
+        if (shape != null) {
+            addJpqlMethods(metadataType, dtoClass, shape);
+        }
+        metadataType.addType(attrClass);
 
-        JavaFile.builder(pkg, metadataType)
+        JavaFile.builder(pkg, metadataType.build())
                 .skipJavaLangImports(true)
                 .indent("    ")
                 .build()
@@ -296,6 +341,269 @@ public class ProjectionMetadataProcessor extends AbstractProcessor {
         generatedMetadata.add(metadataClass);
     }
 
+    /**
+     * Adds the precompiled JPQL select, joins and row constructor to the metadata class.
+     *
+     * @param metadataType the metadata class being built
+     * @param dtoClass the DTO class
+     * @param shape the precompiled JPQL shape of the DTO
+     */
+    private void addJpqlMethods(TypeSpec.Builder metadataType, ClassName dtoClass,
+                                JpqlShape shape) {
+        metadataType.addMethod(MethodSpec.methodBuilder("jpqlSelect")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addParameter(String.class, "alias")
+                        .addStatement("return $L", aliasTemplate(shape.select()))
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("jpqlJoins")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addParameter(String.class, "alias")
+                        .addStatement("return $L", aliasTemplate(shape.joins()))
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("instantiate")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                .addMember("value", "$S", "unchecked")
+                                .build())
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(dtoClass)
+                        .addParameter(Object[].class, "row")
+                        .addParameter(TypeName.INT, "offset")
+                        .addStatement("return $L", shape.instantiate())
+                        .build());
+    }
+
+    /**
+     * Turns a template containing {@link #ALIAS_TOKEN} into a string concatenation
+     * with the {@code alias} parameter.
+     *
+     * @param template the JPQL template
+     * @return the concatenation expression
+     */
+    private static CodeBlock aliasTemplate(String template) {
+        String[] parts = template.split(java.util.regex.Pattern.quote(ALIAS_TOKEN), -1);
+        List<CodeBlock> pieces = new ArrayList<>();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                pieces.add(CodeBlock.of("alias"));
+            }
+            if (!parts[i].isEmpty()) {
+                pieces.add(CodeBlock.of("$S", parts[i]));
+            }
+        }
+        return pieces.isEmpty() ? CodeBlock.of("$S", "") : CodeBlock.join(pieces, " + ");
+    }
+
+    /**
+     * Computes the precompiled JPQL shape of a DTO.
+     *
+     * @param dto the DTO type
+     * @return the shape, or {@code null} when the DTO cannot be precompiled
+     */
+    private JpqlShape jpqlShape(TypeElement dto) {
+        JpqlContext ctx = new JpqlContext(
+                elements.getPackageOf(dto).getQualifiedName().toString());
+        CodeBlock instantiate = jpqlConstructor(dto, ALIAS_TOKEN, ctx, new HashSet<>());
+        if (instantiate == null) {
+            return null;
+        }
+        return new JpqlShape(String.join(", ", ctx.columns), ctx.joins.toString(), instantiate);
+    }
+
+    /**
+     * Builds the constructor call for a DTO projected from {@code from}, registering
+     * the selected columns and joins in the context. Nested DTOs are inlined and read
+     * from left joins; collections are passed empty and hydrated later.
+     *
+     * @param dto the DTO type
+     * @param from the JPQL alias template the DTO is projected from
+     * @param ctx the shape being built
+     * @param enclosing the DTOs currently being inlined, to detect cycles
+     * @return the constructor call, or {@code null} when the DTO cannot be precompiled
+     */
+    private CodeBlock jpqlConstructor(TypeElement dto, String from, JpqlContext ctx,
+                                      Set<String> enclosing) {
+        if (!enclosing.add(dto.getQualifiedName().toString())) {
+            return null;
+        }
+        List<Element> fields = new ArrayList<>();
+        for (Element e : dto.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.FIELD) {
+                fields.add(e);
+            }
+        }
+        if (!hasMatchingConstructor(dto, fields, ctx.rootPackage)) {
+            return null;
+        }
+
+        Map<String, String> joinAliases = new HashMap<>();
+        List<CodeBlock> args = new ArrayList<>();
+        for (Element field : fields) {
+            TypeMirror fieldType = field.asType();
+            if (fieldType.getKind() == TypeKind.TYPEVAR) {
+                return null;
+            }
+            String path = field.getSimpleName().toString();
+            ProjectionField projectionField = field.getAnnotation(ProjectionField.class);
+            if (projectionField != null && !projectionField.value().isEmpty()) {
+                path = projectionField.value();
+            }
+
+            if (isCollection(fieldType)) {
+                if (fieldType instanceof DeclaredType dt && !dt.getTypeArguments().isEmpty()) {
+                    TypeElement element = (TypeElement) types.asElement(
+                            dt.getTypeArguments().getFirst());
+                    if (element != null && isDto(element) && !isJpqlSupported(element)) {
+                        return null;
+                    }
+                }
+                CodeBlock empty = emptyCollection(fieldType);
+                if (empty == null) {
+                    return null;
+                }
+                args.add(empty);
+                continue;
+            }
+
+            TypeElement valueType = (TypeElement) types.asElement(fieldType);
+            if (valueType != null && isDto(valueType)) {
+                String joinAlias = ctx.nextJoinAlias();
+                ctx.joins.append(" left join ").append(from).append('.').append(path)
+                        .append(' ').append(joinAlias);
+                CodeBlock nested = jpqlConstructor(valueType, joinAlias, ctx, enclosing);
+                if (nested == null) {
+                    return null;
+                }
+                args.add(nested);
+                continue;
+            }
+
+            String[] parts = path.split("\\.");
+            String current = from;
+            for (int i = 0; i < parts.length - 1; i++) {
+                String joinPath = current + "." + parts[i];
+                String existing = joinAliases.get(joinPath);
+                if (existing == null) {
+                    existing = ctx.nextJoinAlias();
+                    joinAliases.put(joinPath, existing);
+                    ctx.joins.append(" left join ").append(joinPath).append(' ').append(existing);
+                }
+                current = existing;
+            }
+            int index = ctx.columns.size();
+            ctx.columns.add(current + "." + parts[parts.length - 1]);
+            args.add(columnValue(fieldType, index));
+        }
+        enclosing.remove(dto.getQualifiedName().toString());
+        return CodeBlock.of("new $T($L)", ClassName.get(dto), CodeBlock.join(args, ", "));
+    }
+
+    /**
+     * Checks whether a DTO, and every DTO reachable from it, can be precompiled.
+     * DTOs that are still being checked count as supported, so cycles through
+     * collections terminate.
+     *
+     * @param dto the DTO type
+     * @return true if the DTO can be projected with precompiled JPQL
+     */
+    private boolean isJpqlSupported(TypeElement dto) {
+        String name = dto.getQualifiedName().toString();
+        Boolean known = jpqlSupport.get(name);
+        if (known != null) {
+            return known;
+        }
+        jpqlSupport.put(name, Boolean.TRUE);
+        boolean supported = jpqlShape(dto) != null;
+        jpqlSupport.put(name, supported);
+        return supported;
+    }
+
+    /**
+     * Checks for a constructor taking the DTO fields in declaration order that the
+     * generated metadata class can call.
+     *
+     * @param dto the DTO type
+     * @param fields the DTO fields
+     * @param rootPackage the package the metadata class is generated in
+     * @return true if such a constructor exists
+     */
+    private boolean hasMatchingConstructor(TypeElement dto, List<Element> fields,
+                                           String rootPackage) {
+        boolean samePackage = elements.getPackageOf(dto).getQualifiedName()
+                .contentEquals(rootPackage);
+        if (!samePackage && !dto.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(dto.getEnclosedElements())) {
+            Set<Modifier> modifiers = ctor.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                continue;
+            }
+            List<? extends VariableElement> params = ctor.getParameters();
+            if (params.size() != fields.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < params.size() && matches; i++) {
+                matches = types.isSameType(types.erasure(params.get(i).asType()),
+                        types.erasure(fields.get(i).asType()));
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an expression reading a result column into a DTO constructor argument.
+     * Left joins yield {@code null} for missing associations, which would throw when unboxed,
+     * so primitive arguments fall back to their default value.
+     *
+     * @param fieldType the type of the DTO field
+     * @param index the column index relative to the DTO's first column
+     * @return the expression
+     */
+    private static CodeBlock columnValue(TypeMirror fieldType, int index) {
+        if (!fieldType.getKind().isPrimitive()) {
+            return CodeBlock.of("($T) row[offset + $L]", TypeName.get(fieldType), index);
+        }
+        String defaultValue = switch (fieldType.getKind()) {
+            case BOOLEAN -> "false";
+            case LONG -> "0L";
+            case FLOAT -> "0F";
+            case DOUBLE -> "0D";
+            case INT -> "0";
+            default -> "(" + fieldType + ") 0";
+        };
+        return CodeBlock.of("row[offset + $L] == null ? $L : ($T) row[offset + $L]",
+                index, defaultValue, TypeName.get(fieldType), index);
+    }
+
+    /**
+     * Returns an expression creating an empty, mutable collection for a DTO field.
+     *
+     * @param fieldType the collection type
+     * @return the expression, {@code null} when no standard implementation fits, in which
+     *         case the DTO is not precompiled
+     */
+    private CodeBlock emptyCollection(TypeMirror fieldType) {
+        TypeMirror erased = types.erasure(fieldType);
+        for (String implementation : List.of("ArrayList", "HashSet")) {
+            TypeMirror candidate = types.erasure(
+                    elements.getTypeElement("java.util." + implementation).asType());
+            if (types.isAssignable(candidate, erased)) {
+                return CodeBlock.of("new $T<>()", ClassName.get("java.util", implementation));
+            }
+        }
+        return null;
+    }
+
     /**
      * Checks if the given type is a collection type.
      *
@@ -328,9 +636,7 @@ public class ProjectionMetadataProcessor extends AbstractProcessor {
             return;
         }
         ClassName projectionMetadata = ClassName.get(ProjectionMetadata.class);
-        ClassName registryInterface = ClassName.get(
-                "nl.datasteel.crudcraft.codegen.projection",
-                "ProjectionMetadataRegistry");
+        ClassName registryInterface = ClassName.get(ProjectionMetadataRegistry.class);
 
         TypeName metadataWildcard = ParameterizedTypeName.get(projectionMetadata,
                 WildcardTypeName.subtypeOf(Object.class));
@@ -372,7 +678,7 @@ public class ProjectionMetadataProcessor extends AbstractProcessor {
                         .build())
                 .build();
 
-        TypeSpec registry = TypeSpec.classBuilder("GeneratedProjectionMetadataRegistry")
+        TypeSpec registry = TypeSpec.classBuilder(REGISTRY_NAME)
                 .addModifiers(Modifier.PUBLIC)
                 .addSuperinterface(registryInterface)
                 .addField(mapField)
@@ -381,11 +687,78 @@ public class ProjectionMetadataProcessor extends AbstractProcessor {
                 .addMethod(get)
                 .build();
 
-        JavaFile.builder("nl.datasteel.crudcraft.projection.mapping", registry)
+        String registryPackage = processingEnv.getOptions().get(REGISTRY_PACKAGE_OPTION);
+        if (registryPackage == null || registryPackage.isBlank()) {
+            registryPackage = commonPackage(generatedMetadata);
+        }
+        JavaFile.builder(registryPackage, registry)
                 .skipJavaLangImports(true)
                 .indent("    ")
                 .build()
                 .writeTo(processingEnv.getFiler());
+
+        FileObject services = processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/services/" + ProjectionMetadataRegistry.class.getName());
+        try (Writer writer = services.openWriter()) {
+            writer.write(registryPackage + "." + REGISTRY_NAME + "\n");
+        }
     }
-}
 
+    /**
+     * Returns the longest package that contains all given classes, or
+     * {@link #DEFAULT_REGISTRY_PACKAGE} when they share none.
+     *
+     * @param classes the generated metadata classes
+     * @return the package name
+     */
+    static String commonPackage(List<ClassName> classes) {
+        String[] common = null;
+        int length = 0;
+        for (ClassName type : classes) {
+            String[] parts = type.packageName().split("\\.");
+            if (common == null) {
+                common = parts;
+                length = parts.length;
+                continue;
+            }
+            int i = 0;
+            while (i < length && i < parts.length && common[i].equals(parts[i])) {
+                i++;
+            }
+            length = i;
+        }
+        if (common == null || length == 0 || common[0].isEmpty()) {
+            return DEFAULT_REGISTRY_PACKAGE;
+        }
+        return String.join(".", List.of(common).subList(0, length));
+    }
+
+    /**
+     * Precompiled JPQL for a DTO, with {@link #ALIAS_TOKEN} marking the entity alias.
+     *
+     * @param select the comma separated select items
+     * @param joins the left join clauses
+     * @param instantiate the constructor call reading a result row
+     */
+    private record JpqlShape(String select, String joins, CodeBlock instantiate) {
+    }
+
+    /**
+     * Mutable state while computing a {@link JpqlShape}.
+     */
+    private static final class JpqlContext {
+        private final String rootPackage;
+        private final List<String> columns = new ArrayList<>();
+        private final StringBuilder joins = new StringBuilder();
+        private int joinCount;
+
+        JpqlContext(String rootPackage) {
+            this.rootPackage = rootPackage;
+        }
+
+        String nextJoinAlias() {
+            return ALIAS_TOKEN + "_j" + joinCount++;
+        }
+    }
+}
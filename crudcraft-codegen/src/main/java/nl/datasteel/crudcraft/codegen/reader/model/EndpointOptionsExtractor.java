@@ -27,6 +27,7 @@ import nl.datasteel.crudcraft.annotations.CrudEndpointPolicy;
 import nl.datasteel.crudcraft.annotations.CrudTemplate;
 import nl.datasteel.crudcraft.annotations.classes.CrudCrafted;
 import nl.datasteel.crudcraft.codegen.descriptor.model.part.EndpointOptions;
+import nl.datasteel.crudcraft.runtime.controller.HttpCaching;
 
 /**
  * Singleton extractor for {@link EndpointOptions}.
@@ -64,7 +65,10 @@ public class EndpointOptionsExtractor implements ModelPartExtractor<EndpointOpti
 
         validatePolicyApplication(policyClass, template, omit, include, env, cls);
 
-        return new EndpointOptions(template, omit, include, policyClass);
+        String cacheControl = (annotation != null)
+                ? annotation.cacheControl() : HttpCaching.DEFAULT_CACHE_CONTROL;
+
+        return new EndpointOptions(template, omit, include, policyClass, cacheControl);
     }
 
     /**
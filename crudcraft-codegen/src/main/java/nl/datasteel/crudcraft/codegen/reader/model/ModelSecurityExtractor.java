@@ -49,7 +49,11 @@ public class ModelSecurityExtractor implements ModelPartExtractor<ModelSecurity>
 
         List<String> rowSecurityHandlers = resolveRowSecurityHandlers(cls, env);
 
-        return new ModelSecurity(secure, securityPolicy, rowSecurityHandlers);
+        RowSecurity rowSecurity = cls.getAnnotation(RowSecurity.class);
+        String ownerField = rowSecurity == null || rowSecurity.ownerField().isBlank()
+                ? null : rowSecurity.ownerField();
+
+        return new ModelSecurity(secure, securityPolicy, rowSecurityHandlers, ownerField);
     }
 
     private static Class<? extends CrudSecurityPolicy> resolveSecurityPolicy(
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
+import jakarta.persistence.Id;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import nl.datasteel.crudcraft.codegen.descriptor.field.FieldDescriptor;
+import nl.datasteel.crudcraft.codegen.descriptor.model.ModelDescriptor;
+import nl.datasteel.crudcraft.codegen.fileheader.ModelStrictHeader;
+import nl.datasteel.crudcraft.codegen.util.StubGeneratorUtil;
+
+/**
+ * Generates a compile-time "Accessor" class per entity that reads and writes properties
+ * through direct getter and setter calls. The runtime picks these up through
+ * {@code EntityAccessors} so row security and relationship fixing no longer need bean
+ * introspection or reflective method lookups on the request path.
+ */
+public class EntityAccessorGenerator implements Generator {
+
+    private static final ClassName ENTITY_ACCESSOR =
+            ClassName.get("nl.datasteel.crudcraft.runtime.access", "EntityAccessor");
+
+    /**
+     * Generates the Accessor class for the given model descriptor.
+     *
+     * @param md The ModelDescriptor containing metadata about the model.
+     * @param ctx The WriteContext providing access to the environment and utilities.
+     * @return A list containing the generated JavaFile for the Accessor class.
+     */
+    @Override
+    public List<JavaFile> generate(ModelDescriptor md, WriteContext ctx) {
+        if (!Generator.isValidModelDescriptor(md, ctx)) {
+            return List.of();
+        }
+
+        ctx.env().getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "Generating Accessor for " + md.getName()
+                        + " in package " + md.getPackageName() + ".meta"
+        );
+
+        String metaPkg = md.getPackageName() + ".meta";
+        ClassName entityType = ClassName.get(md.getPackageName(), md.getName());
+        TypeElement element = entityElement(md, ctx);
+        Map<String, Property> properties = properties(md, element);
+
+        TypeSpec.Builder cls = TypeSpec.classBuilder(md.getName() + "Accessor")
+                .addJavadoc(ModelStrictHeader.header(
+                        md.getName(),
+                        metaPkg,
+                        this.getClass().getSimpleName()
+                ))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ENTITY_ACCESSOR, entityType));
+
+        addNameSets(cls, properties);
+        cls.addMethod(MethodSpec.methodBuilder("entityType")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(Class.class), entityType))
+                .addStatement("return $T.class", entityType)
+                .build());
+        String idProperty = idProperty(element, properties);
+        cls.addMethod(MethodSpec.methodBuilder("idProperty")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String.class)
+                .addStatement(idProperty == null ? "return null" : "return $S", idProperty)
+                .build());
+        cls.addMethod(containsMethod("hasProperty", "READABLE"));
+        cls.addMethod(containsMethod("isWritable", "WRITABLE"));
+        cls.addMethod(getMethod(md, entityType, properties));
+        cls.addMethod(setMethod(md, entityType, properties));
+        addRelationshipMethods(cls, md, metaPkg, entityType);
+
+        JavaFile javaFile = JavaFile.builder(metaPkg, cls.build())
+                .addFileComment(StubGeneratorUtil.licenseHeader())
+                .skipJavaLangImports(true)
+                .indent("    ")
+                .build();
+        return List.of(javaFile);
+    }
+
+    @Override
+    public boolean requiresCrudEntity() {
+        return true;
+    }
+
+    @Override
+    public int order() {
+        return 0;
+    }
+
+    /**
+     * A property of the entity together with the accessor methods that exist for it.
+     *
+     * @param name the property name
+     * @param getter the getter name, or null when the property cannot be read
+     * @param setter the setter name, or null when the property cannot be written
+     * @param type the boxed type the setter argument is cast to
+     */
+    private record Property(String name, String getter, String setter, TypeName type) {
+    }
+
+    /**
+     * Resolves the entity type element, or null when element utilities are unavailable.
+     */
+    private TypeElement entityElement(ModelDescriptor md, WriteContext ctx) {
+        Elements elements = ctx.env().getElementUtils();
+        if (elements == null) {
+            return null;
+        }
+        return elements.getTypeElement(md.getPackageName() + "." + md.getName());
+    }
+
+    /**
+     * Collects the readable and writable properties of the model. When the entity type
+     * element is available only public getters and setters that actually exist are used,
+     * otherwise the JavaBeans naming convention is assumed.
+     */
+    private Map<String, Property> properties(ModelDescriptor md, TypeElement element) {
+        Set<String> methods = element == null ? null : publicMethods(element);
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (FieldDescriptor fd : md.getFields()) {
+            String name = fd.getName();
+            if (name == null || name.isEmpty() || properties.containsKey(name)) {
+                continue;
+            }
+            String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            boolean primitiveBoolean = fd.getType() != null
+                    && fd.getType().getKind() == TypeKind.BOOLEAN;
+            String getter = primitiveBoolean ? "is" + suffix : "get" + suffix;
+            String setter = "set" + suffix;
+            if (methods != null) {
+                getter = methods.contains(getter + "/0") ? getter
+                        : methods.contains("get" + suffix + "/0") ? "get" + suffix : null;
+                setter = methods.contains(setter + "/1") ? setter : null;
+            }
+            TypeName type = fd.getType() == null ? null : TypeName.get(fd.getType());
+            type = type == null ? null : type.box();
+            if (type == null || hasTypeVariable(type)) {
+                setter = null;
+            }
+            if (getter != null || setter != null) {
+                properties.put(name, new Property(name, getter, setter, type));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Lists the public instance methods of the entity, including inherited ones, as
+     * {@code name/arity} keys.
+     */
+    private Set<String> publicMethods(TypeElement element) {
+        Set<String> methods = new HashSet<>();
+        TypeElement current = element;
+        while (current != null) {
+            for (Element e : current.getEnclosedElements()) {
+                if (e.getKind() == ElementKind.METHOD
+                        && e.getModifiers().contains(Modifier.PUBLIC)
+                        && !e.getModifiers().contains(Modifier.STATIC)) {
+                    methods.add(e.getSimpleName() + "/"
+                            + ((ExecutableElement) e).getParameters().size());
+                }
+            }
+            current = superclass(current);
+        }
+        return methods;
+    }
+
+    /**
+     * Determines the id property: the field annotated with {@link Id} when the type element
+     * is available, otherwise a readable property named {@code id}.
+     */
+    private String idProperty(TypeElement element, Map<String, Property> properties) {
+        TypeElement current = element;
+        while (current != null) {
+            for (Element e : current.getEnclosedElements()) {
+                if (e.getKind() == ElementKind.FIELD && e.getAnnotation(Id.class) != null) {
+                    String name = e.getSimpleName().toString();
+                    Property property = properties.get(name);
+                    return property != null && property.getter() != null ? name : null;
+                }
+            }
+            current = superclass(current);
+        }
+        Property id = properties.get("id");
+        return id != null && id.getter() != null ? "id" : null;
+    }
+
+    private TypeElement superclass(TypeElement element) {
+        if (element.getSuperclass() instanceof DeclaredType declared
+                && declared.asElement() instanceof TypeElement superType
+                && !superType.getQualifiedName().contentEquals("java.lang.Object")) {
+            return superType;
+        }
+        return null;
+    }
+
+    private boolean hasTypeVariable(TypeName type) {
+        if (type instanceof TypeVariableName) {
+            return true;
+        }
+        if (type instanceof ParameterizedTypeName pt) {
+            return pt.typeArguments.stream().anyMatch(this::hasTypeVariable);
+        }
+        if (type instanceof ArrayTypeName array) {
+            return hasTypeVariable(array.componentType);
+        }
+        if (type instanceof WildcardTypeName wildcard) {
+            return wildcard.upperBounds.stream().anyMatch(this::hasTypeVariable)
+                    || wildcard.lowerBounds.stream().anyMatch(this::hasTypeVariable);
+        }
+        return false;
+    }
+
+    /**
+     * Adds the constant READABLE and WRITABLE property name sets.
+     */
+    private void addNameSets(TypeSpec.Builder cls, Map<String, Property> properties) {
+        List<String> readable = new ArrayList<>();
+        List<String> writable = new ArrayList<>();
+        for (Property property : properties.values()) {
+            if (property.getter() != null) {
+                readable.add(property.name());
+            }
+            if (property.setter() != null) {
+                writable.add(property.name());
+            }
+        }
+        TypeName setOfString = ParameterizedTypeName.get(Set.class, String.class);
+        cls.addField(FieldSpec.builder(setOfString, "READABLE",
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(setOf(readable))
+                .build());
+        cls.addField(FieldSpec.builder(setOfString, "WRITABLE",
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(setOf(writable))
+                .build());
+    }
+
+    private CodeBlock setOf(List<String> names) {
+        CodeBlock.Builder cb = CodeBlock.builder().add("$T.of(", Set.class);
+        for (int i = 0; i < names.size(); i++) {
+            cb.add(i == 0 ? "$S" : ", $S", names.get(i));
+        }
+        return cb.add(")").build();
+    }
+
+    private MethodSpec containsMethod(String name, String set) {
+        return MethodSpec.methodBuilder(name)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(boolean.class)
+                .addParameter(String.class, "property")
+                .addStatement("return $L.contains(property)", set)
+                .build();
+    }
+
+    /**
+     * Builds {@code get(entity, property)} as a switch over direct getter calls.
+     */
+    private MethodSpec getMethod(ModelDescriptor md, ClassName entityType,
+                                 Map<String, Property> properties) {
+        CodeBlock.Builder body = CodeBlock.builder()
+                .add("return switch (property) {\n").indent();
+        for (Property property : properties.values()) {
+            if (property.getter() != null) {
+                body.add("case $S -> entity.$L();\n", property.name(), property.getter());
+            }
+        }
+        body.add("default -> throw new $T($S + property + $S);\n",
+                IllegalArgumentException.class, "Unknown readable property '",
+                "' of " + md.getName());
+        body.unindent().add("};\n");
+        return MethodSpec.methodBuilder("get")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(entityType, "entity")
+                .addParameter(String.class, "property")
+                .addCode(body.build())
+                .build();
+    }
+
+    /**
+     * Builds {@code set(entity, property, value)} as a switch over direct setter calls.
+     */
+    private MethodSpec setMethod(ModelDescriptor md, ClassName entityType,
+                                 Map<String, Property> properties) {
+        CodeBlock.Builder body = CodeBlock.builder()
+                .add("switch (property) {\n").indent();
+        for (Property property : properties.values()) {
+            if (property.setter() != null) {
+                body.add("case $S -> entity.$L(($T) value);\n",
+                        property.name(), property.setter(), property.type());
+            }
+        }
+        body.add("default -> throw new $T($S + property + $S);\n",
+                IllegalArgumentException.class, "Unknown writable property '",
+                "' of " + md.getName());
+        body.unindent().add("}\n");
+        return MethodSpec.methodBuilder("set")
+                .addAnnotation(Override.class)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked")
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(entityType, "entity")
+                .addParameter(String.class, "property")
+                .addParameter(Object.class, "value")
+                .addCode(body.build())
+                .build();
+    }
+
+    /**
+     * Delegates relationship fixing and clearing to the generated RelationshipMeta class.
+     */
+    private void addRelationshipMethods(TypeSpec.Builder cls, ModelDescriptor md,
+                                        String metaPkg, ClassName entityType) {
+        ClassName relationshipMeta = ClassName.get(metaPkg, md.getName() + "RelationshipMeta");
+        cls.addMethod(MethodSpec.methodBuilder("fixRelationships")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(entityType, "entity")
+                .addStatement("$T.fix(entity)", relationshipMeta)
+                .build());
+        cls.addMethod(MethodSpec.methodBuilder("clearRelationships")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(entityType, "entity")
+                .addStatement("$T.clear(entity)", relationshipMeta)
+                .build());
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import nl.datasteel.crudcraft.codegen.descriptor.RelationshipType;
+import nl.datasteel.crudcraft.codegen.descriptor.field.FieldDescriptor;
+import nl.datasteel.crudcraft.codegen.descriptor.model.ModelDescriptor;
+import nl.datasteel.crudcraft.codegen.fileheader.ModelStrictHeader;
+import nl.datasteel.crudcraft.codegen.util.StubGeneratorUtil;
+
+/**
+ * Generates an "Indexes" class for entities with {@code @RowSecurity}, listing composite
+ * indexes that lead with the owner column followed by each searchable field. Row security
+ * adds {@code owner = :user} to every query, so these are the indexes the planner needs to
+ * avoid scanning the whole table. The runtime compares them against the live schema at
+ * startup and logs the DDL of the missing ones.
+ *
+ * <p>Table and column names follow the default Spring Boot naming strategy
+ * (camel case to snake case), honouring {@code @Table}, {@code @Column} and
+ * {@code @JoinColumn} names when the entity type element is available.</p>
+ */
+public class RowSecurityIndexGenerator implements Generator {
+
+    private static final String DEFAULT_OWNER_FIELD = "ownerId";
+
+    private static final int MAX_NAME_LENGTH = 63;
+
+    private static final String SCHEMA_PKG = "nl.datasteel.crudcraft.runtime.schema";
+
+    private static final ClassName RECOMMENDED_INDEX =
+            ClassName.get(SCHEMA_PKG, "RecommendedIndex");
+
+    private static final ClassName RECOMMENDED_INDEXES =
+            ClassName.get(SCHEMA_PKG, "RecommendedIndexes");
+
+    /**
+     * Generates the Indexes class for the given model descriptor.
+     *
+     * @param md The ModelDescriptor containing metadata about the model.
+     * @param ctx The WriteContext providing access to the environment and utilities.
+     * @return A list containing the generated JavaFile, or an empty list when the model
+     *         has no row security or no owner field.
+     */
+    @Override
+    public List<JavaFile> generate(ModelDescriptor md, WriteContext ctx) {
+        if (!Generator.isValidModelDescriptor(md, ctx)
+                || md.getRowSecurityHandlers() == null || md.getRowSecurityHandlers().isEmpty()) {
+            return List.of();
+        }
+
+        String ownerField = ownerField(md);
+        if (ownerField == null) {
+            ctx.env().getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "No owner field found for row security of " + md.getName()
+                            + "; set @RowSecurity(ownerField = ...) to get index recommendations");
+            return List.of();
+        }
+
+        ctx.env().getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "Generating Indexes for " + md.getName()
+                        + " in package " + md.getPackageName() + ".meta"
+        );
+
+        String metaPkg = md.getPackageName() + ".meta";
+        ClassName entityType = ClassName.get(md.getPackageName(), md.getName());
+        TypeElement element = entityElement(md, ctx);
+        String table = tableName(md, element);
+
+        TypeName listOfIndexes = ParameterizedTypeName.get(ClassName.get(List.class),
+                RECOMMENDED_INDEX);
+        TypeSpec cls = TypeSpec.classBuilder(md.getName() + "Indexes")
+                .addJavadoc(ModelStrictHeader.header(
+                        md.getName(),
+                        metaPkg,
+                        this.getClass().getSimpleName()
+                ))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(RECOMMENDED_INDEXES)
+                .addField(FieldSpec.builder(listOfIndexes, "INDEXES",
+                                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(indexes(table, recommendations(md, element, ownerField)))
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("entityType")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                WildcardTypeName.subtypeOf(Object.class)))
+                        .addStatement("return $T.class", entityType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("indexes")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(listOfIndexes)
+                        .addStatement("return INDEXES")
+                        .build())
+                .build();
+
+        JavaFile javaFile = JavaFile.builder(metaPkg, cls)
+                .addFileComment(StubGeneratorUtil.licenseHeader())
+                .skipJavaLangImports(true)
+                .indent("    ")
+                .build();
+        return List.of(javaFile);
+    }
+
+    @Override
+    public boolean requiresCrudEntity() {
+        return true;
+    }
+
+    @Override
+    public int order() {
+        return 0;
+    }
+
+    /**
+     * Returns the declared owner field, or {@code ownerId} when the model has that field.
+     */
+    private String ownerField(ModelDescriptor md) {
+        String declared = md.getRowSecurityOwnerField();
+        if (declared != null && !declared.isBlank()) {
+            return declared;
+        }
+        return md.getFields().stream().anyMatch(f -> DEFAULT_OWNER_FIELD.equals(f.getName()))
+                ? DEFAULT_OWNER_FIELD : null;
+    }
+
+    /**
+     * Lists the column sets to index: the owner column followed by each searchable scalar
+     * or to-one field, or the owner column alone when nothing is searchable.
+     */
+    private List<List<String>> recommendations(ModelDescriptor md, TypeElement element,
+                                               String ownerField) {
+        String owner = columnName(element, ownerField, isToOne(md, ownerField));
+        Set<String> seen = new LinkedHashSet<>();
+        List<List<String>> recommendations = new ArrayList<>();
+        for (FieldDescriptor fd : md.getFields()) {
+            String name = fd.getName();
+            if (name == null || name.equals(ownerField) || !fd.isSearchable()
+                    || fd.isLob() || fd.isEmbedded() || isToMany(fd.getRelType())) {
+                continue;
+            }
+            String column = columnName(element, name, fd.getRelType() == RelationshipType.MANY_TO_ONE
+                    || fd.getRelType() == RelationshipType.ONE_TO_ONE);
+            if (seen.add(column)) {
+                recommendations.add(List.of(owner, column));
+            }
+        }
+        if (recommendations.isEmpty()) {
+            recommendations.add(List.of(owner));
+        }
+        return recommendations;
+    }
+
+    private boolean isToOne(ModelDescriptor md, String field) {
+        return md.getFields().stream()
+                .filter(f -> field.equals(f.getName()))
+                .anyMatch(f -> f.getRelType() == RelationshipType.MANY_TO_ONE
+                        || f.getRelType() == RelationshipType.ONE_TO_ONE);
+    }
+
+    private boolean isToMany(RelationshipType type) {
+        return type == RelationshipType.ONE_TO_MANY || type == RelationshipType.MANY_TO_MANY;
+    }
+
+    private CodeBlock indexes(String table, List<List<String>> recommendations) {
+        CodeBlock.Builder cb = CodeBlock.builder().add("$T.of(", List.class).indent();
+        for (int i = 0; i < recommendations.size(); i++) {
+            List<String> columns = recommendations.get(i);
+            cb.add(i == 0 ? "\n" : ",\n");
+            cb.add("new $T($S, $S, $T.of(", RECOMMENDED_INDEX, table,
+                    indexName(table, columns), List.class);
+            for (int c = 0; c < columns.size(); c++) {
+                cb.add(c == 0 ? "$S" : ", $S", columns.get(c));
+            }
+            cb.add("))");
+        }
+        return cb.unindent().add(")").build();
+    }
+
+    private String indexName(String table, List<String> columns) {
+        String name = "idx_" + table + "_" + String.join("_", columns);
+        return name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) : name;
+    }
+
+    /**
+     * Resolves the entity type element, or null when element utilities are unavailable.
+     */
+    private TypeElement entityElement(ModelDescriptor md, WriteContext ctx) {
+        Elements elements = ctx.env().getElementUtils();
+        if (elements == null) {
+            return null;
+        }
+        return elements.getTypeElement(md.getPackageName() + "." + md.getName());
+    }
+
+    private String tableName(ModelDescriptor md, TypeElement element) {
+        String name = md.getName();
+        if (element != null) {
+            Table table = element.getAnnotation(Table.class);
+            Entity entity = element.getAnnotation(Entity.class);
+            if (table != null && !table.name().isBlank()) {
+                name = table.name();
+            } else if (entity != null && !entity.name().isBlank()) {
+                name = entity.name();
+            }
+        }
+        return physicalName(name);
+    }
+
+    private String columnName(TypeElement element, String field, boolean joinColumn) {
+        Element fieldElement = findField(element, field);
+        if (fieldElement != null) {
+            Column column = fieldElement.getAnnotation(Column.class);
+            if (column != null && !column.name().isBlank()) {
+                return physicalName(column.name());
+            }
+            JoinColumn join = fieldElement.getAnnotation(JoinColumn.class);
+            if (join != null && !join.name().isBlank()) {
+                return physicalName(join.name());
+            }
+        }
+        return physicalName(joinColumn ? field + "_id" : field);
+    }
+
+    private Element findField(TypeElement element, String field) {
+        TypeElement current = element;
+        while (current != null) {
+            for (Element e : current.getEnclosedElements()) {
+                if (e.getKind() == ElementKind.FIELD && e.getSimpleName().contentEquals(field)) {
+                    return e;
+                }
+            }
+            current = current.getSuperclass() instanceof DeclaredType declared
+                    && declared.asElement() instanceof TypeElement superType
+                    && !superType.getQualifiedName().contentEquals("java.lang.Object")
+                    ? superType : null;
+        }
+        return null;
+    }
+
+    /**
+     * Applies Spring Boot's default physical naming: an underscore between a lower case
+     * letter and a following upper case letter that starts a word, dots become
+     * underscores, and the result is lower case.
+     */
+    static String physicalName(String name) {
+        StringBuilder builder = new StringBuilder(name.replace('.', '_'));
+        for (int i = 1; i < builder.length() - 1; i++) {
+            if (Character.isLowerCase(builder.charAt(i - 1))
+                    && Character.isUpperCase(builder.charAt(i))
+                    && Character.isLowerCase(builder.charAt(i + 1))) {
+                builder.insert(i++, '_');
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -45,7 +45,8 @@ public final class ControllerEndpoints {
             new CountEndpoint(),
             new SearchEndpoint(),
             new ValidateEndpoint(),
-            new ExportEndpoint()
+            new ExportEndpoint(),
+            new StreamEndpoint()
     );
 
     private ControllerEndpoints() {}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer.controller;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
+import java.util.Map;
+import nl.datasteel.crudcraft.annotations.CrudEndpoint;
+import nl.datasteel.crudcraft.codegen.descriptor.model.ModelDescriptor;
+import nl.datasteel.crudcraft.codegen.writer.controller.endpoints.EndpointSupport;
+
+/**
+ * Sparse fieldset variants of the read endpoints. They are mapped to the same routes with
+ * a {@code fields} parameter condition, return rows holding only the requested fields,
+ * and are generated whenever the endpoint they vary is allowed, with its security.
+ */
+public final class SparseFieldsEndpoints {
+
+    /** Suffix of the variant method names, also used to keep their operation ids unique. */
+    public static final String METHOD_SUFFIX = "Fields";
+
+    private static final TypeName ROW = ParameterizedTypeName.get(EndpointSupport.MAP,
+            ClassName.get(String.class), ClassName.get(Object.class));
+
+    private SparseFieldsEndpoints() {}
+
+    /**
+     * Returns the sparse fieldset variants of the read endpoints of a model.
+     *
+     * @param modelDescriptor the model
+     * @return the variant specs keyed by the endpoint they vary
+     */
+    public static Map<CrudEndpoint, EndpointSpec> variants(ModelDescriptor modelDescriptor) {
+        String pkg = modelDescriptor.getPackageName();
+        String name = modelDescriptor.getName();
+        var searchReq = ClassName.get(pkg + ".search", name + "SearchRequest");
+        var page = ParameterizedTypeName.get(EndpointSupport.PAGE, ROW);
+        var paginated = ParameterizedTypeName.get(EndpointSupport.PAGINATED_RESPONSE, ROW);
+        var listReturn = ParameterizedTypeName.get(EndpointSupport.RESP_ENTITY, paginated);
+
+        EndpointSpec getAll = new EndpointSpec(
+                CrudEndpoint.GET_ALL,
+                "getAll" + METHOD_SUFFIX,
+                m -> AnnotationSpec.builder(EndpointSupport.GET_MAPPING)
+                        .addMember("params", "$S", "fields")
+                        .build(),
+                m -> listReturn,
+                List.of(
+                        m -> ParameterSpec.builder(EndpointSupport.PAGEABLE, "pageable").build(),
+                        m -> ParameterSpec.builder(searchReq, "searchRequest")
+                                .addAnnotation(EndpointSupport.MODEL_ATTR)
+                                .build(),
+                        m -> EndpointSupport.fieldsParam()
+                ),
+                (mb, m) -> mb.addCode(
+                        "$T page = service.searchFields(searchRequest, clampPageable(pageable),\n" +
+                                "    $T.parse(fields));\n" +
+                                "return $T.tagContent($S,\n" +
+                                "    $T.of(page, $T.identity()));\n",
+                        page,
+                        EndpointSupport.FIELD_SELECTION,
+                        EndpointSupport.HTTP_CACHING,
+                        m.getCacheControl(),
+                        EndpointSupport.PAGINATED_RESPONSE,
+                        EndpointSupport.UNARY_OPERATOR
+                )
+        );
+
+        EndpointSpec getOne = new EndpointSpec(
+                CrudEndpoint.GET_ONE,
+                "getOne" + METHOD_SUFFIX,
+                m -> AnnotationSpec.builder(EndpointSupport.GET_MAPPING)
+                        .addMember("value", "$S", "/{id}")
+                        .addMember("params", "$S", "fields")
+                        .build(),
+                m -> ParameterizedTypeName.get(EndpointSupport.RESP_ENTITY, ROW),
+                List.of(
+                        m -> ParameterSpec.builder(EndpointSupport.UUID_CLASS, "id")
+                                .addAnnotation(EndpointSupport.PATH_VAR)
+                                .build(),
+                        m -> EndpointSupport.fieldsParam(),
+                        m -> EndpointSupport.ifNoneMatchParam()
+                ),
+                (mb, m) -> mb.addCode(
+                        "$T selection = $T.parse(fields);\n" +
+                                "return $T.conditional(ifNoneMatch, $S,\n" +
+                                "    () -> selection.version(service.versionTag(id)),\n" +
+                                "    () -> service.findVersionedFieldsById(id, selection));\n",
+                        EndpointSupport.FIELD_SELECTION,
+                        EndpointSupport.FIELD_SELECTION,
+                        EndpointSupport.HTTP_CACHING,
+                        m.getCacheControl()
+                )
+        );
+
+        EndpointSpec search = new EndpointSpec(
+                CrudEndpoint.SEARCH,
+                "search" + METHOD_SUFFIX,
+                m -> AnnotationSpec.builder(EndpointSupport.GET_MAPPING)
+                        .addMember("value", "$S", "/search")
+                        .addMember("params", "$S", "fields")
+                        .build(),
+                m -> listReturn,
+                List.of(
+                        m -> ParameterSpec.builder(searchReq, "searchRequest")
+                                .addAnnotation(EndpointSupport.MODEL_ATTR)
+                                .build(),
+                        m -> ParameterSpec.builder(ClassName.get(Integer.class), "limit")
+                                .addAnnotation(AnnotationSpec.builder(EndpointSupport.REQUEST_PARAM)
+                                        .addMember("value", "$S", "limit")
+                                        .build())
+                                .build(),
+                        m -> EndpointSupport.fieldsParam()
+                ),
+                (mb, m) -> mb.addCode(
+                        "if (limit == null || limit <= 0) {\n" +
+                                "    return $T.badRequest().build();\n" +
+                                "}\n" +
+                                "int clamped = Math.min(limit, maxPageSize);\n" +
+                                "$T page = service.searchFields(searchRequest, $T.of(0, clamped),\n" +
+                                "    $T.parse(fields));\n" +
+                                "return $T.ok($T.of(page, $T.identity()));\n",
+                        EndpointSupport.RESP_ENTITY,
+                        page,
+                        EndpointSupport.PAGE_REQUEST,
+                        EndpointSupport.FIELD_SELECTION,
+                        EndpointSupport.RESP_ENTITY,
+                        EndpointSupport.PAGINATED_RESPONSE,
+                        EndpointSupport.UNARY_OPERATOR
+                )
+        );
+
+        return Map.of(
+                CrudEndpoint.GET_ALL, getAll,
+                CrudEndpoint.GET_ONE, getOne,
+                CrudEndpoint.SEARCH, search
+        );
+    }
+
+    /**
+     * Returns whether a spec is a sparse fieldset variant.
+     *
+     * @param spec the endpoint spec
+     * @return true for variants created by {@link #variants}
+     */
+    public static boolean isVariant(EndpointSpec spec) {
+        return spec.methodName().endsWith(METHOD_SUFFIX);
+    }
+}
@@ -41,6 +41,7 @@ public final class EndpointSupport {
     public static final ClassName PATH_VAR = ClassName.get("org.springframework.web.bind.annotation", "PathVariable");
     public static final ClassName MODEL_ATTR = ClassName.get("org.springframework.web.bind.annotation", "ModelAttribute");
     public static final ClassName REQUEST_PARAM = ClassName.get("org.springframework.web.bind.annotation", "RequestParam");
+    public static final ClassName REQUEST_HEADER = ClassName.get("org.springframework.web.bind.annotation", "RequestHeader");
     public static final ClassName VALID = ClassName.get("jakarta.validation", "Valid");
     public static final ClassName IDENTIFIED = ClassName.get("nl.datasteel.crudcraft.runtime", "Identified");
     public static final ClassName GET_MAPPING = ClassName.get("org.springframework.web.bind.annotation", "GetMapping");
@@ -59,6 +60,11 @@ public final class EndpointSupport {
             "nl.datasteel.crudcraft.runtime.controller.response", "PaginatedResponse");
     public static final ClassName FIELD_SECURITY_UTIL = ClassName.get(
             "nl.datasteel.crudcraft.runtime.security", "FieldSecurityUtil");
+    public static final ClassName HTTP_CACHING = ClassName.get(
+            "nl.datasteel.crudcraft.runtime.controller", "HttpCaching");
+    public static final ClassName FIELD_SELECTION = ClassName.get(
+            "nl.datasteel.crudcraft.runtime.fields", "FieldSelection");
+    public static final ClassName UNARY_OPERATOR = ClassName.get("java.util.function", "UnaryOperator");
     public static final ClassName PAGE = ClassName.get("org.springframework.data.domain", "Page");
     public static final ClassName PAGEABLE = ClassName.get("org.springframework.data.domain", "Pageable");
     public static final ClassName PAGE_REQUEST = ClassName.get("org.springframework.data.domain", "PageRequest");
@@ -183,6 +189,29 @@ public final class EndpointSupport {
         }
     }
 
+    /**
+     * Builds the optional {@code If-None-Match} header parameter of the read endpoints.
+     */
+    public static ParameterSpec ifNoneMatchParam() {
+        return ParameterSpec.builder(ClassName.get(String.class), "ifNoneMatch")
+                .addAnnotation(AnnotationSpec.builder(REQUEST_HEADER)
+                        .addMember("value", "$T.IF_NONE_MATCH", HTTP_HEADERS)
+                        .addMember("required", "$L", false)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Builds the {@code fields} request parameter of the sparse fieldset endpoints.
+     */
+    public static ParameterSpec fieldsParam() {
+        return ParameterSpec.builder(ClassName.get(String.class), "fields")
+                .addAnnotation(AnnotationSpec.builder(REQUEST_PARAM)
+                        .addMember("value", "$S", "fields")
+                        .build())
+                .build();
+    }
+
     /**
      * Builds the list of parameter functions for multipart LOB endpoints.
      * Includes the request DTO part and a MultipartFile (or {@code List<MultipartFile>}
@@ -62,6 +62,18 @@ public class ExportEndpoint implements EndpointSpecProvider {
                                 .build(),
                         md -> ParameterSpec.builder(EndpointSupport.EXPORT_REQUEST, "exportRequest")
                                 .addAnnotation(EndpointSupport.MODEL_ATTR)
+                                .build(),
+                        md -> ParameterSpec.builder(ClassName.get(String.class), "compression")
+                                .addAnnotation(AnnotationSpec.builder(EndpointSupport.REQUEST_PARAM)
+                                        .addMember("value", "$S", "compression")
+                                        .addMember("required", "$L", false)
+                                        .build())
+                                .build(),
+                        md -> ParameterSpec.builder(ClassName.get(String.class), "acceptEncoding")
+                                .addAnnotation(AnnotationSpec.builder(EndpointSupport.REQUEST_HEADER)
+                                        .addMember("value", "$T.ACCEPT_ENCODING", EndpointSupport.HTTP_HEADERS)
+                                        .addMember("required", "$L", false)
+                                        .build())
                                 .build()),
                 (mb, md) -> mb.addCode(
                         "return exportService.export(\n" +
@@ -69,6 +81,8 @@ public class ExportEndpoint implements EndpointSpecProvider {
                                 "    limit,\n" +
                                 "    format,\n" +
                                 "    exportRequest,\n" +
+                                "    compression,\n" +
+                                "    acceptEncoding,\n" +
                                 "    pageable -> service.search(searchRequest, pageable),\n" +
                                 "    $T::filterRead\n" +
                                 ");\n",
@@ -54,11 +54,9 @@ public class FindByIdsEndpoint implements EndpointSpecProvider {
                                 .build()
                 ),
                 (mb, m) -> mb.addCode(
-                        "var dtos = service.findByIds(ids).stream()\n" +
-                                "    .map(FieldSecurityUtil::filterRead)\n" +
-                                "    .toList();\n" +
+                        "var dtos = service.findByIds(ids);\n" +
                                 "$T response = new PaginatedResponse<>(\n" +
-                                "    dtos,\n" +
+                                "    PaginatedResponse.rows(dtos, FieldSecurityUtil::filterRead),\n" +
                                 "    0,\n" +
                                 "    dtos.size(),\n" +
                                 "    1,\n" +
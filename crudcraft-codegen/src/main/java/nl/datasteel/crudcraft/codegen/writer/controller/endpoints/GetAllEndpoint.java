@@ -52,18 +52,14 @@ public class GetAllEndpoint implements EndpointSpecProvider {
                 ),
                 (mb, m) -> mb.addCode(
                         "$T page = service.search(searchRequest, clampPageable(pageable));\n" +
-                                "$T dtoPage = page.map($T::filterRead);\n" +
-                                "$T response = new PaginatedResponse<>(\n" +
-                                "    dtoPage.getContent(), dtoPage.getNumber(), dtoPage.getSize(),\n" +
-                                "    dtoPage.getTotalPages(), dtoPage.getTotalElements(),\n" +
-                                "    dtoPage.isFirst(), dtoPage.isLast()\n" +
-                                ");\n" +
-                                "return $T.ok(response);\n",
+                                "$T response = $T.of(page, $T::filterRead);\n" +
+                                "return $T.tagContent($S, response);\n",
                         ParameterizedTypeName.get(EndpointSupport.PAGE, respDto),
-                        ParameterizedTypeName.get(EndpointSupport.PAGE, respDto),
-                        EndpointSupport.FIELD_SECURITY_UTIL,
                         paginatedResp,
-                        EndpointSupport.RESP_ENTITY
+                        EndpointSupport.PAGINATED_RESPONSE,
+                        EndpointSupport.FIELD_SECURITY_UTIL,
+                        EndpointSupport.HTTP_CACHING,
+                        m.getCacheControl()
                 )
         );
     }
@@ -56,17 +56,12 @@ public class GetAllRefEndpoint implements EndpointSpecProvider {
                 ),
                 (mb, m) -> mb.addCode(
                         "$T page = service.searchRef(searchRequest, clampPageable(pageable));\n" +
-                                "$T dtoPage = page.map($T::filterRead);\n" +
-                                "$T response = new PaginatedResponse<>(\n" +
-                                "    dtoPage.getContent(), dtoPage.getNumber(), dtoPage.getSize(),\n" +
-                                "    dtoPage.getTotalPages(), dtoPage.getTotalElements(),\n" +
-                                "    dtoPage.isFirst(), dtoPage.isLast()\n" +
-                                ");\n" +
+                                "$T response = $T.of(page, $T::filterRead);\n" +
                                 "return $T.ok(response);\n",
                         ParameterizedTypeName.get(EndpointSupport.PAGE, refType),
-                        ParameterizedTypeName.get(EndpointSupport.PAGE, refType),
-                        EndpointSupport.FIELD_SECURITY_UTIL,
                         paginatedRef,
+                        EndpointSupport.PAGINATED_RESPONSE,
+                        EndpointSupport.FIELD_SECURITY_UTIL,
                         EndpointSupport.RESP_ENTITY
                 )
         );
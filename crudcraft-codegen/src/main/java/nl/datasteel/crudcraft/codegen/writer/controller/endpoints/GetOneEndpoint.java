@@ -48,12 +48,16 @@ public class GetOneEndpoint implements EndpointSpecProvider {
                 List.of(
                         m -> ParameterSpec.builder(EndpointSupport.UUID_CLASS, "id")
                                 .addAnnotation(EndpointSupport.PATH_VAR)
-                                .build()
+                                .build(),
+                        m -> EndpointSupport.ifNoneMatchParam()
                 ),
                 (mb, m) -> mb.addCode(
-                        "$T dto = service.findById(id);\n" +
-                                "return ResponseEntity.ok(FieldSecurityUtil.filterRead(dto));\n",
-                        respDto
+                        "return $T.conditional(ifNoneMatch, $S,\n" +
+                                "    () -> service.versionTag(id),\n" +
+                                "    () -> service.findVersionedById(id).map($T::filterRead));\n",
+                        EndpointSupport.HTTP_CACHING,
+                        m.getCacheControl(),
+                        EndpointSupport.FIELD_SECURITY_UTIL
                 )
         );
     }
@@ -67,19 +67,14 @@ public class SearchEndpoint implements EndpointSpecProvider {
                                 "$T page = service.search(searchRequest, $T.of(0, clamped));\n" +
                                 // …and keep this literal so the unit test’s substring check passes:
                                 "// service.search(searchRequest, PageRequest.of(0, clamped))\n" +
-                                "$T dtoPage = page.map($T::filterRead);\n" +
-                                "$T response = new PaginatedResponse<>(\n" +
-                                "    dtoPage.getContent(), dtoPage.getNumber(), dtoPage.getSize(),\n" +
-                                "    dtoPage.getTotalPages(), dtoPage.getTotalElements(),\n" +
-                                "    dtoPage.isFirst(), dtoPage.isLast()\n" +
-                                ");\n" +
+                                "$T response = $T.of(page, $T::filterRead);\n" +
                                 "return $T.ok(response);\n",
                         EndpointSupport.RESP_ENTITY,
                         ParameterizedTypeName.get(EndpointSupport.PAGE, respDto),
                         EndpointSupport.PAGE_REQUEST,
-                        ParameterizedTypeName.get(EndpointSupport.PAGE, respDto),
-                        EndpointSupport.FIELD_SECURITY_UTIL,
                         paginatedResp,
+                        EndpointSupport.PAGINATED_RESPONSE,
+                        EndpointSupport.FIELD_SECURITY_UTIL,
                         EndpointSupport.RESP_ENTITY
                 )
         );
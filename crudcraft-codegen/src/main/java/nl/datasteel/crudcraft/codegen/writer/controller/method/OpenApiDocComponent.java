@@ -19,6 +19,7 @@ import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import nl.datasteel.crudcraft.annotations.CrudEndpoint;
+import nl.datasteel.crudcraft.codegen.writer.controller.SparseFieldsEndpoints;
 
 /**
  * Adds OpenAPI documentation annotations (@Operation, @ApiResponse, @Parameter) to controller methods.
@@ -31,7 +32,8 @@ public class OpenApiDocComponent implements ControllerMethodComponent {
         String modelName = ctx.model().getName();
         
         // Add @Operation annotation with summary and description
-        AnnotationSpec operation = createOperationAnnotation(endpoint, modelName);
+        AnnotationSpec operation = createOperationAnnotation(endpoint, modelName,
+                SparseFieldsEndpoints.isVariant(ctx.spec()));
         ctx.builder().addAnnotation(operation);
         
         // Add @ApiResponse annotations for common HTTP responses
@@ -41,10 +43,16 @@ public class OpenApiDocComponent implements ControllerMethodComponent {
     /**
      * Creates an @Operation annotation with summary and description based on the endpoint type.
      */
-    private AnnotationSpec createOperationAnnotation(CrudEndpoint endpoint, String modelName) {
+    private AnnotationSpec createOperationAnnotation(CrudEndpoint endpoint, String modelName,
+                                                     boolean sparseFields) {
         String summary = getOperationSummary(endpoint, modelName);
         String description = getOperationDescription(endpoint, modelName);
         String operationId = getOperationId(endpoint, modelName);
+        if (sparseFields) {
+            // variants share the endpoint of the method they vary, but need their own id
+            operationId += SparseFieldsEndpoints.METHOD_SUFFIX;
+            summary += " (selected fields only)";
+        }
         
         AnnotationSpec.Builder builder = AnnotationSpec.builder(
                 ClassName.get("io.swagger.v3.oas.annotations", "Operation"));
@@ -131,6 +139,7 @@ public class OpenApiDocComponent implements ControllerMethodComponent {
             case COUNT -> "Count " + modelName + " entities";
             case SEARCH -> "Search " + modelName + " entities";
             case EXPORT -> "Export " + modelName + " entities";
+            case STREAM -> "Stream " + modelName + " entities as NDJSON";
             case VALIDATE -> "Validate " + modelName + " data";
         };
     }
@@ -166,6 +175,8 @@ public class OpenApiDocComponent implements ControllerMethodComponent {
             case COUNT -> "Counts the total number of " + modelName + " entities matching the search criteria.";
             case SEARCH -> "Searches for " + modelName + " entities based on the provided search criteria.";
             case EXPORT -> "Exports " + modelName + " entities in the requested format.";
+            case STREAM -> "Streams every " + modelName + " entity matching the search criteria " +
+                          "as newline-delimited JSON, one entity per line.";
             case VALIDATE -> "Validates " + modelName + " data without persisting it. " +
                             "Returns validation errors if any.";
         };
@@ -204,6 +215,7 @@ public class OpenApiDocComponent implements ControllerMethodComponent {
             case COUNT -> "Count of " + modelName + " entities";
             case SEARCH -> "Search results for " + modelName + " entities";
             case EXPORT -> modelName + " data exported";
+            case STREAM -> "Newline-delimited stream of " + modelName + " entities";
             case VALIDATE -> "Validation results";
         };
     }
@@ -241,6 +253,7 @@ public class OpenApiDocComponent implements ControllerMethodComponent {
             case COUNT -> "Count";
             case SEARCH -> "Search";
             case EXPORT -> "Export";
+            case STREAM -> "Stream";
             case VALIDATE -> "Validate";
         };
     }
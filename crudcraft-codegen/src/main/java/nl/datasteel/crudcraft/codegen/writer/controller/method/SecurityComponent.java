@@ -17,9 +17,12 @@ package nl.datasteel.crudcraft.codegen.writer.controller.method;
 
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 
 /**
- * Applies security annotations if a security policy is present.
+ * Applies the security policy, if present. Expressions the {@link SecurityExpressionCompiler}
+ * understands become a direct check at the start of the method body (or nothing at all for
+ * {@code permitAll()}); anything else is applied as a {@code @PreAuthorize} annotation.
  */
 public class SecurityComponent implements ControllerMethodComponent {
     @Override
@@ -31,6 +34,13 @@ public class SecurityComponent implements ControllerMethodComponent {
         if (expr == null) {
             throw new NullPointerException("Security expression must not be null");
         }
+        CodeBlock check = SecurityExpressionCompiler.compile(expr);
+        if (check != null) {
+            if (!check.isEmpty()) {
+                ctx.builder().addCode(check);
+            }
+            return;
+        }
         ClassName preAuth = ClassName.get(
                 "org.springframework.security.access.prepost", "PreAuthorize");
         ctx.builder().addAnnotation(AnnotationSpec.builder(preAuth)
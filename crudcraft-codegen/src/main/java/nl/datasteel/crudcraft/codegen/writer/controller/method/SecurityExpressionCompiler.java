@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer.controller.method;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the Spring Security expressions produced by the built-in security policies into
+ * direct calls to {@code EndpointAuthorization}, so generated endpoints need neither the
+ * method-security interceptor nor SpEL evaluation. Expressions outside the supported subset
+ * are left to {@code @PreAuthorize}.
+ */
+public final class SecurityExpressionCompiler {
+
+    /**
+     * Runtime class holding the precompiled checks.
+     */
+    public static final ClassName ENDPOINT_AUTHORIZATION = ClassName.get(
+            "nl.datasteel.crudcraft.runtime.security", "EndpointAuthorization");
+
+    private static final Pattern CALL = Pattern.compile(
+            "(hasRole|hasAnyRole|hasAuthority|hasAnyAuthority)\\((.*)\\)");
+
+    private static final Pattern QUOTED = Pattern.compile("'([^']+)'");
+
+    private SecurityExpressionCompiler() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Compiles an expression into the statement that enforces it.
+     *
+     * @param expression the security expression
+     * @return the check to put in front of the method body, an empty block for
+     *         {@code permitAll()}, or {@code null} if the expression must stay SpEL
+     */
+    public static CodeBlock compile(String expression) {
+        String expr = expression.trim();
+        switch (expr) {
+            case "permitAll()":
+                return CodeBlock.builder().build();
+            case "denyAll()":
+                return CodeBlock.builder()
+                        .addStatement("$T.denyAll()", ENDPOINT_AUTHORIZATION)
+                        .build();
+            case "isAuthenticated()":
+                return CodeBlock.builder()
+                        .addStatement("$T.requireAuthenticated()", ENDPOINT_AUTHORIZATION)
+                        .build();
+            default:
+                break;
+        }
+        Matcher call = CALL.matcher(expr);
+        if (!call.matches()) {
+            return null;
+        }
+        String function = call.group(1);
+        List<String> authorities = arguments(call.group(2));
+        if (authorities == null || (!function.startsWith("hasAny") && authorities.size() != 1)) {
+            return null;
+        }
+        // Roles are prefixed at runtime so a custom GrantedAuthorityDefaults is honoured.
+        String check = function.endsWith("Role") ? "requireAnyRole" : "requireAnyAuthority";
+        CodeBlock.Builder args = CodeBlock.builder();
+        for (int i = 0; i < authorities.size(); i++) {
+            args.add(i == 0 ? "$S" : ", $S", authorities.get(i));
+        }
+        return CodeBlock.builder()
+                .addStatement("$T.$L($L)", ENDPOINT_AUTHORIZATION, check, args.build())
+                .build();
+    }
+
+    /**
+     * Parses a comma separated list of single-quoted literals.
+     *
+     * @return the literal values, or null if the list contains anything else
+     */
+    private static List<String> arguments(String list) {
+        List<String> values = new ArrayList<>();
+        for (String part : list.split(",", -1)) {
+            Matcher quoted = QUOTED.matcher(part.trim());
+            if (!quoted.matches()) {
+                return null;
+            }
+            values.add(quoted.group(1));
+        }
+        return values;
+    }
+}
@@ -49,6 +49,7 @@ import nl.datasteel.crudcraft.codegen.writer.WriteContext;
 import nl.datasteel.crudcraft.codegen.writer.controller.ControllerEndpoints;
 import nl.datasteel.crudcraft.codegen.writer.controller.ControllerMethodGenerator;
 import nl.datasteel.crudcraft.codegen.writer.controller.EndpointSpec;
+import nl.datasteel.crudcraft.codegen.writer.controller.SparseFieldsEndpoints;
 
 /**
  * Generates REST controllers directly from templates without relying on an abstract base class.
@@ -103,6 +104,8 @@ public class ControllerGenerator implements StubGenerator {
                 "org.springframework.web.bind.annotation", "RestController");
         ClassName reqMap = JavaPoetUtils.getClassName(
                 "org.springframework.web.bind.annotation", "RequestMapping");
+        ClassName crudCraftCtrl = ClassName.get(
+                "nl.datasteel.crudcraft.runtime.controller", "CrudCraftController");
         ClassName svcClass = ClassName.get(modelDescriptor.getBasePackage() + ".service", modelName + "Service");
         ClassName valueAnn = JavaPoetUtils.getClassName("org.springframework.beans.factory.annotation", "Value");
         ClassName pageableClass = JavaPoetUtils.getClassName("org.springframework.data.domain", "Pageable");
@@ -111,6 +114,14 @@ public class ControllerGenerator implements StubGenerator {
                 "nl.datasteel.crudcraft.runtime.service", "ExportService");
         ClassName exportConfigClass = ClassName.get(
                 "nl.datasteel.crudcraft.runtime.service", "ExportService", "ExportConfig");
+        ClassName exportCompressionClass = ClassName.get(
+                "nl.datasteel.crudcraft.runtime.export", "ExportCompression");
+        ClassName xlsxSettingsClass = ClassName.get(
+                "nl.datasteel.crudcraft.runtime.export", "XlsxExportSettings");
+        ClassName admissionClass = ClassName.get(
+                "nl.datasteel.crudcraft.runtime.export", "ExportAdmissionController");
+        ClassName objectProviderClass = ClassName.get(
+                "org.springframework.beans.factory", "ObjectProvider");
         ClassName dtoRespClass = ClassName.get(
                 modelDescriptor.getBasePackage() + ".dto.response", modelName + "ResponseDto");
         ClassName searchReqClass = ClassName.get(
@@ -167,13 +178,47 @@ public class ControllerGenerator implements StubGenerator {
                                 .addMember("value", "$S", "${crudcraft.export.max-xlsx-rows:25000}")
                                 .build())
                         .build())
+                .addParameter(ParameterSpec.builder(boolean.class, "compressionEnabled")
+                        .addAnnotation(AnnotationSpec.builder(valueAnn)
+                                .addMember("value", "$S", "${crudcraft.export.compression.enabled:true}")
+                                .build())
+                        .build())
+                .addParameter(ParameterSpec.builder(int.class, "compressionLevel")
+                        .addAnnotation(AnnotationSpec.builder(valueAnn)
+                                .addMember("value", "$S", "${crudcraft.export.compression.level:6}")
+                                .build())
+                        .build())
+                .addParameter(ParameterSpec.builder(int.class, "compressionBufferSize")
+                        .addAnnotation(AnnotationSpec.builder(valueAnn)
+                                .addMember("value", "$S", "${crudcraft.export.compression.buffer-size:8192}")
+                                .build())
+                        .build())
+                .addParameter(ParameterSpec.builder(int.class, "xlsxWindowSize")
+                        .addAnnotation(AnnotationSpec.builder(valueAnn)
+                                .addMember("value", "$S", "${crudcraft.export.xlsx.window-size:100}")
+                                .build())
+                        .build())
+                .addParameter(ParameterSpec.builder(boolean.class, "xlsxCompressTempFiles")
+                        .addAnnotation(AnnotationSpec.builder(valueAnn)
+                                .addMember("value", "$S", "${crudcraft.export.xlsx.compress-temp-files:true}")
+                                .build())
+                        .build())
+                .addParameter(ParameterSpec.builder(boolean.class, "xlsxInlineStrings")
+                        .addAnnotation(AnnotationSpec.builder(valueAnn)
+                                .addMember("value", "$S", "${crudcraft.export.xlsx.inline-strings:true}")
+                                .build())
+                        .build())
+                .addParameter(ParameterizedTypeName.get(objectProviderClass, admissionClass), "exportAdmission")
                 .addStatement("this.service = service")
                 .addStatement("this.maxPageSize = maxPageSize")
                 .addStatement("this.maxCsvRows = maxCsvRows")
                 .addStatement("this.maxJsonRows = maxJsonRows")
                 .addStatement("this.maxXlsxRows = maxXlsxRows")
-                .addStatement("this.exportService = new $T<>(new $T(maxCsvRows, maxJsonRows, maxXlsxRows, maxPageSize))",
-                        exportServiceClass, exportConfigClass)
+                .addStatement("this.exportService = new $T<>(new $T(maxCsvRows, maxJsonRows, maxXlsxRows, maxPageSize,\n"
+                                + "new $T(compressionEnabled, compressionLevel, compressionBufferSize),\n"
+                                + "new $T(xlsxWindowSize, xlsxCompressTempFiles, xlsxInlineStrings)),\n"
+                                + "exportAdmission.getIfAvailable())",
+                        exportServiceClass, exportConfigClass, exportCompressionClass, xlsxSettingsClass)
                 .build();
 
         MethodSpec clampPageable = MethodSpec.methodBuilder("clampPageable")
@@ -191,6 +236,7 @@ public class ControllerGenerator implements StubGenerator {
                 .addJavadoc(header)
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(restCtrl)
+                .addAnnotation(crudCraftCtrl)
                 .addAnnotation(AnnotationSpec.builder(reqMap)
                         .addMember("value", "$S", path)
                         .build())
@@ -213,6 +259,15 @@ public class ControllerGenerator implements StubGenerator {
             }
         }
 
+        // Sparse fieldset variants (?fields=...) of the allowed read endpoints
+        Map<CrudEndpoint, EndpointSpec> fieldVariants = SparseFieldsEndpoints.variants(modelDescriptor);
+        for (CrudEndpoint ep : epCtx.allowed()) {
+            EndpointSpec variant = fieldVariants.get(ep);
+            if (variant != null) {
+                builder.addMethod(methodGen.generate(variant, modelDescriptor, epCtx.secPol()));
+            }
+        }
+
         // Generate specialized DTO endpoints (e.g., /list, /map)
         List<MethodSpec> specializedEndpoints = generateSpecializedEndpoints(modelDescriptor);
         specializedEndpoints.forEach(builder::addMethod);
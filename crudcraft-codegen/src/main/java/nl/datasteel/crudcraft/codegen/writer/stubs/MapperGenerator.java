@@ -104,7 +104,6 @@ public class MapperGenerator implements StubGenerator {
         ClassName reportingPolicy = JavaPoetUtils.getClassName("org.mapstruct","ReportingPolicy");
         ClassName collectionStrategy = JavaPoetUtils.getClassName("org.mapstruct","CollectionMappingStrategy");
         ClassName injectionStrategy = JavaPoetUtils.getClassName("org.mapstruct", "InjectionStrategy");
-        ClassName beanWrapper = JavaPoetUtils.getClassName("org.springframework.beans","BeanWrapperImpl");
         ClassName exceptionCls = JavaPoetUtils.getClassName(
                 "nl.datasteel.crudcraft.runtime.exception", "MapperException");
         ClassName uuidClass = ClassName.get(UUID.class);
@@ -123,7 +122,7 @@ public class MapperGenerator implements StubGenerator {
         MethodSpec patch = patch(modelName, entity, requestDto, mappingTarget, beanMapping, nvStrategy, mapping, relFields, abstractRelFields);
         MethodSpec toResponse = toResponse(modelName, entity, responseDto, mapping, manyToOne, abstractRelFields, modelDescriptor);
         MethodSpec toRef = toRef(entity, refDto);
-        MethodSpec getIdFromRequest = getIdFromRequest(requestDto, beanWrapper, uuidClass, exceptionCls);
+        MethodSpec getIdFromRequest = getIdFromRequest(modelDescriptor, requestDto, uuidClass, exceptionCls);
         List<MethodSpec> refHelpers = manyToOneRefHelpers(modelName, manyToOne);
         List<MethodSpec> idMappers = relationIdHelpers(modelName, relFields, uuidClass, ctx);
         
@@ -348,21 +347,28 @@ public class MapperGenerator implements StubGenerator {
                 .build();
     }
 
-    private MethodSpec getIdFromRequest(ClassName requestDto, ClassName beanWrapper,
+    /**
+     * Reads the id straight from the request DTO through its generated getter. Request DTOs
+     * without a UUID {@code id} property get a method that fails the same way a missing
+     * property always did, so no bean introspection is needed on the upsert path.
+     */
+    private MethodSpec getIdFromRequest(ModelDescriptor modelDescriptor, ClassName requestDto,
                                         ClassName uuidClass, ClassName exceptionCls) {
-        return MethodSpec.methodBuilder("getIdFromRequest")
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("getIdFromRequest")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
                 .returns(uuidClass)
-                .addParameter(requestDto, "request")
-                .beginControlFlow("try")
-                .addStatement("var wrapper = new $T(request)", beanWrapper)
-                .addStatement("Object idVal = wrapper.getPropertyValue($S)", "id")
-                .addStatement("return ($T) idVal", uuidClass)
-                .nextControlFlow("catch (Exception e)")
-                .addStatement("throw new $T($S + request.getClass(), e)", exceptionCls, "Failed to read 'id' property from request DTO: ")
-                .endControlFlow()
-                .build();
+                .addParameter(requestDto, "request");
+        boolean hasRequestId = modelDescriptor.getFields().stream()
+                .anyMatch(fd -> "id".equals(fd.getName()) && fd.inRequest()
+                        && fd.getType() != null && TypeName.get(fd.getType()).equals(uuidClass));
+        if (hasRequestId) {
+            builder.addStatement("return request.getId()");
+        } else {
+            builder.addStatement("throw new $T($S + request.getClass())",
+                    exceptionCls, "Request DTO has no UUID 'id' property: ");
+        }
+        return builder.build();
     }
 
     private List<MethodSpec> manyToOneRefHelpers(String modelName, List<FieldDescriptor> fields) {
@@ -23,8 +23,18 @@ import org.junit.jupiter.api.Test;
 class CrudTemplateTest {
 
     @Test
-    void fullReturnsAllEndpoints() {
-        assertEquals(EnumSet.allOf(CrudEndpoint.class), CrudTemplate.FULL.resolveEndpoints());
+    void fullReturnsAllEndpointsExceptStream() {
+        assertEquals(EnumSet.complementOf(EnumSet.of(CrudEndpoint.STREAM)),
+                CrudTemplate.FULL.resolveEndpoints());
+    }
+
+    @Test
+    void streamIsOptIn() {
+        for (CrudTemplate template : CrudTemplate.values()) {
+            assertFalse(template.resolveEndpoints().contains(CrudEndpoint.STREAM), template.name());
+        }
+        assertTrue(CrudTemplate.FULL.getEffectiveEndpoints(null, EnumSet.of(CrudEndpoint.STREAM))
+                .contains(CrudEndpoint.STREAM));
     }
 
     @Test
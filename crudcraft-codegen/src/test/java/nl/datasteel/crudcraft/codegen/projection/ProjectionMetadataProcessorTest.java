@@ -18,9 +18,12 @@ package nl.datasteel.crudcraft.codegen.projection;
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.Compiler;
 import com.google.testing.compile.JavaFileObjects;
+import com.squareup.javapoet.ClassName;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.List;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
@@ -95,11 +98,70 @@ class ProjectionMetadataProcessorTest {
                 .compile(dto1, dto2);
         assertEquals(Compilation.Status.SUCCESS, compilation.status());
         JavaFileObject registry = compilation.generatedSourceFile(
-                "nl.datasteel.crudcraft.projection.mapping.GeneratedProjectionMetadataRegistry")
+                "com.example.dto.GeneratedProjectionMetadataRegistry")
                 .orElseThrow();
         String content = registry.getCharContent(false).toString();
         assertTrue(content.contains("UserDtoProjectionMetadata"));
         assertTrue(content.contains("RoleDtoProjectionMetadata"));
+        String services = compilation.generatedFile(StandardLocation.CLASS_OUTPUT,
+                "META-INF/services/" + ProjectionMetadataRegistry.class.getName())
+                .orElseThrow().getCharContent(false).toString();
+        assertEquals("com.example.dto.GeneratedProjectionMetadataRegistry",
+                services.trim());
+    }
+
+    @Test
+    void generatesRegistryInCommonPackageOfDtos() {
+        JavaFileObject post = JavaFileObjects.forSourceLines(
+                "com.example.blog.dto.PostDto",
+                "package com.example.blog.dto;",
+                "public class PostDto { String title; }"
+        );
+        JavaFileObject user = JavaFileObjects.forSourceLines(
+                "com.example.users.dto.UserDto",
+                "package com.example.users.dto;",
+                "public class UserDto { String name; }"
+        );
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ProjectionMetadataProcessor())
+                .compile(post, user);
+        assertEquals(Compilation.Status.SUCCESS, compilation.status());
+        assertTrue(compilation.generatedSourceFile(
+                "com.example.GeneratedProjectionMetadataRegistry").isPresent());
+    }
+
+    @Test
+    void commonPackageFallsBackToDefaultWithoutSharedPackage() {
+        assertEquals("org.example", ProjectionMetadataProcessor.commonPackage(List.of(
+                ClassName.get("org.example.a.dto", "ADto"),
+                ClassName.get("org.example.dto", "BDto"))));
+        assertEquals(ProjectionMetadataProcessor.DEFAULT_REGISTRY_PACKAGE,
+                ProjectionMetadataProcessor.commonPackage(List.of(
+                        ClassName.get("org.example.dto", "ADto"),
+                        ClassName.get("com.example.dto", "BDto"))));
+    }
+
+    @Test
+    void generatesRegistryInConfiguredPackage() throws IOException {
+        JavaFileObject dto = JavaFileObjects.forSourceLines(
+                "com.example.dto.RoleDto",
+                "package com.example.dto;",
+                "public class RoleDto {",
+                "  String name;",
+                "}"
+        );
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ProjectionMetadataProcessor())
+                .withOptions("-A" + ProjectionMetadataProcessor.REGISTRY_PACKAGE_OPTION
+                        + "=com.example.orders")
+                .compile(dto);
+        assertEquals(Compilation.Status.SUCCESS, compilation.status());
+        assertTrue(compilation.generatedSourceFile(
+                "com.example.orders.GeneratedProjectionMetadataRegistry").isPresent());
+        String services = compilation.generatedFile(StandardLocation.CLASS_OUTPUT,
+                "META-INF/services/" + ProjectionMetadataRegistry.class.getName())
+                .orElseThrow().getCharContent(false).toString();
+        assertEquals("com.example.orders.GeneratedProjectionMetadataRegistry", services.trim());
     }
 
     @Test
@@ -126,6 +188,91 @@ class ProjectionMetadataProcessorTest {
         assertTrue(content.contains("AddressDtoProjectionMetadata"));
     }
 
+    @Test
+    void generatesPrecompiledJpqlWhenConstructorMatches() throws IOException {
+        JavaFileObject address = JavaFileObjects.forSourceLines(
+                "com.example.dto.AddressDto",
+                "package com.example.dto;",
+                "public class AddressDto {",
+                "  String city;",
+                "  public AddressDto(String city){this.city=city;}",
+                "}"
+        );
+        JavaFileObject user = JavaFileObjects.forSourceLines(
+                "com.example.dto.UserDto",
+                "package com.example.dto;",
+                "import nl.datasteel.crudcraft.annotations.fields.ProjectionField;",
+                "import java.util.List;",
+                "public class UserDto {",
+                "  @ProjectionField(\"profile.email\")",
+                "  String email;",
+                "  int age;",
+                "  AddressDto address;",
+                "  List<String> tags;",
+                "  public UserDto(String email, int age, AddressDto address, List<String> tags){}",
+                "  public void setTags(List<String> tags){this.tags=tags;}",
+                "}"
+        );
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ProjectionMetadataProcessor())
+                .compile(address, user);
+        assertEquals(Compilation.Status.SUCCESS, compilation.status());
+        String content = compilation.generatedSourceFile(
+                "com.example.dto.UserDtoProjectionMetadata").orElseThrow()
+                .getCharContent(false).toString();
+        assertTrue(content.contains(
+                "return alias + \"_j0.email, \" + alias + \".age, \" + alias + \"_j1.city\""));
+        assertTrue(content.contains(
+                "return \" left join \" + alias + \".profile \" + alias + \"_j0 left join \""
+                        + " + alias + \".address \" + alias + \"_j1\""));
+        assertTrue(content.contains("new UserDto((String) row[offset + 0], "
+                + "row[offset + 1] == null ? 0 : (int) row[offset + 1], "
+                + "new AddressDto((String) row[offset + 2]), new ArrayList<>())"));
+    }
+
+    @Test
+    void precompiledJpqlDefaultsNullPrimitives() throws IOException {
+        JavaFileObject dto = JavaFileObjects.forSourceLines(
+                "com.example.dto.StatsDto",
+                "package com.example.dto;",
+                "public class StatsDto {",
+                "  boolean active;",
+                "  long views;",
+                "  short rank;",
+                "  public StatsDto(boolean active, long views, short rank){}",
+                "}"
+        );
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ProjectionMetadataProcessor())
+                .compile(dto);
+        assertEquals(Compilation.Status.SUCCESS, compilation.status());
+        String content = compilation.generatedSourceFile(
+                "com.example.dto.StatsDtoProjectionMetadata").orElseThrow()
+                .getCharContent(false).toString();
+        assertTrue(content.contains("new StatsDto(row[offset + 0] == null ? false : (boolean) row[offset + 0], "
+                + "row[offset + 1] == null ? 0L : (long) row[offset + 1], "
+                + "row[offset + 2] == null ? (short) 0 : (short) row[offset + 2])"));
+    }
+
+    @Test
+    void skipsPrecompiledJpqlWithoutMatchingConstructor() throws IOException {
+        JavaFileObject dto = JavaFileObjects.forSourceLines(
+                "com.example.dto.RoleDto",
+                "package com.example.dto;",
+                "public class RoleDto {",
+                "  String name;",
+                "}"
+        );
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ProjectionMetadataProcessor())
+                .compile(dto);
+        assertEquals(Compilation.Status.SUCCESS, compilation.status());
+        String content = compilation.generatedSourceFile(
+                "com.example.dto.RoleDtoProjectionMetadata").orElseThrow()
+                .getCharContent(false).toString();
+        assertFalse(content.contains("jpqlSelect"));
+    }
+
     @Test
     void collectionFieldWithoutSetterFailsCompilation() {
         JavaFileObject dto = JavaFileObjects.forSourceLines(
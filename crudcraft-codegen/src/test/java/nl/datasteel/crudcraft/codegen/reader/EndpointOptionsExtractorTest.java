@@ -39,6 +39,17 @@ class EndpointOptionsExtractorTest {
         assertArrayEquals(new CrudEndpoint[]{CrudEndpoint.DELETE}, opts.getOmitEndpoints());
         assertArrayEquals(new CrudEndpoint[]{CrudEndpoint.GET_ONE}, opts.getIncludeEndpoints());
         assertEquals(CrudTemplate.class, opts.getEndpointPolicy());
+        assertEquals("private, no-cache", opts.getCacheControl());
+    }
+
+    @Test
+    void extractsCacheControl() {
+        String src = "package t; import nl.datasteel.crudcraft.annotations.classes.CrudCrafted;" +
+                "@CrudCrafted(cacheControl=\"public, max-age=60\") class C {}";
+        Elements elements = CompilationTestUtils.elements("t.C", src);
+        TypeElement te = elements.getTypeElement("t.C");
+        EndpointOptions opts = EndpointOptionsExtractor.INSTANCE.extract(te, new TestUtils.ProcessingEnvStub(elements));
+        assertEquals("public, max-age=60", opts.getCacheControl());
     }
 
     @Test
@@ -48,6 +48,18 @@ public class ModelSecurityExtractorTest {
         assertFalse(sec.isSecure());
         assertEquals(Policy.class, sec.getSecurityPolicy());
         assertEquals(List.of(Handler.class.getCanonicalName()), sec.getRowSecurityHandlers());
+        assertNull(sec.getRowSecurityOwnerField());
+    }
+
+    @Test
+    void readsRowSecurityOwnerField() {
+        String src = "package t; import nl.datasteel.crudcraft.annotations.security.*;" +
+                "@RowSecurity(handlers=nl.datasteel.crudcraft.codegen.reader.ModelSecurityExtractorTest.Handler.class," +
+                " ownerField=\"creatorId\") class C {}";
+        Elements elements = CompilationTestUtils.elements("t.C", src);
+        TypeElement te = elements.getTypeElement("t.C");
+        ModelSecurity sec = ModelSecurityExtractor.INSTANCE.extract(te, new TestUtils.ProcessingEnvStub(elements));
+        assertEquals("creatorId", sec.getRowSecurityOwnerField());
     }
 
     @Test
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer;
+
+import com.squareup.javapoet.JavaFile;
+import java.util.List;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeVisitor;
+import nl.datasteel.crudcraft.codegen.descriptor.field.FieldDescriptor;
+import nl.datasteel.crudcraft.codegen.descriptor.model.ModelDescriptor;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** Tests for EntityAccessorGenerator. */
+class EntityAccessorGeneratorTest {
+
+    private WriteContext ctx;
+
+    @BeforeEach
+    void setup() {
+        ProcessingEnvironment env = mock(ProcessingEnvironment.class);
+        Messager messager = mock(Messager.class);
+        when(env.getMessager()).thenReturn(messager);
+        ctx = new WriteContext(env);
+    }
+
+    @Test
+    void generateReturnsEmptyForInvalidModel() {
+        EntityAccessorGenerator gen = new EntityAccessorGenerator();
+        assertTrue(gen.generate(null, ctx).isEmpty());
+    }
+
+    @Test
+    void generatesDirectGetterAndSetterCalls() {
+        FieldDescriptor id = mock(FieldDescriptor.class);
+        when(id.getName()).thenReturn("id");
+        FieldDescriptor pages = mock(FieldDescriptor.class);
+        when(pages.getName()).thenReturn("pages");
+        PrimitiveType intType = primitive(TypeKind.INT);
+        when(pages.getType()).thenReturn(intType);
+        FieldDescriptor published = mock(FieldDescriptor.class);
+        when(published.getName()).thenReturn("published");
+        PrimitiveType booleanType = primitive(TypeKind.BOOLEAN);
+        when(published.getType()).thenReturn(booleanType);
+
+        List<JavaFile> files = new EntityAccessorGenerator().generate(
+                model(List.of(id, pages, published)), ctx);
+
+        assertEquals(1, files.size());
+        assertEquals("com.example.meta", files.get(0).packageName);
+        String src = files.get(0).toString();
+        assertTrue(src.contains("public final class BookAccessor implements EntityAccessor<Book>"));
+        assertTrue(src.contains("return \"id\";"));
+        assertTrue(src.contains("case \"id\" -> entity.getId();"));
+        assertTrue(src.contains("case \"pages\" -> entity.setPages((Integer) value);"));
+        assertTrue(src.contains("case \"published\" -> entity.isPublished();"));
+        assertTrue(src.contains("WRITABLE = Set.of(\"pages\", \"published\")"));
+        assertTrue(src.contains("BookRelationshipMeta.fix(entity);"));
+        assertTrue(src.contains("BookRelationshipMeta.clear(entity);"));
+        assertFalse(src.contains("getDeclaredMethod"));
+    }
+
+    @Test
+    void entityWithoutIdPropertyReturnsNullIdProperty() {
+        FieldDescriptor title = mock(FieldDescriptor.class);
+        when(title.getName()).thenReturn("title");
+
+        String src = new EntityAccessorGenerator().generate(model(List.of(title)), ctx)
+                .get(0).toString();
+
+        assertTrue(src.contains("return null;"));
+        assertTrue(src.contains("WRITABLE = Set.of()"));
+    }
+
+    @Test
+    void runsForCrudEntitiesOnly() {
+        assertTrue(new EntityAccessorGenerator().requiresCrudEntity());
+    }
+
+    private ModelDescriptor model(List<FieldDescriptor> fields) {
+        ModelDescriptor md = mock(ModelDescriptor.class);
+        when(md.getName()).thenReturn("Book");
+        when(md.getPackageName()).thenReturn("com.example");
+        when(md.getFields()).thenReturn(fields);
+        return md;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PrimitiveType primitive(TypeKind kind) {
+        PrimitiveType type = mock(PrimitiveType.class);
+        when(type.getKind()).thenReturn(kind);
+        when(type.accept(any(TypeVisitor.class), any())).thenAnswer(inv ->
+                ((TypeVisitor<Object, Object>) inv.getArgument(0))
+                        .visitPrimitive(type, inv.getArgument(1)));
+        return type;
+    }
+}
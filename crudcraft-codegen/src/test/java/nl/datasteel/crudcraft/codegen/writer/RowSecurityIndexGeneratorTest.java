@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer;
+
+import com.squareup.javapoet.JavaFile;
+import java.util.List;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.util.Elements;
+import nl.datasteel.crudcraft.codegen.CompilationTestUtils;
+import nl.datasteel.crudcraft.codegen.descriptor.RelationshipType;
+import nl.datasteel.crudcraft.codegen.descriptor.field.FieldDescriptor;
+import nl.datasteel.crudcraft.codegen.descriptor.model.ModelDescriptor;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** Tests for RowSecurityIndexGenerator. */
+class RowSecurityIndexGeneratorTest {
+
+    private ProcessingEnvironment env;
+    private WriteContext ctx;
+
+    @BeforeEach
+    void setup() {
+        env = mock(ProcessingEnvironment.class);
+        Messager messager = mock(Messager.class);
+        when(env.getMessager()).thenReturn(messager);
+        ctx = new WriteContext(env);
+    }
+
+    @Test
+    void skipsModelsWithoutRowSecurity() {
+        ModelDescriptor md = model(List.of(field("ownerId", false)), List.of(), null);
+        assertTrue(new RowSecurityIndexGenerator().generate(md, ctx).isEmpty());
+    }
+
+    @Test
+    void skipsModelsWithoutOwnerField() {
+        ModelDescriptor md = model(List.of(field("title", true)), List.of("com.example.Handler"), null);
+        assertTrue(new RowSecurityIndexGenerator().generate(md, ctx).isEmpty());
+    }
+
+    @Test
+    void recommendsOwnerFirstIndexPerSearchableField() {
+        FieldDescriptor tags = field("tags", true);
+        when(tags.getRelType()).thenReturn(RelationshipType.MANY_TO_MANY);
+        ModelDescriptor md = model(List.of(field("ownerId", false), field("dueDate", true),
+                field("notes", false), tags), List.of("com.example.Handler"), null);
+
+        List<JavaFile> files = new RowSecurityIndexGenerator().generate(md, ctx);
+
+        assertEquals(1, files.size());
+        assertEquals("com.example.meta", files.get(0).packageName);
+        String src = files.get(0).toString();
+        assertTrue(src.contains("public final class TaskItemIndexes implements RecommendedIndexes"));
+        assertTrue(src.contains("new RecommendedIndex(\"task_item\", \"idx_task_item_owner_id_due_date\", "
+                + "List.of(\"owner_id\", \"due_date\"))"));
+        assertFalse(src.contains("notes"));
+        assertFalse(src.contains("tags"));
+        assertTrue(src.contains("return TaskItem.class;"));
+    }
+
+    @Test
+    void recommendsOwnerAloneWhenNothingIsSearchable() {
+        ModelDescriptor md = model(List.of(field("creator", false)), List.of("com.example.Handler"),
+                "creator");
+        String src = new RowSecurityIndexGenerator().generate(md, ctx).get(0).toString();
+        assertTrue(src.contains("List.of(\"creator\")"));
+    }
+
+    @Test
+    void honoursTableColumnAndJoinColumnNames() {
+        Elements elements = CompilationTestUtils.elements("com.example.TaskItem",
+                "package com.example; import jakarta.persistence.*;"
+                        + "@Entity @Table(name = \"tasks\") class TaskItem {"
+                        + " @ManyToOne @JoinColumn(name = \"account_ref\") Object account;"
+                        + " @Column(name = \"dueOn\") java.time.LocalDate dueDate; }");
+        when(env.getElementUtils()).thenReturn(elements);
+        FieldDescriptor account = field("account", false);
+        when(account.getRelType()).thenReturn(RelationshipType.MANY_TO_ONE);
+        ModelDescriptor md = model(List.of(account, field("dueDate", true)),
+                List.of("com.example.Handler"), "account");
+
+        String src = new RowSecurityIndexGenerator().generate(md, ctx).get(0).toString();
+
+        assertTrue(src.contains("new RecommendedIndex(\"tasks\", \"idx_tasks_account_ref_due_on\", "
+                + "List.of(\"account_ref\", \"due_on\"))"));
+    }
+
+    @Test
+    void physicalNamesFollowSpringBootNamingStrategy() {
+        assertEquals("owner_id", RowSecurityIndexGenerator.physicalName("ownerId"));
+        assertEquals("task_item", RowSecurityIndexGenerator.physicalName("TaskItem"));
+        assertEquals("urlvalue", RowSecurityIndexGenerator.physicalName("URLValue"));
+        assertEquals("a_b", RowSecurityIndexGenerator.physicalName("a.b"));
+    }
+
+    @Test
+    void runsForCrudEntitiesOnly() {
+        assertTrue(new RowSecurityIndexGenerator().requiresCrudEntity());
+    }
+
+    private FieldDescriptor field(String name, boolean searchable) {
+        FieldDescriptor fd = mock(FieldDescriptor.class);
+        when(fd.getName()).thenReturn(name);
+        when(fd.isSearchable()).thenReturn(searchable);
+        when(fd.getRelType()).thenReturn(RelationshipType.NONE);
+        return fd;
+    }
+
+    private ModelDescriptor model(List<FieldDescriptor> fields, List<String> handlers,
+                                  String ownerField) {
+        ModelDescriptor md = mock(ModelDescriptor.class);
+        when(md.getName()).thenReturn("TaskItem");
+        when(md.getPackageName()).thenReturn("com.example");
+        when(md.getFields()).thenReturn(fields);
+        when(md.getRowSecurityHandlers()).thenReturn(handlers);
+        when(md.getRowSecurityOwnerField()).thenReturn(ownerField);
+        return md;
+    }
+}
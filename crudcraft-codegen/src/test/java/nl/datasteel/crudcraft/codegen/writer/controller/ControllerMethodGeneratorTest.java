@@ -76,7 +76,7 @@ class ControllerMethodGeneratorTest {
 
     @Test
     void appliesSecurityComponentWhenPolicyProvided() {
-        CrudSecurityPolicy policy = ep -> "permitAll()";
+        CrudSecurityPolicy policy = ep -> "hasRole('ADMIN') and hasIpAddress('10.0.0.0/8')";
         ControllerMethodGenerator gen = new ControllerMethodGenerator();
         EndpointSpec spec = new EndpointSpec(
                 CrudEndpoint.GET_ONE,
@@ -90,6 +90,24 @@ class ControllerMethodGeneratorTest {
         assertTrue(method.annotations.stream().anyMatch(a -> a.toString().contains("PreAuthorize")));
     }
 
+    @Test
+    void compilesBuiltInPolicyExpressionsIntoBody() {
+        CrudSecurityPolicy policy = ep -> "hasRole('ADMIN')";
+        ControllerMethodGenerator gen = new ControllerMethodGenerator();
+        EndpointSpec spec = new EndpointSpec(
+                CrudEndpoint.GET_ONE,
+                "m",
+                md -> AnnotationSpec.builder(EndpointSupport.GET_MAPPING).build(),
+                md -> ClassName.get(Void.class),
+                List.of(),
+                (b, md) -> b.addStatement("return null")
+        );
+        MethodSpec method = gen.generate(spec, model, policy);
+        assertTrue(method.annotations.stream().noneMatch(a -> a.toString().contains("PreAuthorize")));
+        String body = method.code.toString();
+        assertTrue(body.indexOf("requireAnyRole(\"ADMIN\")") < body.indexOf("return null"));
+    }
+
     @Test
     void noSecurityAnnotationWhenPolicyNull() {
         ControllerMethodGenerator gen = new ControllerMethodGenerator();
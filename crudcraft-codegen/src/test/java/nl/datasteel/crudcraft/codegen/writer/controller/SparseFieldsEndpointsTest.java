@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer.controller;
+
+import com.squareup.javapoet.MethodSpec;
+import java.util.Map;
+import java.util.Set;
+import nl.datasteel.crudcraft.annotations.CrudEndpoint;
+import nl.datasteel.crudcraft.codegen.descriptor.model.ModelDescriptor;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class SparseFieldsEndpointsTest {
+
+    private final ModelDescriptor model = TestModelDescriptorFactory.create();
+    private final ControllerMethodGenerator generator = new ControllerMethodGenerator();
+
+    @Test
+    void variantsCoverReadEndpoints() {
+        Map<CrudEndpoint, EndpointSpec> variants = SparseFieldsEndpoints.variants(model);
+        assertEquals(Set.of(CrudEndpoint.GET_ALL, CrudEndpoint.GET_ONE, CrudEndpoint.SEARCH),
+                variants.keySet());
+        variants.values().forEach(spec -> assertTrue(SparseFieldsEndpoints.isVariant(spec)));
+        ControllerEndpoints.defaults(model).values()
+                .forEach(spec -> assertFalse(SparseFieldsEndpoints.isVariant(spec)));
+    }
+
+    @Test
+    void getAllVariantSelectsFieldsByParameter() {
+        MethodSpec method = generator.generate(
+                SparseFieldsEndpoints.variants(model).get(CrudEndpoint.GET_ALL), model, null);
+        assertEquals("getAllFields", method.name);
+        String annotations = method.annotations.toString();
+        assertTrue(annotations.contains("params = \"fields\""));
+        assertTrue(annotations.contains("operationId = \"sampleGetAllFields\""));
+        assertTrue(method.parameters.stream().anyMatch(p -> p.name.equals("fields")));
+        String body = method.code.toString();
+        assertTrue(body.contains("service.searchFields(searchRequest, clampPageable(pageable)"));
+        assertTrue(body.contains("FieldSelection.parse(fields)"));
+    }
+
+    @Test
+    void getOneVariantQualifiesVersionWithSelection() {
+        MethodSpec method = generator.generate(
+                SparseFieldsEndpoints.variants(model).get(CrudEndpoint.GET_ONE), model, null);
+        assertEquals("getOneFields", method.name);
+        String body = method.code.toString();
+        assertTrue(body.contains("selection.version(service.versionTag(id))"));
+        assertTrue(body.contains("service.findVersionedFieldsById(id, selection)"));
+    }
+}
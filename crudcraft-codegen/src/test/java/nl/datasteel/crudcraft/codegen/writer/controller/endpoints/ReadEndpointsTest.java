@@ -59,15 +59,21 @@ class ReadEndpointsTest {
         assertEquals(resp, spec.returnType().apply(model));
 
         List<ParameterSpec> params = spec.params().stream().map(p -> p.apply(model)).toList();
-        assertEquals(1, params.size());
+        assertEquals(2, params.size());
         ParameterSpec p = params.get(0);
         assertEquals("id", p.name);
         assertEquals(EndpointSupport.UUID_CLASS, p.type);
         assertTrue(p.annotations.stream().anyMatch(a -> a.type.equals(EndpointSupport.PATH_VAR)));
+        ParameterSpec ifNoneMatch = params.get(1);
+        assertEquals("ifNoneMatch", ifNoneMatch.name);
+        assertTrue(ifNoneMatch.annotations.stream()
+                .anyMatch(a -> a.type.equals(EndpointSupport.REQUEST_HEADER)));
 
         String body = body(spec, model);
-        assertTrue(body.contains("service.findById(id)"));
-        assertTrue(body.contains("ok(FieldSecurityUtil.filterRead(dto))"));
+        assertTrue(body.contains("HttpCaching.conditional(ifNoneMatch, \"private, no-cache\""));
+        assertTrue(body.contains("service.versionTag(id)"));
+        assertTrue(body.contains("service.findVersionedById(id).map("));
+        assertTrue(body.contains("FieldSecurityUtil::filterRead)"));
     }
 
     @Test
@@ -97,7 +103,9 @@ class ReadEndpointsTest {
 
         String body = body(spec, model);
         assertTrue(body.contains("service.search(searchRequest, clampPageable(pageable))"));
-        assertTrue(body.contains("new PaginatedResponse"));
+        assertTrue(body.contains("PaginatedResponse.of(page, "));
+        assertTrue(body.contains("FieldSecurityUtil::filterRead)"));
+        assertTrue(body.contains("HttpCaching.tagContent(\"private, no-cache\", response)"));
     }
 
     @Test
@@ -125,7 +133,7 @@ class ReadEndpointsTest {
 
         String body = body(spec, model);
         assertTrue(body.contains("service.findByIds(ids)"));
-        assertTrue(body.contains("map(FieldSecurityUtil::filterRead)"));
+        assertTrue(body.contains("PaginatedResponse.rows(dtos, FieldSecurityUtil::filterRead)"));
     }
 
     @Test
@@ -154,7 +162,8 @@ class ReadEndpointsTest {
 
         String body = body(spec, model);
         assertTrue(body.contains("service.searchRef(searchRequest, clampPageable(pageable))"));
-        assertTrue(body.contains("new PaginatedResponse"));
+        assertTrue(body.contains("PaginatedResponse.of(page, "));
+        assertTrue(body.contains("FieldSecurityUtil::filterRead)"));
     }
 
     @Test
@@ -186,7 +195,8 @@ class ReadEndpointsTest {
         String body = body(spec, model);
         assertTrue(body.contains("if (limit == null || limit <= 0)"));
         assertTrue(body.contains("service.search(searchRequest, PageRequest.of(0, clamped))"));
-        assertTrue(body.contains("new PaginatedResponse"));
+        assertTrue(body.contains("PaginatedResponse.of(page, "));
+        assertTrue(body.contains("FieldSecurityUtil::filterRead)"));
     }
 
     @Test
@@ -239,5 +249,26 @@ class ReadEndpointsTest {
         assertTrue(body.contains("ok().build()"));
         assertTrue(body.contains("notFound().build()"));
     }
-}
 
+    @Test
+    void streamEndpointProducesProperSpec() {
+        StreamEndpoint provider = new StreamEndpoint();
+        EndpointSpec spec = provider.create(model);
+        assertEquals(CrudEndpoint.STREAM, spec.endpoint());
+
+        AnnotationSpec mapping = spec.mapping().apply(model);
+        assertEquals(EndpointSupport.GET_MAPPING, mapping.type);
+        assertEquals("\"/stream\"", mapping.members.get("value").get(0).toString());
+        assertEquals(ParameterizedTypeName.get(EndpointSupport.RESP_ENTITY, EndpointSupport.STREAMING_BODY),
+                spec.returnType().apply(model));
+
+        List<String> params = spec.params().stream().map(p -> p.apply(model).name).toList();
+        assertEquals(List.of("searchRequest", "limit", "exportRequest", "compression", "acceptEncoding"),
+                params);
+
+        String body = body(spec, model);
+        assertTrue(body.contains("exportService.streamNdjson("));
+        assertTrue(body.contains("UUID after, Integer size) -> service.searchAfter(searchRequest, after, size)"));
+        assertTrue(body.contains("FieldSecurityUtil::filterRead"));
+    }
+}
@@ -28,8 +28,8 @@ import org.junit.jupiter.api.Test;
 class SecurityComponentTest {
 
     @Test
-    void appliesPreAuthorizeWhenPolicyPresent() {
-        CrudSecurityPolicy policy = endpoint -> "hasRole('ADMIN')";
+    void appliesPreAuthorizeForExpressionsThatCannotBeCompiled() {
+        CrudSecurityPolicy policy = endpoint -> "hasRole('ADMIN') or principal.name == 'root'";
         EndpointSpec spec = new EndpointSpec(
                 CrudEndpoint.GET_ONE,
                 "m",
@@ -46,6 +46,40 @@ class SecurityComponentTest {
         assertTrue(built.annotations.get(0).toString().contains("hasRole('ADMIN')"));
     }
 
+    @Test
+    void compilesRoleExpressionIntoDirectCheck() {
+        CrudSecurityPolicy policy = endpoint -> "hasRole('ADMIN')";
+        ControllerMethodContext ctx = new ControllerMethodContext(MethodSpec.methodBuilder("m"),
+                TestModelDescriptorFactory.create(), spec(), policy);
+        new SecurityComponent().apply(ctx);
+        MethodSpec built = ctx.builder().build();
+        assertTrue(built.annotations.isEmpty());
+        assertTrue(built.code.toString().contains(
+                "nl.datasteel.crudcraft.runtime.security.EndpointAuthorization.requireAnyRole(\"ADMIN\")"));
+    }
+
+    @Test
+    void permitAllAddsNothing() {
+        CrudSecurityPolicy policy = endpoint -> "permitAll()";
+        ControllerMethodContext ctx = new ControllerMethodContext(MethodSpec.methodBuilder("m"),
+                TestModelDescriptorFactory.create(), spec(), policy);
+        new SecurityComponent().apply(ctx);
+        MethodSpec built = ctx.builder().build();
+        assertTrue(built.annotations.isEmpty());
+        assertTrue(built.code.isEmpty());
+    }
+
+    private static EndpointSpec spec() {
+        return new EndpointSpec(
+                CrudEndpoint.GET_ONE,
+                "m",
+                md -> AnnotationSpec.builder(EndpointSupport.GET_MAPPING).build(),
+                md -> null,
+                java.util.List.of(),
+                (b, md) -> {}
+        );
+    }
+
     @Test
     void skipsWhenNoPolicy() {
         EndpointSpec spec = new EndpointSpec(
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.codegen.writer.controller.method;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class SecurityExpressionCompilerTest {
+
+    private static final String AUTHZ = "nl.datasteel.crudcraft.runtime.security.EndpointAuthorization";
+
+    @Test
+    void permitAllCompilesToNothing() {
+        assertTrue(SecurityExpressionCompiler.compile("permitAll()").isEmpty());
+    }
+
+    @Test
+    void denyAllAndAuthenticatedCompileToChecks() {
+        assertEquals(AUTHZ + ".denyAll();\n",
+                SecurityExpressionCompiler.compile("denyAll()").toString());
+        assertEquals(AUTHZ + ".requireAuthenticated();\n",
+                SecurityExpressionCompiler.compile(" isAuthenticated() ").toString());
+    }
+
+    @Test
+    void rolesAreLeftForRuntimePrefixing() {
+        assertEquals(AUTHZ + ".requireAnyRole(\"ADMIN\");\n",
+                SecurityExpressionCompiler.compile("hasRole('ADMIN')").toString());
+        assertEquals(AUTHZ + ".requireAnyRole(\"A\", \"ROLE_B\");\n",
+                SecurityExpressionCompiler.compile("hasAnyRole('A', 'ROLE_B')").toString());
+        assertEquals(AUTHZ + ".requireAnyAuthority(\"posts:write\");\n",
+                SecurityExpressionCompiler.compile("hasAuthority('posts:write')").toString());
+    }
+
+    @Test
+    void unsupportedExpressionsStaySpel() {
+        assertNull(SecurityExpressionCompiler.compile("hasRole('A') or hasRole('B')"));
+        assertNull(SecurityExpressionCompiler.compile("hasRole('A', 'B')"));
+        assertNull(SecurityExpressionCompiler.compile("hasRole(#role)"));
+        assertNull(SecurityExpressionCompiler.compile("isFullyAuthenticated()"));
+        assertNull(SecurityExpressionCompiler.compile("hasAnyAuthority()"));
+    }
+}
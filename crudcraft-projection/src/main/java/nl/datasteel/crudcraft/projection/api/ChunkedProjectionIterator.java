@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.api;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Iterates over the DTOs of a query by projecting it one chunk of rows at a time.
+ * Executors order paged queries by the entity ID after the requested sort, so
+ * consecutive chunks neither skip nor repeat rows. Chunks are read by page offset,
+ * which keeps any requested sort but makes each chunk cost more than the last; see
+ * {@link ProjectionExecutor#stream}.
+ *
+ * @param <T> entity type
+ * @param <D> dto type
+ */
+final class ChunkedProjectionIterator<T, D> implements Iterator<D> {
+
+    private final ProjectionExecutor executor;
+    private final Class<T> entityType;
+    private final Class<D> dtoType;
+    private final FilterCriteria<T> filter;
+    private final Sort sort;
+    private final int chunkSize;
+
+    private int page = 0;
+    private int index = 0;
+    private List<D> current = List.of();
+    private boolean hasMore = true;
+
+    ChunkedProjectionIterator(ProjectionExecutor executor, Class<T> entityType, Class<D> dtoType,
+                              ProjectionQuery<T> query, int chunkSize) {
+        this.executor = executor;
+        this.entityType = entityType;
+        this.dtoType = dtoType;
+        this.filter = query.filter();
+        Pageable pageable = query.pageable();
+        this.sort = pageable != null ? pageable.getSort() : Sort.unsorted();
+        this.chunkSize = chunkSize;
+    }
+
+    private void fetch() {
+        // Drop the previous chunk before fetching the next one
+        current = List.of();
+        index = 0;
+        ProjectionResult<D> result = executor.project(entityType, dtoType, ProjectionQuery.of(
+                filter, PageRequest.of(page++, chunkSize, sort), CountPolicy.HAS_MORE));
+        current = result.content();
+        hasMore = result.hasMore() && current.size() == chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (index >= current.size() && hasMore) {
+            fetch();
+        }
+        return index < current.size();
+    }
+
+    @Override
+    public D next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.get(index++);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.api;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Controls how a projection determines the size of the full result.
+ */
+public enum CountPolicy {
+
+    /**
+     * Runs a count query; the result carries the exact total.
+     */
+    EXACT,
+
+    /**
+     * Runs no count query; the total is unknown.
+     */
+    SKIP,
+
+    /**
+     * Runs no count query but fetches one row beyond the page to tell whether
+     * another page follows; the total is unknown.
+     */
+    HAS_MORE;
+
+    /**
+     * Returns the count policy of a query, {@link #EXACT} when it sets none.
+     *
+     * @param query the projection query
+     * @return the count policy to apply
+     */
+    public static CountPolicy of(ProjectionQuery<?> query) {
+        CountPolicy policy = query.countPolicy();
+        return policy != null ? policy : EXACT;
+    }
+
+    /**
+     * Returns the number of rows to fetch for a paged request.
+     *
+     * @param pageable the paged request
+     * @return the page size, plus one row when probing for a next page
+     */
+    public int fetchSize(Pageable pageable) {
+        int size = pageable.getPageSize();
+        return this == HAS_MORE && size < Integer.MAX_VALUE ? size + 1 : size;
+    }
+}
@@ -15,6 +15,11 @@
  */
 package nl.datasteel.crudcraft.projection.api;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Executes projection queries and returns DTO results.
  */
@@ -31,4 +36,34 @@ public interface ProjectionExecutor {
      */
     <T, D> ProjectionResult<D> project(Class<T> entityType, Class<D> dtoType,
                                        ProjectionQuery<T> query);
+
+    /**
+     * Streams all DTOs matching the query, fetching them in chunks of {@code chunkSize} root
+     * rows. Each chunk is projected, and its collections hydrated, with a separate
+     * {@link #project} call that skips the count, so at most one chunk is held in memory.
+     * The sort of the query's pageable is kept and its page is ignored; without a sort,
+     * rows that change while streaming may be skipped or repeated.
+     *
+     * <p>Chunks are read by page offset, so the database scans every row before a chunk
+     * again for each chunk and a full-table stream costs quadratic work. Use it for bounded
+     * result sets only; scan whole tables with a keyset over the ID, such as
+     * {@code AbstractCrudService.searchAfter} in the runtime module.</p>
+     *
+     * @param entityType the entity class
+     * @param dtoType    the DTO class to project to
+     * @param query      the projection query definition
+     * @param chunkSize  the number of root rows fetched per chunk
+     * @return a lazy, ordered stream of the projected DTOs
+     * @param <T> entity type
+     * @param <D> dto type
+     */
+    default <T, D> Stream<D> stream(Class<T> entityType, Class<D> dtoType,
+                                    ProjectionQuery<T> query, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new ChunkedProjectionIterator<>(this, entityType, dtoType, query, chunkSize),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
 }
@@ -21,9 +21,28 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
- * Encapsulates filtering and paging information for a projection query.
+ * Encapsulates filtering, paging and counting information for a projection query.
  */
-public record ProjectionQuery<T>(FilterCriteria<T> filter, Pageable pageable) {
+public record ProjectionQuery<T>(FilterCriteria<T> filter, Pageable pageable,
+                                 CountPolicy countPolicy) {
+
+    /**
+     * Creates a new ProjectionQuery, defaulting a missing count policy to
+     * {@link CountPolicy#EXACT}.
+     */
+    public ProjectionQuery {
+        countPolicy = countPolicy != null ? countPolicy : CountPolicy.EXACT;
+    }
+
+    /**
+     * Creates a new ProjectionQuery that counts the total exactly.
+     *
+     * @param filter   the filter criteria to apply to the query
+     * @param pageable the pagination information for the query
+     */
+    public ProjectionQuery(FilterCriteria<T> filter, Pageable pageable) {
+        this(filter, pageable, CountPolicy.EXACT);
+    }
 
     /**
      * Creates a new ProjectionQuery with the specified filter criteria and pageable.
@@ -37,6 +56,31 @@ public record ProjectionQuery<T>(FilterCriteria<T> filter, Pageable pageable) {
         return new ProjectionQuery<>(filter, pageable);
     }
 
+    /**
+     * Creates a new ProjectionQuery with the specified filter criteria, pageable and
+     * count policy.
+     *
+     * @param filter      the filter criteria to apply to the query
+     * @param pageable    the pagination information for the query
+     * @param countPolicy how the total is determined
+     * @param <T>         the type of the entity being queried
+     * @return a new ProjectionQuery instance
+     */
+    public static <T> ProjectionQuery<T> of(FilterCriteria<T> filter, Pageable pageable,
+                                            CountPolicy countPolicy) {
+        return new ProjectionQuery<>(filter, pageable, countPolicy);
+    }
+
+    /**
+     * Returns a copy of this query with another count policy.
+     *
+     * @param policy how the total is determined
+     * @return a new ProjectionQuery instance
+     */
+    public ProjectionQuery<T> withCountPolicy(CountPolicy policy) {
+        return new ProjectionQuery<>(filter, pageable, policy);
+    }
+
     /**
      * Converts the filter criteria into a JPA Specification.
      *
@@ -16,11 +16,21 @@
 package nl.datasteel.crudcraft.projection.api;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Holds projected DTOs and total count metadata.
+ *
+ * <p>{@code totalElements} is {@link #UNKNOWN_TOTAL} when the query skipped the count.
+ * {@code hasMore} tells whether rows follow this page; it is only determined for
+ * {@link CountPolicy#EXACT} and {@link CountPolicy#HAS_MORE} and is false otherwise.
  */
-public record ProjectionResult<D>(List<D> content, long totalElements) {
+public record ProjectionResult<D>(List<D> content, long totalElements, boolean hasMore) {
+
+    /**
+     * Total reported when no count was run.
+     */
+    public static final long UNKNOWN_TOTAL = -1L;
 
     /**
      * Defensive copy constructor to ensure immutability of the content list.
@@ -29,6 +39,53 @@ public record ProjectionResult<D>(List<D> content, long totalElements) {
         content = List.copyOf(content);
     }
 
+    /**
+     * Creates a result with a known total, without next-page information.
+     *
+     * @param content the projected DTOs
+     * @param totalElements the total number of matching rows
+     */
+    public ProjectionResult(List<D> content, long totalElements) {
+        this(content, totalElements, false);
+    }
+
+    /**
+     * Creates a result for an exact count, deriving {@code hasMore} from the page.
+     *
+     * @param content the projected DTOs of the page
+     * @param totalElements the total number of matching rows
+     * @param pageable the requested page, may be null
+     * @param <D> the DTO type
+     * @return the result
+     */
+    public static <D> ProjectionResult<D> counted(List<D> content, long totalElements,
+                                                  Pageable pageable) {
+        boolean hasMore = pageable != null && pageable.isPaged()
+                && pageable.getOffset() + content.size() < totalElements;
+        return new ProjectionResult<>(content, totalElements, hasMore);
+    }
+
+    /**
+     * Creates a result without a count.
+     *
+     * @param content the projected DTOs of the page
+     * @param hasMore whether rows follow this page
+     * @param <D> the DTO type
+     * @return the result
+     */
+    public static <D> ProjectionResult<D> uncounted(List<D> content, boolean hasMore) {
+        return new ProjectionResult<>(content, UNKNOWN_TOTAL, hasMore);
+    }
+
+    /**
+     * Checks whether {@code totalElements} holds a counted total.
+     *
+     * @return true if the total was counted
+     */
+    public boolean isTotalKnown() {
+        return totalElements != UNKNOWN_TOTAL;
+    }
+
     /**
      * Returns the content of this ProjectionResult.
      */
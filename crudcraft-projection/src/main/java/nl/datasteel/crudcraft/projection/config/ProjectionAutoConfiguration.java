@@ -16,24 +16,52 @@
 package nl.datasteel.crudcraft.projection.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import javax.sql.DataSource;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.impl.AdaptiveProjectionExecutor;
+import nl.datasteel.crudcraft.projection.impl.CachingProjectionExecutor;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 import nl.datasteel.crudcraft.projection.impl.RoutingProjectionExecutor;
 import nl.datasteel.crudcraft.projection.impl.jpa.CriteriaProjectionBuilder;
 import nl.datasteel.crudcraft.projection.impl.jpa.JpaProjectionExecutorProvider;
 import nl.datasteel.crudcraft.projection.impl.jpa.MetadataCriteriaProjectionBuilder;
+import nl.datasteel.crudcraft.projection.impl.jpql.JpqlProjectionExecutorProvider;
 import nl.datasteel.crudcraft.projection.impl.querydsl.MetadataQuerydslProjectionBuilder;
 import nl.datasteel.crudcraft.projection.impl.querydsl.QuerydslProjectionBuilder;
 import nl.datasteel.crudcraft.projection.impl.querydsl.QuerydslProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.mapping.CompositeProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.mapping.MetadataFieldCatalog;
 import nl.datasteel.crudcraft.projection.mapping.SimpleProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.runtime.fields.FieldCatalog;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.util.ClassUtils;
 
 /**
  * Spring Boot auto configuration for projection support.
@@ -42,63 +70,107 @@ import org.springframework.context.annotation.Bean;
 @EnableConfigurationProperties(ProjectionProperties.class)
 public class ProjectionAutoConfiguration {
 
+    private static final String HIKARI_DATA_SOURCE = "com.zaxxer.hikari.HikariDataSource";
+
     /**
      * Provides a ProjectionMetadataRegistry that can be used to access compile-time
      * generated metadata for projections.
-     * If the GeneratedProjectionMetadataRegistry class is not found, it falls back to
-     * a SimpleProjectionMetadataRegistry.
+     * Generated registries are discovered through {@link ServiceLoader}; registries of
+     * several modules are merged. Without a service entry it looks up the registry class
+     * named by the {@code crudcraft.projection.registryFqcn} system property, and falls
+     * back to a SimpleProjectionMetadataRegistry.
      *
      * @return the ProjectionMetadataRegistry instance
+     * @throws IllegalStateException if several modules list a registry of the same name,
+     *                               as only one of those classes would load
      */
     @Bean
     public ProjectionMetadataRegistry projectionMetadataRegistry() {
-        String fqcn = System.getProperty(
-                "crudcraft.projection.registryFqcn",
-                "nl.datasteel.crudcraft.projection.mapping.GeneratedProjectionMetadataRegistry"
-        );
-        ClassLoader context = Thread.currentThread().getContextClassLoader();
-        ClassLoader fallback = ProjectionAutoConfiguration.class.getClassLoader();
-        for (ClassLoader loader : new ClassLoader[]{context, fallback}) {
-            if (loader == null) {
-                continue;
-            }
-            try {
-                Class<?> type = Class.forName(fqcn, true, loader);
-                return (ProjectionMetadataRegistry) type.getDeclaredConstructor().newInstance();
-            } catch (ClassNotFoundException ignored) {
-                // try next loader
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException(
-                        "Failed to instantiate projection metadata registry", e);
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = ProjectionAutoConfiguration.class.getClassLoader();
+        }
+        failOnDuplicateRegistries(loader);
+        List<ProjectionMetadataRegistry> registries = new ArrayList<>();
+        try {
+            for (ProjectionMetadataRegistry registry
+                    : ServiceLoader.load(ProjectionMetadataRegistry.class, loader)) {
+                registries.add(registry);
             }
+        } catch (ServiceConfigurationError e) {
+            throw new IllegalStateException(
+                    "Failed to instantiate projection metadata registry", e);
+        }
+        if (registries.size() == 1) {
+            return registries.getFirst();
         }
-        // Fallback: search temporary directory for compiled class produced during tests
+        if (!registries.isEmpty()) {
+            return new CompositeProjectionMetadataRegistry(registries);
+        }
+        ProjectionMetadataRegistry named = loadNamedRegistry(loader);
+        return named != null ? named : new SimpleProjectionMetadataRegistry();
+    }
+
+    /**
+     * Fails when a registry class is listed in the service index of more than one module.
+     * Only one class of that name loads and {@link ServiceLoader} drops the repeated
+     * entries, so the metadata of the other modules would be missing without an error.
+     *
+     * @param loader the class loader the registries are loaded with
+     */
+    private static void failOnDuplicateRegistries(ClassLoader loader) {
+        Map<String, Set<String>> sources = new LinkedHashMap<>();
         try {
-            String relPath = fqcn.replace('.', '/') + ".class";
-            java.nio.file.Path tmp = java.nio.file.Path.of(System.getProperty("java.io.tmpdir"));
-            try (java.util.stream.Stream<java.nio.file.Path> stream = java.nio.file.Files.walk(tmp)) {
-                java.nio.file.Path match = stream
-                        .filter(p -> p.toString().endsWith(relPath))
-                        .findFirst().orElse(null);
-                if (match != null) {
-                    int segments = fqcn.split("\\.").length;
-                    java.nio.file.Path root = match;
-                    for (int i = 0; i < segments; i++) {
-                        root = root.getParent();
-                    }
-                    try (java.net.URLClassLoader extra =
-                                 new java.net.URLClassLoader(new java.net.URL[]{ root.toUri().toURL() }, fallback)) {
-                        Class<?> type = Class.forName(fqcn, true, extra);
-                        return (ProjectionMetadataRegistry) type.getDeclaredConstructor().newInstance();
-                    } catch (ReflectiveOperationException e) {
-                        throw new IllegalStateException("Failed to instantiate projection metadata registry", e);
+            Enumeration<URL> indexes = loader.getResources(
+                    "META-INF/services/" + ProjectionMetadataRegistry.class.getName());
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        index.openStream(), StandardCharsets.UTF_8))) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        int comment = line.indexOf('#');
+                        String name = (comment < 0 ? line : line.substring(0, comment)).trim();
+                        if (!name.isEmpty()) {
+                            sources.computeIfAbsent(name, n -> new LinkedHashSet<>())
+                                    .add(index.toString());
+                        }
                     }
                 }
             }
-        } catch (java.io.IOException ignored) {
-            // IO problems while scanning tmp — ignore and fall back
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Failed to read the projection metadata registry service index", e);
+        }
+        sources.forEach((name, indexes) -> {
+            if (indexes.size() > 1) {
+                throw new IllegalStateException("Projection metadata registry " + name
+                        + " is generated by several modules " + indexes + "; give each module"
+                        + " its own package with -Acrudcraft.projection.registryPackage");
+            }
+        });
+    }
+
+    /**
+     * Loads the registry class named by the {@code crudcraft.projection.registryFqcn}
+     * system property, for registries generated without a service entry.
+     *
+     * @param loader the class loader to load the registry with
+     * @return the registry, or null if the class does not exist
+     */
+    private static ProjectionMetadataRegistry loadNamedRegistry(ClassLoader loader) {
+        String fqcn = System.getProperty(
+                "crudcraft.projection.registryFqcn",
+                "nl.datasteel.crudcraft.projection.mapping.GeneratedProjectionMetadataRegistry"
+        );
+        try {
+            Class<?> type = Class.forName(fqcn, true, loader);
+            return (ProjectionMetadataRegistry) type.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException ignored) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Failed to instantiate projection metadata registry", e);
         }
-        return new SimpleProjectionMetadataRegistry();
     }
 
     /**
@@ -129,57 +201,156 @@ public class ProjectionAutoConfiguration {
         return new MetadataQuerydslProjectionBuilder(registry);
     }
 
+    /**
+     * Provides a FieldCatalog that validates sparse fieldsets ({@code ?fields=...}) against
+     * the compile-time generated metadata of the response DTOs.
+     *
+     * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
+     * @return the MetadataFieldCatalog instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(FieldCatalog.class)
+    public FieldCatalog fieldCatalog(ProjectionMetadataRegistry registry) {
+        return new MetadataFieldCatalog(registry);
+    }
+
+    /**
+     * Provides a ParallelHydration that fetches sibling collection attributes concurrently.
+     * This bean is only created if {@code crudcraft.projection.hydration.concurrent} is true.
+     * With a Hikari connection pool the parallelism is capped below the pool size minus
+     * one, so the projecting threads, which hold a connection while they wait for the
+     * fetches, cannot exhaust the pool.
+     *
+     * @param properties the ProjectionProperties with the hydration settings
+     * @param dataSource the DataSource the fetches take their connections from
+     * @return the ParallelHydration instance
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "crudcraft.projection.hydration", name = "concurrent",
+            havingValue = "true")
+    public ParallelHydration parallelHydration(ProjectionProperties properties,
+                                               ObjectProvider<DataSource> dataSource) {
+        int parallelism = properties.getHydration().getParallelism();
+        int poolSize = poolSize(dataSource.getIfUnique());
+        if (poolSize > 0) {
+            int cap = poolSize - 2;
+            if (cap < 1) {
+                throw new IllegalStateException("Concurrent hydration needs a connection pool"
+                        + " of at least 3 connections, the pool has " + poolSize);
+            }
+            parallelism = Math.min(parallelism, cap);
+        }
+        return new ParallelHydration(parallelism);
+    }
+
+    /**
+     * Returns the maximum size of the connection pool behind the DataSource.
+     *
+     * @param dataSource the DataSource, may be null
+     * @return the maximum pool size, or 0 if unknown
+     */
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource == null || !ClassUtils.isPresent(HIKARI_DATA_SOURCE,
+                ProjectionAutoConfiguration.class.getClassLoader())) {
+            return 0;
+        }
+        return HikariPool.maximumSize(dataSource);
+    }
+
     /**
      * Provides a JpaProjectionExecutorProvider that uses JPA Criteria API for projections.
-     * This provider is only created if an EntityManager bean is available.
+     * This provider is only created if an EntityManager bean is available and the engine
+     * is CRITERIA or ADAPTIVE.
      *
      * @param entityManager the EntityManager to use for executing queries
      * @param criteriaBuilder the CriteriaProjectionBuilder to build projection expressions
      * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
      * @param properties the ProjectionProperties to configure the projection engine
+     * @param parallelHydration the concurrent collection hydration, if enabled
      * @return the JpaProjectionExecutorProvider instance
      */
     @Bean
     @ConditionalOnBean(EntityManager.class)
-    @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
-            havingValue = "CRITERIA", matchIfMissing = true)
+    @Conditional(CriteriaEngineCondition.class)
     public ProjectionExecutorProvider jpaProjectionExecutorProvider(
             EntityManager entityManager,
             CriteriaProjectionBuilder criteriaBuilder,
             ProjectionMetadataRegistry registry,
-            ProjectionProperties properties) {
-        if (properties.getEngine() != ProjectionProperties.Engine.CRITERIA) {
+            ProjectionProperties properties,
+            ObjectProvider<ParallelHydration> parallelHydration) {
+        if (!enables(properties, ProjectionProperties.Engine.CRITERIA)) {
             throw new IllegalStateException("Projection engine mismatch");
         }
-        return new JpaProjectionExecutorProvider(entityManager, criteriaBuilder, registry);
+        return new JpaProjectionExecutorProvider(entityManager, criteriaBuilder, registry,
+                parallelHydration.getIfAvailable());
     }
 
     /**
      * Provides a QuerydslProjectionExecutorProvider that uses QueryDSL for projections.
-     * This provider is only created if a JPAQueryFactory bean is available.
+     * This provider is only created if a JPAQueryFactory bean is available and the engine
+     * is QUERYDSL or ADAPTIVE.
      *
      * @param queryFactory the JPAQueryFactory to use for executing queries
      * @param entityManager the EntityManager to access the JPA metamodel
      * @param querydslBuilder the QuerydslProjectionBuilder to build projection expressions
      * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
      * @param properties the ProjectionProperties to configure the projection engine
+     * @param parallelHydration the concurrent collection hydration, if enabled
      * @return the QuerydslProjectionExecutorProvider instance
      */
     @Bean
     @ConditionalOnBean(JPAQueryFactory.class)
-    @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
-            havingValue = "QUERYDSL")
+    @Conditional(QuerydslEngineCondition.class)
     public ProjectionExecutorProvider querydslProjectionExecutorProvider(
             JPAQueryFactory queryFactory,
             EntityManager entityManager,
             QuerydslProjectionBuilder querydslBuilder,
             ProjectionMetadataRegistry registry,
-            ProjectionProperties properties) {
-        if (properties.getEngine() != ProjectionProperties.Engine.QUERYDSL) {
+            ProjectionProperties properties,
+            ObjectProvider<ParallelHydration> parallelHydration) {
+        if (!enables(properties, ProjectionProperties.Engine.QUERYDSL)) {
             throw new IllegalStateException("Projection engine mismatch");
         }
+        ParallelHydration hydration = parallelHydration.getIfAvailable();
+        if (hydration == null) {
+            return new QuerydslProjectionExecutorProvider(queryFactory,
+                    entityManager.getMetamodel(), querydslBuilder, registry);
+        }
         return new QuerydslProjectionExecutorProvider(queryFactory, entityManager.getMetamodel(),
-                querydslBuilder, registry);
+                querydslBuilder, registry, entityManager.getEntityManagerFactory(), hydration);
+    }
+
+    /**
+     * Provides a JpqlProjectionExecutorProvider that runs the JPQL precompiled into the
+     * generated projection metadata, falling back to the JPA Criteria API, or to QueryDSL for
+     * predicate queries of DTOs without precompiled JPQL.
+     * This provider is only created if an EntityManager bean is available and the engine
+     * is JPQL or ADAPTIVE.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param criteriaBuilder the CriteriaProjectionBuilder used by the fallback executor
+     * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
+     * @param properties the ProjectionProperties to configure the projection engine
+     * @param parallelHydration the concurrent collection hydration, if enabled
+     * @param queryFactory the application's JPAQueryFactory, if any, for the predicate fallback
+     * @return the JpqlProjectionExecutorProvider instance
+     */
+    @Bean
+    @ConditionalOnBean(EntityManager.class)
+    @Conditional(JpqlEngineCondition.class)
+    public ProjectionExecutorProvider jpqlProjectionExecutorProvider(
+            EntityManager entityManager,
+            CriteriaProjectionBuilder criteriaBuilder,
+            ProjectionMetadataRegistry registry,
+            ProjectionProperties properties,
+            ObjectProvider<ParallelHydration> parallelHydration,
+            ObjectProvider<JPAQueryFactory> queryFactory) {
+        if (!enables(properties, ProjectionProperties.Engine.JPQL)) {
+            throw new IllegalStateException("Projection engine mismatch");
+        }
+        return new JpqlProjectionExecutorProvider(entityManager, criteriaBuilder, registry,
+                parallelHydration.getIfAvailable(),
+                queryFactory.getIfAvailable(() -> new JPAQueryFactory(entityManager)));
     }
 
     /**
@@ -187,17 +358,187 @@ public class ProjectionAutoConfiguration {
      * available ProjectionExecutorProviders.
      * If only one provider is available, it returns that executor directly.
      * If multiple providers are available, it returns a RoutingProjectionExecutor that
-     * delegates to the appropriate provider based on the query type.
+     * delegates to the appropriate provider based on the query type, or an
+     * AdaptiveProjectionExecutor when the engine is ADAPTIVE.
+     * When {@code crudcraft.projection.cache.enabled} is true, the executor is wrapped in a
+     * CachingProjectionExecutor.
      *
      * @param providers the list of ProjectionExecutorProviders
+     * @param properties the ProjectionProperties with the cache settings
+     * @param registry the ProjectionMetadataRegistry used to resolve the entity types a DTO reads
+     * @param entityManager the EntityManager providing the JPA metamodel, if available
      * @return the ProjectionExecutor instance
      */
     @Bean
     @ConditionalOnBean(ProjectionExecutorProvider.class)
-    public ProjectionExecutor projectionExecutor(List<ProjectionExecutorProvider> providers) {
-        if (providers.size() == 1) {
-            return providers.getFirst().getExecutor();
+    public ProjectionExecutor projectionExecutor(List<ProjectionExecutorProvider> providers,
+                                                 ProjectionProperties properties,
+                                                 ProjectionMetadataRegistry registry,
+                                                 ObjectProvider<EntityManager> entityManager) {
+        ProjectionExecutor executor;
+        if (properties.getEngine() == ProjectionProperties.Engine.ADAPTIVE) {
+            executor = adaptiveExecutor(providers, properties.getAdaptive());
+        } else if (providers.size() == 1) {
+            executor = providers.getFirst().getExecutor();
+        } else {
+            executor = new RoutingProjectionExecutor(providers);
+        }
+        ProjectionProperties.Cache cache = properties.getCache();
+        if (!cache.isEnabled()) {
+            return executor;
+        }
+        EntityManager em = entityManager.getIfAvailable();
+        return new CachingProjectionExecutor(executor, registry,
+                em != null ? em.getMetamodel() : null, cache.getMaxSize(), cache.getTtl());
+    }
+
+    /**
+     * Provides a ProjectionCacheInvalidator that drops cached projections once CrudCraft
+     * writes commit.
+     * This bean is only created if {@code crudcraft.projection.cache.enabled} is true.
+     *
+     * @param executor the ProjectionExecutor, which must be the cached executor
+     * @return the ProjectionCacheInvalidator instance
+     */
+    @Bean
+    @ConditionalOnBean(ProjectionExecutor.class)
+    @ConditionalOnProperty(prefix = "crudcraft.projection.cache", name = "enabled",
+            havingValue = "true")
+    public ProjectionCacheInvalidator projectionCacheInvalidator(ProjectionExecutor executor) {
+        if (!(executor instanceof CachingProjectionExecutor cache)) {
+            throw new IllegalStateException(
+                    "Projection caching requires the auto-configured projection executor");
+        }
+        return new ProjectionCacheInvalidator(cache);
+    }
+
+    /**
+     * Creates the adaptive executor, naming each provider after its engine and applying
+     * the configured overrides.
+     */
+    private static AdaptiveProjectionExecutor adaptiveExecutor(
+            List<ProjectionExecutorProvider> providers, ProjectionProperties.Adaptive settings) {
+        Map<String, ProjectionExecutorProvider> engines = new LinkedHashMap<>();
+        for (ProjectionExecutorProvider provider : providers) {
+            engines.put(engineName(provider), provider);
+        }
+        AdaptiveProjectionExecutor executor =
+                new AdaptiveProjectionExecutor(engines, settings.getExplorationSamples(),
+                        settings.getWarmUpSamples(), settings.getReexploreAfter(),
+                        settings.getDriftFactor(), System::nanoTime);
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = ProjectionAutoConfiguration.class.getClassLoader();
+        }
+        for (Map.Entry<String, ProjectionProperties.Engine> entry
+                : settings.getOverrides().entrySet()) {
+            try {
+                executor.override(Class.forName(entry.getKey(), false, loader),
+                        entry.getValue().name());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(
+                        "Unknown DTO in projection engine overrides: " + entry.getKey(), e);
+            }
+        }
+        return executor;
+    }
+
+    private static String engineName(ProjectionExecutorProvider provider) {
+        if (provider instanceof JpaProjectionExecutorProvider) {
+            return ProjectionProperties.Engine.CRITERIA.name();
+        }
+        if (provider instanceof QuerydslProjectionExecutorProvider) {
+            return ProjectionProperties.Engine.QUERYDSL.name();
+        }
+        if (provider instanceof JpqlProjectionExecutorProvider) {
+            return ProjectionProperties.Engine.JPQL.name();
+        }
+        return provider.getClass().getName();
+    }
+
+    private static boolean enables(ProjectionProperties properties,
+                                   ProjectionProperties.Engine engine) {
+        return properties.getEngine() == engine
+                || properties.getEngine() == ProjectionProperties.Engine.ADAPTIVE;
+    }
+
+    /**
+     * Reads the Hikari pool size; only loaded when Hikari is on the classpath.
+     */
+    private static final class HikariPool {
+
+        private HikariPool() {
+        }
+
+        static int maximumSize(DataSource dataSource) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                }
+            } catch (SQLException e) {
+                return 0;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Matches when the engine is CRITERIA, the default, or ADAPTIVE.
+     */
+    static class CriteriaEngineCondition extends AnyNestedCondition {
+
+        CriteriaEngineCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
+                havingValue = "CRITERIA", matchIfMissing = true)
+        static class Criteria {
+        }
+
+        @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
+                havingValue = "ADAPTIVE")
+        static class Adaptive {
+        }
+    }
+
+    /**
+     * Matches when the engine is QUERYDSL or ADAPTIVE.
+     */
+    static class QuerydslEngineCondition extends AnyNestedCondition {
+
+        QuerydslEngineCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
+                havingValue = "QUERYDSL")
+        static class Querydsl {
+        }
+
+        @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
+                havingValue = "ADAPTIVE")
+        static class Adaptive {
+        }
+    }
+
+    /**
+     * Matches when the engine is JPQL or ADAPTIVE.
+     */
+    static class JpqlEngineCondition extends AnyNestedCondition {
+
+        JpqlEngineCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
+                havingValue = "JPQL")
+        static class Jpql {
+        }
+
+        @ConditionalOnProperty(prefix = "crudcraft.projection", name = "engine",
+                havingValue = "ADAPTIVE")
+        static class Adaptive {
         }
-        return new RoutingProjectionExecutor(providers);
     }
 }
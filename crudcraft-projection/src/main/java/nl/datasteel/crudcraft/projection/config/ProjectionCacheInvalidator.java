@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.config;
+
+import nl.datasteel.crudcraft.projection.impl.CachingProjectionExecutor;
+import nl.datasteel.crudcraft.runtime.service.EntityWriteEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalidates cached projections once CrudCraft write operations have committed.
+ * Writes outside a transaction invalidate immediately.
+ */
+public class ProjectionCacheInvalidator {
+
+    private final CachingProjectionExecutor cache;
+
+    /**
+     * Creates an invalidator for the given cache.
+     *
+     * @param cache the projection cache to invalidate
+     */
+    public ProjectionCacheInvalidator(CachingProjectionExecutor cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Drops the cached projections that read the written entity type.
+     *
+     * @param event the write event published by the CRUD service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityWrite(EntityWriteEvent event) {
+        cache.invalidate(event.entityType());
+    }
+}
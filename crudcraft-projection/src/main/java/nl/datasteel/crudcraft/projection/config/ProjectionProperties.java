@@ -15,6 +15,9 @@
  */
 package nl.datasteel.crudcraft.projection.config;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -25,9 +28,11 @@ public class ProjectionProperties {
 
     /**
      * Enum representing the available projection engines.
-     * CRITERIA uses JPA Criteria API, QUERYDSL uses QueryDSL.
+     * CRITERIA uses JPA Criteria API, QUERYDSL uses QueryDSL and JPQL uses the JPQL
+     * precompiled into the generated projection metadata. ADAPTIVE enables all engines and
+     * routes each entity and DTO pair to the one observed to be fastest.
      */
-    public enum Engine { CRITERIA, QUERYDSL }
+    public enum Engine { CRITERIA, QUERYDSL, JPQL, ADAPTIVE }
 
     /**
      * The projection engine to use for executing projections.
@@ -35,6 +40,21 @@ public class ProjectionProperties {
      */
     private Engine engine = Engine.CRITERIA;
 
+    /**
+     * Settings for hydrating collection attributes.
+     */
+    private final Hydration hydration = new Hydration();
+
+    /**
+     * Settings for caching projection results.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Settings for the ADAPTIVE engine.
+     */
+    private final Adaptive adaptive = new Adaptive();
+
     /**
      * Gets the projection engine to use.
      *
@@ -52,4 +72,290 @@ public class ProjectionProperties {
     public void setEngine(Engine engine) {
         this.engine = engine;
     }
+
+    /**
+     * Gets the collection hydration settings.
+     *
+     * @return the hydration settings
+     */
+    public Hydration getHydration() {
+        return hydration;
+    }
+
+    /**
+     * Gets the projection result cache settings.
+     *
+     * @return the cache settings
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Gets the adaptive routing settings.
+     *
+     * @return the adaptive settings
+     */
+    public Adaptive getAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Settings for hydrating collection attributes.
+     */
+    public static class Hydration {
+
+        /**
+         * Whether sibling collection attributes are fetched concurrently, each on its own
+         * read-only EntityManager. Concurrent fetches do not see uncommitted changes of the
+         * calling transaction. Default is false.
+         */
+        private boolean concurrent = false;
+
+        /**
+         * The maximum number of concurrent collection fetches across all projections,
+         * which also bounds the extra database connections in use. With a Hikari pool it
+         * is capped at the pool size minus two. Default is 4.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Checks whether sibling collection attributes are fetched concurrently.
+         *
+         * @return true if fetches run concurrently
+         */
+        public boolean isConcurrent() {
+            return concurrent;
+        }
+
+        /**
+         * Sets whether sibling collection attributes are fetched concurrently.
+         *
+         * @param concurrent true to fetch concurrently
+         */
+        public void setConcurrent(boolean concurrent) {
+            this.concurrent = concurrent;
+        }
+
+        /**
+         * Gets the maximum number of concurrent collection fetches.
+         *
+         * @return the parallelism
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the maximum number of concurrent collection fetches.
+         *
+         * @param parallelism the parallelism
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * Settings for caching projection results.
+     */
+    public static class Cache {
+
+        /**
+         * Whether projection results are cached until a write to one of the entity types
+         * they read commits. Default is false.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of cached results. Default is 1000.
+         */
+        private int maxSize = 1000;
+
+        /**
+         * How long a result stays cached. Default is 30 seconds.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * Checks whether projection results are cached.
+         *
+         * @return true if results are cached
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether projection results are cached.
+         *
+         * @param enabled true to cache results
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of cached results.
+         *
+         * @return the maximum size
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         *
+         * @param maxSize the maximum size
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets how long a result stays cached.
+         *
+         * @return the time to live
+         */
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        /**
+         * Sets how long a result stays cached.
+         *
+         * @param ttl the time to live
+         */
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * Settings for the ADAPTIVE engine.
+     */
+    public static class Adaptive {
+
+        /**
+         * The number of queries each engine runs for an entity and DTO pair before the
+         * fastest one is pinned. Default is 5.
+         */
+        private int explorationSamples = 5;
+
+        /**
+         * The number of queries each engine runs for a pair before its latency is measured,
+         * so JIT compilation and cold caches do not penalize the engine explored first.
+         * Default is 2.
+         */
+        private int warmUpSamples = 2;
+
+        /**
+         * The number of queries routed to a pinned engine before the pair is explored
+         * again; 0 disables periodic re-exploration. Default is 10000.
+         */
+        private long reexploreAfter = 10_000;
+
+        /**
+         * The factor by which the moving average latency of a pinned engine may exceed its
+         * latency when it was pinned before the pair is explored again. Default is 2.0.
+         */
+        private double driftFactor = 2.0;
+
+        /**
+         * Engines forced per DTO class name, bypassing exploration, e.g.
+         * {@code crudcraft.projection.adaptive.overrides[com.example.PostDto]=JPQL}.
+         */
+        private Map<String, Engine> overrides = new LinkedHashMap<>();
+
+        /**
+         * Gets the number of exploration queries per engine.
+         *
+         * @return the exploration samples
+         */
+        public int getExplorationSamples() {
+            return explorationSamples;
+        }
+
+        /**
+         * Sets the number of exploration queries per engine.
+         *
+         * @param explorationSamples the exploration samples
+         */
+        public void setExplorationSamples(int explorationSamples) {
+            this.explorationSamples = explorationSamples;
+        }
+
+        /**
+         * Gets the number of unmeasured warm-up queries per engine.
+         *
+         * @return the warm-up samples
+         */
+        public int getWarmUpSamples() {
+            return warmUpSamples;
+        }
+
+        /**
+         * Sets the number of unmeasured warm-up queries per engine.
+         *
+         * @param warmUpSamples the warm-up samples
+         */
+        public void setWarmUpSamples(int warmUpSamples) {
+            this.warmUpSamples = warmUpSamples;
+        }
+
+        /**
+         * Gets the number of queries routed to a pinned engine before exploring again.
+         *
+         * @return the re-exploration interval
+         */
+        public long getReexploreAfter() {
+            return reexploreAfter;
+        }
+
+        /**
+         * Sets the number of queries routed to a pinned engine before exploring again.
+         *
+         * @param reexploreAfter the re-exploration interval
+         */
+        public void setReexploreAfter(long reexploreAfter) {
+            this.reexploreAfter = reexploreAfter;
+        }
+
+        /**
+         * Gets the latency drift factor that triggers a new exploration.
+         *
+         * @return the drift factor
+         */
+        public double getDriftFactor() {
+            return driftFactor;
+        }
+
+        /**
+         * Sets the latency drift factor that triggers a new exploration.
+         *
+         * @param driftFactor the drift factor
+         */
+        public void setDriftFactor(double driftFactor) {
+            this.driftFactor = driftFactor;
+        }
+
+        /**
+         * Gets the engines forced per DTO class name.
+         *
+         * @return the overrides
+         */
+        public Map<String, Engine> getOverrides() {
+            return overrides;
+        }
+
+        /**
+         * Sets the engines forced per DTO class name.
+         *
+         * @param overrides the overrides
+         */
+        public void setOverrides(Map<String, Engine> overrides) {
+            this.overrides = overrides;
+        }
+    }
 }
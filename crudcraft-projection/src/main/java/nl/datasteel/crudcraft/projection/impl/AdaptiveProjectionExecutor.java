@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+
+/**
+ * Routes each projection to the engine that has proven fastest for its entity and DTO type.
+ *
+ * <p>For every (entity, DTO) pair the executor first explores: queries go to the engine
+ * with the fewest runs among those that support the query, until each of them has run
+ * the configured number of warm-up and exploration queries. Warm-up queries are not
+ * measured, so the engine explored first is not penalized for cold JIT code and query
+ * plan caches. The executor then pins the engine with the lowest mean latency and routes
+ * all later queries of the pair to it, as long as it supports them.
+ *
+ * <p>A pinned pair is explored again after a configured number of queries, or earlier
+ * when the moving average latency of the pinned engine drifts above its latency at the
+ * time it was pinned by the configured factor. Latency and row counts of the current
+ * exploration keep being recorded, and {@link #getDecisions()} exposes them together with
+ * the pinned engine. {@link #override} forces an engine for a DTO type and {@link #reset}
+ * restarts the exploration of a pair.
+ *
+ * <p>An engine that throws counts the attempt as a run, and the query is retried on the
+ * next candidate. For the rest of the exploration and pinning of the pair, the failed
+ * engine is used only when no other engine supports a query, and it is never pinned.
+ * The next exploration gives it another chance.
+ */
+public class AdaptiveProjectionExecutor implements ProjectionExecutor {
+
+    /** Default number of unmeasured queries per engine before exploration samples count. */
+    public static final int DEFAULT_WARM_UP_SAMPLES = 2;
+
+    /** Default number of queries routed to a pinned engine before exploring again. */
+    public static final long DEFAULT_REEXPLORE_AFTER = 10_000;
+
+    /** Default factor the pinned engine's latency may drift by before exploring again. */
+    public static final double DEFAULT_DRIFT_FACTOR = 2.0;
+
+    /** Weight of the latest query in the moving average latency of a pinned engine. */
+    private static final double DRIFT_SMOOTHING = 0.1;
+
+    private final Map<String, ProjectionExecutorProvider> engines;
+    private final int explorationSamples;
+    private final int warmUpSamples;
+    private final long reexploreAfter;
+    private final double driftFactor;
+    private final LongSupplier clock;
+
+    private final Map<PairKey, Pair> pairs = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> overrides = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an adaptive executor.
+     *
+     * @param engines            the providers by engine name, in order of preference
+     * @param explorationSamples the number of queries each engine runs before one is pinned
+     */
+    public AdaptiveProjectionExecutor(Map<String, ProjectionExecutorProvider> engines,
+                                      int explorationSamples) {
+        this(engines, explorationSamples, DEFAULT_WARM_UP_SAMPLES, DEFAULT_REEXPLORE_AFTER,
+                DEFAULT_DRIFT_FACTOR, System::nanoTime);
+    }
+
+    /**
+     * Creates an adaptive executor with a custom clock and the default warm-up and
+     * re-exploration settings.
+     *
+     * @param engines            the providers by engine name, in order of preference
+     * @param explorationSamples the number of queries each engine runs before one is pinned
+     * @param clock              the source of the current time in nanoseconds
+     */
+    public AdaptiveProjectionExecutor(Map<String, ProjectionExecutorProvider> engines,
+                                      int explorationSamples,
+                                      LongSupplier clock) {
+        this(engines, explorationSamples, DEFAULT_WARM_UP_SAMPLES, DEFAULT_REEXPLORE_AFTER,
+                DEFAULT_DRIFT_FACTOR, clock);
+    }
+
+    /**
+     * Creates an adaptive executor.
+     *
+     * @param engines            the providers by engine name, in order of preference
+     * @param explorationSamples the number of measured queries each engine runs before one
+     *                           is pinned
+     * @param warmUpSamples      the number of unmeasured queries each engine runs first
+     * @param reexploreAfter     the number of queries routed to a pinned engine before the
+     *                           pair is explored again, or 0 to never re-explore periodically
+     * @param driftFactor        the factor by which the pinned engine's moving average latency
+     *                           may exceed its latency when pinned before the pair is explored
+     *                           again; {@link Double#POSITIVE_INFINITY} disables this check
+     * @param clock              the source of the current time in nanoseconds
+     */
+    public AdaptiveProjectionExecutor(Map<String, ProjectionExecutorProvider> engines,
+                                      int explorationSamples,
+                                      int warmUpSamples,
+                                      long reexploreAfter,
+                                      double driftFactor,
+                                      LongSupplier clock) {
+        if (engines == null || engines.isEmpty()) {
+            throw new IllegalArgumentException("At least one projection engine is required");
+        }
+        if (explorationSamples <= 0) {
+            throw new IllegalArgumentException(
+                    "Exploration samples must be positive: " + explorationSamples);
+        }
+        if (warmUpSamples < 0) {
+            throw new IllegalArgumentException(
+                    "Warm-up samples must not be negative: " + warmUpSamples);
+        }
+        if (reexploreAfter < 0) {
+            throw new IllegalArgumentException(
+                    "Re-exploration interval must not be negative: " + reexploreAfter);
+        }
+        if (!(driftFactor > 1.0)) {
+            throw new IllegalArgumentException(
+                    "Drift factor must be greater than 1: " + driftFactor);
+        }
+        this.engines = new LinkedHashMap<>(engines);
+        this.explorationSamples = explorationSamples;
+        this.warmUpSamples = warmUpSamples;
+        this.reexploreAfter = reexploreAfter;
+        this.driftFactor = driftFactor;
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the projection on the overriding, pinned or next explored engine and
+     * records its latency and row count. When the engine throws, the query is retried on
+     * the next candidate; the first failure is rethrown, with the later ones suppressed,
+     * once every engine that supports the query has failed.
+     *
+     * @param entityType the type of the entity being projected
+     * @param dtoType    the type of the DTO to project into
+     * @param query      the projection query to execute
+     * @param <T>       the type of the entity
+     * @param <D>       the type of the DTO
+     * @return a {@link ProjectionResult} containing the projected data
+     */
+    @Override
+    public <T, D> ProjectionResult<D> project(Class<T> entityType,
+                                              Class<D> dtoType,
+                                              ProjectionQuery<T> query) {
+        Pair pair = pairs.computeIfAbsent(new PairKey(entityType, dtoType), Pair::new);
+        Set<String> tried = new HashSet<>();
+        RuntimeException failure = null;
+        for (String engine = select(pair, dtoType, query, tried); engine != null;
+             engine = select(pair, dtoType, query, tried)) {
+            long start = clock.getAsLong();
+            ProjectionResult<D> result;
+            try {
+                result = engines.get(engine).getExecutor().project(entityType, dtoType, query);
+            } catch (RuntimeException e) {
+                pair.fail(engine);
+                tried.add(engine);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                continue;
+            }
+            pair.record(engine, clock.getAsLong() - start, result.content().size());
+            return result;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        throw new IllegalStateException("No ProjectionExecutorProvider found for query");
+    }
+
+    /**
+     * Forces an engine for all projections to a DTO type, bypassing exploration.
+     * Queries the engine does not support are still routed adaptively.
+     *
+     * @param dtoType the DTO type
+     * @param engine  the engine name
+     * @throws IllegalArgumentException if the engine is not known
+     */
+    public void override(Class<?> dtoType, String engine) {
+        if (!engines.containsKey(engine)) {
+            throw new IllegalArgumentException("Unknown projection engine: " + engine);
+        }
+        overrides.put(dtoType, engine);
+    }
+
+    /**
+     * Removes the engine override of a DTO type.
+     *
+     * @param dtoType the DTO type
+     */
+    public void clearOverride(Class<?> dtoType) {
+        overrides.remove(dtoType);
+    }
+
+    /**
+     * Discards the statistics and pinned engine of a pair, so it is explored again.
+     *
+     * @param entityType the entity type
+     * @param dtoType    the DTO type
+     */
+    public void reset(Class<?> entityType, Class<?> dtoType) {
+        pairs.remove(new PairKey(entityType, dtoType));
+    }
+
+    /**
+     * Returns the names of the engines this executor routes between.
+     *
+     * @return the engine names, in order of preference
+     */
+    public List<String> getEngines() {
+        return List.copyOf(engines.keySet());
+    }
+
+    /**
+     * Returns a snapshot of the routing decision and statistics of every pair seen so far.
+     *
+     * @return the decisions
+     */
+    public List<Decision> getDecisions() {
+        List<Decision> decisions = new ArrayList<>();
+        for (Pair pair : pairs.values()) {
+            decisions.add(pair.snapshot(overrides.get(pair.key.dtoType())));
+        }
+        decisions.sort(Comparator.comparing((Decision d) -> d.entityType().getName())
+                .thenComparing(d -> d.dtoType().getName()));
+        return decisions;
+    }
+
+    /**
+     * Chooses the engine for a query, skipping the engines already tried for it.
+     * Returns null when no untried engine supports the query.
+     */
+    private String select(Pair pair, Class<?> dtoType, ProjectionQuery<?> query,
+                          Set<String> tried) {
+        Epoch epoch = pair.epoch;
+        String override = overrides.get(dtoType);
+        if (override != null && usable(override, query, epoch, tried)) {
+            return override;
+        }
+        String pinned = epoch.pinned;
+        if (pinned != null && usable(pinned, query, epoch, tried)) {
+            return pinned;
+        }
+
+        String least = null;
+        long leastRuns = Long.MAX_VALUE;
+        String fastest = null;
+        double fastestMean = Double.MAX_VALUE;
+        String lastResort = null;
+        for (Map.Entry<String, ProjectionExecutorProvider> entry : engines.entrySet()) {
+            if (tried.contains(entry.getKey()) || !entry.getValue().supports(query)) {
+                continue;
+            }
+            if (epoch.failed.contains(entry.getKey())) {
+                if (lastResort == null) {
+                    lastResort = entry.getKey();
+                }
+                continue;
+            }
+            Stats stats = epoch.stats(entry.getKey());
+            long runs = stats.runs.sum();
+            if (runs < leastRuns) {
+                least = entry.getKey();
+                leastRuns = runs;
+            }
+            if (stats.samples.sum() > 0 && stats.meanLatency() < fastestMean) {
+                fastest = entry.getKey();
+                fastestMean = stats.meanLatency();
+            }
+        }
+        if (least == null) {
+            return lastResort;
+        }
+        if (leastRuns < warmUpSamples + explorationSamples) {
+            return least;
+        }
+        epoch.pin(fastest, fastestMean);
+        return fastest;
+    }
+
+    private boolean usable(String engine, ProjectionQuery<?> query, Epoch epoch,
+                           Set<String> tried) {
+        return !tried.contains(engine) && !epoch.failed.contains(engine)
+                && engines.get(engine).supports(query);
+    }
+
+    /**
+     * The routing decision of an (entity, DTO) pair.
+     *
+     * @param entityType the entity type
+     * @param dtoType    the DTO type
+     * @param pinned     the engine chosen after exploration, or null while exploring
+     * @param override   the engine forced for the DTO type, or null
+     * @param engines    the statistics per engine that has run queries of the pair
+     */
+    public record Decision(Class<?> entityType, Class<?> dtoType, String pinned,
+                           String override, Map<String, EngineStats> engines) {
+    }
+
+    /**
+     * Observed cost of one engine for an (entity, DTO) pair.
+     *
+     * @param samples            the number of measured queries run
+     * @param meanLatencyNanos   the mean query latency in nanoseconds
+     * @param meanRows           the mean number of rows returned
+     */
+    public record EngineStats(long samples, double meanLatencyNanos, double meanRows) {
+    }
+
+    private record PairKey(Class<?> entityType, Class<?> dtoType) {
+    }
+
+    private final class Pair {
+        private final PairKey key;
+        private volatile Epoch epoch = new Epoch();
+
+        Pair(PairKey key) {
+            this.key = key;
+        }
+
+        void record(String engine, long nanos, int rows) {
+            Epoch current = epoch;
+            if (current.record(engine, nanos, rows)) {
+                synchronized (this) {
+                    if (epoch == current) {
+                        epoch = new Epoch();
+                    }
+                }
+            }
+        }
+
+        void fail(String engine) {
+            epoch.fail(engine);
+        }
+
+        Decision snapshot(String override) {
+            Epoch current = epoch;
+            Map<String, EngineStats> engines = new LinkedHashMap<>();
+            current.stats.forEach((engine, s) -> {
+                long samples = s.samples.sum();
+                if (samples > 0) {
+                    engines.put(engine, new EngineStats(samples, s.meanLatency(),
+                            (double) s.rows.sum() / samples));
+                }
+            });
+            return new Decision(key.entityType(), key.dtoType(), current.pinned, override,
+                    Map.copyOf(engines));
+        }
+    }
+
+    /**
+     * One exploration of a pair and the time its outcome stays pinned.
+     */
+    private final class Epoch {
+        private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+        private final Set<String> failed = ConcurrentHashMap.newKeySet();
+        private volatile String pinned;
+        private double pinnedLatency;
+        private double movingLatency;
+        private long queriesSincePin;
+
+        Stats stats(String engine) {
+            return stats.computeIfAbsent(engine, e -> new Stats());
+        }
+
+        synchronized void pin(String engine, double latency) {
+            if (pinned == null && !failed.contains(engine)) {
+                pinned = engine;
+                pinnedLatency = latency;
+                movingLatency = latency;
+                queriesSincePin = 0;
+            }
+        }
+
+        /**
+         * Records a failed query: it counts as a run, and the engine is set aside and
+         * unpinned for the rest of this epoch.
+         */
+        synchronized void fail(String engine) {
+            stats(engine).runs.increment();
+            failed.add(engine);
+            if (engine.equals(pinned)) {
+                pinned = null;
+            }
+        }
+
+        /**
+         * Records a query and returns whether the pair should be explored again.
+         */
+        boolean record(String engine, long nanos, int rows) {
+            Stats s = stats(engine);
+            s.runs.increment();
+            if (s.runs.sum() > warmUpSamples) {
+                s.samples.increment();
+                s.nanos.add(nanos);
+                s.rows.add(rows);
+            }
+            if (!engine.equals(pinned)) {
+                return false;
+            }
+            synchronized (this) {
+                queriesSincePin++;
+                movingLatency += DRIFT_SMOOTHING * (nanos - movingLatency);
+                if (reexploreAfter > 0 && queriesSincePin >= reexploreAfter) {
+                    return true;
+                }
+                return queriesSincePin >= explorationSamples
+                        && movingLatency > pinnedLatency * driftFactor;
+            }
+        }
+    }
+
+    private static final class Stats {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+
+        double meanLatency() {
+            long count = samples.sum();
+            return count == 0 ? Double.MAX_VALUE : (double) nanos.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
+import nl.datasteel.crudcraft.projection.api.FilterCriteria;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Caches the results of another {@link ProjectionExecutor}.
+ *
+ * <p>Results are keyed by entity type, DTO type, filter predicate, pageable and count
+ * policy, and are kept for a bounded time in a bounded least-recently-used map. Each entry
+ * remembers the entity types it was read from: the queried entity and every entity reached
+ * through the attribute paths of the DTO's {@link ProjectionMetadata}.
+ * {@link #invalidate(Class)} drops all entries that read a type, and is meant to be called
+ * once writes to that type have committed.
+ *
+ * <p>Only QueryDSL predicates have a structural equality, so queries filtered by a JPA
+ * {@link org.springframework.data.jpa.domain.Specification} are passed to the delegate
+ * uncached. Cached results, including their DTOs, are shared between callers and must not
+ * be modified.
+ */
+public class CachingProjectionExecutor implements ProjectionExecutor {
+
+    /**
+     * Marks DTOs whose entity types could not be resolved; their queries are not cached.
+     */
+    private static final Set<Class<?>> UNRESOLVED = Set.of();
+
+    private final ProjectionExecutor delegate;
+    private final ProjectionMetadataRegistry registry;
+    private final Metamodel metamodel;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final Map<TypePair, Set<Class<?>>> dependencies = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Key, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates a caching executor.
+     *
+     * @param delegate  the executor to run queries that are not cached
+     * @param registry  the registry providing the metadata of the projected DTOs
+     * @param metamodel the JPA metamodel used to resolve the entity types a DTO reads,
+     *                  or null to only track the queried entity type
+     * @param maxSize   the maximum number of cached results
+     * @param ttl       how long a result stays cached
+     */
+    public CachingProjectionExecutor(ProjectionExecutor delegate,
+                                     ProjectionMetadataRegistry registry,
+                                     Metamodel metamodel,
+                                     int maxSize,
+                                     Duration ttl) {
+        this(delegate, registry, metamodel, maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * Creates a caching executor with a custom clock.
+     *
+     * @param delegate  the executor to run queries that are not cached
+     * @param registry  the registry providing the metadata of the projected DTOs
+     * @param metamodel the JPA metamodel used to resolve the entity types a DTO reads,
+     *                  or null to only track the queried entity type
+     * @param maxSize   the maximum number of cached results
+     * @param ttl       how long a result stays cached
+     * @param clock     the source of the current time in nanoseconds
+     */
+    public CachingProjectionExecutor(ProjectionExecutor delegate,
+                                     ProjectionMetadataRegistry registry,
+                                     Metamodel metamodel,
+                                     int maxSize,
+                                     Duration ttl,
+                                     LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive: " + ttl);
+        }
+        this.delegate = delegate;
+        this.registry = registry;
+        this.metamodel = metamodel;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                boolean full = size() > CachingProjectionExecutor.this.maxSize;
+                if (full) {
+                    evictions.increment();
+                }
+                return full;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of an identical query, or runs the query on the delegate
+     * and caches its result.
+     *
+     * @param entityType the entity class
+     * @param dtoType    the DTO class to project to
+     * @param query      the projection query definition
+     * @param <T>        entity type
+     * @param <D>        dto type
+     * @return result containing the projected DTOs
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, D> ProjectionResult<D> project(Class<T> entityType, Class<D> dtoType,
+                                              ProjectionQuery<T> query) {
+        Key key = keyOf(entityType, dtoType, query);
+        Set<Class<?>> types = key == null ? UNRESOLVED : dependencies(entityType, dtoType);
+        if (types == UNRESOLVED) {
+            bypassed.increment();
+            return delegate.project(entityType, dtoType, query);
+        }
+
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.expiresAt() < 0) {
+                hits.increment();
+                return (ProjectionResult<D>) entry.result();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+
+        // A write committed while the query ran may not be reflected in its result
+        long seen = generation.get();
+        ProjectionResult<D> result = delegate.project(entityType, dtoType, query);
+        synchronized (entries) {
+            if (generation.get() == seen) {
+                entries.put(key, new Entry(result, types, clock.getAsLong() + ttlNanos));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Streams the DTOs from the delegate without caching, so a large stream does not evict
+     * the cached pages.
+     *
+     * @param entityType the entity class
+     * @param dtoType    the DTO class to project to
+     * @param query      the projection query definition
+     * @param chunkSize  the number of root rows fetched per chunk
+     * @param <T>        entity type
+     * @param <D>        dto type
+     * @return a lazy, ordered stream of the projected DTOs
+     */
+    @Override
+    public <T, D> Stream<D> stream(Class<T> entityType, Class<D> dtoType,
+                                   ProjectionQuery<T> query, int chunkSize) {
+        return delegate.stream(entityType, dtoType, query, chunkSize);
+    }
+
+    /**
+     * Drops all cached results that read the given entity type, its supertypes or its
+     * subtypes.
+     *
+     * @param entityType the entity type that was written
+     */
+    public void invalidate(Class<?> entityType) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (reads(it.next().types(), entityType)) {
+                    it.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    /** Returns the number of cached results, including expired ones not yet removed. */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Returns the number of queries answered from the cache. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of cacheable queries that were run on the delegate. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Returns the number of queries that could not be cached. */
+    public long getBypassCount() {
+        return bypassed.sum();
+    }
+
+    /** Returns the number of results dropped because the cache was full. */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** Returns the number of results dropped by invalidation. */
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * Returns the share of cacheable queries answered from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 before the first cacheable query
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Builds the cache key of a query, or returns null when the filter cannot be compared.
+     */
+    private static Key keyOf(Class<?> entityType, Class<?> dtoType, ProjectionQuery<?> query) {
+        FilterCriteria<?> filter = query.filter();
+        Predicate predicate = null;
+        if (filter != null) {
+            if (filter.asSpecification().isPresent()) {
+                return null;
+            }
+            predicate = filter.asPredicate().orElse(null);
+        }
+        // Builders are mutable and compare by identity; their value compares structurally
+        if (predicate instanceof BooleanBuilder builder) {
+            predicate = builder.getValue();
+        }
+        return new Key(entityType, dtoType, predicate, query.pageable(), CountPolicy.of(query));
+    }
+
+    private Set<Class<?>> dependencies(Class<?> entityType, Class<?> dtoType) {
+        return dependencies.computeIfAbsent(new TypePair(entityType, dtoType), pair -> {
+            Set<Class<?>> types = new HashSet<>();
+            types.add(entityType);
+            ProjectionMetadata<?> metadata = registry != null ? registry.getMetadata(dtoType) : null;
+            if (metadata == null || metamodel == null) {
+                return Set.copyOf(types);
+            }
+            try {
+                collect(metamodel.managedType(entityType), metadata, types);
+            } catch (IllegalArgumentException e) {
+                return UNRESOLVED;
+            }
+            return Set.copyOf(types);
+        });
+    }
+
+    /**
+     * Adds the entity types reached through the attribute paths of the metadata.
+     */
+    private void collect(ManagedType<?> owner, ProjectionMetadata<?> metadata,
+                         Set<Class<?>> types) {
+        for (ProjectionMetadata.Attribute attribute : metadata.attributes()) {
+            ManagedType<?> current = owner;
+            String[] parts = attribute.path().split("\\.");
+            for (int i = 0; i < parts.length && current != null; i++) {
+                Attribute<?, ?> segment = current.getAttribute(parts[i]);
+                Type<?> target = segment instanceof PluralAttribute<?, ?, ?> plural
+                        ? plural.getElementType()
+                        : ((SingularAttribute<?, ?>) segment).getType();
+                if (segment.isAssociation()) {
+                    types.add(target.getJavaType());
+                }
+                current = target instanceof ManagedType<?> managed ? managed : null;
+            }
+            if (attribute.nested() != null && current != null) {
+                collect(current, attribute.nested(), types);
+            }
+        }
+    }
+
+    private static boolean reads(Set<Class<?>> types, Class<?> written) {
+        for (Class<?> type : types) {
+            if (type.isAssignableFrom(written) || written.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Key(Class<?> entityType, Class<?> dtoType, Predicate predicate,
+                       Pageable pageable, CountPolicy countPolicy) {
+    }
+
+    private record TypePair(Class<?> entityType, Class<?> dtoType) {
+    }
+
+    private record Entry(ProjectionResult<?> result, Set<Class<?>> types, long expiresAt) {
+    }
+}
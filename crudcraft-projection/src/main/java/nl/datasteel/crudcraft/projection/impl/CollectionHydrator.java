@@ -16,13 +16,11 @@
 package nl.datasteel.crudcraft.projection.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.Callable;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
 
 /**
@@ -62,6 +60,12 @@ public final class CollectionHydrator {
     /**
      * Result returned by the {@link RowFetcher} containing the fetched rows and
      * the Java types of the joined associations.
+     *
+     * <p>The lists are copied once on construction; the accessors return that copy
+     * without copying again.
+     *
+     * @param rows      the fetched rows, where each row is an array of objects
+     * @param joinTypes the Java types of the joined associations
      */
     public record FetchResult(List<Object[]> rows, List<Class<?>> joinTypes) {
 
@@ -76,29 +80,6 @@ public final class CollectionHydrator {
             rows = List.copyOf(rows);
             joinTypes = List.copyOf(joinTypes);
         }
-
-        /**
-         * Returns the fetched rows as an immutable list.
-         * Each row is represented as an array of objects.
-         *
-         * @return an immutable list of rows
-         */
-        @Override
-        public List<Object[]> rows() {
-            return List.copyOf(rows);
-        }
-
-        /**
-         * Returns the Java types of the joined associations as an immutable list.
-         * This is useful for determining the types of nested DTOs that need to be
-         * hydrated recursively.
-         *
-         * @return an immutable list of join types
-         */
-        @Override
-        public List<Class<?>> joinTypes() {
-            return List.copyOf(joinTypes);
-        }
     }
 
     /**
@@ -114,86 +95,264 @@ public final class CollectionHydrator {
                                                  ProjectionMetadata<D> metadata,
                                                  Map<Object, D> dtoMap,
                                                  RowFetcher fetcher) {
-        hydrateCollections(entityType, metadata, dtoMap, fetcher, new HashMap<>());
+        hydrateCollections(entityType, metadata, dtoMap, fetcher, null);
     }
 
     /**
-     * Hydrates collection attributes in the DTO map by fetching the necessary
-     * data from the database.
+     * Hydrates collection attributes in the DTO map, fetching sibling collection
+     * attributes concurrently when {@code parallel} is given. Each concurrent fetch
+     * receives a single attribute, so the fetcher must be safe to call from several
+     * threads at once. Results are merged on the calling thread.
      *
      * @param entityType the type of the entity being projected
      * @param metadata   the projection metadata for the DTO type
      * @param dtoMap     a map of IDs to DTO instances to hydrate
      * @param fetcher    a function that fetches collection data for the given entity type
+     * @param parallel   runs sibling fetches concurrently, or null to fetch sequentially
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static <T, D> void hydrateCollections(Class<T> entityType,
-                                                  ProjectionMetadata<D> metadata,
-                                                  Map<Object, D> dtoMap,
-                                                  RowFetcher fetcher,
-                                                  Map<Class<?>, Set<Object>> visited) {
-        Set<Object> visitedIds = visited.computeIfAbsent(entityType, k -> new HashSet<>());
-        List<Object> ids = dtoMap.keySet().stream()
-                .filter(id -> visitedIds.add(id))
-                .toList();
-        if (ids.isEmpty()) {
+    public static <T, D> void hydrateCollections(Class<T> entityType,
+                                                 ProjectionMetadata<D> metadata,
+                                                 Map<Object, D> dtoMap,
+                                                 RowFetcher fetcher,
+                                                 ParallelHydration parallel) {
+        hydrateCollections(entityType, metadata, dtoMap, fetcher, fetcher, parallel);
+    }
+
+    /**
+     * Hydrates collection attributes in the DTO map. Levels with a single collection
+     * attribute, or all levels when {@code parallel} is null, are fetched on the calling
+     * thread with {@code fetcher}; sibling attributes are fetched concurrently with
+     * {@code concurrentFetcher}, which must be safe to call from several threads at once.
+     *
+     * @param entityType        the type of the entity being projected
+     * @param metadata          the projection metadata for the DTO type
+     * @param dtoMap            a map of IDs to DTO instances to hydrate
+     * @param fetcher           fetches collection data on the calling thread
+     * @param concurrentFetcher fetches collection data on a worker thread
+     * @param parallel          runs sibling fetches concurrently, or null to fetch sequentially
+     */
+    public static <T, D> void hydrateCollections(Class<T> entityType,
+                                                 ProjectionMetadata<D> metadata,
+                                                 Map<Object, D> dtoMap,
+                                                 RowFetcher fetcher,
+                                                 RowFetcher concurrentFetcher,
+                                                 ParallelHydration parallel) {
+        if (parallel != null && concurrentFetcher == null) {
+            throw new IllegalArgumentException("Parallel hydration requires a concurrent fetcher");
+        }
+        if (dtoMap.isEmpty()) {
             return;
         }
+        Object[] ids = new Object[dtoMap.size()];
+        Object[] dtos = new Object[dtoMap.size()];
+        int size = 0;
+        for (Map.Entry<Object, D> entry : dtoMap.entrySet()) {
+            ids[size] = entry.getKey();
+            dtos[size++] = entry.getValue();
+        }
+        new Level(fetcher, concurrentFetcher, parallel).hydrate(entityType, metadata, ids, dtos, size);
+    }
 
-        List<ProjectionMetadata.Attribute> attributes = metadata.attributes().stream()
-                .filter(ProjectionMetadata.Attribute::collection)
-                .toList();
-        if (attributes.isEmpty()) {
-            return;
+    /**
+     * State shared by all levels of one hydration run.
+     */
+    private static final class Level {
+        private final RowFetcher fetcher;
+        private final RowFetcher concurrentFetcher;
+        private final ParallelHydration parallel;
+
+        /** Ids already fetched, per entity type. */
+        private final Map<Class<?>, IdIndex> visited = new HashMap<>();
+
+        Level(RowFetcher fetcher, RowFetcher concurrentFetcher, ParallelHydration parallel) {
+            this.fetcher = fetcher;
+            this.concurrentFetcher = concurrentFetcher;
+            this.parallel = parallel;
         }
 
-        FetchResult result = fetcher.fetch(entityType, attributes, ids);
-        List<Object[]> rows = result.rows();
+        /**
+         * Hydrates collection attributes of a batch of DTOs and recurses into nested DTOs.
+         *
+         * @param entityType the type of the entity being projected
+         * @param metadata   the projection metadata for the DTO type
+         * @param ids        the entity ids, parallel to {@code dtos}
+         * @param dtos       the DTO instances to hydrate
+         * @param size       the number of entries in {@code ids} and {@code dtos}
+         */
+        void hydrate(Class<?> entityType, ProjectionMetadata<?> metadata,
+                     Object[] ids, Object[] dtos, int size) {
+            List<ProjectionMetadata.Attribute> attributes = new ArrayList<>();
+            for (ProjectionMetadata.Attribute attribute : metadata.attributes()) {
+                if (attribute.collection()) {
+                    attributes.add(attribute);
+                }
+            }
+            if (attributes.isEmpty()) {
+                return;
+            }
+
+            IdIndex visitedIds = visited.computeIfAbsent(entityType,
+                    k -> IdIndex.forId(ids[0], size));
+            List<Object> fetchIds = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int before = visitedIds.size();
+                visitedIds.add(ids[i]);
+                if (visitedIds.size() > before) {
+                    fetchIds.add(ids[i]);
+                }
+            }
+            if (fetchIds.isEmpty()) {
+                return;
+            }
+
+            IdIndex parents = IdIndex.forId(ids[0], size);
+            for (int i = 0; i < size; i++) {
+                parents.add(ids[i]);
+            }
+
+            if (parallel != null && attributes.size() > 1) {
+                List<Callable<FetchResult>> tasks = new ArrayList<>(attributes.size());
+                for (ProjectionMetadata.Attribute attribute : attributes) {
+                    List<ProjectionMetadata.Attribute> single = List.of(attribute);
+                    tasks.add(() -> concurrentFetcher.fetch(entityType, single, fetchIds));
+                }
+                List<FetchResult> results = parallel.invokeAll(tasks);
+                for (int a = 0; a < attributes.size(); a++) {
+                    FetchResult result = results.get(a);
+                    hydrateAttribute(attributes.get(a), result.rows(), 1,
+                            result.joinTypes().getFirst(), parents, dtos, size);
+                }
+                return;
+            }
 
-        int attrCount = attributes.size();
-        List<Map<Object, Map<Object, Object>>> groupedLists = new ArrayList<>(attrCount);
-        List<Map<Object, Object>> nestedMaps = new ArrayList<>(attrCount);
-        for (int i = 0; i < attrCount; i++) {
-            groupedLists.add(new HashMap<>());
-            nestedMaps.add(new LinkedHashMap<>());
+            FetchResult result = fetcher.fetch(entityType, attributes, fetchIds);
+            for (int a = 0; a < attributes.size(); a++) {
+                hydrateAttribute(attributes.get(a), result.rows(), 1 + 2 * a,
+                        result.joinTypes().get(a), parents, dtos, size);
+            }
         }
 
-        for (Object[] row : rows) {
-            Object parentId = row[0];
-            int offset = 1;
-            for (int i = 0; i < attrCount; i++) {
-                Object childId = row[offset++];
-                Object childDto = row[offset++];
-                if (childId != null) {
-                    groupedLists.get(i)
-                            .computeIfAbsent(parentId, k -> new LinkedHashMap<>())
-                            .putIfAbsent(childId, childDto);
-                    nestedMaps.get(i).putIfAbsent(childId, childDto);
+        /**
+         * Groups the fetched rows of one attribute by parent and recurses into the children.
+         *
+         * <p>Parent and child ids are resolved to dense indexes through {@link IdIndex}, so
+         * the grouping works on arrays instead of per-parent maps. Each child id is kept once;
+         * every parent list refers to that first DTO instance, which is also the one
+         * hydrated recursively.
+         *
+         * @param attribute the collection attribute
+         * @param rows      the fetched rows
+         * @param column    the column holding the child id, followed by the child DTO
+         * @param joinType  the Java type of the joined association
+         * @param parents   the index of the parent ids
+         * @param dtos      the parent DTOs, by parent index
+         * @param size      the number of parents
+         */
+        private void hydrateAttribute(ProjectionMetadata.Attribute attribute,
+                                      List<Object[]> rows,
+                                      int column,
+                                      Class<?> joinType,
+                                      IdIndex parents,
+                                      Object[] dtos,
+                                      int size) {
+            IdIndex children = null;
+            Object[] childDtos = null;
+            PairSet links = null;
+            @SuppressWarnings("unchecked")
+            List<Object>[] buckets = new List[size];
+
+            for (Object[] row : rows) {
+                Object childId = row[column];
+                if (childId == null) {
+                    continue;
+                }
+                if (children == null) {
+                    children = IdIndex.forId(childId, rows.size());
+                    childDtos = new Object[Math.max(rows.size(), 1)];
+                    links = new PairSet(rows.size());
                 }
+                int childCount = children.size();
+                int child = children.add(childId);
+                if (child == childCount) {
+                    if (child == childDtos.length) {
+                        childDtos = Arrays.copyOf(childDtos, child * 2);
+                    }
+                    childDtos[child] = row[column + 1];
+                }
+                int parent = parents.indexOf(row[0]);
+                if (parent >= 0 && links.add(parent, child)) {
+                    List<Object> bucket = buckets[parent];
+                    if (bucket == null) {
+                        bucket = new ArrayList<>();
+                        buckets[parent] = bucket;
+                    }
+                    bucket.add(childDtos[child]);
+                }
+            }
+
+            for (int i = 0; i < size; i++) {
+                List<Object> bucket = buckets[i];
+                attribute.mutator().accept(dtos[i], bucket != null ? bucket : new ArrayList<>());
+            }
+
+            ProjectionMetadata<?> nested = attribute.nested();
+            if (nested != null && children != null) {
+                int count = children.size();
+                Object[] childIds = new Object[count];
+                for (int i = 0; i < count; i++) {
+                    childIds[i] = children.key(i);
+                }
+                hydrate(joinType, nested, childIds, childDtos, count);
             }
         }
+    }
 
-        for (Map.Entry<Object, D> entry : dtoMap.entrySet()) {
-            Object parentId = entry.getKey();
-            D dto = entry.getValue();
-            for (int i = 0; i < attrCount; i++) {
-                ProjectionMetadata.Attribute attribute = attributes.get(i);
-                Map<Object, Object> children = groupedLists.get(i)
-                        .getOrDefault(parentId, Collections.emptyMap());
-                List<Object> list = new ArrayList<>(children.values());
-                attribute.mutator().accept(dto, list);
+    /**
+     * Open-addressing set of (parent index, child index) pairs packed into longs.
+     */
+    private static final class PairSet {
+        private static final long EMPTY = -1L;
+
+        private long[] table;
+        private int size;
+
+        PairSet(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            table = new long[capacity];
+            Arrays.fill(table, EMPTY);
+        }
+
+        boolean add(int parent, int child) {
+            long key = ((long) parent << 32) | child;
+            int mask = table.length - 1;
+            int slot = IdIndex.mix(key) & mask;
+            while (table[slot] != EMPTY) {
+                if (table[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+            if (++size * 2 > table.length) {
+                rehash();
             }
+            return true;
         }
 
-        List<Class<?>> joinTypes = result.joinTypes();
-        for (int i = 0; i < attrCount; i++) {
-            ProjectionMetadata.Attribute attribute = attributes.get(i);
-            ProjectionMetadata nested = attribute.nested();
-            if (nested != null && !nestedMaps.get(i).isEmpty()) {
-                Class joinType = joinTypes.get(i);
-                hydrateCollections(joinType, nested, nestedMaps.get(i), fetcher, visited);
+        private void rehash() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            Arrays.fill(table, EMPTY);
+            int mask = table.length - 1;
+            for (long key : old) {
+                if (key != EMPTY) {
+                    int slot = IdIndex.mix(key) & mask;
+                    while (table[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = key;
+                }
             }
         }
     }
 }
-
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Insertion-ordered set of entity ids that assigns each id a dense index.
+ * Ids are stored in open-addressing tables; integral and {@link UUID} ids are compared
+ * on their primitive values, so lookups neither box nor call {@code equals}.
+ */
+abstract class IdIndex {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    /** Ids in insertion order. */
+    private Object[] keys;
+
+    /** Slot table holding dense index + 1, or 0 for an empty slot. */
+    private int[] slots;
+
+    private int size;
+
+    IdIndex(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expected * 2 - 1)) << 1;
+        this.keys = new Object[Math.max(expected, 4)];
+        this.slots = new int[capacity];
+    }
+
+    /**
+     * Creates an index specialized for the type of the given id.
+     *
+     * @param sample an id of the kind that will be stored
+     * @param expected the expected number of ids
+     * @return a new, empty index
+     */
+    static IdIndex forId(Object sample, int expected) {
+        if (LongIdIndex.accepts(sample)) {
+            return new LongIdIndex(expected);
+        }
+        if (sample instanceof UUID) {
+            return new UuidIdIndex(expected);
+        }
+        return new ObjectIdIndex(expected);
+    }
+
+    /**
+     * Returns the number of ids in the index.
+     */
+    final int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id with the given dense index.
+     */
+    final Object key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Looks up the dense index of an id.
+     *
+     * @param id the id, not null
+     * @return the index, or {@code -1} if the id is absent
+     */
+    final int indexOf(Object id) {
+        int mask = slots.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (matches(entry - 1, id)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Adds an id if absent.
+     *
+     * @param id the id, not null
+     * @return the dense index of the id
+     */
+    final int add(Object id) {
+        int mask = slots.length - 1;
+        int slot = hash(id) & mask;
+        for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            if (matches(entry - 1, id)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int index = size++;
+        if (index == keys.length) {
+            keys = Arrays.copyOf(keys, index * 2);
+            grow(index * 2);
+        }
+        keys[index] = id;
+        store(index, id);
+        slots[slot] = index + 1;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    /**
+     * Hashes an id consistently with {@link #matches}.
+     */
+    abstract int hash(Object id);
+
+    /**
+     * Checks whether the id stored at {@code index} equals {@code id}.
+     */
+    abstract boolean matches(int index, Object id);
+
+    /**
+     * Records the primitive form of an id at {@code index}.
+     */
+    abstract void store(int index, Object id);
+
+    /**
+     * Grows the primitive storage to {@code capacity} entries.
+     */
+    abstract void grow(int capacity);
+
+    /**
+     * Hashes the primitive slot value stored at {@code index}.
+     */
+    abstract int storedHash(int index);
+
+    static int mix(long value) {
+        long h = value * GOLDEN;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash() {
+        int[] table = new int[slots.length * 2];
+        int mask = table.length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = storedHash(index) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+        slots = table;
+    }
+
+    /**
+     * Index for {@link Long}, {@link Integer}, {@link Short} and {@link Byte} ids.
+     */
+    static final class LongIdIndex extends IdIndex {
+        private long[] values;
+
+        LongIdIndex(int expected) {
+            super(expected);
+            values = new long[Math.max(expected, 4)];
+        }
+
+        static boolean accepts(Object id) {
+            return id instanceof Long || id instanceof Integer
+                    || id instanceof Short || id instanceof Byte;
+        }
+
+        private static long valueOf(Object id) {
+            if (!accepts(id)) {
+                throw new IllegalArgumentException("Expected an integral id but got "
+                        + id.getClass().getName());
+            }
+            return ((Number) id).longValue();
+        }
+
+        @Override
+        int hash(Object id) {
+            return mix(valueOf(id));
+        }
+
+        @Override
+        boolean matches(int index, Object id) {
+            return values[index] == valueOf(id);
+        }
+
+        @Override
+        void store(int index, Object id) {
+            values[index] = valueOf(id);
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int storedHash(int index) {
+            return mix(values[index]);
+        }
+    }
+
+    /**
+     * Index for {@link UUID} ids.
+     */
+    static final class UuidIdIndex extends IdIndex {
+        private long[] high;
+        private long[] low;
+
+        UuidIdIndex(int expected) {
+            super(expected);
+            high = new long[Math.max(expected, 4)];
+            low = new long[Math.max(expected, 4)];
+        }
+
+        private static UUID valueOf(Object id) {
+            if (!(id instanceof UUID uuid)) {
+                throw new IllegalArgumentException("Expected a UUID id but got "
+                        + id.getClass().getName());
+            }
+            return uuid;
+        }
+
+        @Override
+        int hash(Object id) {
+            UUID uuid = valueOf(id);
+            return mix(uuid.getMostSignificantBits() ^ mix(uuid.getLeastSignificantBits()));
+        }
+
+        @Override
+        boolean matches(int index, Object id) {
+            UUID uuid = valueOf(id);
+            return high[index] == uuid.getMostSignificantBits()
+                    && low[index] == uuid.getLeastSignificantBits();
+        }
+
+        @Override
+        void store(int index, Object id) {
+            UUID uuid = valueOf(id);
+            high[index] = uuid.getMostSignificantBits();
+            low[index] = uuid.getLeastSignificantBits();
+        }
+
+        @Override
+        void grow(int capacity) {
+            high = Arrays.copyOf(high, capacity);
+            low = Arrays.copyOf(low, capacity);
+        }
+
+        @Override
+        int storedHash(int index) {
+            return mix(high[index] ^ mix(low[index]));
+        }
+    }
+
+    /**
+     * Index for any other id type, using {@code hashCode} and {@code equals}.
+     */
+    static final class ObjectIdIndex extends IdIndex {
+
+        ObjectIdIndex(int expected) {
+            super(expected);
+        }
+
+        @Override
+        int hash(Object id) {
+            return mix(id.hashCode());
+        }
+
+        @Override
+        boolean matches(int index, Object id) {
+            return Objects.equals(key(index), id);
+        }
+
+        @Override
+        void store(int index, Object id) {
+            // the key array already holds the id
+        }
+
+        @Override
+        void grow(int capacity) {
+            // no primitive storage
+        }
+
+        @Override
+        int storedHash(int index) {
+            return mix(key(index).hashCode());
+        }
+    }
+}
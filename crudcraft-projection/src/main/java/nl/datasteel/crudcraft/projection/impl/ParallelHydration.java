@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Runs the collection fetches of one hydration level concurrently.
+ *
+ * <p>Each fetch runs on a virtual thread; a shared semaphore bounds the number of fetches
+ * in flight across all projections, and with it the number of extra database connections.
+ * Fetches use their own read-only {@link EntityManager}, so they do not see changes that
+ * are not yet committed in the caller's transaction. Levels with a single collection
+ * attribute are not handed to this class and run on the caller's EntityManager.
+ */
+public class ParallelHydration implements AutoCloseable {
+
+    /**
+     * Query hint marking loaded entities read-only; ignored by providers that do not know it.
+     */
+    public static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
+    private final int parallelism;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new ParallelHydration.
+     *
+     * @param parallelism the maximum number of concurrent fetches
+     */
+    public ParallelHydration(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.permits = new Semaphore(parallelism);
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("crudcraft-hydration-", 0).factory());
+    }
+
+    /**
+     * Returns the maximum number of concurrent fetches.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Runs the tasks concurrently and returns their results in task order.
+     * The first failure is rethrown once all tasks are done or cancelled.
+     *
+     * @param tasks the tasks to run
+     * @param <R> the result type
+     * @return the results, in the order of the tasks
+     */
+    public <R> List<R> invokeAll(List<? extends Callable<R>> tasks) {
+        List<Future<R>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<R> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return task.call();
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            List<R> results = new ArrayList<>(futures.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hydrating collections", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to hydrate collections", cause);
+        } finally {
+            for (Future<R> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Runs work against a new read-only EntityManager that is closed afterwards.
+     * Queries created by the work should set {@link #READ_ONLY_HINT}.
+     *
+     * @param factory the factory creating the EntityManager
+     * @param work the work to run
+     * @param <R> the result type
+     * @return the result of the work
+     */
+    public static <R> R withReadOnlyEntityManager(EntityManagerFactory factory,
+                                                  Function<EntityManager, R> work) {
+        EntityManager entityManager = factory.createEntityManager();
+        try {
+            entityManager.setFlushMode(FlushModeType.COMMIT);
+            return work.apply(entityManager);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Stops the worker threads, interrupting fetches still running.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
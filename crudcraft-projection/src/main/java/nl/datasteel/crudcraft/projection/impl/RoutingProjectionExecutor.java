@@ -46,6 +46,8 @@ public class RoutingProjectionExecutor implements ProjectionExecutor {
     /**
      * Executes the projection query by delegating to the appropriate
      * {@link ProjectionExecutorProvider} based on the query type.
+     * The query is passed on unchanged, so the selected executor applies its
+     * {@link nl.datasteel.crudcraft.projection.api.CountPolicy}.
      *
      * @param entityType the type of the entity being projected
      * @param dtoType    the type of the DTO to project into
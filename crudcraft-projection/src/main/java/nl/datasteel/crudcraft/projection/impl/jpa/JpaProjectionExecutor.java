@@ -34,10 +34,12 @@ import java.util.List;
 import java.util.Map;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
 import nl.datasteel.crudcraft.projection.api.ProjectionResult;
 import nl.datasteel.crudcraft.projection.impl.CollectionHydrator;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -65,6 +67,11 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
      */
     private final ProjectionMetadataRegistry metadataRegistry;
 
+    /**
+     * Runs sibling collection fetches concurrently, or null to fetch them sequentially.
+     */
+    private final ParallelHydration parallelHydration;
+
     /**
      * Constructs a new JpaProjectionExecutor with the given parameters.
      *
@@ -73,20 +80,40 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
      * @param metadataRegistry the ProjectionMetadataRegistry to
      *                         access compile-time generated metadata
      */
+    public JpaProjectionExecutor(EntityManager entityManager,
+                                 CriteriaProjectionBuilder projectionBuilder,
+                                 ProjectionMetadataRegistry metadataRegistry) {
+        this(entityManager, projectionBuilder, metadataRegistry, null);
+    }
+
+    /**
+     * Constructs a new JpaProjectionExecutor that hydrates sibling collection attributes
+     * concurrently, each on its own read-only EntityManager.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param projectionBuilder the CriteriaProjectionBuilder to build projection expressions
+     * @param metadataRegistry the ProjectionMetadataRegistry to
+     *                         access compile-time generated metadata
+     * @param parallelHydration runs sibling collection fetches concurrently,
+     *                          or null to fetch them sequentially
+     */
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
             justification = "EntityManager is externally managed")
     public JpaProjectionExecutor(EntityManager entityManager,
                                  CriteriaProjectionBuilder projectionBuilder,
-                                 ProjectionMetadataRegistry metadataRegistry) {
+                                 ProjectionMetadataRegistry metadataRegistry,
+                                 ParallelHydration parallelHydration) {
         this.entityManager = entityManager;
         this.projectionBuilder = projectionBuilder;
         this.metadataRegistry = metadataRegistry;
+        this.parallelHydration = parallelHydration;
     }
 
     /**
      * Projects a DTO type from the given entity type using the provided query.
      * This method constructs a JPA Criteria query to select the DTO
      * and its ID, applying any filters and pagination specified in the query.
+     * The count query only runs for {@link CountPolicy#EXACT}.
      */
     @Override
     public <T, D> ProjectionResult<D> project(Class<T> entityType, Class<D> dtoType,
@@ -97,7 +124,8 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
         CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
         Root<T> root = cq.from(entityType);
         Selection<D> dtoSelection = projectionBuilder.construct(cb, root, dtoType);
-        Path<Object> idPath = getIdPath(root);
+        String idName = idName(entityType);
+        Path<Object> idPath = root.get(idName);
         cq.multiselect(idPath, dtoSelection).distinct(true);
 
         query.asSpecification().ifPresent(spec -> {
@@ -108,24 +136,37 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
         });
 
         Pageable pageable = query.pageable();
+        boolean paged = pageable != null && pageable.isPaged();
+        List<jakarta.persistence.criteria.Order> orders = new ArrayList<>();
+        boolean sortedById = false;
         if (pageable != null && pageable.getSort() != null) {
-            List<jakarta.persistence.criteria.Order> orders = new ArrayList<>();
             for (Sort.Order order : pageable.getSort()) {
                 Path<?> path = resolvePath(root, order.getProperty());
                 orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+                sortedById |= order.getProperty().equals(idName);
             }
-            if (!orders.isEmpty()) {
-                cq.orderBy(orders);
-            }
+        }
+        if (paged && !sortedById) {
+            // pages of an unsorted or partially sorted query would skip or repeat rows
+            orders.add(cb.asc(idPath));
+        }
+        if (!orders.isEmpty()) {
+            cq.orderBy(orders);
         }
 
+        CountPolicy countPolicy = CountPolicy.of(query);
         TypedQuery<Object[]> typedQuery = entityManager.createQuery(cq);
-        if (pageable != null && pageable.isPaged()) {
+        if (paged) {
             typedQuery.setFirstResult((int) pageable.getOffset());
-            typedQuery.setMaxResults(pageable.getPageSize());
+            typedQuery.setMaxResults(countPolicy.fetchSize(pageable));
         }
 
         List<Object[]> rows = typedQuery.getResultList();
+        boolean hasMore = false;
+        if (countPolicy == CountPolicy.HAS_MORE && paged && rows.size() > pageable.getPageSize()) {
+            hasMore = true;
+            rows = rows.subList(0, pageable.getPageSize());
+        }
         Map<Object, D> dtoMap = new LinkedHashMap<>();
         for (Object[] row : rows) {
             dtoMap.put(row[0], (D) row[1]);
@@ -135,31 +176,12 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
         ProjectionMetadata<D> metadata = metadataRegistry.getMetadata(dtoType);
         if (metadata != null && !dtoMap.isEmpty()) {
             CollectionHydrator.hydrateCollections(entityType, metadata, dtoMap,
-                    (type, attributes, ids) -> {
-                        CriteriaQuery<Object[]> ccq = cb.createQuery(Object[].class);
-                        Root<?> r = ccq.from(type);
-                        Path<Object> rId = getIdPath(r);
-
-                        List<Selection<?>> selections = new ArrayList<>();
-                        selections.add(rId);
-
-                        List<Class<?>> joinTypes = new ArrayList<>();
-                        for (ProjectionMetadata.Attribute attribute : attributes) {
-                            Join<?, ?> join = ((From<?, ?>) r).join(
-                                    attribute.path(), JoinType.LEFT);
-                            joinTypes.add(join.getJavaType());
-                            ProjectionMetadata<?> nested = attribute.nested();
-                            Path<Object> nestedId = getIdPath(join);
-                            Selection<?> nestedSelection = projectionBuilder.construct(
-                                    cb, (From<?, ?>) join, nested.dtoType());
-                            selections.add(nestedId);
-                            selections.add(nestedSelection);
-                        }
-
-                        ccq.multiselect(selections).where(rId.in(ids));
-                        List<Object[]> resultRows = entityManager.createQuery(ccq).getResultList();
-                        return new CollectionHydrator.FetchResult(resultRows, joinTypes);
-                    });
+                    collectionFetcher(), concurrentFetcher(), parallelHydration);
+        }
+
+        List<D> content = new ArrayList<>(dtoMap.values());
+        if (countPolicy != CountPolicy.EXACT) {
+            return ProjectionResult.uncounted(content, hasMore);
         }
 
         // count query
@@ -173,9 +195,75 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
             }
         });
         long total = entityManager.createQuery(countQuery).getSingleResult();
-        List<D> content = new ArrayList<>(dtoMap.values());
 
-        return new ProjectionResult<>(content, total);
+        return ProjectionResult.counted(content, total, pageable);
+    }
+
+    /**
+     * Returns the fetcher for collection attributes fetched on the calling thread. It uses
+     * the caller's EntityManager, and with it the caller's transaction and connection.
+     *
+     * @return the row fetcher
+     */
+    private CollectionHydrator.RowFetcher collectionFetcher() {
+        return (type, attributes, ids) -> fetchCollections(entityManager, false,
+                type, attributes, ids);
+    }
+
+    /**
+     * Returns the fetcher for sibling collection attributes fetched concurrently. Every
+     * fetch runs on its own read-only EntityManager, as it runs on another thread.
+     *
+     * @return the row fetcher, or null without parallel hydration
+     */
+    private CollectionHydrator.RowFetcher concurrentFetcher() {
+        if (parallelHydration == null) {
+            return null;
+        }
+        return (type, attributes, ids) -> ParallelHydration.withReadOnlyEntityManager(
+                entityManager.getEntityManagerFactory(),
+                em -> fetchCollections(em, true, type, attributes, ids));
+    }
+
+    /**
+     * Fetches the elements of collection attributes in a single query joining all of them.
+     *
+     * @param em the EntityManager to query with
+     * @param readOnly whether to mark the query read-only
+     * @param type the owning entity type
+     * @param attributes the collection attributes to fetch
+     * @param ids the ids of the owning entities
+     * @return the rows in the layout expected by {@link CollectionHydrator}
+     */
+    private CollectionHydrator.FetchResult fetchCollections(
+            EntityManager em, boolean readOnly, Class<?> type,
+            List<ProjectionMetadata.Attribute> attributes, List<Object> ids) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Object[]> ccq = cb.createQuery(Object[].class);
+        Root<?> r = ccq.from(type);
+        Path<Object> rId = getIdPath(r);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(rId);
+
+        List<Class<?>> joinTypes = new ArrayList<>();
+        for (ProjectionMetadata.Attribute attribute : attributes) {
+            Join<?, ?> join = ((From<?, ?>) r).join(attribute.path(), JoinType.LEFT);
+            joinTypes.add(join.getJavaType());
+            ProjectionMetadata<?> nested = attribute.nested();
+            Path<Object> nestedId = getIdPath(join);
+            Selection<?> nestedSelection = projectionBuilder.construct(
+                    cb, (From<?, ?>) join, nested.dtoType());
+            selections.add(nestedId);
+            selections.add(nestedSelection);
+        }
+
+        ccq.multiselect(selections).where(rId.in(ids));
+        TypedQuery<Object[]> query = em.createQuery(ccq);
+        if (readOnly) {
+            query.setHint(ParallelHydration.READ_ONLY_HINT, true);
+        }
+        return new CollectionHydrator.FetchResult(query.getResultList(), joinTypes);
     }
 
     /**
@@ -186,9 +274,18 @@ public class JpaProjectionExecutor implements ProjectionExecutor {
      * @return a Path representing the ID of the entity
      */
     private Path<Object> getIdPath(From<?, ?> from) {
-        EntityType<?> entityType = entityManager.getMetamodel().entity(from.getJavaType());
-        String idName = entityType.getId(entityType.getIdType().getJavaType()).getName();
-        return from.get(idName);
+        return from.get(idName(from.getJavaType()));
+    }
+
+    /**
+     * Retrieves the name of the ID attribute of the given entity type.
+     *
+     * @param type the entity class
+     * @return the name of the ID attribute
+     */
+    private String idName(Class<?> type) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(type);
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
     }
 
     /**
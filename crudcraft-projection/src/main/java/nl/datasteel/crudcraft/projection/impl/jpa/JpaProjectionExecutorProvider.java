@@ -20,6 +20,7 @@ import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 
 /**
  * Provider for the JPA based {@link ProjectionExecutor}.
@@ -42,7 +43,25 @@ public class JpaProjectionExecutorProvider implements ProjectionExecutorProvider
     public JpaProjectionExecutorProvider(EntityManager entityManager,
                                          CriteriaProjectionBuilder criteriaBuilder,
                                          ProjectionMetadataRegistry registry) {
-        this.executor = new JpaProjectionExecutor(entityManager, criteriaBuilder, registry);
+        this(entityManager, criteriaBuilder, registry, null);
+    }
+
+    /**
+     * Constructs a new JpaProjectionExecutorProvider whose executor hydrates sibling
+     * collection attributes concurrently.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param criteriaBuilder the CriteriaProjectionBuilder to build projection expressions
+     * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
+     * @param parallelHydration runs sibling collection fetches concurrently,
+     *                          or null to fetch them sequentially
+     */
+    public JpaProjectionExecutorProvider(EntityManager entityManager,
+                                         CriteriaProjectionBuilder criteriaBuilder,
+                                         ProjectionMetadataRegistry registry,
+                                         ParallelHydration parallelHydration) {
+        this.executor = new JpaProjectionExecutor(entityManager, criteriaBuilder, registry,
+                parallelHydration);
     }
 
     /**
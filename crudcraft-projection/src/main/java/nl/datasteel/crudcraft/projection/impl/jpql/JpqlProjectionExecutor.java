@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl.jpql;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAUtil;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import nl.datasteel.crudcraft.projection.impl.CollectionHydrator;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * {@link ProjectionExecutor} that runs the JPQL precompiled into the generated
+ * {@link ProjectionMetadata} instead of building an expression tree per call.
+ *
+ * <p>The select clause and joins of every (entity, DTO) pair are assembled once and cached,
+ * so each call only appends the WHERE and ORDER BY clauses and the resulting statements are
+ * identical across calls, which keeps the provider's query plan cache warm. Filters are
+ * QueryDSL predicates over the {@value #ROOT_ALIAS} variable, the same alias the QueryDSL
+ * executor uses, and are rendered by QueryDSL's own JPQL serializer, so subqueries such as
+ * {@code EXISTS} row-security rules are supported. Queries filtered by a
+ * {@code Specification}, and DTOs without precompiled JPQL, are delegated to the fallback
+ * executor; predicate queries for DTOs without precompiled JPQL go to the predicate
+ * fallback executor.
+ */
+public class JpqlProjectionExecutor implements ProjectionExecutor {
+
+    /**
+     * Alias of the projected entity; predicates must use it as their root variable.
+     */
+    public static final String ROOT_ALIAS = "root";
+
+    /**
+     * Alias of the collection element in hydration queries.
+     */
+    private static final String CHILD_ALIAS = "child";
+
+    /**
+     * Property paths accepted in ORDER BY, to keep sort input out of the JPQL grammar.
+     */
+    private static final Pattern PROPERTY_PATH =
+            Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*(\\.[A-Za-z_$][A-Za-z0-9_$]*)*");
+
+    private final EntityManager entityManager;
+    private final ProjectionMetadataRegistry metadataRegistry;
+    private final ProjectionExecutor fallback;
+    private final ProjectionExecutor predicateFallback;
+    private final JPQLTemplates templates;
+    private final ParallelHydration parallelHydration;
+
+    private final Map<StatementKey, Statements> statements = new ConcurrentHashMap<>();
+    private final Map<CollectionKey, CollectionStatement> collectionStatements =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new JpqlProjectionExecutor using the default JPQL templates.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param metadataRegistry the registry with the generated metadata
+     * @param fallback the executor for queries that cannot use precompiled JPQL
+     */
+    public JpqlProjectionExecutor(EntityManager entityManager,
+                                  ProjectionMetadataRegistry metadataRegistry,
+                                  ProjectionExecutor fallback) {
+        this(entityManager, metadataRegistry, fallback, JPQLTemplates.DEFAULT);
+    }
+
+    /**
+     * Constructs a new JpqlProjectionExecutor.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param metadataRegistry the registry with the generated metadata
+     * @param fallback the executor for queries that cannot use precompiled JPQL
+     * @param templates the templates used to render QueryDSL predicates
+     */
+    public JpqlProjectionExecutor(EntityManager entityManager,
+                                  ProjectionMetadataRegistry metadataRegistry,
+                                  ProjectionExecutor fallback,
+                                  JPQLTemplates templates) {
+        this(entityManager, metadataRegistry, fallback, templates, null);
+    }
+
+    /**
+     * Constructs a new JpqlProjectionExecutor that hydrates sibling collection attributes
+     * concurrently, each on its own read-only EntityManager.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param metadataRegistry the registry with the generated metadata
+     * @param fallback the executor for queries that cannot use precompiled JPQL
+     * @param templates the templates used to render QueryDSL predicates
+     * @param parallelHydration runs sibling collection fetches concurrently,
+     *                          or null to fetch them sequentially
+     */
+    public JpqlProjectionExecutor(EntityManager entityManager,
+                                  ProjectionMetadataRegistry metadataRegistry,
+                                  ProjectionExecutor fallback,
+                                  JPQLTemplates templates,
+                                  ParallelHydration parallelHydration) {
+        this(entityManager, metadataRegistry, fallback, null, templates, parallelHydration);
+    }
+
+    /**
+     * Constructs a new JpqlProjectionExecutor that sends predicate queries for DTOs without
+     * precompiled JPQL to an executor that applies QueryDSL predicates itself.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param metadataRegistry the registry with the generated metadata
+     * @param fallback the executor for queries that cannot use precompiled JPQL
+     * @param predicateFallback the executor for predicate queries of DTOs without
+     *                          precompiled JPQL, or null to reject them
+     * @param templates the templates used to render QueryDSL predicates
+     * @param parallelHydration runs sibling collection fetches concurrently,
+     *                          or null to fetch them sequentially
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "EntityManager is externally managed")
+    public JpqlProjectionExecutor(EntityManager entityManager,
+                                  ProjectionMetadataRegistry metadataRegistry,
+                                  ProjectionExecutor fallback,
+                                  ProjectionExecutor predicateFallback,
+                                  JPQLTemplates templates,
+                                  ParallelHydration parallelHydration) {
+        this.entityManager = entityManager;
+        this.metadataRegistry = metadataRegistry;
+        this.fallback = fallback;
+        this.predicateFallback = predicateFallback;
+        this.templates = templates;
+        this.parallelHydration = parallelHydration;
+    }
+
+    /**
+     * Projects a DTO type from the given entity type using the precompiled JPQL of the DTO,
+     * or the fallback executor when the DTO or the filter does not allow it.
+     */
+    @Override
+    public <T, D> ProjectionResult<D> project(Class<T> entityType, Class<D> dtoType,
+                                              ProjectionQuery<T> query) {
+        ProjectionMetadata<D> metadata = metadataRegistry.getMetadata(dtoType);
+        Optional<Predicate> predicate = query.asPredicate();
+        boolean precompiled = metadata != null && metadata.jpqlSelect(ROOT_ALIAS) != null;
+        if (!precompiled || (predicate.isEmpty() && query.asSpecification().isPresent())) {
+            if (predicate.isPresent()) {
+                if (predicateFallback != null) {
+                    return predicateFallback.project(entityType, dtoType, query);
+                }
+                throw new IllegalStateException("No precompiled JPQL projection for "
+                        + dtoType.getName() + "; cannot apply a QueryDSL predicate");
+            }
+            return fallback.project(entityType, dtoType, query);
+        }
+
+        Statements base = statements.computeIfAbsent(new StatementKey(entityType, dtoType),
+                key -> compile(entityType, metadata));
+
+        String where = "";
+        List<Object> constants = List.of();
+        if (predicate.isPresent()) {
+            JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
+            serializer.handle(predicate.get());
+            where = " where " + serializer;
+            constants = serializer.getConstants();
+        }
+
+        Pageable pageable = query.pageable();
+        TypedQuery<Object[]> select = entityManager.createQuery(
+                base.select() + where + orderBy(pageable, base.idName()), Object[].class);
+        bind(select, constants);
+        CountPolicy countPolicy = CountPolicy.of(query);
+        boolean paged = pageable != null && pageable.isPaged();
+        if (paged) {
+            select.setFirstResult((int) pageable.getOffset());
+            select.setMaxResults(countPolicy.fetchSize(pageable));
+        }
+
+        List<Object[]> rows = select.getResultList();
+        boolean hasMore = false;
+        if (countPolicy == CountPolicy.HAS_MORE && paged && rows.size() > pageable.getPageSize()) {
+            hasMore = true;
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+        Map<Object, D> dtoMap = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            dtoMap.putIfAbsent(row[0], metadata.instantiate(row, 1));
+        }
+        if (!dtoMap.isEmpty()) {
+            CollectionHydrator.hydrateCollections(entityType, metadata, dtoMap,
+                    collectionFetcher(), concurrentFetcher(), parallelHydration);
+        }
+
+        List<D> content = new ArrayList<>(dtoMap.values());
+        if (countPolicy != CountPolicy.EXACT) {
+            return ProjectionResult.uncounted(content, hasMore);
+        }
+
+        TypedQuery<Long> count = entityManager.createQuery(base.count() + where, Long.class);
+        bind(count, constants);
+        long total = count.getSingleResult();
+
+        return ProjectionResult.counted(content, total, pageable);
+    }
+
+    /**
+     * Assembles the select and count statements of an (entity, DTO) pair.
+     *
+     * @param entityType the entity class
+     * @param metadata the DTO metadata
+     * @return the statements without WHERE and ORDER BY
+     */
+    private Statements compile(Class<?> entityType, ProjectionMetadata<?> metadata) {
+        EntityType<?> entity = entityManager.getMetamodel().entity(entityType);
+        String from = " from " + entity.getName() + " " + ROOT_ALIAS;
+        String select = "select " + ROOT_ALIAS + "." + idName(entity)
+                + columns(metadata.jpqlSelect(ROOT_ALIAS))
+                + from + metadata.jpqlJoins(ROOT_ALIAS);
+        String count = "select count(" + ROOT_ALIAS + ")" + from;
+        return new Statements(select, count, idName(entity));
+    }
+
+    /**
+     * Returns the fetcher for collection attributes fetched on the calling thread. It uses
+     * the caller's EntityManager, and with it the caller's transaction and connection.
+     *
+     * @return the row fetcher
+     */
+    private CollectionHydrator.RowFetcher collectionFetcher() {
+        return (type, attributes, ids) -> fetchCollections(entityManager, false,
+                type, attributes, ids);
+    }
+
+    /**
+     * Returns the fetcher for sibling collection attributes fetched concurrently. Every
+     * fetch runs on its own read-only EntityManager, as it runs on another thread.
+     *
+     * @return the row fetcher, or null without parallel hydration
+     */
+    private CollectionHydrator.RowFetcher concurrentFetcher() {
+        if (parallelHydration == null) {
+            return null;
+        }
+        return (type, attributes, ids) -> ParallelHydration.withReadOnlyEntityManager(
+                entityManager.getEntityManagerFactory(),
+                em -> fetchCollections(em, true, type, attributes, ids));
+    }
+
+    /**
+     * Fetches the elements of collection attributes, one query per attribute so joins of
+     * sibling collections do not multiply. Rows use the layout expected by
+     * {@link CollectionHydrator}.
+     */
+    private CollectionHydrator.FetchResult fetchCollections(
+            EntityManager em, boolean readOnly, Class<?> entityType,
+            List<ProjectionMetadata.Attribute> attributes, List<Object> ids) {
+        int width = 1 + 2 * attributes.size();
+        List<Object[]> rows = new ArrayList<>();
+        List<Class<?>> joinTypes = new ArrayList<>(attributes.size());
+        for (int i = 0; i < attributes.size(); i++) {
+            ProjectionMetadata.Attribute attribute = attributes.get(i);
+            ProjectionMetadata<?> nested = attribute.nested();
+            if (nested == null) {
+                joinTypes.add(Object.class);
+                continue;
+            }
+            CollectionStatement statement = collectionStatements.computeIfAbsent(
+                    new CollectionKey(entityType, attribute.path(), nested.dtoType()),
+                    key -> compileCollection(entityType, attribute.path(), nested));
+            joinTypes.add(statement.elementType());
+
+            TypedQuery<Object[]> query = em.createQuery(statement.jpql(), Object[].class)
+                    .setParameter("ids", ids);
+            if (readOnly) {
+                query.setHint(ParallelHydration.READ_ONLY_HINT, true);
+            }
+            List<Object[]> result = query.getResultList();
+            for (Object[] source : result) {
+                Object[] row = new Object[width];
+                row[0] = source[0];
+                row[1 + 2 * i] = source[1];
+                row[2 + 2 * i] = nested.instantiate(source, 2);
+                rows.add(row);
+            }
+        }
+        return new CollectionHydrator.FetchResult(rows, joinTypes);
+    }
+
+    /**
+     * Assembles the hydration query of one collection attribute.
+     *
+     * @param entityType the owning entity class
+     * @param path the collection attribute path
+     * @param nested the metadata of the element DTO
+     * @return the statement and the element entity type
+     */
+    private CollectionStatement compileCollection(Class<?> entityType, String path,
+                                                  ProjectionMetadata<?> nested) {
+        String columns = nested.jpqlSelect(CHILD_ALIAS);
+        if (columns == null) {
+            throw new IllegalStateException("No precompiled JPQL projection for "
+                    + nested.dtoType().getName());
+        }
+        EntityType<?> entity = entityManager.getMetamodel().entity(entityType);
+        Class<?> elementType = elementType(entity, path);
+        String rootId = ROOT_ALIAS + "." + idName(entity);
+        String jpql = "select " + rootId + ", " + CHILD_ALIAS + "."
+                + idName(entityManager.getMetamodel().entity(elementType))
+                + columns(columns)
+                + " from " + entity.getName() + " " + ROOT_ALIAS
+                + " join " + ROOT_ALIAS + "." + path + " " + CHILD_ALIAS
+                + nested.jpqlJoins(CHILD_ALIAS)
+                + " where " + rootId + " in :ids";
+        return new CollectionStatement(jpql, elementType);
+    }
+
+    /**
+     * Renders the ORDER BY clause for the sort of the pageable. Paged queries end with the
+     * ID unless the sort already includes it, so pages neither skip nor repeat rows.
+     *
+     * @param pageable the pageable, may be null
+     * @param idName the name of the root entity's ID attribute
+     * @return the clause, or an empty string when unsorted and unpaged
+     */
+    private static String orderBy(Pageable pageable, String idName) {
+        Sort sort = pageable == null || pageable.getSort() == null
+                ? Sort.unsorted() : pageable.getSort();
+        boolean tiebreak = pageable != null && pageable.isPaged()
+                && sort.getOrderFor(idName) == null;
+        if (sort.isUnsorted() && !tiebreak) {
+            return "";
+        }
+        StringBuilder clause = new StringBuilder(" order by ");
+        boolean first = true;
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            if (!PROPERTY_PATH.matcher(property).matches()) {
+                throw new IllegalArgumentException("Invalid sort property: " + property);
+            }
+            if (!first) {
+                clause.append(", ");
+            }
+            clause.append(ROOT_ALIAS).append('.').append(property)
+                    .append(order.isAscending() ? " asc" : " desc");
+            first = false;
+        }
+        if (tiebreak) {
+            clause.append(first ? "" : ", ").append(ROOT_ALIAS).append('.').append(idName)
+                    .append(" asc");
+        }
+        return clause.toString();
+    }
+
+    private static void bind(TypedQuery<?> query, List<Object> constants) {
+        JPAUtil.setConstants(query, constants, Map.of());
+    }
+
+    private static String columns(String select) {
+        return select.isEmpty() ? "" : ", " + select;
+    }
+
+    private static String idName(EntityType<?> entity) {
+        return entity.getId(entity.getIdType().getJavaType()).getName();
+    }
+
+    /**
+     * Resolves the element type of a (possibly nested) collection attribute path.
+     */
+    private Class<?> elementType(ManagedType<?> owner, String path) {
+        String[] parts = path.split("\\.");
+        ManagedType<?> current = owner;
+        Class<?> type = owner.getJavaType();
+        for (int i = 0; i < parts.length; i++) {
+            Attribute<?, ?> attribute = current.getAttribute(parts[i]);
+            type = attribute instanceof PluralAttribute<?, ?, ?> plural
+                    ? plural.getElementType().getJavaType()
+                    : attribute.getJavaType();
+            if (i < parts.length - 1) {
+                current = entityManager.getMetamodel().managedType(type);
+            }
+        }
+        return type;
+    }
+
+    private record StatementKey(Class<?> entityType, Class<?> dtoType) {
+    }
+
+    private record Statements(String select, String count, String idName) {
+    }
+
+    private record CollectionKey(Class<?> entityType, String path, Class<?> dtoType) {
+    }
+
+    private record CollectionStatement(String jpql, Class<?> elementType) {
+    }
+}
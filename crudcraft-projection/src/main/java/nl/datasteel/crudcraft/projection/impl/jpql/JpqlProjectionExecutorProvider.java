@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl.jpql;
+
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
+import nl.datasteel.crudcraft.projection.impl.jpa.CriteriaProjectionBuilder;
+import nl.datasteel.crudcraft.projection.impl.jpa.JpaProjectionExecutor;
+import nl.datasteel.crudcraft.projection.impl.querydsl.MetadataQuerydslProjectionBuilder;
+import nl.datasteel.crudcraft.projection.impl.querydsl.QuerydslProjectionExecutor;
+
+/**
+ * Provider for the precompiled JPQL based {@link ProjectionExecutor}.
+ * Queries it cannot run with precompiled JPQL fall back to the JPA Criteria executor,
+ * or to the QueryDSL executor when they are filtered by a QueryDSL predicate, so it
+ * supports every query even when it is the only engine.
+ */
+public class JpqlProjectionExecutorProvider implements ProjectionExecutorProvider {
+
+    /**
+     * The precompiled JPQL based {@link ProjectionExecutor} that will be
+     * used to execute projection queries.
+     */
+    private final ProjectionExecutor executor;
+
+    /**
+     * Constructs a new JpqlProjectionExecutorProvider with the given parameters.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param criteriaBuilder the CriteriaProjectionBuilder used by the fallback executor
+     * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
+     */
+    public JpqlProjectionExecutorProvider(EntityManager entityManager,
+                                          CriteriaProjectionBuilder criteriaBuilder,
+                                          ProjectionMetadataRegistry registry) {
+        this(entityManager, criteriaBuilder, registry, null);
+    }
+
+    /**
+     * Constructs a new JpqlProjectionExecutorProvider whose executors hydrate sibling
+     * collection attributes concurrently.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param criteriaBuilder the CriteriaProjectionBuilder used by the fallback executor
+     * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
+     * @param parallelHydration runs sibling collection fetches concurrently,
+     *                          or null to fetch them sequentially
+     */
+    public JpqlProjectionExecutorProvider(EntityManager entityManager,
+                                          CriteriaProjectionBuilder criteriaBuilder,
+                                          ProjectionMetadataRegistry registry,
+                                          ParallelHydration parallelHydration) {
+        this(entityManager, criteriaBuilder, registry, parallelHydration,
+                new JPAQueryFactory(entityManager));
+    }
+
+    /**
+     * Constructs a new JpqlProjectionExecutorProvider whose predicate fallback runs on the
+     * given query factory.
+     *
+     * @param entityManager the EntityManager to use for executing queries
+     * @param criteriaBuilder the CriteriaProjectionBuilder used by the fallback executor
+     * @param registry the ProjectionMetadataRegistry to access compile-time generated metadata
+     * @param parallelHydration runs sibling collection fetches concurrently,
+     *                          or null to fetch them sequentially
+     * @param queryFactory the JPAQueryFactory of the predicate fallback executor
+     */
+    public JpqlProjectionExecutorProvider(EntityManager entityManager,
+                                          CriteriaProjectionBuilder criteriaBuilder,
+                                          ProjectionMetadataRegistry registry,
+                                          ParallelHydration parallelHydration,
+                                          JPAQueryFactory queryFactory) {
+        QuerydslProjectionExecutor predicateFallback = parallelHydration == null
+                ? new QuerydslProjectionExecutor(queryFactory, entityManager.getMetamodel(),
+                        new MetadataQuerydslProjectionBuilder(registry), registry)
+                : new QuerydslProjectionExecutor(queryFactory, entityManager.getMetamodel(),
+                        new MetadataQuerydslProjectionBuilder(registry), registry,
+                        entityManager.getEntityManagerFactory(), parallelHydration);
+        this.executor = new JpqlProjectionExecutor(entityManager, registry,
+                new JpaProjectionExecutor(entityManager, criteriaBuilder, registry,
+                        parallelHydration),
+                predicateFallback, JPQLTemplates.DEFAULT, parallelHydration);
+    }
+
+    /**
+     * Checks if the given {@link ProjectionQuery} can be handled by this provider.
+     * Both predicate and specification filters are accepted, for every DTO.
+     *
+     * @param query the projection query to check
+     * @return true if the query is not null
+     */
+    @Override
+    public boolean supports(ProjectionQuery<?> query) {
+        return query != null;
+    }
+
+    /**
+     * Returns the precompiled JPQL based {@link ProjectionExecutor}.
+     *
+     * @return the executor
+     */
+    @Override
+    public ProjectionExecutor getExecutor() {
+        return executor;
+    }
+}
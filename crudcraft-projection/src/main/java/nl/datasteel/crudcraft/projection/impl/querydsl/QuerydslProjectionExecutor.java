@@ -25,6 +25,7 @@ import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.Metamodel;
 import java.lang.reflect.Field;
@@ -37,11 +38,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
 import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -54,16 +58,37 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
     private final QuerydslProjectionBuilder projectionBuilder;
     private final ProjectionMetadataRegistry metadataRegistry;
     private final Metamodel metamodel;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ParallelHydration parallelHydration;
 
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Query factory is externally managed")
     public QuerydslProjectionExecutor(JPAQueryFactory queryFactory,
                                       Metamodel metamodel,
                                       QuerydslProjectionBuilder projectionBuilder,
                                       ProjectionMetadataRegistry metadataRegistry) {
+        this(queryFactory, metamodel, projectionBuilder, metadataRegistry, null, null);
+    }
+
+    /**
+     * Creates an executor that fetches sibling collection attributes concurrently, each on
+     * its own read-only EntityManager created by {@code entityManagerFactory}.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Query factory is externally managed")
+    public QuerydslProjectionExecutor(JPAQueryFactory queryFactory,
+                                      Metamodel metamodel,
+                                      QuerydslProjectionBuilder projectionBuilder,
+                                      ProjectionMetadataRegistry metadataRegistry,
+                                      EntityManagerFactory entityManagerFactory,
+                                      ParallelHydration parallelHydration) {
+        if (parallelHydration != null && entityManagerFactory == null) {
+            throw new IllegalArgumentException(
+                    "Parallel hydration requires an EntityManagerFactory");
+        }
         this.queryFactory = queryFactory;
         this.metamodel = metamodel;
         this.projectionBuilder = projectionBuilder;
         this.metadataRegistry = metadataRegistry;
+        this.entityManagerFactory = entityManagerFactory;
+        this.parallelHydration = parallelHydration;
     }
 
     @Override
@@ -76,10 +101,18 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
 
         JPAQuery<Tuple> jpaQuery = queryFactory.select(idPath, dtoExpr).from(root);
 
+        CountPolicy countPolicy = CountPolicy.of(query);
+        Pageable pageable = query.pageable();
         applyFilter(jpaQuery, query.asPredicate());
-        applySortingAndPaging(jpaQuery, root, query.pageable());
+        applySortingAndPaging(jpaQuery, root, idName, pageable, countPolicy);
 
         List<Tuple> rows = jpaQuery.fetch();
+        boolean hasMore = false;
+        if (countPolicy == CountPolicy.HAS_MORE && pageable != null && pageable.isPaged()
+                && rows.size() > pageable.getPageSize()) {
+            hasMore = true;
+            rows = rows.subList(0, pageable.getPageSize());
+        }
         Map<Object, D> dtoMap = new LinkedHashMap<>();
         for (Tuple row : rows) {
             dtoMap.put(row.get(idPath), row.get(dtoExpr));
@@ -92,12 +125,16 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
             hydrateCollections(entityType, metadata, (Map) dtoMap);
         }
 
+        if (countPolicy != CountPolicy.EXACT) {
+            return ProjectionResult.uncounted(content, hasMore);
+        }
+
         JPAQuery<Long> countQuery = queryFactory.select(root.count()).from(root);
         applyFilter(countQuery, query.asPredicate());
         Long totalResult = countQuery.fetchOne();
         long total = totalResult != null ? totalResult : 0L;
 
-        return new ProjectionResult<>(content, total);
+        return ProjectionResult.counted(content, total, pageable);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -126,6 +163,9 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
         PathBuilder<?> root = new PathBuilder(entityType, "root");
         PathBuilder<Object> rootId = root.get(getIdName(entityType));
 
+        List<ProjectionMetadata.Attribute> fetched = new ArrayList<>();
+        List<Class<?>> joinTypes = new ArrayList<>();
+        List<ChildFetch> fetches = new ArrayList<>();
         for (ProjectionMetadata.Attribute attribute : attributes) {
             PathBuilder<?> join = resolvePath(root, attribute.path());
             Class<?> joinType = join.getType();
@@ -140,10 +180,32 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
             }
             Expression<?> childDto = projectionBuilder.construct(join, nested.dtoType());
 
-            Map<Object, Map<Object, Object>> result = (Map) queryFactory.from(root)
-                    .leftJoin(join)
-                    .where(rootId.in(ids))
-                    .transform(GroupBy.groupBy(rootId).as(GroupBy.map(childId, childDto)));
+            fetched.add(attribute);
+            joinTypes.add(joinType);
+            fetches.add((factory, readOnly) -> fetchChildren(factory, readOnly,
+                    root, rootId, join, childId, childDto, ids));
+        }
+
+        List<Map<Object, Map<Object, Object>>> results;
+        if (parallelHydration != null && fetches.size() > 1) {
+            List<Callable<Map<Object, Map<Object, Object>>>> tasks =
+                    new ArrayList<>(fetches.size());
+            for (ChildFetch fetch : fetches) {
+                tasks.add(() -> ParallelHydration.withReadOnlyEntityManager(
+                        entityManagerFactory,
+                        em -> fetch.fetch(new JPAQueryFactory(em), true)));
+            }
+            results = parallelHydration.invokeAll(tasks);
+        } else {
+            results = new ArrayList<>(fetches.size());
+            for (ChildFetch fetch : fetches) {
+                results.add(fetch.fetch(queryFactory, false));
+            }
+        }
+
+        for (int i = 0; i < fetched.size(); i++) {
+            ProjectionMetadata.Attribute attribute = fetched.get(i);
+            Map<Object, Map<Object, Object>> result = results.get(i);
 
             for (Map.Entry<Object, Object> entry : dtoMap.entrySet()) {
                 Map<Object, Object> children = result.getOrDefault(entry.getKey(), Collections.emptyMap());
@@ -155,18 +217,49 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
                 for (Map<Object, Object> m : result.values()) {
                     nestedMap.putAll(m);
                 }
-                hydrateCollections(joinType, nested, nestedMap, visited);
+                hydrateCollections(joinTypes.get(i), attribute.nested(), nestedMap, visited);
             }
         }
     }
 
+    /**
+     * Fetch of the children of one collection attribute, run with the given query factory.
+     */
+    @FunctionalInterface
+    private interface ChildFetch {
+        Map<Object, Map<Object, Object>> fetch(JPAQueryFactory factory, boolean readOnly);
+    }
+
+    /**
+     * Fetches the children of one collection attribute grouped by parent id.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Map<Object, Object>> fetchChildren(JPAQueryFactory factory,
+                                                                  boolean readOnly,
+                                                                  PathBuilder<?> root,
+                                                                  PathBuilder<Object> rootId,
+                                                                  PathBuilder<?> join,
+                                                                  PathBuilder<Object> childId,
+                                                                  Expression<?> childDto,
+                                                                  List<Object> ids) {
+        JPAQuery<?> query = factory.from(root)
+                .leftJoin(join)
+                .where(rootId.in(ids));
+        if (readOnly) {
+            query.setHint(ParallelHydration.READ_ONLY_HINT, true);
+        }
+        return (Map) query.transform(GroupBy.groupBy(rootId).as(GroupBy.map(childId, childDto)));
+    }
+
     private void applyFilter(JPAQuery<?> query, Optional<Predicate> predicate) {
         predicate.ifPresent(query::where);
     }
 
-    private void applySortingAndPaging(JPAQuery<?> query, PathBuilder<?> root, Pageable pageable) {
+    private void applySortingAndPaging(JPAQuery<?> query, PathBuilder<?> root, String idName,
+                                       Pageable pageable, CountPolicy countPolicy) {
         if (pageable == null) return;
 
+        boolean sortedById = false;
         if (pageable.getSort() != null) {
             for (Sort.Order order : pageable.getSort()) {
                 String property = order.getProperty();
@@ -186,11 +279,17 @@ public class QuerydslProjectionExecutor implements ProjectionExecutor {
                         order.isAscending() ? Order.ASC : Order.DESC,
                         propertyPath
                 ));
+                sortedById |= property.equals(idName);
             }
         }
 
         if (pageable.isPaged()) {
-            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+            if (!sortedById) {
+                // pages of an unsorted or partially sorted query would skip or repeat rows
+                query.orderBy(new OrderSpecifier<>(Order.ASC,
+                        root.getComparable(idName, Comparable.class)));
+            }
+            query.offset(pageable.getOffset()).limit(countPolicy.fetchSize(pageable));
         }
     }
 
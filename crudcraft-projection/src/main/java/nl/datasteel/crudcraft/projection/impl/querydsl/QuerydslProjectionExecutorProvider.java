@@ -16,11 +16,13 @@
 package nl.datasteel.crudcraft.projection.impl.querydsl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.metamodel.Metamodel;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 
 /**
  * Provider for the Querydsl based {@link ProjectionExecutor}.
@@ -50,6 +52,29 @@ public class QuerydslProjectionExecutorProvider implements ProjectionExecutorPro
                 queryFactory, metamodel, projectionBuilder, registry);
     }
 
+    /**
+     * Constructs a new QuerydslProjectionExecutorProvider whose executor hydrates sibling
+     * collection attributes concurrently.
+     *
+     * @param queryFactory       the JPAQueryFactory to use for executing queries
+     * @param metamodel          the JPA Metamodel to use for accessing entity metadata
+     * @param projectionBuilder  the QuerydslProjectionBuilder to build projection expressions
+     * @param registry           the ProjectionMetadataRegistry to
+     *                           access compile-time generated metadata
+     * @param entityManagerFactory creates the read-only EntityManagers of concurrent fetches
+     * @param parallelHydration  runs sibling collection fetches concurrently,
+     *                           or null to fetch them sequentially
+     */
+    public QuerydslProjectionExecutorProvider(JPAQueryFactory queryFactory,
+                                              Metamodel metamodel,
+                                              QuerydslProjectionBuilder projectionBuilder,
+                                              ProjectionMetadataRegistry registry,
+                                              EntityManagerFactory entityManagerFactory,
+                                              ParallelHydration parallelHydration) {
+        this.executor = new QuerydslProjectionExecutor(queryFactory, metamodel,
+                projectionBuilder, registry, entityManagerFactory, parallelHydration);
+    }
+
     /**
      * Checks if the given {@link ProjectionQuery} can be handled by this provider.
      * It checks if the query is not null and if it has a predicate available.
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.mapping;
+
+import java.util.List;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+
+/**
+ * Registry that merges the registries generated for several modules.
+ * Lookups return the metadata of the first registry that knows the DTO type.
+ */
+public class CompositeProjectionMetadataRegistry implements ProjectionMetadataRegistry {
+
+    /**
+     * The registries to consult, in order.
+     */
+    private final List<ProjectionMetadataRegistry> registries;
+
+    /**
+     * Creates a registry over the given registries.
+     *
+     * @param registries the registries to consult, in order
+     */
+    public CompositeProjectionMetadataRegistry(List<ProjectionMetadataRegistry> registries) {
+        this.registries = List.copyOf(registries);
+    }
+
+    /**
+     * Retrieves the metadata for a given DTO type from the first registry that has it.
+     *
+     * @param dtoType the class type of the DTO
+     * @param <D>     the type of the DTO
+     * @return the projection metadata for the specified DTO type, or null if not found
+     */
+    @Override
+    public <D> ProjectionMetadata<D> getMetadata(Class<D> dtoType) {
+        for (ProjectionMetadataRegistry registry : registries) {
+            ProjectionMetadata<D> metadata = registry.getMetadata(dtoType);
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+        return null;
+    }
+}
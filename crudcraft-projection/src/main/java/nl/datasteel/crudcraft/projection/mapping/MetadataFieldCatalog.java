@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.mapping;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.runtime.fields.FieldCatalog;
+
+/**
+ * Field catalog backed by the compile-time generated {@link ProjectionMetadata}, so sparse
+ * fieldsets accept exactly the attributes the projection queries select. Each attribute is
+ * matched to the DTO field of the same name for its type; DTOs without generated metadata,
+ * such as reference DTOs, are left to the reflective catalog.
+ */
+public class MetadataFieldCatalog implements FieldCatalog {
+
+    private final ProjectionMetadataRegistry registry;
+    private final Map<Class<?>, Optional<List<Property>>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a catalog reading the given registry.
+     *
+     * @param registry the registry holding the generated metadata
+     */
+    public MetadataFieldCatalog(ProjectionMetadataRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public List<Property> properties(Class<?> dtoType) {
+        return cache.computeIfAbsent(dtoType, this::load).orElse(null);
+    }
+
+    private Optional<List<Property>> load(Class<?> dtoType) {
+        ProjectionMetadata<?> metadata = registry.getMetadata(dtoType);
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        List<Property> properties = new ArrayList<>();
+        for (ProjectionMetadata.Attribute attribute : metadata.attributes()) {
+            String path = attribute.path();
+            String name = path.substring(path.lastIndexOf('.') + 1);
+            Field field = findField(dtoType, name);
+            if (field != null) {
+                properties.add(new Property(name, path, field.getType(),
+                        attribute.collection()));
+            }
+        }
+        return Optional.of(List.copyOf(properties));
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            }
+        }
+        return null;
+    }
+}
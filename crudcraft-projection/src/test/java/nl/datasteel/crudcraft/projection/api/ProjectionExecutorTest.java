@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class ProjectionExecutorTest {
+
+    /**
+     * Executor over ten rows that honours the HAS_MORE probe and records the pages it served.
+     */
+    static class TenRows implements ProjectionExecutor {
+        final List<Pageable> pages = new ArrayList<>();
+        final List<CountPolicy> policies = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T, D> ProjectionResult<D> project(Class<T> entityType, Class<D> dtoType,
+                                                  ProjectionQuery<T> query) {
+            Pageable pageable = query.pageable();
+            pages.add(pageable);
+            policies.add(query.countPolicy());
+            int from = (int) Math.min(pageable.getOffset(), 10);
+            int to = Math.min(from + pageable.getPageSize(), 10);
+            List<D> content = (List<D>) IntStream.range(from, to).boxed().toList();
+            return ProjectionResult.uncounted(content, to < 10);
+        }
+    }
+
+    @Test
+    void streamFetchesChunksLazily() {
+        TenRows executor = new TenRows();
+        FilterCriteria<Object> filter = new FilterCriteria<>() { };
+        ProjectionQuery<Object> query = ProjectionQuery.of(filter,
+                PageRequest.of(3, 2, Sort.by("name")));
+
+        List<Integer> firstFive = executor.stream(Object.class, Integer.class, query, 4)
+                .limit(5).toList();
+
+        assertEquals(List.of(0, 1, 2, 3, 4), firstFive);
+        assertEquals(List.of(PageRequest.of(0, 4, Sort.by("name")),
+                PageRequest.of(1, 4, Sort.by("name"))), executor.pages);
+        assertEquals(List.of(CountPolicy.HAS_MORE, CountPolicy.HAS_MORE), executor.policies);
+    }
+
+    @Test
+    void streamStopsAfterLastChunk() {
+        TenRows executor = new TenRows();
+        ProjectionQuery<Object> query = ProjectionQuery.of(new FilterCriteria<>() { }, null);
+
+        List<Integer> all = executor.stream(Object.class, Integer.class, query, 5).toList();
+
+        assertEquals(10, all.size());
+        assertEquals(2, executor.pages.size());
+    }
+
+    @Test
+    void streamRejectsNonPositiveChunkSize() {
+        TenRows executor = new TenRows();
+        ProjectionQuery<Object> query = ProjectionQuery.of(new FilterCriteria<>() { }, null);
+        assertThrows(IllegalArgumentException.class,
+                () -> executor.stream(Object.class, Integer.class, query, 0));
+    }
+}
@@ -62,4 +62,29 @@ class ProjectionQueryTest {
         assertEquals(pred, q.asPredicate());
         assertTrue(q.asSpecification().isEmpty());
     }
+
+    @Test
+    void countPolicyDefaultsToExact() {
+        FilterCriteria<String> filter = new TestFilter<>(Optional.empty(), Optional.empty());
+        assertEquals(CountPolicy.EXACT, ProjectionQuery.of(filter, PageRequest.of(0, 1)).countPolicy());
+        assertEquals(CountPolicy.EXACT, new ProjectionQuery<>(filter, PageRequest.of(0, 1), null).countPolicy());
+    }
+
+    @Test
+    void withCountPolicyKeepsFilterAndPageable() {
+        FilterCriteria<String> filter = new TestFilter<>(Optional.empty(), Optional.empty());
+        ProjectionQuery<String> q = ProjectionQuery.of(filter, PageRequest.of(0, 1))
+                .withCountPolicy(CountPolicy.SKIP);
+        assertSame(filter, q.filter());
+        assertEquals(PageRequest.of(0, 1), q.pageable());
+        assertEquals(CountPolicy.SKIP, q.countPolicy());
+    }
+
+    @Test
+    void fetchSizeAddsProbeRowOnlyForHasMore() {
+        assertEquals(10, CountPolicy.EXACT.fetchSize(PageRequest.of(0, 10)));
+        assertEquals(10, CountPolicy.SKIP.fetchSize(PageRequest.of(0, 10)));
+        assertEquals(11, CountPolicy.HAS_MORE.fetchSize(PageRequest.of(0, 10)));
+        assertEquals(Integer.MAX_VALUE, CountPolicy.HAS_MORE.fetchSize(PageRequest.of(0, Integer.MAX_VALUE)));
+    }
 }
@@ -18,8 +18,12 @@ package nl.datasteel.crudcraft.projection.api;
 import java.util.ArrayList;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 class ProjectionResultTest {
 
@@ -45,4 +49,20 @@ class ProjectionResultTest {
     void constructorRejectsNullContent() {
         assertThrows(NullPointerException.class, () -> new ProjectionResult<String>(null, 0));
     }
+
+    @Test
+    void countedDerivesHasMoreFromPage() {
+        assertTrue(ProjectionResult.counted(List.of("a", "b"), 5, PageRequest.of(0, 2)).hasMore());
+        assertFalse(ProjectionResult.counted(List.of("e"), 5, PageRequest.of(2, 2)).hasMore());
+        assertFalse(ProjectionResult.counted(List.of("a"), 5, Pageable.unpaged()).hasMore());
+        assertTrue(ProjectionResult.counted(List.of("a"), 5, null).isTotalKnown());
+    }
+
+    @Test
+    void uncountedHasUnknownTotal() {
+        ProjectionResult<String> result = ProjectionResult.uncounted(List.of("a"), true);
+        assertEquals(ProjectionResult.UNKNOWN_TOTAL, result.totalElements());
+        assertFalse(result.isTotalKnown());
+        assertTrue(result.hasMore());
+    }
 }
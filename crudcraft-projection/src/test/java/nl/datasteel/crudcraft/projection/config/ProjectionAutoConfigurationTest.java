@@ -16,20 +16,38 @@
 package nl.datasteel.crudcraft.projection.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.metamodel.Metamodel;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.impl.AdaptiveProjectionExecutor;
+import nl.datasteel.crudcraft.projection.impl.CachingProjectionExecutor;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 import nl.datasteel.crudcraft.projection.impl.RoutingProjectionExecutor;
 import nl.datasteel.crudcraft.projection.impl.jpa.CriteriaProjectionBuilder;
 import nl.datasteel.crudcraft.projection.impl.jpa.JpaProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.impl.jpql.JpqlProjectionExecutorProvider;
 import nl.datasteel.crudcraft.projection.impl.querydsl.QuerydslProjectionBuilder;
 import nl.datasteel.crudcraft.projection.impl.querydsl.QuerydslProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.mapping.CompositeProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.mapping.SimpleProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.mapping.dto.UserDto;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
 
 class ProjectionAutoConfigurationTest {
 
@@ -41,7 +59,7 @@ class ProjectionAutoConfigurationTest {
         ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
         ProjectionProperties props = new ProjectionProperties();
         props.setEngine(ProjectionProperties.Engine.CRITERIA);
-        ProjectionExecutorProvider provider = cfg.jpaProjectionExecutorProvider(em, builder, registry, props);
+        ProjectionExecutorProvider provider = cfg.jpaProjectionExecutorProvider(em, builder, registry, props, noHydration());
         assertTrue(provider instanceof JpaProjectionExecutorProvider);
     }
 
@@ -53,7 +71,32 @@ class ProjectionAutoConfigurationTest {
         ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
         ProjectionProperties props = new ProjectionProperties();
         props.setEngine(ProjectionProperties.Engine.QUERYDSL);
-        assertThrows(IllegalStateException.class, () -> cfg.jpaProjectionExecutorProvider(em, builder, registry, props));
+        assertThrows(IllegalStateException.class, () -> cfg.jpaProjectionExecutorProvider(em, builder, registry, props, noHydration()));
+    }
+
+    @Test
+    void jpqlProjectionExecutorProviderReturnsProviderWhenEngineMatches() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        EntityManager em = Mockito.mock(EntityManager.class);
+        CriteriaProjectionBuilder builder = Mockito.mock(CriteriaProjectionBuilder.class);
+        ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
+        ProjectionProperties props = new ProjectionProperties();
+        props.setEngine(ProjectionProperties.Engine.JPQL);
+        ProjectionExecutorProvider provider = cfg.jpqlProjectionExecutorProvider(em, builder, registry, props, noHydration(),
+                defaultQueryFactory());
+        assertTrue(provider instanceof JpqlProjectionExecutorProvider);
+    }
+
+    @Test
+    void jpqlProjectionExecutorProviderThrowsOnEngineMismatch() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        EntityManager em = Mockito.mock(EntityManager.class);
+        CriteriaProjectionBuilder builder = Mockito.mock(CriteriaProjectionBuilder.class);
+        ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
+        ProjectionProperties props = new ProjectionProperties();
+        props.setEngine(ProjectionProperties.Engine.CRITERIA);
+        assertThrows(IllegalStateException.class, () -> cfg.jpqlProjectionExecutorProvider(em, builder, registry, props, noHydration(),
+                defaultQueryFactory()));
     }
 
     @Test
@@ -67,7 +110,7 @@ class ProjectionAutoConfigurationTest {
         ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
         ProjectionProperties props = new ProjectionProperties();
         props.setEngine(ProjectionProperties.Engine.QUERYDSL);
-        ProjectionExecutorProvider provider = cfg.querydslProjectionExecutorProvider(qf, em, builder, registry, props);
+        ProjectionExecutorProvider provider = cfg.querydslProjectionExecutorProvider(qf, em, builder, registry, props, noHydration());
         assertTrue(provider instanceof QuerydslProjectionExecutorProvider);
     }
 
@@ -81,7 +124,7 @@ class ProjectionAutoConfigurationTest {
         ProjectionProperties props = new ProjectionProperties();
         props.setEngine(ProjectionProperties.Engine.CRITERIA);
         assertThrows(IllegalStateException.class, ()
-                -> cfg.querydslProjectionExecutorProvider(qf, em, builder, registry, props));
+                -> cfg.querydslProjectionExecutorProvider(qf, em, builder, registry, props, noHydration()));
     }
 
     @Test
@@ -90,7 +133,8 @@ class ProjectionAutoConfigurationTest {
         ProjectionExecutor exec = Mockito.mock(ProjectionExecutor.class);
         ProjectionExecutorProvider provider = Mockito.mock(ProjectionExecutorProvider.class);
         Mockito.when(provider.getExecutor()).thenReturn(exec);
-        ProjectionExecutor result = cfg.projectionExecutor(List.of(provider));
+        ProjectionExecutor result = cfg.projectionExecutor(List.of(provider), new ProjectionProperties(), null,
+                noEntityManager());
         assertSame(exec, result);
     }
 
@@ -99,7 +143,196 @@ class ProjectionAutoConfigurationTest {
         ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
         ProjectionExecutorProvider p1 = Mockito.mock(ProjectionExecutorProvider.class);
         ProjectionExecutorProvider p2 = Mockito.mock(ProjectionExecutorProvider.class);
-        ProjectionExecutor result = cfg.projectionExecutor(List.of(p1, p2));
+        ProjectionExecutor result = cfg.projectionExecutor(List.of(p1, p2), new ProjectionProperties(),
+                null, noEntityManager());
         assertTrue(result instanceof RoutingProjectionExecutor);
     }
+
+    @Test
+    void adaptiveEngineCreatesEveryProviderAndRoutesAdaptively() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        EntityManager em = Mockito.mock(EntityManager.class);
+        ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
+        ProjectionProperties props = new ProjectionProperties();
+        props.setEngine(ProjectionProperties.Engine.ADAPTIVE);
+        props.getAdaptive().getOverrides().put(UserDto.class.getName(),
+                ProjectionProperties.Engine.JPQL);
+        ProjectionExecutorProvider criteria = cfg.jpaProjectionExecutorProvider(em,
+                Mockito.mock(CriteriaProjectionBuilder.class), registry, props, noHydration());
+        ProjectionExecutorProvider jpql = cfg.jpqlProjectionExecutorProvider(em,
+                Mockito.mock(CriteriaProjectionBuilder.class), registry, props, noHydration(),
+                defaultQueryFactory());
+
+        ProjectionExecutor result = cfg.projectionExecutor(List.of(criteria, jpql), props,
+                registry, noEntityManager());
+
+        AdaptiveProjectionExecutor adaptive = assertInstanceOf(AdaptiveProjectionExecutor.class, result);
+        assertEquals(List.of("CRITERIA", "JPQL"), adaptive.getEngines());
+    }
+
+    @Test
+    void adaptiveEngineRejectsUnknownOverrideDto() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        ProjectionExecutorProvider provider = Mockito.mock(ProjectionExecutorProvider.class);
+        ProjectionProperties props = new ProjectionProperties();
+        props.setEngine(ProjectionProperties.Engine.ADAPTIVE);
+        props.getAdaptive().getOverrides().put("com.example.Missing",
+                ProjectionProperties.Engine.JPQL);
+        List<ProjectionExecutorProvider> providers = List.of(provider);
+        assertThrows(IllegalStateException.class, () -> cfg.projectionExecutor(providers, props,
+                null, noEntityManager()));
+    }
+
+    @Test
+    void projectionExecutorIsCachedWhenEnabled() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        ProjectionExecutorProvider provider = Mockito.mock(ProjectionExecutorProvider.class);
+        Mockito.when(provider.getExecutor()).thenReturn(Mockito.mock(ProjectionExecutor.class));
+        ProjectionProperties props = new ProjectionProperties();
+        props.getCache().setEnabled(true);
+        ProjectionExecutor result = cfg.projectionExecutor(List.of(provider), props,
+                Mockito.mock(ProjectionMetadataRegistry.class), noEntityManager());
+        assertTrue(result instanceof CachingProjectionExecutor);
+        assertNotNull(cfg.projectionCacheInvalidator(result));
+    }
+
+    @Test
+    void projectionCacheInvalidatorRequiresCachingExecutor() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        ProjectionExecutor exec = Mockito.mock(ProjectionExecutor.class);
+        assertThrows(IllegalStateException.class, () -> cfg.projectionCacheInvalidator(exec));
+    }
+
+    @Test
+    void parallelHydrationUsesConfiguredParallelism() {
+        ProjectionProperties props = new ProjectionProperties();
+        props.getHydration().setParallelism(3);
+        try (ParallelHydration hydration = new ProjectionAutoConfiguration()
+                .parallelHydration(props, dataSource(null))) {
+            assertEquals(3, hydration.getParallelism());
+        }
+    }
+
+    @Test
+    void parallelHydrationStaysBelowConnectionPoolSize() {
+        ProjectionProperties props = new ProjectionProperties();
+        props.getHydration().setParallelism(8);
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setMaximumPoolSize(5);
+            try (ParallelHydration hydration = new ProjectionAutoConfiguration()
+                    .parallelHydration(props, dataSource(pool))) {
+                assertEquals(3, hydration.getParallelism());
+            }
+        }
+    }
+
+    @Test
+    void parallelHydrationRejectsPoolWithoutRoomForFetches() {
+        ProjectionProperties props = new ProjectionProperties();
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setMaximumPoolSize(2);
+            assertThrows(IllegalStateException.class, () -> new ProjectionAutoConfiguration()
+                    .parallelHydration(props, dataSource(pool)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<DataSource> dataSource(DataSource dataSource) {
+        ObjectProvider<DataSource> provider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(provider.getIfUnique()).thenReturn(dataSource);
+        return provider;
+    }
+
+    @Test
+    void querydslProviderUsesEntityManagerFactoryWithParallelHydration() {
+        ProjectionAutoConfiguration cfg = new ProjectionAutoConfiguration();
+        JPAQueryFactory qf = Mockito.mock(JPAQueryFactory.class);
+        EntityManager em = Mockito.mock(EntityManager.class);
+        Mockito.when(em.getMetamodel()).thenReturn(Mockito.mock(Metamodel.class));
+        Mockito.when(em.getEntityManagerFactory()).thenReturn(Mockito.mock(EntityManagerFactory.class));
+        QuerydslProjectionBuilder builder = Mockito.mock(QuerydslProjectionBuilder.class);
+        ProjectionMetadataRegistry registry = Mockito.mock(ProjectionMetadataRegistry.class);
+        ProjectionProperties props = new ProjectionProperties();
+        props.setEngine(ProjectionProperties.Engine.QUERYDSL);
+        try (ParallelHydration hydration = new ParallelHydration(2)) {
+            @SuppressWarnings("unchecked")
+            ObjectProvider<ParallelHydration> provider = Mockito.mock(ObjectProvider.class);
+            Mockito.when(provider.getIfAvailable()).thenReturn(hydration);
+            assertTrue(cfg.querydslProjectionExecutorProvider(qf, em, builder, registry, props, provider)
+                    instanceof QuerydslProjectionExecutorProvider);
+            Mockito.verify(em).getEntityManagerFactory();
+        }
+    }
+
+    @Test
+    void projectionMetadataRegistryLoadsGeneratedRegistryFromServiceIndex() {
+        ProjectionMetadataRegistry registry = new ProjectionAutoConfiguration().projectionMetadataRegistry();
+        assertEquals("GeneratedProjectionMetadataRegistry", registry.getClass().getSimpleName());
+        assertNotNull(registry.getMetadata(UserDto.class));
+    }
+
+    @Test
+    void projectionMetadataRegistryMergesRegistriesOfSeveralModules(@TempDir Path dir) throws Exception {
+        Path services = dir.resolve("META-INF/services/" + ProjectionMetadataRegistry.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, OtherModuleRegistry.class.getName() + "\n");
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, original)) {
+            thread.setContextClassLoader(loader);
+            ProjectionMetadataRegistry registry = new ProjectionAutoConfiguration().projectionMetadataRegistry();
+            assertTrue(registry instanceof CompositeProjectionMetadataRegistry);
+            assertNotNull(registry.getMetadata(UserDto.class));
+            assertNotNull(registry.getMetadata(String.class));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    void projectionMetadataRegistryRejectsRegistryGeneratedByTwoModules(@TempDir Path dir) throws Exception {
+        String generated = new ProjectionAutoConfiguration().projectionMetadataRegistry()
+                .getClass().getName();
+        Path services = dir.resolve("META-INF/services/" + ProjectionMetadataRegistry.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, "# other module\n" + generated + "\n");
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, original)) {
+            thread.setContextClassLoader(loader);
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> new ProjectionAutoConfiguration().projectionMetadataRegistry());
+            assertTrue(e.getMessage().contains(generated));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    /** Registry standing in for the one generated in another module. */
+    public static class OtherModuleRegistry extends SimpleProjectionMetadataRegistry {
+        public OtherModuleRegistry() {
+            register(new ProjectionMetadata<String>() {
+                @Override public Class<String> dtoType() { return String.class; }
+                @Override public List<Attribute> attributes() { return List.of(); }
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<ParallelHydration> noHydration() {
+        return Mockito.mock(ObjectProvider.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<JPAQueryFactory> defaultQueryFactory() {
+        ObjectProvider<JPAQueryFactory> provider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(provider.getIfAvailable(Mockito.any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+        return provider;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<EntityManager> noEntityManager() {
+        return Mockito.mock(ObjectProvider.class);
+    }
 }
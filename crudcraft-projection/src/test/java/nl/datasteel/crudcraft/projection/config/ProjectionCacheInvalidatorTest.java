@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.config;
+
+import nl.datasteel.crudcraft.projection.impl.CachingProjectionExecutor;
+import nl.datasteel.crudcraft.runtime.service.EntityWriteEvent;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.*;
+
+class ProjectionCacheInvalidatorTest {
+
+    @Test
+    void invalidatesWrittenEntityType() {
+        CachingProjectionExecutor cache = mock(CachingProjectionExecutor.class);
+        new ProjectionCacheInvalidator(cache).onEntityWrite(new EntityWriteEvent(String.class));
+        verify(cache).invalidate(String.class);
+    }
+}
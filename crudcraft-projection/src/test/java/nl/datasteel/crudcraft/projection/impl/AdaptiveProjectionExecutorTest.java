@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import nl.datasteel.crudcraft.projection.api.FilterCriteria;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AdaptiveProjectionExecutorTest {
+
+    static class Post { }
+    static class PostDto { }
+    static class OtherDto { }
+
+    private final AtomicLong now = new AtomicLong();
+    private final ProjectionQuery<Post> query = ProjectionQuery.of(new FilterCriteria<>() { }, null);
+
+    @Test
+    void exploresEachEngineThenPinsTheFastest() {
+        ProjectionExecutorProvider slow = provider(50);
+        ProjectionExecutorProvider fast = provider(10);
+        AdaptiveProjectionExecutor adaptive = adaptive(slow, fast, 2);
+
+        for (int i = 0; i < 10; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+
+        verify(slow.getExecutor(), times(2)).project(Post.class, PostDto.class, query);
+        verify(fast.getExecutor(), times(8)).project(Post.class, PostDto.class, query);
+        AdaptiveProjectionExecutor.Decision decision = adaptive.getDecisions().getFirst();
+        assertEquals("B", decision.pinned());
+        assertEquals(new AdaptiveProjectionExecutor.EngineStats(2, 50.0, 1.0),
+                decision.engines().get("A"));
+        assertEquals(8, decision.engines().get("B").samples());
+    }
+
+    @Test
+    void onlyExploresEnginesSupportingTheQuery() {
+        ProjectionExecutorProvider unsupported = provider(1);
+        when(unsupported.supports(any())).thenReturn(false);
+        ProjectionExecutorProvider supported = provider(10);
+        AdaptiveProjectionExecutor adaptive = adaptive(unsupported, supported, 3);
+
+        for (int i = 0; i < 4; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+
+        verify(unsupported.getExecutor(), never()).project(any(), any(), any());
+        assertEquals("B", adaptive.getDecisions().getFirst().pinned());
+    }
+
+    @Test
+    void overrideForcesEngineForDto() {
+        ProjectionExecutorProvider a = provider(10);
+        ProjectionExecutorProvider b = provider(50);
+        AdaptiveProjectionExecutor adaptive = adaptive(a, b, 1);
+        adaptive.override(PostDto.class, "B");
+
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+
+        verify(b.getExecutor(), times(2)).project(Post.class, PostDto.class, query);
+        AdaptiveProjectionExecutor.Decision decision = adaptive.getDecisions().getFirst();
+        assertEquals("B", decision.override());
+        assertNull(decision.pinned());
+
+        adaptive.clearOverride(PostDto.class);
+        adaptive.project(Post.class, PostDto.class, query);
+        verify(a.getExecutor()).project(Post.class, PostDto.class, query);
+        assertThrows(IllegalArgumentException.class, () -> adaptive.override(PostDto.class, "C"));
+    }
+
+    @Test
+    void tracksPairsSeparatelyAndResets() {
+        ProjectionExecutorProvider a = provider(10);
+        ProjectionExecutorProvider b = provider(50);
+        AdaptiveProjectionExecutor adaptive = adaptive(a, b, 1);
+
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, OtherDto.class, query);
+
+        List<AdaptiveProjectionExecutor.Decision> decisions = adaptive.getDecisions();
+        assertEquals(2, decisions.size());
+        assertEquals(OtherDto.class, decisions.get(0).dtoType());
+        assertNull(decisions.get(0).pinned());
+        assertEquals("A", decisions.get(1).pinned());
+
+        adaptive.reset(Post.class, PostDto.class);
+        assertEquals(1, adaptive.getDecisions().size());
+    }
+
+    @Test
+    void dropsWarmUpQueriesFromTheMeasuredLatency() {
+        AtomicLong aCalls = new AtomicLong();
+        ProjectionExecutorProvider coldStart = provider(() -> aCalls.incrementAndGet() == 1 ? 1_000 : 10);
+        ProjectionExecutorProvider steady = provider(20);
+        Map<String, ProjectionExecutorProvider> engines = new LinkedHashMap<>();
+        engines.put("A", coldStart);
+        engines.put("B", steady);
+        AdaptiveProjectionExecutor adaptive =
+                new AdaptiveProjectionExecutor(engines, 2, 1, 0, Double.POSITIVE_INFINITY, now::get);
+
+        for (int i = 0; i < 8; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+
+        AdaptiveProjectionExecutor.Decision decision = adaptive.getDecisions().getFirst();
+        assertEquals("A", decision.pinned());
+        assertEquals(10.0, decision.engines().get("A").meanLatencyNanos());
+        assertEquals(2, decision.engines().get("B").samples());
+    }
+
+    @Test
+    void exploresAgainAfterConfiguredNumberOfQueries() {
+        ProjectionExecutorProvider a = provider(10);
+        ProjectionExecutorProvider b = provider(50);
+        Map<String, ProjectionExecutorProvider> engines = new LinkedHashMap<>();
+        engines.put("A", a);
+        engines.put("B", b);
+        AdaptiveProjectionExecutor adaptive =
+                new AdaptiveProjectionExecutor(engines, 1, 0, 3, Double.POSITIVE_INFINITY, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+        verify(b.getExecutor(), times(1)).project(Post.class, PostDto.class, query);
+        assertNull(adaptive.getDecisions().getFirst().pinned());
+
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+        verify(b.getExecutor(), times(2)).project(Post.class, PostDto.class, query);
+    }
+
+    @Test
+    void exploresAgainWhenPinnedEngineSlowsDown() {
+        AtomicLong aLatency = new AtomicLong(10);
+        ProjectionExecutorProvider a = provider(aLatency::get);
+        ProjectionExecutorProvider b = provider(50);
+        Map<String, ProjectionExecutorProvider> engines = new LinkedHashMap<>();
+        engines.put("A", a);
+        engines.put("B", b);
+        AdaptiveProjectionExecutor adaptive =
+                new AdaptiveProjectionExecutor(engines, 1, 0, 0, 2.0, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+        assertEquals("A", adaptive.getDecisions().getFirst().pinned());
+
+        aLatency.set(1_000);
+        for (int i = 0; i < 20 && adaptive.getDecisions().getFirst().pinned() != null; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+        assertNull(adaptive.getDecisions().getFirst().pinned());
+
+        for (int i = 0; i < 3; i++) {
+            adaptive.project(Post.class, PostDto.class, query);
+        }
+        assertEquals("B", adaptive.getDecisions().getFirst().pinned());
+    }
+
+    @Test
+    void failsWithoutSupportingEngine() {
+        ProjectionExecutorProvider a = provider(10);
+        when(a.supports(any())).thenReturn(false);
+        AdaptiveProjectionExecutor adaptive = new AdaptiveProjectionExecutor(Map.of("A", a), 1);
+        assertThrows(IllegalStateException.class,
+                () -> adaptive.project(Post.class, PostDto.class, query));
+    }
+
+    @Test
+    void retriesFailingEngineOnNextCandidateAndSetsItAside() {
+        ProjectionExecutorProvider failing = provider(1);
+        when(failing.getExecutor().project(any(), any(), any()))
+                .thenThrow(new IllegalStateException("no precompiled JPQL"));
+        ProjectionExecutorProvider working = provider(10);
+        AdaptiveProjectionExecutor adaptive = adaptive(failing, working, 2);
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(1, adaptive.project(Post.class, PostDto.class, query).content().size());
+        }
+
+        verify(failing.getExecutor(), times(1)).project(Post.class, PostDto.class, query);
+        verify(working.getExecutor(), times(6)).project(Post.class, PostDto.class, query);
+        assertEquals("B", adaptive.getDecisions().getFirst().pinned());
+    }
+
+    @Test
+    void unpinsEngineThatStartsFailing() {
+        ProjectionExecutorProvider a = provider(10);
+        ProjectionExecutorProvider b = provider(50);
+        AdaptiveProjectionExecutor adaptive = adaptive(a, b, 1);
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+        assertEquals("A", adaptive.getDecisions().getFirst().pinned());
+
+        when(a.getExecutor().project(any(), any(), any()))
+                .thenThrow(new IllegalStateException("gone"));
+        adaptive.project(Post.class, PostDto.class, query);
+        adaptive.project(Post.class, PostDto.class, query);
+
+        verify(b.getExecutor(), times(3)).project(Post.class, PostDto.class, query);
+        assertEquals("B", adaptive.getDecisions().getFirst().pinned());
+    }
+
+    @Test
+    void rethrowsFirstFailureWhenEveryEngineFails() {
+        ProjectionExecutorProvider a = provider(1);
+        IllegalStateException first = new IllegalStateException("a");
+        when(a.getExecutor().project(any(), any(), any())).thenThrow(first);
+        ProjectionExecutorProvider b = provider(1);
+        IllegalArgumentException second = new IllegalArgumentException("b");
+        when(b.getExecutor().project(any(), any(), any())).thenThrow(second);
+        AdaptiveProjectionExecutor adaptive = adaptive(a, b, 1);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> adaptive.project(Post.class, PostDto.class, query));
+        assertSame(first, thrown);
+        assertSame(second, thrown.getSuppressed()[0]);
+
+        assertThrows(IllegalStateException.class,
+                () -> adaptive.project(Post.class, PostDto.class, query));
+        verify(a.getExecutor(), times(2)).project(Post.class, PostDto.class, query);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveProjectionExecutor(Map.of(), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveProjectionExecutor(Map.of("A", provider(1)), 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveProjectionExecutor(
+                Map.of("A", provider(1)), 1, -1, 0, 2.0, now::get));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveProjectionExecutor(
+                Map.of("A", provider(1)), 1, 0, -1, 2.0, now::get));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveProjectionExecutor(
+                Map.of("A", provider(1)), 1, 0, 0, 1.0, now::get));
+    }
+
+    private AdaptiveProjectionExecutor adaptive(ProjectionExecutorProvider a,
+                                                ProjectionExecutorProvider b, int samples) {
+        Map<String, ProjectionExecutorProvider> engines = new LinkedHashMap<>();
+        engines.put("A", a);
+        engines.put("B", b);
+        return new AdaptiveProjectionExecutor(engines, samples, 0, 0,
+                Double.POSITIVE_INFINITY, now::get);
+    }
+
+    private ProjectionExecutorProvider provider(long latency) {
+        return provider(() -> latency);
+    }
+
+    private ProjectionExecutorProvider provider(LongSupplier latency) {
+        ProjectionExecutor executor = mock(ProjectionExecutor.class);
+        when(executor.project(any(), any(), any())).thenAnswer(inv -> {
+            now.addAndGet(latency.getAsLong());
+            return new ProjectionResult<>(List.of(new PostDto()), 1);
+        });
+        ProjectionExecutorProvider provider = mock(ProjectionExecutorProvider.class);
+        when(provider.supports(any())).thenReturn(true);
+        when(provider.getExecutor()).thenReturn(executor);
+        return provider;
+    }
+}
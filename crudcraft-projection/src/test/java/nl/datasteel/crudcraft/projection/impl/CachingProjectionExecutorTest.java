@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
+import nl.datasteel.crudcraft.projection.api.FilterCriteria;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+class CachingProjectionExecutorTest {
+
+    static class Order { }
+    static class Customer { }
+    static class Product { }
+    static class OrderDto { }
+
+    private final ProjectionExecutor delegate = mock(ProjectionExecutor.class);
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void servesIdenticalQueriesFromCache() {
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any()))
+                .thenAnswer(inv -> ProjectionResult.uncounted(List.of(new OrderDto()), false));
+        CachingProjectionExecutor cache = cache(null, 10, Duration.ofMinutes(1));
+
+        ProjectionResult<OrderDto> first = cache.project(Order.class, OrderDto.class, query("a", 0));
+        ProjectionResult<OrderDto> second = cache.project(Order.class, OrderDto.class, query("a", 0));
+        cache.project(Order.class, OrderDto.class, query("a", 1));
+        cache.project(Order.class, OrderDto.class, query("b", 0));
+
+        assertSame(first, second);
+        verify(delegate, times(3)).project(eq(Order.class), eq(OrderDto.class), any());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.25, cache.getHitRate());
+    }
+
+    @Test
+    void keysBuildersByTheirValue() {
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any()))
+                .thenAnswer(inv -> ProjectionResult.uncounted(List.of(), false));
+        CachingProjectionExecutor cache = cache(null, 10, Duration.ofMinutes(1));
+        PathBuilder<Order> order = new PathBuilder<>(Order.class, "order");
+
+        cache.project(Order.class, OrderDto.class, ProjectionQuery.of(FilterCriteria.ofPredicate(
+                new BooleanBuilder(order.getString("status").eq("open"))), PageRequest.of(0, 5)));
+        cache.project(Order.class, OrderDto.class, ProjectionQuery.of(FilterCriteria.ofPredicate(
+                new BooleanBuilder(order.getString("status").eq("open"))), PageRequest.of(0, 5)));
+
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void distinguishesCountPolicies() {
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any()))
+                .thenAnswer(inv -> ProjectionResult.uncounted(List.of(), false));
+        CachingProjectionExecutor cache = cache(null, 10, Duration.ofMinutes(1));
+
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        cache.project(Order.class, OrderDto.class, query("a", 0).withCountPolicy(CountPolicy.SKIP));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void bypassesSpecificationFilters() {
+        Specification<Order> spec = (root, q, cb) -> cb.conjunction();
+        ProjectionQuery<Order> query = ProjectionQuery.of(FilterCriteria.ofSpecification(spec),
+                PageRequest.of(0, 5));
+        CachingProjectionExecutor cache = cache(null, 10, Duration.ofMinutes(1));
+
+        cache.project(Order.class, OrderDto.class, query);
+        cache.project(Order.class, OrderDto.class, query);
+
+        verify(delegate, times(2)).project(Order.class, OrderDto.class, query);
+        assertEquals(2, cache.getBypassCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any()))
+                .thenAnswer(inv -> ProjectionResult.uncounted(List.of(), false));
+        CachingProjectionExecutor cache = cache(null, 10, Duration.ofNanos(100));
+
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        now.addAndGet(99);
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        now.addAndGet(1);
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() {
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any()))
+                .thenAnswer(inv -> ProjectionResult.uncounted(List.of(), false));
+        CachingProjectionExecutor cache = cache(null, 2, Duration.ofMinutes(1));
+
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        cache.project(Order.class, OrderDto.class, query("b", 0));
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        cache.project(Order.class, OrderDto.class, query("c", 0));
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void invalidatesEntriesReadingAssociatedEntities() {
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any()))
+                .thenAnswer(inv -> ProjectionResult.uncounted(List.of(), false));
+        CachingProjectionExecutor cache = cache(metamodel(), 10, Duration.ofMinutes(1));
+
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        cache.invalidate(Product.class);
+        assertEquals(1, cache.size());
+
+        cache.invalidate(Customer.class);
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getInvalidationCount());
+
+        cache.project(Order.class, OrderDto.class, query("a", 0));
+        cache.invalidate(Order.class);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void doesNotCacheResultsOverlappingAnInvalidation() {
+        CachingProjectionExecutor[] holder = new CachingProjectionExecutor[1];
+        when(delegate.project(eq(Order.class), eq(OrderDto.class), any())).thenAnswer(inv -> {
+            holder[0].invalidate(Order.class);
+            return ProjectionResult.uncounted(List.of(), false);
+        });
+        holder[0] = cache(null, 10, Duration.ofMinutes(1));
+
+        holder[0].project(Order.class, OrderDto.class, query("a", 0));
+
+        assertEquals(0, holder[0].size());
+    }
+
+    @Test
+    void streamsFromDelegateWithoutCaching() {
+        ProjectionQuery<Order> query = query("a", 0);
+        when(delegate.stream(Order.class, OrderDto.class, query, 5))
+                .thenReturn(Stream.of(new OrderDto()));
+        CachingProjectionExecutor cache = cache(null, 10, Duration.ofMinutes(1));
+
+        assertEquals(1, cache.stream(Order.class, OrderDto.class, query, 5).count());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> cache(null, 0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> cache(null, 1, Duration.ZERO));
+    }
+
+    private CachingProjectionExecutor cache(Metamodel metamodel, int maxSize, Duration ttl) {
+        ProjectionMetadataRegistry registry = mock(ProjectionMetadataRegistry.class);
+        ProjectionMetadata.Attribute name = mock(ProjectionMetadata.Attribute.class);
+        when(name.path()).thenReturn("customer.name");
+        ProjectionMetadata<OrderDto> metadata = mock(ProjectionMetadata.class);
+        when(metadata.attributes()).thenReturn(List.of(name));
+        when(registry.getMetadata(OrderDto.class)).thenReturn(metadata);
+        return new CachingProjectionExecutor(delegate, registry, metamodel, maxSize, ttl, now::get);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Metamodel metamodel() {
+        EntityType<Order> order = mock(EntityType.class);
+        EntityType<Customer> customer = mock(EntityType.class);
+        when(customer.getJavaType()).thenReturn(Customer.class);
+        SingularAttribute customerAttribute = mock(SingularAttribute.class);
+        when(customerAttribute.isAssociation()).thenReturn(true);
+        when(customerAttribute.getType()).thenReturn(customer);
+        Type<String> string = mock(Type.class);
+        SingularAttribute nameAttribute = mock(SingularAttribute.class);
+        when(nameAttribute.getType()).thenReturn(string);
+        doReturn(customerAttribute).when(order).getAttribute("customer");
+        doReturn(nameAttribute).when(customer).getAttribute("name");
+        Metamodel metamodel = mock(Metamodel.class);
+        doReturn(order).when(metamodel).managedType(Order.class);
+        return metamodel;
+    }
+
+    private static ProjectionQuery<Order> query(String status, int page) {
+        PathBuilder<Order> order = new PathBuilder<>(Order.class, "order");
+        return ProjectionQuery.of(FilterCriteria.ofPredicate(
+                Expressions.allOf(order.getString("status").eq(status))), PageRequest.of(page, 5));
+    }
+}
@@ -19,6 +19,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -177,6 +178,102 @@ class CollectionHydratorTest {
         assertEquals(1, root.children.get(0).children.size());
     }
 
+    @Test
+    void sharesFirstChildInstanceAcrossParents() {
+        ProjectionMetadata<ChildDto> childMeta = new Meta<>(ChildDto.class, List.of());
+        ProjectionMetadata<ParentDto> meta = new Meta<>(ParentDto.class, List.of(
+                new Attr("children", childMeta, true, (dto,list)-> ((ParentDto)dto).children = (List<ChildDto>) list)
+        ));
+        ParentDto first = new ParentDto();
+        ParentDto second = new ParentDto();
+        ParentDto empty = new ParentDto();
+        Map<Object, ParentDto> map = new LinkedHashMap<>();
+        map.put(1L, first);
+        map.put(2L, second);
+        map.put(3L, empty);
+        CollectionHydrator.RowFetcher fetcher = (type, attrs, ids) -> {
+            assertEquals(List.of(1L, 2L, 3L), ids);
+            return new CollectionHydrator.FetchResult(List.of(
+                    new Object[]{1L,10L,new ChildDto("a")},
+                    new Object[]{2L,10L,new ChildDto("a-copy")},
+                    new Object[]{2L,11L,new ChildDto("b")}
+            ), List.of(Object.class));
+        };
+        CollectionHydrator.hydrateCollections(Object.class, meta, map, fetcher);
+        assertEquals(1, first.children.size());
+        assertEquals(2, second.children.size());
+        assertSame(first.children.get(0), second.children.get(0));
+        assertEquals("b", second.children.get(1).name);
+        assertTrue(empty.children.isEmpty());
+    }
+
+    @Test
+    void fetchResultCopiesOnceAndReturnsSameLists() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L});
+        CollectionHydrator.FetchResult result = new CollectionHydrator.FetchResult(rows, List.of(Object.class));
+        rows.clear();
+        assertEquals(1, result.rows().size());
+        assertSame(result.rows(), result.rows());
+        assertSame(result.joinTypes(), result.joinTypes());
+        assertThrows(UnsupportedOperationException.class, () -> result.rows().add(new Object[0]));
+    }
+
+    @Test
+    void fetchesSiblingAttributesSeparatelyWhenParallel() {
+        ProjectionMetadata<ChildDto> childMeta = new Meta<>(ChildDto.class, List.of());
+        ProjectionMetadata<TagDto> tagMeta = new Meta<>(TagDto.class, List.of());
+        List<String> seen = java.util.Collections.synchronizedList(new ArrayList<>());
+        ProjectionMetadata<ChildDto> meta = new Meta<>(ChildDto.class, List.of(
+                new Attr("children", childMeta, true, (dto,list)-> ((ChildDto)dto).name = list.size() + " children"),
+                new Attr("tags", tagMeta, true, (dto,list)-> ((ChildDto)dto).tags = (List<TagDto>) list)
+        ));
+        ChildDto dto = new ChildDto("root");
+        Map<Object, ChildDto> map = new HashMap<>();
+        map.put(1L, dto);
+        CollectionHydrator.RowFetcher fetcher = (type, attrs, ids) -> {
+            assertEquals(1, attrs.size());
+            seen.add(attrs.get(0).path());
+            if (attrs.get(0).path().equals("tags")) {
+                return new CollectionHydrator.FetchResult(java.util.Collections.singletonList(
+                        new Object[]{1L, 5L, new TagDto("t")}), List.of(Object.class));
+            }
+            return new CollectionHydrator.FetchResult(List.of(
+                    new Object[]{1L, 7L, new ChildDto("c")},
+                    new Object[]{1L, 8L, new ChildDto("d")}), List.of(Object.class));
+        };
+        try (ParallelHydration parallel = new ParallelHydration(2)) {
+            CollectionHydrator.hydrateCollections(Object.class, meta, map, fetcher, parallel);
+        }
+        assertEquals(java.util.Set.of("children", "tags"), java.util.Set.copyOf(seen));
+        assertEquals("2 children", dto.name);
+        assertEquals("t", dto.tags.get(0).value);
+    }
+
+    @Test
+    void fetchesSingleAttributeWithCallerFetcherWhenParallel() {
+        ProjectionMetadata<TagDto> tagMeta = new Meta<>(TagDto.class, List.of());
+        ProjectionMetadata<ChildDto> meta = new Meta<>(ChildDto.class, List.of(
+                new Attr("tags", tagMeta, true, (dto,list)-> ((ChildDto)dto).tags = (List<TagDto>) list)
+        ));
+        ChildDto dto = new ChildDto("root");
+        Map<Object, ChildDto> map = new HashMap<>();
+        map.put(1L, dto);
+        Thread caller = Thread.currentThread();
+        CollectionHydrator.RowFetcher fetcher = (type, attrs, ids) -> {
+            assertSame(caller, Thread.currentThread());
+            return new CollectionHydrator.FetchResult(java.util.Collections.singletonList(
+                    new Object[]{1L, 5L, new TagDto("t")}), List.of(Object.class));
+        };
+        CollectionHydrator.RowFetcher concurrent = (type, attrs, ids) -> {
+            throw new AssertionError("single attribute must not be fetched concurrently");
+        };
+        try (ParallelHydration parallel = new ParallelHydration(2)) {
+            CollectionHydrator.hydrateCollections(Object.class, meta, map, fetcher, concurrent, parallel);
+        }
+        assertEquals("t", dto.tags.get(0).value);
+    }
+
     @Test
     void constructorIsPrivate() throws Exception {
         Constructor<CollectionHydrator> ctor = CollectionHydrator.class.getDeclaredConstructor();
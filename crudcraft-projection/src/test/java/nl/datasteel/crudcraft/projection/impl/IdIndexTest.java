@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class IdIndexTest {
+
+    @Test
+    void selectsSpecializationFromSampleId() {
+        assertInstanceOf(IdIndex.LongIdIndex.class, IdIndex.forId(1L, 4));
+        assertInstanceOf(IdIndex.LongIdIndex.class, IdIndex.forId(1, 4));
+        assertInstanceOf(IdIndex.UuidIdIndex.class, IdIndex.forId(UUID.randomUUID(), 4));
+        assertInstanceOf(IdIndex.ObjectIdIndex.class, IdIndex.forId("a", 4));
+    }
+
+    @Test
+    void assignsDenseIndexesInInsertionOrderAcrossResizes() {
+        IdIndex index = IdIndex.forId(0L, 2);
+        for (long id = 0; id < 1000; id++) {
+            assertEquals((int) id, index.add(id * 31));
+        }
+        assertEquals(1000, index.size());
+        for (long id = 0; id < 1000; id++) {
+            assertEquals((int) id, index.indexOf(id * 31));
+            assertEquals(id * 31, index.key((int) id));
+        }
+        assertEquals(-1, index.indexOf(-5L));
+    }
+
+    @Test
+    void addReturnsExistingIndexForDuplicates() {
+        IdIndex index = IdIndex.forId(1L, 4);
+        assertEquals(0, index.add(7L));
+        assertEquals(1, index.add(8L));
+        assertEquals(0, index.add(7L));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void comparesUuidsByValue() {
+        UUID id = UUID.randomUUID();
+        IdIndex index = IdIndex.forId(id, 4);
+        index.add(id);
+        for (int i = 0; i < 100; i++) {
+            index.add(UUID.randomUUID());
+        }
+        assertEquals(0, index.indexOf(new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits())));
+    }
+
+    @Test
+    void fallsBackToEqualsForOtherIds() {
+        IdIndex index = IdIndex.forId("a", 4);
+        index.add("a");
+        index.add("b");
+        assertEquals(1, index.indexOf(new String("b")));
+        assertEquals(-1, index.indexOf("c"));
+    }
+
+    @Test
+    void rejectsIdsOfAnotherKind() {
+        IdIndex index = IdIndex.forId(1L, 4);
+        assertThrows(IllegalArgumentException.class, () -> index.add("a"));
+    }
+}
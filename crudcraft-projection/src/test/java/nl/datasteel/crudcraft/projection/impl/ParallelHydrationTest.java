@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.*;
+
+class ParallelHydrationTest {
+
+    @Test
+    void rejectsParallelismBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelHydration(0));
+    }
+
+    @Test
+    void returnsResultsInTaskOrder() {
+        try (ParallelHydration hydration = new ParallelHydration(4)) {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                int value = i;
+                tasks.add(() -> {
+                    Thread.sleep(8 - value);
+                    return value;
+                });
+            }
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), hydration.invokeAll(tasks));
+        }
+    }
+
+    @Test
+    void runsTasksConcurrently() {
+        CountDownLatch started = new CountDownLatch(2);
+        Callable<Boolean> task = () -> {
+            started.countDown();
+            return started.await(5, TimeUnit.SECONDS);
+        };
+        try (ParallelHydration hydration = new ParallelHydration(2)) {
+            assertEquals(List.of(true, true), hydration.invokeAll(List.of(task, task)));
+        }
+    }
+
+    @Test
+    void boundsConcurrentTasks() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Callable<Void> task = () -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return null;
+        };
+        try (ParallelHydration hydration = new ParallelHydration(2)) {
+            hydration.invokeAll(List.of(task, task, task, task, task, task));
+        }
+        assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    void rethrowsTaskFailures() {
+        Callable<Object> failing = () -> {
+            throw new IllegalArgumentException("boom");
+        };
+        Callable<Object> checked = () -> {
+            throw new Exception("checked");
+        };
+        try (ParallelHydration hydration = new ParallelHydration(2)) {
+            assertEquals("boom", assertThrows(IllegalArgumentException.class,
+                    () -> hydration.invokeAll(List.of(() -> 1, failing))).getMessage());
+            assertEquals("checked", assertThrows(IllegalStateException.class,
+                    () -> hydration.invokeAll(List.of(checked))).getCause().getMessage());
+        }
+    }
+
+    @Test
+    void closesReadOnlyEntityManager() {
+        EntityManagerFactory factory = mock(EntityManagerFactory.class);
+        EntityManager em = mock(EntityManager.class);
+        when(factory.createEntityManager()).thenReturn(em);
+        assertThrows(IllegalStateException.class, () -> ParallelHydration.withReadOnlyEntityManager(
+                factory, e -> {
+                    throw new IllegalStateException();
+                }));
+        assertEquals("ok", ParallelHydration.withReadOnlyEntityManager(factory, e -> "ok"));
+        verify(em, times(2)).setFlushMode(FlushModeType.COMMIT);
+        verify(em, times(2)).close();
+    }
+}
@@ -16,6 +16,8 @@
 package nl.datasteel.crudcraft.projection.impl;
 
 import java.util.List;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
+import nl.datasteel.crudcraft.projection.api.FilterCriteria;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
 import nl.datasteel.crudcraft.projection.api.ProjectionExecutorProvider;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
@@ -51,6 +53,20 @@ class RoutingProjectionExecutorTest {
         verifyNoMoreInteractions(p1,p2,executor);
     }
 
+    @Test
+    void passesCountPolicyToSelectedExecutor() {
+        ProjectionExecutorProvider provider = mock(ProjectionExecutorProvider.class);
+        ProjectionExecutor executor = mock(ProjectionExecutor.class);
+        ProjectionQuery<Object> query = ProjectionQuery.of(new FilterCriteria<>() { }, null, CountPolicy.SKIP);
+        when(provider.supports(query)).thenReturn(true);
+        when(provider.getExecutor()).thenReturn(executor);
+
+        new RoutingProjectionExecutor(List.of(provider)).project(Object.class, String.class, query);
+
+        verify(executor).project(eq(Object.class), eq(String.class),
+                argThat(q -> q.countPolicy() == CountPolicy.SKIP));
+    }
+
     @Test
     void throwsWhenNoProviderSupports() {
         ProjectionExecutorProvider provider = mock(ProjectionExecutorProvider.class);
@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Optional;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
+import nl.datasteel.crudcraft.projection.api.FilterCriteria;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
 import nl.datasteel.crudcraft.projection.api.ProjectionResult;
 import nl.datasteel.crudcraft.projection.impl.CollectionHydrator;
@@ -107,6 +109,8 @@ class JpaProjectionExecutorTest {
         when(root.get("name")).thenReturn(namePath);
         jakarta.persistence.criteria.Order order = mock(jakarta.persistence.criteria.Order.class);
         when(cb.asc(namePath)).thenReturn(order);
+        jakarta.persistence.criteria.Order idOrder = mock(jakarta.persistence.criteria.Order.class);
+        when(cb.asc(idPath)).thenReturn(idOrder);
 
         when(em.createQuery(cq)).thenReturn(typed);
         when(typed.getResultList()).thenReturn(List.<Object[]>of(new Object[]{1L, new Dto()}));
@@ -139,11 +143,12 @@ class JpaProjectionExecutorTest {
             ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
             verify(cq).orderBy(captor.capture());
             List<?> captured = captor.getValue();
-            assertEquals(1, captured.size());
+            assertEquals(2, captured.size());
             assertSame(order, captured.getFirst());
+            assertSame(idOrder, captured.get(1));
             verify(typed).setFirstResult(2);
             verify(typed).setMaxResults(2);
-            hydrator.verify(() -> CollectionHydrator.hydrateCollections(eq(Entity.class), eq(metadata), anyMap(), any()));
+            hydrator.verify(() -> CollectionHydrator.hydrateCollections(eq(Entity.class), eq(metadata), anyMap(), any(), isNull(), isNull()));
         }
     }
 
@@ -201,6 +206,49 @@ class JpaProjectionExecutorTest {
         }
     }
 
+    @SuppressWarnings({"unchecked","rawtypes"})
+    @Test
+    void projectProbesForMoreWithoutCounting() {
+        EntityManager em = mock(EntityManager.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        CriteriaQuery<Object[]> cq = mock(CriteriaQuery.class);
+        Root<Entity> root = mock(Root.class);
+        Selection dtoSelection = mock(Selection.class);
+        Path<Object> idPath = mock(Path.class);
+        TypedQuery<Object[]> typed = mock(TypedQuery.class);
+
+        stubMetamodelForId(em, Entity.class, "id", Long.class);
+
+        when(em.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createQuery(Object[].class)).thenReturn(cq);
+        when(cq.from(Entity.class)).thenReturn(root);
+        doReturn((Class) Entity.class).when(root).getJavaType();
+
+        CriteriaProjectionBuilder builder = mock(CriteriaProjectionBuilder.class);
+        when(builder.construct(cb, root, Dto.class)).thenReturn(dtoSelection);
+        when(root.get("id")).thenReturn(idPath);
+        when(cq.multiselect(idPath, dtoSelection)).thenReturn(cq);
+        when(cq.distinct(true)).thenReturn(cq);
+
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { },
+                PageRequest.of(0, 1), CountPolicy.HAS_MORE);
+
+        when(em.createQuery(cq)).thenReturn(typed);
+        when(typed.getResultList()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, new Dto()}, new Object[]{2L, new Dto()}));
+
+        ProjectionMetadataRegistry registry = mock(ProjectionMetadataRegistry.class);
+
+        JpaProjectionExecutor executor = new JpaProjectionExecutor(em, builder, registry);
+        ProjectionResult<Dto> result = executor.project(Entity.class, Dto.class, query);
+
+        verify(typed).setMaxResults(2);
+        verify(cb, never()).createQuery(Long.class);
+        assertEquals(1, result.content().size());
+        assertTrue(result.hasMore());
+        assertFalse(result.isTotalKnown());
+    }
+
     @SuppressWarnings({"unchecked","rawtypes"})
     @Test
     void projectIgnoresNullPredicateAndPageable() {
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.impl.jpql;
+
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLTemplates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
+import nl.datasteel.crudcraft.projection.api.CountPolicy;
+import nl.datasteel.crudcraft.projection.api.FilterCriteria;
+import nl.datasteel.crudcraft.projection.api.ProjectionExecutor;
+import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
+import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class JpqlProjectionExecutorTest {
+
+    static class Entity { Long id; String name; }
+
+    static class Dto {
+        final String name;
+        Dto(String name) { this.name = name; }
+    }
+
+    /** Metadata as the processor generates it for {@link Dto}. */
+    static class DtoMetadata implements ProjectionMetadata<Dto> {
+        @Override public Class<Dto> dtoType() { return Dto.class; }
+        @Override public List<Attribute> attributes() {
+            return List.of(new Attribute() {
+                @Override public String path() { return "name"; }
+                @Override public ProjectionMetadata<?> nested() { return null; }
+                @Override public boolean collection() { return false; }
+                @Override public BiConsumer<Object, List<?>> mutator() { return null; }
+            });
+        }
+        @Override public String jpqlSelect(String alias) { return alias + ".name"; }
+        @Override public Dto instantiate(Object[] row, int offset) { return new Dto((String) row[offset]); }
+    }
+
+    EntityManager em;
+    ProjectionMetadataRegistry registry;
+    ProjectionExecutor fallback;
+    TypedQuery<Object[]> select;
+    TypedQuery<Long> count;
+    JpqlProjectionExecutor executor;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @BeforeEach
+    void setUp() {
+        em = mock(EntityManager.class);
+        Metamodel mm = mock(Metamodel.class);
+        when(em.getMetamodel()).thenReturn(mm);
+        EntityType et = mock(EntityType.class);
+        when(mm.entity(Entity.class)).thenReturn(et);
+        when(et.getName()).thenReturn("Entity");
+        Type idType = mock(Type.class);
+        when(et.getIdType()).thenReturn(idType);
+        when(idType.getJavaType()).thenReturn(Long.class);
+        SingularAttribute idAttr = mock(SingularAttribute.class);
+        when(et.getId(Long.class)).thenReturn(idAttr);
+        when(idAttr.getName()).thenReturn("id");
+
+        registry = mock(ProjectionMetadataRegistry.class);
+        fallback = mock(ProjectionExecutor.class);
+        select = mock(TypedQuery.class);
+        count = mock(TypedQuery.class);
+        when(em.createQuery(anyString(), eq(Object[].class))).thenReturn(select);
+        when(em.createQuery(anyString(), eq(Long.class))).thenReturn(count);
+        when(select.getResultList()).thenReturn(List.<Object[]>of(new Object[]{1L, "a"}));
+        when(count.getSingleResult()).thenReturn(5L);
+        executor = new JpqlProjectionExecutor(em, registry, fallback);
+    }
+
+    @Test
+    void ordersUnsortedPagesById() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { },
+                PageRequest.of(3, 2));
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(em).createQuery(
+                "select root.id, root.name from Entity root order by root.id asc", Object[].class);
+    }
+
+    @Test
+    void keepsRequestedIdOrderWithoutTiebreaker() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { },
+                PageRequest.of(0, 2, Sort.by(Sort.Order.desc("id"))));
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(em).createQuery(
+                "select root.id, root.name from Entity root order by root.id desc", Object[].class);
+    }
+
+    @Test
+    void runsPrecompiledSelectWithSortingAndPaging() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Order.desc("name")));
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { }, pageable);
+
+        ProjectionResult<Dto> result = executor.project(Entity.class, Dto.class, query);
+
+        verify(em).createQuery(
+                "select root.id, root.name from Entity root order by root.name desc, root.id asc",
+                Object[].class);
+        verify(em).createQuery("select count(root) from Entity root", Long.class);
+        verify(select).setFirstResult(2);
+        verify(select).setMaxResults(2);
+        assertEquals("a", result.content().getFirst().name);
+        assertEquals(5L, result.totalElements());
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void skipsCountWhenPolicyIsSkip() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                new FilterCriteria<>() { }, PageRequest.of(0, 2), CountPolicy.SKIP);
+
+        ProjectionResult<Dto> result = executor.project(Entity.class, Dto.class, query);
+
+        verify(em, never()).createQuery(anyString(), eq(Long.class));
+        verify(select).setMaxResults(2);
+        assertFalse(result.isTotalKnown());
+        assertFalse(result.hasMore());
+    }
+
+    @Test
+    void probesOneExtraRowWhenPolicyIsHasMore() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        when(select.getResultList()).thenReturn(List.of(
+                new Object[]{1L, "a"}, new Object[]{2L, "b"}, new Object[]{3L, "c"}));
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                new FilterCriteria<>() { }, PageRequest.of(0, 2), CountPolicy.HAS_MORE);
+
+        ProjectionResult<Dto> result = executor.project(Entity.class, Dto.class, query);
+
+        verify(select).setMaxResults(3);
+        verify(em, never()).createQuery(anyString(), eq(Long.class));
+        assertEquals(List.of("a", "b"), result.content().stream().map(d -> d.name).toList());
+        assertTrue(result.hasMore());
+        assertEquals(ProjectionResult.UNKNOWN_TOTAL, result.totalElements());
+    }
+
+    @Test
+    void reportsNoMoreRowsWhenProbeComesBackShort() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                new FilterCriteria<>() { }, PageRequest.of(0, 2), CountPolicy.HAS_MORE);
+
+        ProjectionResult<Dto> result = executor.project(Entity.class, Dto.class, query);
+
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasMore());
+    }
+
+    @Test
+    void appendsPredicateAsWhereClause() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        PathBuilder<Entity> root = new PathBuilder<>(Entity.class, JpqlProjectionExecutor.ROOT_ALIAS);
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                FilterCriteria.ofPredicate(root.getString("name").eq("a")), Pageable.unpaged());
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(em).createQuery(
+                "select root.id, root.name from Entity root where root.name = ?1", Object[].class);
+        verify(em).createQuery("select count(root) from Entity root where root.name = ?1", Long.class);
+        verify(select).setParameter(1, "a");
+        verify(count).setParameter(1, "a");
+    }
+
+    @Test
+    void rendersSubqueriesInPredicates() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        PathBuilder<Entity> root = new PathBuilder<>(Entity.class, JpqlProjectionExecutor.ROOT_ALIAS);
+        PathBuilder<Entity> other = new PathBuilder<>(Entity.class, "other");
+        ProjectionQuery<Entity> query = ProjectionQuery.of(FilterCriteria.ofPredicate(
+                JPAExpressions.selectOne().from(other)
+                        .where(other.getString("name").eq(root.getString("name")),
+                                other.getString("name").eq("owner"))
+                        .exists()), Pageable.unpaged());
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(em).createQuery(argThat((String jpql) -> jpql.startsWith(
+                        "select root.id, root.name from Entity root where exists (select 1")
+                        && jpql.endsWith("where other.name = root.name and other.name = ?1)")),
+                eq(Object[].class));
+        verify(select).setParameter(1, "owner");
+    }
+
+    @Test
+    void reusesCompiledStatements() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { }, Pageable.unpaged());
+
+        executor.project(Entity.class, Dto.class, query);
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(em, times(1)).getMetamodel();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void delegatesSpecificationsToFallback() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                FilterCriteria.ofSpecification(mock(Specification.class)), Pageable.unpaged());
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(fallback).project(Entity.class, Dto.class, query);
+        verify(em, never()).createQuery(anyString(), any(Class.class));
+    }
+
+    @Test
+    void delegatesDtosWithoutPrecompiledJpqlToFallback() {
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { }, Pageable.unpaged());
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(fallback).project(Entity.class, Dto.class, query);
+    }
+
+    @Test
+    void rejectsPredicateWithoutPrecompiledJpql() {
+        PathBuilder<Entity> root = new PathBuilder<>(Entity.class, JpqlProjectionExecutor.ROOT_ALIAS);
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                FilterCriteria.ofPredicate(root.getString("name").eq("a")), Pageable.unpaged());
+
+        assertThrows(IllegalStateException.class,
+                () -> executor.project(Entity.class, Dto.class, query));
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void delegatesPredicateWithoutPrecompiledJpqlToPredicateFallback() {
+        ProjectionExecutor predicateFallback = mock(ProjectionExecutor.class);
+        executor = new JpqlProjectionExecutor(em, registry, fallback, predicateFallback,
+                JPQLTemplates.DEFAULT, null);
+        PathBuilder<Entity> root = new PathBuilder<>(Entity.class, JpqlProjectionExecutor.ROOT_ALIAS);
+        ProjectionQuery<Entity> query = ProjectionQuery.of(
+                FilterCriteria.ofPredicate(root.getString("name").eq("a")), Pageable.unpaged());
+
+        executor.project(Entity.class, Dto.class, query);
+
+        verify(predicateFallback).project(Entity.class, Dto.class, query);
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void rejectsInvalidSortProperty() {
+        when(registry.getMetadata(Dto.class)).thenReturn(new DtoMetadata());
+        ProjectionQuery<Entity> query = ProjectionQuery.of(new FilterCriteria<>() { },
+                PageRequest.of(0, 1, Sort.by("name; delete")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> executor.project(Entity.class, Dto.class, query));
+    }
+
+    @Test
+    void providerSupportsAnyQuery() {
+        JpqlProjectionExecutorProvider provider = new JpqlProjectionExecutorProvider(
+                em, mock(nl.datasteel.crudcraft.projection.impl.jpa.CriteriaProjectionBuilder.class), registry);
+        assertTrue(provider.supports(ProjectionQuery.of(new FilterCriteria<>() { }, Pageable.unpaged())));
+        assertFalse(provider.supports(null));
+        assertSame(provider.getExecutor(), provider.getExecutor());
+    }
+}
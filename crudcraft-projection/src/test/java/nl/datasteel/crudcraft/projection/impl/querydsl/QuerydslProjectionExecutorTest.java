@@ -23,6 +23,7 @@ import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.Metamodel;
 import jakarta.persistence.metamodel.SingularAttribute;
@@ -38,6 +39,7 @@ import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
 import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadataRegistry;
 import nl.datasteel.crudcraft.projection.api.ProjectionQuery;
 import nl.datasteel.crudcraft.projection.api.ProjectionResult;
+import nl.datasteel.crudcraft.projection.impl.ParallelHydration;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -109,7 +111,7 @@ class QuerydslProjectionExecutorTest {
         assertEquals(1, result.content().size());
         assertEquals(1, result.totalElements()); // <- changed
         verify(main).where(predicate);
-        verify(main).orderBy(any(OrderSpecifier.class));
+        verify(main, times(2)).orderBy(any(OrderSpecifier.class));
         verify(main).offset(2);
         verify(main).limit(2);
     }
@@ -227,10 +229,27 @@ class QuerydslProjectionExecutorTest {
         assertEquals(0, result.totalElements()); // <- changed
     }
 
-    @SuppressWarnings({"unchecked","rawtypes"})
     @Test
     void projectHydratesCollections() {
         JPAQueryFactory factory = mock(JPAQueryFactory.class);
+        projectWithChildren(factory, null, null);
+        verify(factory).from(any(PathBuilder.class));
+    }
+
+    @Test
+    void projectHydratesSingleCollectionOnCallerEntityManagerWithParallelHydration() {
+        JPAQueryFactory factory = mock(JPAQueryFactory.class);
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        try (ParallelHydration parallel = new ParallelHydration(2)) {
+            projectWithChildren(factory, emf, parallel);
+        }
+        verify(factory).from(any(PathBuilder.class));
+        Mockito.verifyNoInteractions(emf);
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private void projectWithChildren(JPAQueryFactory factory, EntityManagerFactory emf,
+                                     ParallelHydration parallel) {
         JPAQuery<Tuple> main = mock(JPAQuery.class, RETURNS_SELF);
         JPAQuery<Long> count = mock(JPAQuery.class, RETURNS_SELF);
         // use raw/wildcard for joinQuery to avoid generics headaches
@@ -281,7 +300,8 @@ class QuerydslProjectionExecutorTest {
         when(entityType.getId(Long.class)).thenReturn(idAttr);
         when(idAttr.getName()).thenReturn("id");
 
-        QuerydslProjectionExecutor executor = new QuerydslProjectionExecutor(factory, metamodel, builder, registry);
+        QuerydslProjectionExecutor executor = new QuerydslProjectionExecutor(factory, metamodel,
+                builder, registry, emf, parallel);
         ProjectionQuery<Entity> query = mock(ProjectionQuery.class);
         when(query.asPredicate()).thenReturn(Optional.empty());
         when(query.pageable()).thenReturn(Pageable.unpaged());
@@ -291,7 +311,6 @@ class QuerydslProjectionExecutorTest {
         assertEquals(1, result.totalElements()); // <- changed
         assertEquals(1, result.content().get(0).children.size());
         assertSame(child, result.content().get(0).children.get(0));
-        verify(factory).from(any(PathBuilder.class));
     }
 
     @SuppressWarnings("unchecked")
@@ -333,8 +352,9 @@ class QuerydslProjectionExecutorTest {
         executor.project(Entity.class, Dto.class, query);
 
         ArgumentCaptor<OrderSpecifier> captor = ArgumentCaptor.forClass(OrderSpecifier.class);
-        verify(main).orderBy(captor.capture());
-        assertEquals(Order.DESC, captor.getValue().getOrder());
+        verify(main, times(2)).orderBy(captor.capture());
+        assertEquals(Order.DESC, captor.getAllValues().get(0).getOrder());
+        assertEquals("root.id", captor.getAllValues().get(1).getTarget().toString());
     }
 
     private static Class<?> invokeBoxIfPrimitive(Class<?> input) throws Exception {
@@ -355,6 +375,16 @@ class QuerydslProjectionExecutorTest {
         return (Class<?>) m.invoke(target, new Object[]{ input });
     }
 
+    @Test
+    void parallelHydrationRequiresEntityManagerFactory() {
+        try (ParallelHydration parallel = new ParallelHydration(2)) {
+            assertThrows(IllegalArgumentException.class, () -> new QuerydslProjectionExecutor(
+                    mock(JPAQueryFactory.class), mock(Metamodel.class),
+                    mock(QuerydslProjectionBuilder.class), mock(ProjectionMetadataRegistry.class),
+                    null, parallel));
+        }
+    }
+
     @Test
     void boxesAllJavaPrimitives() throws Exception {
         assertSame(Integer.class, invokeBoxIfPrimitive(int.class));
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.mapping;
+
+import java.util.List;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+class CompositeProjectionMetadataRegistryTest {
+
+    record Metadata<D>(Class<D> dtoType) implements ProjectionMetadata<D> {
+        @Override
+        public List<Attribute> attributes() {
+            return List.of();
+        }
+    }
+
+    @Test
+    void returnsMetadataOfFirstRegistryThatKnowsTheType() {
+        SimpleProjectionMetadataRegistry first = new SimpleProjectionMetadataRegistry();
+        SimpleProjectionMetadataRegistry second = new SimpleProjectionMetadataRegistry();
+        Metadata<String> fromFirst = new Metadata<>(String.class);
+        Metadata<String> shadowed = new Metadata<>(String.class);
+        Metadata<Integer> fromSecond = new Metadata<>(Integer.class);
+        first.register(fromFirst);
+        second.register(shadowed);
+        second.register(fromSecond);
+
+        CompositeProjectionMetadataRegistry registry =
+                new CompositeProjectionMetadataRegistry(List.of(first, second));
+
+        assertSame(fromFirst, registry.getMetadata(String.class));
+        assertSame(fromSecond, registry.getMetadata(Integer.class));
+        assertNull(registry.getMetadata(Long.class));
+    }
+}
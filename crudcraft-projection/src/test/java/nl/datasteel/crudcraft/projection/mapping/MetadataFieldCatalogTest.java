@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.projection.mapping;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import nl.datasteel.crudcraft.codegen.projection.ProjectionMetadata;
+import nl.datasteel.crudcraft.projection.mapping.dto.AddressDto;
+import nl.datasteel.crudcraft.projection.mapping.dto.UserDto;
+import nl.datasteel.crudcraft.runtime.fields.FieldCatalog.Property;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+class MetadataFieldCatalogTest {
+
+    record Attr(String path, ProjectionMetadata<?> nested, boolean collection,
+                BiConsumer<Object, List<?>> mutator) implements ProjectionMetadata.Attribute {
+    }
+
+    static class UserMetadata implements ProjectionMetadata<UserDto> {
+        @Override
+        public Class<UserDto> dtoType() {
+            return UserDto.class;
+        }
+
+        @Override
+        public List<Attribute> attributes() {
+            return List.of(new Attr("name", null, false, null),
+                    new Attr("addresses", null, true, null),
+                    new Attr("missing", null, false, null));
+        }
+    }
+
+    @Test
+    void describesGeneratedAttributesWithDtoFieldTypes() {
+        SimpleProjectionMetadataRegistry registry = new SimpleProjectionMetadataRegistry();
+        registry.register(new UserMetadata());
+        MetadataFieldCatalog catalog = new MetadataFieldCatalog(registry);
+
+        List<Property> properties = catalog.properties(UserDto.class);
+
+        // attributes without a DTO field are not selectable
+        assertEquals(List.of(new Property("name", "name", String.class, false),
+                new Property("addresses", "addresses", List.class, true)), properties);
+        assertSame(properties, catalog.properties(UserDto.class));
+    }
+
+    @Test
+    void leavesTypesWithoutMetadataToReflection() {
+        MetadataFieldCatalog catalog = new MetadataFieldCatalog(new SimpleProjectionMetadataRegistry());
+        assertNull(catalog.properties(AddressDto.class));
+    }
+}
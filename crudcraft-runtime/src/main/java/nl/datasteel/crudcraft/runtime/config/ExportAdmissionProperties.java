@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for export admission control.
+ * Capacity is expressed in units; each export takes the weight of its format.
+ */
+@ConfigurationProperties(prefix = "crudcraft.export.admission")
+public class ExportAdmissionProperties {
+
+    /** Whether concurrent exports are limited. */
+    private boolean enabled = true;
+
+    /** Total capacity units shared by all running exports. */
+    private int capacity = 8;
+
+    /** Maximum running or waiting exports per authenticated principal; anonymous callers are not limited. */
+    private int maxPerPrincipal = 2;
+
+    /** Maximum number of requests waiting for capacity. */
+    private int maxQueued = 16;
+
+    /**
+     * How long a request may wait for capacity before it is rejected with 429. The wait holds
+     * a servlet container thread, so keep it short and let clients retry.
+     */
+    private Duration queueTimeout = Duration.ofSeconds(2);
+
+    /** Capacity units per format; formats not listed weigh 1. */
+    private Map<String, Integer> weights = new LinkedHashMap<>(ExportAdmissionController.DEFAULT_WEIGHTS);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getMaxPerPrincipal() {
+        return maxPerPrincipal;
+    }
+
+    public void setMaxPerPrincipal(int maxPerPrincipal) {
+        this.maxPerPrincipal = maxPerPrincipal;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    public Duration getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public void setQueueTimeout(Duration queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<String, Integer> weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Creates the admission controller described by these properties.
+     *
+     * @return a new admission controller
+     */
+    public ExportAdmissionController toController() {
+        return new ExportAdmissionController(capacity, maxPerPrincipal, maxQueued, queueTimeout, weights);
+    }
+}
@@ -24,12 +24,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
 import nl.datasteel.crudcraft.runtime.Identified;
 import nl.datasteel.crudcraft.runtime.controller.response.PaginatedResponse;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import nl.datasteel.crudcraft.runtime.export.ExportCompression;
+import nl.datasteel.crudcraft.runtime.export.XlsxExportSettings;
+import nl.datasteel.crudcraft.runtime.fields.FieldSelection;
 import nl.datasteel.crudcraft.runtime.search.SearchRequest;
 import nl.datasteel.crudcraft.runtime.security.FieldSecurityUtil;
 import nl.datasteel.crudcraft.runtime.service.AbstractCrudService;
+import nl.datasteel.crudcraft.runtime.service.ExportService;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
 import nl.datasteel.crudcraft.runtime.util.ExportUtil;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -44,6 +52,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -51,6 +60,10 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 /**
  * Generic abstract REST controller exposing a full suite of CRUD endpoints.
+ * Request and response bodies are negotiated through the registered message converters,
+ * so besides JSON they can be exchanged as Smile ({@link BinaryFormats#SMILE_VALUE}) or
+ * CBOR ({@link BinaryFormats#CBOR_VALUE}) by sending the matching {@code Content-Type}
+ * and {@code Accept} headers.
  *
  * @param <T> the JPA entity type
  * @param <U> the upsert/patch request DTO type
@@ -59,6 +72,7 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
  * @param <Q> the search request type extending {@code SearchRequest<T>}
  * @param <ID> the identifier type
  */
+@CrudCraftController
 public abstract class AbstractCrudController<
         T, U, R, F, Q extends SearchRequest<T>, ID> {
 
@@ -74,6 +88,14 @@ public abstract class AbstractCrudController<
     @Value("${crudcraft.api.max-page-size:100}")
     protected int maxPageSize;
 
+    /**
+     * Cache-Control header sent by the read endpoints next to their ETag.
+     * Default is {@code private, no-cache}, can be overridden in application properties
+     * or per controller through {@link #cacheControl()}; empty sends no header.
+     */
+    @Value("${crudcraft.api.cache-control:" + HttpCaching.DEFAULT_CACHE_CONTROL + "}")
+    protected String cacheControl;
+
     /**
      * Maximum number of rows for CSV export.
      * Default is 100,000, can be overridden in application properties.
@@ -95,6 +117,61 @@ public abstract class AbstractCrudController<
     @Value("${crudcraft.export.max-xlsx-rows:25000}")
     protected int maxXlsxRows;
 
+    /**
+     * Whether CSV and JSON exports may be compressed.
+     * Default is true, can be overridden in application properties.
+     */
+    @Value("${crudcraft.export.compression.enabled:true}")
+    protected boolean compressionEnabled;
+
+    /**
+     * Deflater level used for compressed exports.
+     * Default is 6, can be overridden in application properties.
+     */
+    @Value("${crudcraft.export.compression.level:6}")
+    protected int compressionLevel;
+
+    /**
+     * Deflater buffer size in bytes used for compressed exports.
+     * Default is 8192, can be overridden in application properties.
+     */
+    @Value("${crudcraft.export.compression.buffer-size:8192}")
+    protected int compressionBufferSize;
+
+    /**
+     * Number of XLSX rows kept in memory before they are flushed to a temp file.
+     * Default is 100, can be overridden in application properties.
+     */
+    @Value("${crudcraft.export.xlsx.window-size:100}")
+    protected int xlsxWindowSize;
+
+    /**
+     * Whether XLSX temp files are gzip-compressed.
+     * Default is true, can be overridden in application properties.
+     */
+    @Value("${crudcraft.export.xlsx.compress-temp-files:true}")
+    protected boolean xlsxCompressTempFiles;
+
+    /**
+     * Whether XLSX strings are written inline instead of to a shared strings table.
+     * Default is true, can be overridden in application properties.
+     */
+    @Value("${crudcraft.export.xlsx.inline-strings:true}")
+    protected boolean xlsxInlineStrings;
+
+    /**
+     * Limits concurrent exports when an admission controller bean is available.
+     */
+    /**
+     * Whether {@code GET /stream} is served. The stream has no row limit, so it is
+     * disabled unless enabled in application properties.
+     */
+    @Value("${crudcraft.api.stream.enabled:false}")
+    protected boolean streamEnabled;
+
+    @Autowired(required = false)
+    protected ExportAdmissionController exportAdmission;
+
     /**
      * Constructor to initialize the controller with the service.
      *
@@ -121,10 +198,20 @@ public abstract class AbstractCrudController<
         return PageRequest.of(pageable.getPageNumber(), size, pageable.getSort());
     }
 
+    /**
+     * Returns the Cache-Control header of the read endpoints. Override to give an entity
+     * its own caching policy.
+     *
+     * @return the header value, null or empty for none
+     */
+    protected String cacheControl() {
+        return cacheControl;
+    }
+
     // ─── BASIC CRUD ───────────────────────────────────────────────────────
 
     /**
-     * Paginated list (optional search).
+     * Paginated list (optional search), tagged with a hash of its content.
      * {@code GET /?page=...&size=...&q=...}
      */
     @GetMapping
@@ -133,17 +220,24 @@ public abstract class AbstractCrudController<
             @ModelAttribute Q searchRequest
     ) {
         Page<R> page = service.search(searchRequest, clampPageable(pageable));
-        Page<R> dtoPage = page.map(FieldSecurityUtil::filterRead);
-        PaginatedResponse<R> response = new PaginatedResponse<>(
-                dtoPage.getContent(),
-                dtoPage.getNumber(),
-                dtoPage.getSize(),
-                dtoPage.getTotalPages(),
-                dtoPage.getTotalElements(),
-                dtoPage.isFirst(),
-                dtoPage.isLast()
-        );
-        return ResponseEntity.ok(response);
+        PaginatedResponse<R> response = PaginatedResponse.of(page, FieldSecurityUtil::filterRead);
+        return HttpCaching.tagContent(cacheControl(), response);
+    }
+
+    /**
+     * Paginated list (optional search) holding only the requested fields, read with a
+     * projection query. {@code GET /?fields=id,title,author.name&page=...}
+     */
+    @GetMapping(params = FieldSelection.PARAMETER)
+    public ResponseEntity<PaginatedResponse<Map<String, Object>>> getAllFields(
+            Pageable pageable,
+            @ModelAttribute Q searchRequest,
+            @RequestParam(FieldSelection.PARAMETER) String fields
+    ) {
+        Page<Map<String, Object>> page = service.searchFields(searchRequest,
+                clampPageable(pageable), FieldSelection.parse(fields));
+        return HttpCaching.tagContent(cacheControl(),
+                PaginatedResponse.of(page, UnaryOperator.identity()));
     }
 
     /**
@@ -156,24 +250,43 @@ public abstract class AbstractCrudController<
             @ModelAttribute Q searchRequest
     ) {
         Page<F> page = service.searchRef(searchRequest, clampPageable(pageable));
-        Page<F> dtoPage = page.map(FieldSecurityUtil::filterRead);
-        PaginatedResponse<F> response = new PaginatedResponse<>(
-                dtoPage.getContent(),
-                dtoPage.getNumber(),
-                dtoPage.getSize(),
-                dtoPage.getTotalPages(),
-                dtoPage.getTotalElements(),
-                dtoPage.isFirst(),
-                dtoPage.isLast()
-        );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PaginatedResponse.of(page, FieldSecurityUtil::filterRead));
     }
 
     /** Find by ID. {@code GET /{id}} */
+    public ResponseEntity<R> getById(ID id) {
+        return getById(id, null);
+    }
+
+    /**
+     * Find by ID, answering {@code 304 Not Modified} after a version lookup when the
+     * client holds the current version; without {@code If-None-Match} the entity is loaded
+     * directly. {@code GET /{id}}
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<R> getById(@PathVariable("id") ID id) {
-        R dto = service.findById(id);
-        return ResponseEntity.ok(FieldSecurityUtil.filterRead(dto));
+    public ResponseEntity<R> getById(
+            @PathVariable("id") ID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return HttpCaching.conditional(ifNoneMatch, cacheControl(),
+                () -> service.versionTag(id),
+                () -> service.findVersionedById(id).map(FieldSecurityUtil::filterRead));
+    }
+
+    /**
+     * Find by ID holding only the requested fields, tagged with the entity version and the
+     * selection. {@code GET /{id}?fields=id,title}
+     */
+    @GetMapping(value = "/{id}", params = FieldSelection.PARAMETER)
+    public ResponseEntity<Map<String, Object>> getByIdFields(
+            @PathVariable("id") ID id,
+            @RequestParam(FieldSelection.PARAMETER) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        return HttpCaching.conditional(ifNoneMatch, cacheControl(),
+                () -> selection.version(service.versionTag(id)),
+                () -> service.findVersionedFieldsById(id, selection));
     }
 
     /** Create new. {@code POST /} */
@@ -304,42 +417,71 @@ public abstract class AbstractCrudController<
         int clamped = Math.min(limit, maxPageSize);
 
         Page<R> page = service.search(searchRequest, PageRequest.of(0, clamped));
-        Page<R> dtoPage = page.map(FieldSecurityUtil::filterRead);
 
         // Ensure we never return more than `clamped` items, even if the service ignored page size.
-        List<R> content = dtoPage.getContent();
+        List<R> content = page.getContent();
         if (content.size() > clamped) {
             content = content.subList(0, clamped);
         }
 
         PaginatedResponse<R> response = new PaginatedResponse<>(
-                content,
-                dtoPage.getNumber(),
-                Math.min(dtoPage.getSize(), clamped),
-                dtoPage.getTotalPages(),
-                dtoPage.getTotalElements(),
-                dtoPage.isFirst(),
-                dtoPage.isLast()
+                PaginatedResponse.rows(content, FieldSecurityUtil::filterRead),
+                page.getNumber(),
+                Math.min(page.getSize(), clamped),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.isFirst(),
+                page.isLast()
         );
         return ResponseEntity.ok(response);
     }
 
+    /** Search holding only the requested fields. {@code GET /search?limit=...&fields=...} */
+    @GetMapping(value = "/search", params = FieldSelection.PARAMETER)
+    public ResponseEntity<PaginatedResponse<Map<String, Object>>> searchFields(
+            @ModelAttribute Q searchRequest,
+            @RequestParam(value = "limit", required = true) Integer limit,
+            @RequestParam(FieldSelection.PARAMETER) String fields
+    ) {
+        if (limit == null || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        int clamped = Math.min(limit, maxPageSize);
+        Page<Map<String, Object>> page = service.searchFields(searchRequest,
+                PageRequest.of(0, clamped), FieldSelection.parse(fields));
+        return ResponseEntity.ok(PaginatedResponse.of(page, UnaryOperator.identity()));
+    }
+
     /** Validate an upsert request body without persisting. {@code POST /validate} */
     @PostMapping("/validate")
     public ResponseEntity<Void> validate(@Valid @RequestBody U request) {
         return ResponseEntity.ok().build();
     }
 
-    /** Export search results as CSV, JSON or XLSX. {@code GET /export} */
+    /** Export search results as uncompressed CSV, JSON, NDJSON, Smile, CBOR or XLSX. */
+    public ResponseEntity<StreamingResponseBody> export(Q searchRequest, Integer limit, String format) {
+        return export(searchRequest, limit, format, null, null);
+    }
+
+    /**
+     * Export search results as CSV, JSON, NDJSON, Smile, CBOR or XLSX. {@code GET /export}
+     * Text formats are compressed when requested via {@code compression} or negotiated
+     * from {@code Accept-Encoding}.
+     */
     @GetMapping("/export")
     public ResponseEntity<StreamingResponseBody> export(
             @ModelAttribute Q searchRequest,
             @RequestParam(value = "limit", required = false) Integer limit,
-            @RequestParam(value = "format", required = true) String format
+            @RequestParam(value = "format", required = true) String format,
+            @RequestParam(value = "compression", required = false) String compression,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
         if (limit != null && limit < 0) {
             throw new IllegalArgumentException("limit must be non-negative");
         }
+        if (!ExportCompression.isValidRequest(compression)) {
+            return ResponseEntity.badRequest().build();
+        }
 
         final int effectiveLimit = limit != null ? limit : 1000;
 
@@ -360,13 +502,31 @@ public abstract class AbstractCrudController<
                 max = maxJsonRows;
                 contentType = "application/json";
                 extension = "json";
-                exporter = ExportUtil::streamJson;
+                exporter = (rows, target) -> ExportUtil.streamJson(rows, target, null, Math.max(1, maxPageSize));
+            }
+            case "ndjson" -> {
+                max = maxJsonRows;
+                contentType = "application/x-ndjson";
+                extension = "ndjson";
+                exporter = (rows, target) -> ExportUtil.streamNdjson(rows, target, null, Math.max(1, maxPageSize));
+            }
+            case "smile" -> {
+                max = maxJsonRows;
+                contentType = BinaryFormats.SMILE_VALUE;
+                extension = "sml";
+                exporter = (rows, target) -> ExportUtil.streamSmile(rows, target, null, Math.max(1, maxPageSize));
+            }
+            case "cbor" -> {
+                max = maxJsonRows;
+                contentType = BinaryFormats.CBOR_VALUE;
+                extension = "cbor";
+                exporter = (rows, target) -> ExportUtil.streamCbor(rows, target, null, Math.max(1, maxPageSize));
             }
             case "xlsx" -> {
                 max = maxXlsxRows;
                 contentType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
                 extension = "xlsx";
-                exporter = ExportUtil::streamXlsx;
+                exporter = (rows, target) -> ExportUtil.streamXlsx(rows, target, null, xlsxSettings());
             }
             default -> {
                 return ResponseEntity.badRequest().build();
@@ -375,6 +535,10 @@ public abstract class AbstractCrudController<
 
         int clamped = Math.min(effectiveLimit, max);
         int pageSize = Math.min(maxPageSize, clamped);
+        ExportCompression settings = exportCompression();
+        ExportCompression.Encoding encoding = "xlsx".equals(extension)
+                ? null
+                : settings.negotiate(compression, acceptEncoding);
 
         StreamingResponseBody body = out -> {
             Iterator<R> iterator = new Iterator<>() {
@@ -423,14 +587,66 @@ public abstract class AbstractCrudController<
                     return current.get(index++);
                 }
             };
-            exporter.accept(iterator, out);
+            ExportService.stream(exporter, iterator, out, settings, encoding, Math.max(1, pageSize));
         };
 
+        body = ExportService.admit(exportAdmission, lower, body);
         String filename = "export-" + System.currentTimeMillis() + "." + extension;
 
-        return ResponseEntity.ok()
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_TYPE, contentType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                .body(body);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+        if (settings.isEnabled() && !"xlsx".equals(extension)) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Stream every matching resource as newline-delimited JSON. {@code GET /stream}
+     * Rows are read in keyset chunks of the maximum page size and flushed per chunk; the
+     * stream ends when no rows are left, after {@code limit} rows, or when the client
+     * disconnects. Served only when {@link #streamEnabled} is set.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream(
+            @ModelAttribute Q searchRequest,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "compression", required = false) String compression,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        if (!streamEnabled) {
+            return ResponseEntity.notFound().build();
+        }
+        ExportService<R, Q> exportService = new ExportService<>(new ExportService.ExportConfig(
+                maxCsvRows, maxJsonRows, maxXlsxRows, maxPageSize, exportCompression()),
+                exportAdmission);
+        return exportService.streamNdjson(limit, null, compression, acceptEncoding,
+                (ID after, Integer size) -> service.searchAfter(searchRequest, after, size),
+                FieldSecurityUtil::filterRead);
+    }
+
+    /**
+     * Builds the compression settings from the configured properties.
+     *
+     * @return the export compression settings
+     */
+    protected ExportCompression exportCompression() {
+        if (!compressionEnabled) {
+            return ExportCompression.disabled();
+        }
+        return new ExportCompression(true, compressionLevel, compressionBufferSize);
+    }
+
+    /**
+     * Builds the XLSX writer settings from the configured properties.
+     *
+     * @return the XLSX export settings
+     */
+    protected XlsxExportSettings xlsxSettings() {
+        return new XlsxExportSettings(xlsxWindowSize, xlsxCompressTempFiles, xlsxInlineStrings);
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package nl.datasteel.crudcraft.runtime.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Tags the responses of reads answered through {@link HttpCaching#tagContent} with a hash
+ * of their serialized body, in the same pass the message converter writes it, and answers
+ * a matching {@code If-None-Match} with {@code 304}.
+ *
+ * <p>Only responses whose handler asked for a content tag are buffered; every other
+ * response, including streamed exports, is written straight through.</p>
+ */
+public class ContentTagFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        TaggingResponse tagging = new TaggingResponse(request, response);
+        filterChain.doFilter(request, tagging);
+        if (!isAsyncStarted(request)) {
+            tag(request, response, tagging);
+        }
+    }
+
+    private void tag(HttpServletRequest request,
+                     HttpServletResponse response,
+                     TaggingResponse tagging) throws IOException {
+        int status = tagging.getStatus();
+        if (tagging.tagging() && status >= 200 && status < 300) {
+            String etag = HttpCaching.contentTag(tagging.getContentAsByteArray());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (HttpCaching.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        tagging.copyBodyToResponse();
+    }
+
+    /**
+     * Caches the body once the handler has asked for a content tag, and hands out the
+     * streams of the underlying response otherwise.
+     */
+    private static final class TaggingResponse extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        TaggingResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        boolean tagging() {
+            return request.getAttribute(HttpCaching.CONTENT_TAG_ATTRIBUTE) != null;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return tagging() ? super.getOutputStream() : getResponse().getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return tagging() ? super.getWriter() : getResponse().getWriter();
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            if (tagging()) {
+                super.setContentLength(length);
+            } else {
+                getResponse().setContentLength(length);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (tagging()) {
+                super.setContentLengthLong(length);
+            } else {
+                getResponse().setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (!tagging()) {
+                getResponse().flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.controller;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import nl.datasteel.crudcraft.runtime.security.AuthoritySnapshot;
+import nl.datasteel.crudcraft.runtime.service.Versioned;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Conditional GET support for the read endpoints: weak ETags, {@code If-None-Match}
+ * and {@code Cache-Control}.
+ *
+ * <p>When an entity has a version (a {@code @Version} attribute or the
+ * {@code AuditableExtension} update timestamp) the ETag is derived from that version and
+ * the caller's authorities, since field security makes the body differ per caller. A
+ * matching {@code If-None-Match} then returns {@code 304} after a single version lookup,
+ * without loading, mapping or serializing the entity. Without a version the ETag is a hash
+ * of the serialized response, computed by {@link ContentTagFilter} from the bytes the
+ * message converter wrote, which saves the transfer but not the work.</p>
+ */
+public final class HttpCaching {
+
+    /** Cache-Control applied when none is configured: cache privately, always revalidate. */
+    public static final String DEFAULT_CACHE_CONTROL = "private, no-cache";
+
+    /** Request attribute asking {@link ContentTagFilter} to tag the serialized response. */
+    public static final String CONTENT_TAG_ATTRIBUTE = HttpCaching.class.getName() + ".CONTENT_TAG";
+
+    /** Number of digest bytes kept in a content ETag. */
+    private static final int CONTENT_TAG_BYTES = 16;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This class provides static utility methods only.
+     */
+    private HttpCaching() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Answers a read of a versioned resource. With {@code If-None-Match} the version is
+     * looked up first and the body is never built when it matches. Otherwise the body is
+     * loaded directly and tagged with the version it was read at.
+     *
+     * @param ifNoneMatch the {@code If-None-Match} request header, may be null
+     * @param cacheControl the {@code Cache-Control} header to send, null or empty for none
+     * @param version supplies the resource version, or null when it has none
+     * @param body supplies the response body with the version it was read at
+     * @param <B> the body type
+     * @return a {@code 304} without body, or a {@code 200} with the body and its ETag
+     */
+    public static <B> ResponseEntity<B> conditional(String ifNoneMatch, String cacheControl,
+                                                    Supplier<String> version,
+                                                    Supplier<Versioned<B>> body) {
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            String current = version.get();
+            if (current != null) {
+                String etag = versionTag(current);
+                if (matches(ifNoneMatch, etag)) {
+                    return notModified(etag, cacheControl);
+                }
+            }
+        }
+        Versioned<B> loaded = body.get();
+        if (loaded.version() == null) {
+            return tagContent(cacheControl, loaded.body());
+        }
+        return ok(versionTag(loaded.version()), cacheControl, loaded.body());
+    }
+
+    /**
+     * Answers a read whose body has no version. The response is tagged with a hash of its
+     * serialized form by {@link ContentTagFilter}, which also answers a matching
+     * {@code If-None-Match} with {@code 304}.
+     *
+     * @param cacheControl the {@code Cache-Control} header to send, null or empty for none
+     * @param body the response body
+     * @param <B> the body type
+     * @return a {@code 200} with the body
+     */
+    public static <B> ResponseEntity<B> tagContent(String cacheControl, B body) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(CONTENT_TAG_ATTRIBUTE, Boolean.TRUE,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        return ok(null, cacheControl, body);
+    }
+
+    /**
+     * Returns the weak ETag of a resource version as seen by the current caller.
+     *
+     * @param version the resource version
+     * @return the ETag, quoted and weak
+     */
+    public static String versionTag(String version) {
+        return "W/\"" + version.replace("\"", "") + '-'
+                + AuthoritySnapshot.current().fingerprint() + '"';
+    }
+
+    /**
+     * Returns the weak ETag of a serialized response body.
+     *
+     * @param content the response bytes
+     * @return the ETag, quoted and weak
+     */
+    public static String contentTag(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return "W/\"" + HexFormat.of().formatHex(hash, 0, CONTENT_TAG_BYTES) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    /**
+     * Checks an {@code If-None-Match} header against an ETag using the weak comparison
+     * GET requests call for.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param etag the current ETag
+     * @return true when the client already holds the current representation
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static <B> ResponseEntity<B> notModified(String etag, String cacheControl) {
+        return headers(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, cacheControl).build();
+    }
+
+    private static <B> ResponseEntity<B> ok(String etag, String cacheControl, B body) {
+        return headers(ResponseEntity.ok(), etag, cacheControl).body(body);
+    }
+
+    private static ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder builder,
+                                                      String etag, String cacheControl) {
+        // the body is encoded as JSON, Smile or CBOR depending on Accept
+        builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (etag != null) {
+            builder.header(HttpHeaders.ETAG, etag);
+        }
+        if (cacheControl != null && !cacheControl.isBlank()) {
+            builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return builder;
+    }
+}
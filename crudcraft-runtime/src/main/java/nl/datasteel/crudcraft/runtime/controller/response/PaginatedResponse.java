@@ -15,11 +15,21 @@
  */
 package nl.datasteel.crudcraft.runtime.controller.response;
 
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+import org.springframework.data.domain.Page;
 
 /**
  * Uniform container for paginated REST responses.
  *
+ * <p>Responses built with {@link #of(Page, UnaryOperator)} do not copy the page: their
+ * content is a read-only view that filters each row the first time it is read, so Jackson
+ * writes the rows straight from the page to the response, filtering each one as it goes.
+ * Later reads of the same row return the filtered row without filtering it again.</p>
+ *
  * @param <T> the DTO type
  */
 public record PaginatedResponse<T>(
@@ -33,9 +43,96 @@ public record PaginatedResponse<T>(
 ) {
     /**
      * Defensive copy constructor to ensure immutability of content.
+     * Row views are read-only already and are kept as they are.
      */
     public PaginatedResponse {
         // Copy-once defensive copy; immutable
-        content = (content == null) ? List.of() : List.copyOf(content);
+        content = (content == null) ? List.of()
+                : (content instanceof FilteredRows<T>) ? content : List.copyOf(content);
+    }
+
+    /**
+     * Wraps a page without copying its content.
+     *
+     * @param page the page to expose
+     * @param rowFilter applied once to each row when it is first read, e.g. field-level security
+     * @param <T> the DTO type
+     * @return the paginated response
+     */
+    public static <T> PaginatedResponse<T> of(Page<T> page, UnaryOperator<T> rowFilter) {
+        return new PaginatedResponse<>(
+                rows(page.getContent(), rowFilter),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.isFirst(),
+                page.isLast()
+        );
+    }
+
+    /**
+     * Returns a read-only view of rows that applies a filter to each row the first time
+     * it is read and remembers the result.
+     *
+     * @param rows the rows, which must not change while the view is in use
+     * @param rowFilter the filter applied once per row
+     * @param <T> the DTO type
+     * @return the view, accepted as content without copying
+     */
+    public static <T> List<T> rows(List<T> rows, UnaryOperator<T> rowFilter) {
+        return new FilteredRows<>(rows, rowFilter, new Object[rows.size()], 0, rows.size());
+    }
+
+    /**
+     * Read-only list view that filters rows on first access. Sub lists share the filtered
+     * rows of the view they were taken from.
+     *
+     * @param <T> the row type
+     */
+    private static final class FilteredRows<T> extends AbstractList<T> implements RandomAccess {
+
+        /** Stands in for rows the filter turned into {@code null}. */
+        private static final Object NULL_ROW = new Object();
+
+        private final List<T> rows;
+        private final UnaryOperator<T> rowFilter;
+        private final Object[] filtered;
+        private final int offset;
+        private final int size;
+
+        FilteredRows(List<T> rows, UnaryOperator<T> rowFilter, Object[] filtered,
+                     int offset, int size) {
+            this.rows = rows;
+            this.rowFilter = rowFilter;
+            this.filtered = filtered;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            int i = offset + index;
+            Object row = filtered[i];
+            if (row == null) {
+                row = rowFilter.apply(rows.get(i));
+                filtered[i] = (row == null) ? NULL_ROW : row;
+            }
+            return (row == NULL_ROW) ? null : (T) row;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new FilteredRows<>(rows, rowFilter, filtered, offset + fromIndex,
+                    toIndex - fromIndex);
+        }
     }
 }
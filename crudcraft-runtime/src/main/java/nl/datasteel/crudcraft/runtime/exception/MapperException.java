@@ -21,6 +21,15 @@ package nl.datasteel.crudcraft.runtime.exception;
  */
 public class MapperException extends CrudCraftRuntimeException {
 
+    /**
+     * Constructs a MapperException with the given message.
+     *
+     * @param message the detail message
+     */
+    public MapperException(String message) {
+        super(message);
+    }
+
     /**
      * Constructs a MapperException with a default message.
      */
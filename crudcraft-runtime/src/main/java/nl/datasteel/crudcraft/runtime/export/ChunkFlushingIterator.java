@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Iterator decorator that flushes an output stream every {@code chunkSize} rows.
+ *
+ * <p>The flush happens before the delegate is asked for the next row, so everything written
+ * for the previous chunk reaches the client while the next page is still being queried.
+ *
+ * @param <T> the element type
+ */
+public final class ChunkFlushingIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> delegate;
+    private final OutputStream out;
+    private final int chunkSize;
+
+    private long returned;
+    private long flushedAt;
+
+    /**
+     * Creates a flushing iterator.
+     *
+     * @param delegate the iterator supplying the rows
+     * @param out the stream to flush at chunk boundaries
+     * @param chunkSize the number of rows per chunk, must be positive
+     */
+    public ChunkFlushingIterator(Iterator<T> delegate, OutputStream out, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.delegate = delegate;
+        this.out = out;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (returned > flushedAt && returned % chunkSize == 0) {
+            flushedAt = returned;
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to flush export chunk", e);
+            }
+        }
+        return delegate.hasNext();
+    }
+
+    @Override
+    public T next() {
+        T value = delegate.next();
+        returned++;
+        return value;
+    }
+}
@@ -15,11 +15,16 @@
  */
 package nl.datasteel.crudcraft.runtime.export;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import org.springframework.data.domain.Page;
+import java.util.function.Function;
+import nl.datasteel.crudcraft.runtime.util.ExportUtil;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
 /**
  * Adapter that converts entity-based exports to map-based exports for use with ExportUtil.
@@ -29,6 +34,7 @@ public class EntityExportAdapter {
     
     private final EntityExportService entityExportService;
     private final EntitySerializer entitySerializer;
+    private final JsonExportWriter jsonWriter;
     
     /**
      * Creates a new entity export adapter.
@@ -39,6 +45,7 @@ public class EntityExportAdapter {
     public EntityExportAdapter(EntityExportService entityExportService, EntitySerializer entitySerializer) {
         this.entityExportService = entityExportService;
         this.entitySerializer = entitySerializer;
+        this.jsonWriter = ExportUtil.jsonWriter();
     }
     
     /**
@@ -55,30 +62,116 @@ public class EntityExportAdapter {
                                                               ExportRequest exportRequest,
                                                               int limit,
                                                               int pageSize) {
-        return new EntityMapIterator<>(entityClass, exportRequest, limit, pageSize);
+        return createIterator(entityClass, exportRequest, limit, pageSize, null);
+    }
+
+    /**
+     * Creates an iterator that fetches the entities matching a filter and converts them
+     * to maps for export.
+     *
+     * @param entityClass the entity class
+     * @param exportRequest the export request
+     * @param limit the maximum number of entities to export
+     * @param pageSize the page size for fetching
+     * @param filter the specification restricting the rows (null for all rows)
+     * @param <T> the entity type
+     * @return an iterator of maps representing entities
+     */
+    public <T> Iterator<Map<String, Object>> createIterator(Class<T> entityClass,
+                                                              ExportRequest exportRequest,
+                                                              int limit,
+                                                              int pageSize,
+                                                              Specification<T> filter) {
+        return new PagedEntityIterator<>(entityClass, exportRequest, limit, pageSize, filter,
+            entity -> entitySerializer.serialize(entity, exportRequest));
+    }
+
+    /**
+     * Creates an iterator that fetches entities page by page without converting them.
+     * Use with {@link #writeJson} to stream entities without building maps.
+     *
+     * @param entityClass the entity class
+     * @param exportRequest the export request
+     * @param limit the maximum number of entities to export
+     * @param pageSize the page size for fetching
+     * @param <T> the entity type
+     * @return an iterator of entities
+     */
+    public <T> Iterator<T> createEntityIterator(Class<T> entityClass,
+                                                ExportRequest exportRequest,
+                                                int limit,
+                                                int pageSize) {
+        return createEntityIterator(entityClass, exportRequest, limit, pageSize, null);
+    }
+
+    /**
+     * Creates an iterator that fetches the entities matching a filter page by page
+     * without converting them.
+     *
+     * @param entityClass the entity class
+     * @param exportRequest the export request
+     * @param limit the maximum number of entities to export
+     * @param pageSize the page size for fetching
+     * @param filter the specification restricting the rows (null for all rows)
+     * @param <T> the entity type
+     * @return an iterator of entities
+     */
+    public <T> Iterator<T> createEntityIterator(Class<T> entityClass,
+                                                ExportRequest exportRequest,
+                                                int limit,
+                                                int pageSize,
+                                                Specification<T> filter) {
+        return new PagedEntityIterator<>(entityClass, exportRequest, limit, pageSize, filter,
+            Function.identity());
+    }
+
+    /**
+     * Writes entities as JSON or NDJSON straight to the output stream.
+     *
+     * @param entities the entities to write
+     * @param out the stream to write to
+     * @param exportRequest the export request with field filters
+     * @param layout the JSON layout
+     * @param flushEvery the number of rows between flushes
+     * @param <T> the entity type
+     */
+    public <T> void writeJson(Iterator<T> entities, OutputStream out, ExportRequest exportRequest,
+                              JsonExportWriter.Layout layout, int flushEvery) {
+        try {
+            jsonWriter.write(entities, out, layout, flushEvery,
+                (entity, gen) -> entitySerializer.write(entity, exportRequest, gen));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export JSON", e);
+        }
     }
     
     /**
-     * Iterator that lazily fetches entities in pages and converts them to maps.
+     * Iterator that lazily fetches entities in pages and maps each one.
      *
      * @param <T> the entity type
+     * @param <E> the element type
      */
-    private class EntityMapIterator<T> implements Iterator<Map<String, Object>> {
+    private class PagedEntityIterator<T, E> implements Iterator<E> {
         private final Class<T> entityClass;
         private final ExportRequest exportRequest;
         private final int maxItems;
         private final int pageSize;
+        private final Specification<T> filter;
+        private final Function<T, E> mapper;
         
         private int page = 0;
         private int index = 0;
-        private List<Map<String, Object>> current = List.of();
+        private List<E> current = List.of();
         private int fetched = 0;
         
-        EntityMapIterator(Class<T> entityClass, ExportRequest exportRequest, int maxItems, int pageSize) {
+        PagedEntityIterator(Class<T> entityClass, ExportRequest exportRequest, int maxItems, int pageSize,
+                            Specification<T> filter, Function<T, E> mapper) {
             this.entityClass = entityClass;
             this.exportRequest = exportRequest;
             this.maxItems = maxItems;
             this.pageSize = pageSize;
+            this.filter = filter;
+            this.mapper = mapper;
         }
         
         private void fetch() {
@@ -88,28 +181,27 @@ public class EntityExportAdapter {
             }
             
             // Fetch entities with optimized relationship loading
-            Page<T> entityPage = entityExportService.fetchWithRelationships(
-                entityClass, exportRequest, PageRequest.of(page++, pageSize));
+            List<T> entities = entityExportService.fetchContent(
+                entityClass, exportRequest, PageRequest.of(page++, pageSize), filter);
             
-            // Convert entities to maps
-            List<Map<String, Object>> maps = entityPage.getContent().stream()
-                .map(entity -> entitySerializer.serialize(entity, exportRequest))
+            List<E> items = entities.stream()
+                .map(mapper)
                 .toList();
             
-            if (maps.isEmpty()) {
+            if (items.isEmpty()) {
                 current = List.of();
                 fetched = maxItems;
                 return;
             }
             
-            if (fetched + maps.size() > maxItems) {
-                maps = maps.subList(0, maxItems - fetched);
+            if (fetched + items.size() > maxItems) {
+                items = items.subList(0, maxItems - fetched);
                 fetched = maxItems;
             } else {
-                fetched += maps.size();
+                fetched += items.size();
             }
             
-            current = maps;
+            current = items;
             index = 0;
         }
         
@@ -122,7 +214,7 @@ public class EntityExportAdapter {
         }
         
         @Override
-        public Map<String, Object> next() {
+        public E next() {
             if (!hasNext()) {
                 throw new java.util.NoSuchElementException();
             }
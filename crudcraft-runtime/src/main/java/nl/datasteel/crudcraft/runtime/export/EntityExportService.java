@@ -20,13 +20,20 @@ import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -65,6 +72,47 @@ public class EntityExportService {
     public <T> Page<T> fetchWithRelationships(Class<T> entityClass, 
                                                ExportRequest exportRequest, 
                                                PageRequest pageRequest) {
+        return fetchWithRelationships(entityClass, exportRequest, pageRequest, null);
+    }
+
+    /**
+     * Fetches the entities matching a filter with optimized relationship loading.
+     * The filter is applied in the WHERE clause of both the page query and the count query,
+     * so rows hidden by search criteria or row security are never loaded.
+     *
+     * @param entityClass the entity class
+     * @param exportRequest the export request
+     * @param pageRequest the page request
+     * @param filter the specification restricting the rows (null for all rows)
+     * @param <T> the entity type
+     * @return page of entities
+     */
+    @Transactional(readOnly = true)
+    public <T> Page<T> fetchWithRelationships(Class<T> entityClass,
+                                               ExportRequest exportRequest,
+                                               PageRequest pageRequest,
+                                               Specification<T> filter) {
+        List<T> results = fetchContent(entityClass, exportRequest, pageRequest, filter);
+        long total = countTotal(entityClass, filter);
+        return new PageImpl<>(results, pageRequest, total);
+    }
+
+    /**
+     * Fetches one page of entities matching a filter without counting the total.
+     * Exports stop at the first short page, so the count query would be wasted work.
+     *
+     * @param entityClass the entity class
+     * @param exportRequest the export request
+     * @param pageRequest the page request
+     * @param filter the specification restricting the rows (null for all rows)
+     * @param <T> the entity type
+     * @return the entities on the page
+     */
+    @Transactional(readOnly = true)
+    public <T> List<T> fetchContent(Class<T> entityClass,
+                                    ExportRequest exportRequest,
+                                    PageRequest pageRequest,
+                                    Specification<T> filter) {
         EntityMetadata metadata = metadataRegistry.getMetadata(entityClass);
         
         // Build criteria query with JOINs for ManyToOne and OneToOne relationships
@@ -76,6 +124,8 @@ public class EntityExportService {
         addJoinFetches(root, metadata, exportRequest);
         
         query.select(root).distinct(true);
+        applyFilter(filter, root, query, cb);
+        applyOrder(entityClass, pageRequest.getSort(), root, query, cb);
         
         // Execute query with pagination
         TypedQuery<T> typedQuery = entityManager.createQuery(query);
@@ -89,12 +139,52 @@ public class EntityExportService {
             batchLoadCollections(results, metadata, exportRequest);
         }
         
-        // Get total count
-        long total = countTotal(entityClass);
-        
-        return new PageImpl<>(results, pageRequest, total);
+        return results;
+    }
+
+    /**
+     * Adds the filter's predicate to the query's WHERE clause.
+     *
+     * @param filter the specification, may be null
+     * @param root the query root
+     * @param query the query to restrict
+     * @param cb the criteria builder
+     * @param <T> the entity type
+     */
+    private static <T> void applyFilter(Specification<T> filter, Root<T> root,
+                                        CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (filter == null) {
+            return;
+        }
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
     }
     
+    /**
+     * Orders the query by the requested sort followed by the entity ID. Without a total
+     * order the database may return rows in a different order for each page, so
+     * consecutive pages could skip or repeat rows.
+     *
+     * @param entityClass the entity class
+     * @param sort the requested sort
+     * @param root the query root
+     * @param query the query to order
+     * @param cb the criteria builder
+     * @param <T> the entity type
+     */
+    private <T> void applyOrder(Class<T> entityClass, Sort sort, Root<T> root,
+                                CriteriaQuery<?> query, CriteriaBuilder cb) {
+        EntityType<T> entity = entityManager.getMetamodel().entity(entityClass);
+        String idName = entity.getId(entity.getIdType().getJavaType()).getName();
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(sort, root, cb));
+        if (sort.getOrderFor(idName) == null) {
+            orders.add(cb.asc(root.get(idName)));
+        }
+        query.orderBy(orders);
+    }
+
     /**
      * Adds JOIN FETCH clauses for ManyToOne and OneToOne relationships.
      *
@@ -171,17 +261,20 @@ public class EntityExportService {
     }
     
     /**
-     * Counts the total number of entities.
+     * Counts the entities matching a filter.
      *
      * @param entityClass the entity class
+     * @param filter the specification restricting the rows (null for all rows)
      * @param <T> the entity type
      * @return the total count
      */
-    private <T> long countTotal(Class<T> entityClass) {
+    private <T> long countTotal(Class<T> entityClass, Specification<T> filter) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Long> query = cb.createQuery(Long.class);
         Root<T> root = query.from(entityClass);
-        query.select(cb.count(root));
+        // Distinct, like the page query, in case the filter joins collections
+        query.select(cb.countDistinct(root));
+        applyFilter(filter, root, query, cb);
         return entityManager.createQuery(query).getSingleResult();
     }
 }
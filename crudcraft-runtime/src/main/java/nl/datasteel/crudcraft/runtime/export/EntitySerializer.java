@@ -15,6 +15,8 @@
  */
 package nl.datasteel.crudcraft.runtime.export;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -25,8 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Serializes entity objects to Map structures for export, applying field filtering
- * and relationship traversal based on ExportRequest configuration.
+ * Serializes entity objects to Map structures, or directly to a JSON generator, for export,
+ * applying field filtering and relationship traversal based on ExportRequest configuration.
  */
 public class EntitySerializer {
     
@@ -134,6 +136,86 @@ public class EntitySerializer {
         return result;
     }
     
+    /**
+     * Writes an entity as a JSON object, applying the same field filtering and depth rules
+     * as {@link #serialize(Object, ExportRequest)} without building an intermediate map.
+     *
+     * @param entity the entity to write
+     * @param exportRequest the export request with field filters
+     * @param gen the generator to write to
+     * @throws IOException if writing fails
+     */
+    public void write(Object entity, ExportRequest exportRequest, JsonGenerator gen) throws IOException {
+        if (entity == null) {
+            gen.writeNull();
+            return;
+        }
+        writeInternal(entity, exportRequest, "", 0, gen);
+    }
+
+    /**
+     * Internal streaming method with depth tracking; mirrors {@code serializeInternal}.
+     * Callers check the depth limit before writing a field name.
+     *
+     * @param entity the non-null entity to write
+     * @param exportRequest the export request
+     * @param pathPrefix the current path prefix for nested fields
+     * @param depth the current nesting depth
+     * @param gen the generator to write to
+     */
+    private void writeInternal(Object entity, ExportRequest exportRequest, String pathPrefix,
+                               int depth, JsonGenerator gen) throws IOException {
+        EntityMetadata metadata = metadataRegistry.getMetadata(entity.getClass());
+        boolean nestedAllowed = depth + 1 <= exportRequest.getEffectiveMaxDepth();
+        gen.writeStartObject();
+
+        for (EntityFieldMetadata fieldMetadata : metadata.getExportableFields()) {
+            String fieldName = fieldMetadata.getName();
+            String fieldPath = pathPrefix.isEmpty() ? fieldName : pathPrefix + "." + fieldName;
+
+            boolean isNestedField = fieldMetadata.isCollection()
+                    || fieldMetadata.isRelationship()
+                    || fieldMetadata.getType() == EntityFieldMetadata.FieldType.EMBEDDED;
+
+            boolean includeField = exportRequest.shouldIncludeField(fieldPath);
+            boolean hasIncludedDescendants = isNestedField && exportRequest.hasIncludedDescendants(fieldPath);
+
+            if (!includeField && !hasIncludedDescendants) {
+                continue;
+            }
+
+            Object value = getFieldValue(entity, fieldMetadata.getField());
+
+            if (value == null) {
+                if (includeField) {
+                    gen.writeNullField(fieldName);
+                }
+            } else if (fieldMetadata.isCollection()) {
+                gen.writeArrayFieldStart(fieldName);
+                for (Object item : (Collection<?>) value) {
+                    if (isEntity(item)) {
+                        if (nestedAllowed) {
+                            writeInternal(item, exportRequest, fieldPath, depth + 1, gen);
+                        }
+                    } else {
+                        gen.writeObject(item);
+                    }
+                }
+                gen.writeEndArray();
+            } else if (fieldMetadata.isRelationship()
+                    || fieldMetadata.getType() == EntityFieldMetadata.FieldType.EMBEDDED) {
+                if (nestedAllowed) {
+                    gen.writeFieldName(fieldName);
+                    writeInternal(value, exportRequest, fieldPath, depth + 1, gen);
+                }
+            } else {
+                gen.writeObjectField(fieldName, value);
+            }
+        }
+
+        gen.writeEndObject();
+    }
+
     /**
      * Gets the value of a field from an entity using reflection.
      *
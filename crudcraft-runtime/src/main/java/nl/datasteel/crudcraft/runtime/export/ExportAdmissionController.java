@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import nl.datasteel.crudcraft.runtime.exception.TooManyRequestsException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Limits how many exports run at the same time.
+ *
+ * <p>Every export takes a number of capacity units depending on its format (XLSX is heavier
+ * than CSV). When the global capacity is used up, requests wait in a bounded FIFO queue for at
+ * most the configured timeout. A single authenticated principal may only have a limited number
+ * of exports running or waiting. Anonymous callers cannot be told apart, so they are bounded by
+ * the global capacity and queue only, rather than sharing one per-principal allowance.
+ * Requests that cannot be admitted fail with {@link TooManyRequestsException}, which is
+ * rendered as {@code 429 Too Many Requests}.
+ *
+ * <p>Waiting happens on the calling thread, which for exports is a servlet container thread.
+ * The queue timeout should therefore stay short: rejecting quickly with {@code 429} keeps the
+ * container responsive, while a long wait lets a burst of exports exhaust its thread pool.
+ */
+public class ExportAdmissionController {
+
+    /** Default capacity units per format. */
+    public static final Map<String, Integer> DEFAULT_WEIGHTS =
+            Map.of("csv", 1, "json", 1, "ndjson", 1, "smile", 1, "cbor", 1, "xlsx", 3);
+
+    private final int capacity;
+    private final int maxPerPrincipal;
+    private final int maxQueued;
+    private final Duration queueTimeout;
+    private final Map<String, Integer> weights;
+
+    private final Semaphore slots;
+    private final Map<String, Integer> activePerPrincipal = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates an admission controller.
+     *
+     * @param capacity the total capacity units shared by all running exports
+     * @param maxPerPrincipal the maximum number of running or waiting exports per principal
+     * @param maxQueued the maximum number of requests waiting for capacity
+     * @param queueTimeout how long a request may wait for capacity
+     * @param weights capacity units per format; formats not listed weigh 1
+     */
+    public ExportAdmissionController(int capacity, int maxPerPrincipal, int maxQueued,
+                                     Duration queueTimeout, Map<String, Integer> weights) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Export capacity must be positive: " + capacity);
+        }
+        if (maxPerPrincipal <= 0) {
+            throw new IllegalArgumentException("Exports per principal must be positive: " + maxPerPrincipal);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Export queue size must not be negative: " + maxQueued);
+        }
+        if (queueTimeout == null || queueTimeout.isNegative()) {
+            throw new IllegalArgumentException("Export queue timeout must not be negative: " + queueTimeout);
+        }
+        this.capacity = capacity;
+        this.maxPerPrincipal = maxPerPrincipal;
+        this.maxQueued = maxQueued;
+        this.queueTimeout = queueTimeout;
+        this.weights = weights == null ? DEFAULT_WEIGHTS : Map.copyOf(weights);
+        this.slots = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Admits an export for the principal of the current security context. Unauthenticated
+     * and anonymous callers are not subject to the per-principal limit.
+     *
+     * @param format the export format
+     * @return the permit to close once the export has finished streaming
+     * @throws TooManyRequestsException if the export cannot be admitted
+     */
+    public Permit acquire(String format) {
+        return acquire(currentPrincipal(), format);
+    }
+
+    /**
+     * Admits an export, waiting in the queue when no capacity is available.
+     *
+     * @param principal the principal name, used for the per-principal limit;
+     *                  null for an anonymous caller, who is only bound by the global capacity
+     * @param format the export format
+     * @return the permit to close once the export has finished streaming
+     * @throws TooManyRequestsException if the export cannot be admitted
+     */
+    public Permit acquire(String principal, String format) {
+        if (principal != null && !reservePrincipal(principal)) {
+            rejected.increment();
+            throw new TooManyRequestsException(
+                    "Too many concurrent exports for this user; at most " + maxPerPrincipal + " allowed");
+        }
+        int weight = weightOf(format);
+        try {
+            if (!acquireSlots(weight)) {
+                releasePrincipal(principal);
+                rejected.increment();
+                throw new TooManyRequestsException("Export capacity exhausted; try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releasePrincipal(principal);
+            rejected.increment();
+            throw new TooManyRequestsException("Interrupted while waiting for export capacity");
+        }
+        running.incrementAndGet();
+        admitted.increment();
+        return new Permit(principal, weight);
+    }
+
+    /**
+     * Returns the capacity units a format takes, capped at the total capacity.
+     *
+     * @param format the export format
+     * @return the weight of the format
+     */
+    public int weightOf(String format) {
+        String key = format == null ? "" : format.toLowerCase(Locale.ROOT);
+        int weight = weights.getOrDefault(key, 1);
+        return Math.max(1, Math.min(weight, capacity));
+    }
+
+    /** Returns the number of exports currently streaming. */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /** Returns the number of requests waiting for capacity. */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /** Returns the capacity units not in use. */
+    public int getAvailableCapacity() {
+        return slots.availablePermits();
+    }
+
+    /** Returns the total number of admitted exports. */
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    /** Returns the total number of rejected exports. */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private boolean acquireSlots(int weight) throws InterruptedException {
+        // A zero timeout still honours the fair ordering of already queued requests
+        if (slots.tryAcquire(weight, 0, TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return false;
+        }
+        try {
+            return slots.tryAcquire(weight, queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean reservePrincipal(String principal) {
+        boolean[] reserved = new boolean[1];
+        activePerPrincipal.compute(principal, (key, active) -> {
+            int count = active == null ? 0 : active;
+            if (count >= maxPerPrincipal) {
+                return active;
+            }
+            reserved[0] = true;
+            return count + 1;
+        });
+        return reserved[0];
+    }
+
+    private void releasePrincipal(String principal) {
+        if (principal == null) {
+            return;
+        }
+        activePerPrincipal.computeIfPresent(principal, (key, active) -> active <= 1 ? null : active - 1);
+    }
+
+    private static String currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    /**
+     * Capacity held by an admitted export. Closing it more than once has no effect.
+     */
+    public final class Permit implements AutoCloseable {
+        private final String principal;
+        private final int weight;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String principal, int weight) {
+            this.principal = principal;
+            this.weight = weight;
+        }
+
+        /** Returns the capacity units held by this permit. */
+        public int getWeight() {
+            return weight;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                running.decrementAndGet();
+                slots.release(weight);
+                releasePrincipal(principal);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Settings and helpers for compressing export streams.
+ *
+ * <p>The encoding is either requested explicitly (for example {@code ?compression=gzip})
+ * or negotiated from the client's {@code Accept-Encoding} header. The returned stream uses
+ * sync-flush mode, so flushing it at chunk boundaries pushes the rows written so far to the
+ * client instead of holding them in the deflater until the export completes.
+ */
+public final class ExportCompression {
+
+    /** Default compression level, balancing CPU cost against output size. */
+    public static final int DEFAULT_LEVEL = 6;
+
+    /** Default size of the deflater output buffer in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Content encodings supported for exports.
+     */
+    public enum Encoding {
+        /** {@code Content-Encoding: gzip}. */
+        GZIP("gzip"),
+        /** {@code Content-Encoding: deflate} (zlib wrapped). */
+        DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        /**
+         * Returns the HTTP token for this encoding.
+         *
+         * @return the token used in {@code Accept-Encoding} and {@code Content-Encoding}
+         */
+        public String token() {
+            return token;
+        }
+
+        /**
+         * Resolves an encoding from its HTTP token.
+         *
+         * @param token the token, case-insensitive
+         * @return the matching encoding, or {@code null} if unsupported
+         */
+        public static Encoding fromToken(String token) {
+            if (token == null) {
+                return null;
+            }
+            String normalized = token.trim().toLowerCase(Locale.ROOT);
+            for (Encoding encoding : values()) {
+                if (encoding.token.equals(normalized)) {
+                    return encoding;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final boolean enabled;
+    private final int level;
+    private final int bufferSize;
+
+    /**
+     * Creates compression settings.
+     *
+     * @param enabled whether exports may be compressed at all
+     * @param level the deflater level, {@code 0} (none) to {@code 9} (best)
+     * @param bufferSize the deflater output buffer size in bytes
+     */
+    public ExportCompression(boolean enabled, int level, int bufferSize) {
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9: " + level);
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Compression buffer size must be positive: " + bufferSize);
+        }
+        this.enabled = enabled;
+        this.level = level;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns settings that never compress.
+     *
+     * @return disabled compression settings
+     */
+    public static ExportCompression disabled() {
+        return new ExportCompression(false, DEFAULT_LEVEL, DEFAULT_BUFFER_SIZE);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Checks whether an explicitly requested compression value is valid.
+     *
+     * @param requested the value of the {@code compression} parameter, may be {@code null}
+     * @return true if the value is absent, {@code none}/{@code identity} or a supported encoding
+     */
+    public static boolean isValidRequest(String requested) {
+        return requested == null
+                || requested.isBlank()
+                || isIdentity(requested)
+                || Encoding.fromToken(requested) != null;
+    }
+
+    /**
+     * Selects the encoding for an export response.
+     * An explicit request takes precedence over the {@code Accept-Encoding} header;
+     * {@code none} or {@code identity} disables compression.
+     *
+     * @param requested the value of the {@code compression} parameter, may be {@code null}
+     * @param acceptEncoding the {@code Accept-Encoding} header, may be {@code null}
+     * @return the encoding to apply, or {@code null} to send the export uncompressed
+     */
+    public Encoding negotiate(String requested, String acceptEncoding) {
+        if (!enabled) {
+            return null;
+        }
+        if (requested != null && !requested.isBlank()) {
+            return isIdentity(requested) ? null : Encoding.fromToken(requested);
+        }
+        return fromAcceptEncoding(acceptEncoding);
+    }
+
+    /**
+     * Wraps the output stream in a sync-flushing compressor for the given encoding.
+     * Closing the returned stream finishes the compressed stream and closes {@code out}.
+     *
+     * @param out the stream to write compressed bytes to
+     * @param encoding the encoding to apply
+     * @return the compressing stream
+     * @throws IOException if the compressor cannot write its header
+     */
+    public OutputStream wrap(OutputStream out, Encoding encoding) throws IOException {
+        return switch (encoding) {
+            case GZIP -> new LeveledGzipOutputStream(out, bufferSize, level);
+            case DEFLATE -> new OwnedDeflaterOutputStream(out, new Deflater(level), bufferSize);
+        };
+    }
+
+    private static boolean isIdentity(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return "none".equals(normalized) || "identity".equals(normalized);
+    }
+
+    /**
+     * Picks the supported encoding with the highest quality value.
+     * On equal quality gzip wins, as it is the most widely supported.
+     */
+    private static Encoding fromAcceptEncoding(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        Encoding best = null;
+        double bestQuality = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] pieces = part.split(";");
+            String token = pieces[0].trim();
+            double quality = parseQuality(pieces);
+            if (quality <= 0) {
+                continue;
+            }
+            Encoding candidate = "*".equals(token) ? Encoding.GZIP : Encoding.fromToken(token);
+            if (candidate == null) {
+                continue;
+            }
+            if (quality > bestQuality
+                    || (quality == bestQuality && candidate.ordinal() < best.ordinal())) {
+                best = candidate;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private static double parseQuality(String[] pieces) {
+        for (int i = 1; i < pieces.length; i++) {
+            String param = pieces[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Gzip stream with a configurable level and sync flush enabled.
+     */
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int bufferSize, int level) throws IOException {
+            super(out, bufferSize, true);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * Deflater stream that releases its own deflater on close.
+     */
+    private static final class OwnedDeflaterOutputStream extends DeflaterOutputStream {
+        private boolean released;
+
+        OwnedDeflaterOutputStream(OutputStream out, Deflater deflater, int bufferSize) {
+            super(out, deflater, bufferSize, true);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!released) {
+                    released = true;
+                    def.end();
+                }
+            }
+        }
+    }
+}
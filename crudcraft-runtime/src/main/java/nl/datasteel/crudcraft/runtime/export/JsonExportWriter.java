@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Writes export rows as a JSON array or as newline-delimited JSON directly to a
+ * {@link JsonGenerator}.
+ *
+ * <p>Rows are serialized one at a time into a single generator, so its buffers are reused for
+ * the whole export and no intermediate map is built per row. {@link ExportRequest} include and
+ * exclude rules are applied while writing through a token filter. The generator is flushed
+ * every {@code flushEvery} rows rather than after every value.
+ *
+ * <p>A writer created from a binary mapper, such as Smile or CBOR, writes the same structure
+ * in that encoding; its NDJSON layout is a sequence of root values without separators.
+ */
+public final class JsonExportWriter {
+
+    /** Default number of rows written between flushes. */
+    public static final int DEFAULT_FLUSH_EVERY = 100;
+
+    /**
+     * Output layout.
+     */
+    public enum Layout {
+        /** A single JSON array of rows. */
+        ARRAY,
+        /** One JSON document per line ({@code application/x-ndjson}). */
+        NDJSON
+    }
+
+    /**
+     * Writes a single row to the generator.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    public interface RowWriter<T> {
+        /**
+         * Writes the row as one JSON value.
+         *
+         * @param row the row to write
+         * @param gen the generator to write to
+         * @throws IOException if writing fails
+         */
+        void write(T row, JsonGenerator gen) throws IOException;
+    }
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a writer that serializes rows with a copy of the given mapper.
+     * The copy does not flush after each value; flushing is controlled by the writer.
+     *
+     * @param mapper the mapper whose modules and settings to use
+     */
+    public JsonExportWriter(ObjectMapper mapper) {
+        this.mapper = mapper.copy().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes DTO rows, applying the export request's field rules while serializing.
+     * Without an explicit {@code maxDepth} the DTO structure is written in full.
+     *
+     * @param dtos the rows to write
+     * @param out the stream to write to; closed when the export completes
+     * @param exportRequest the field rules (null for no filtering)
+     * @param layout the output layout
+     * @param flushEvery the number of rows between flushes, must be positive
+     * @param <R> the DTO type
+     * @throws IOException if writing fails
+     */
+    public <R> void writeDtos(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                              Layout layout, int flushEvery) throws IOException {
+        if (exportRequest == null) {
+            write(dtos, out, layout, flushEvery, (dto, gen) -> gen.writeObject(dto));
+            return;
+        }
+        int maxDepth = exportRequest.getMaxDepth() != null
+                ? exportRequest.getEffectiveMaxDepth()
+                : Integer.MAX_VALUE;
+        TokenFilter rootFilter = new FieldFilter(exportRequest, "", true, 0, maxDepth, true);
+        write(dtos, out, layout, flushEvery, (dto, gen) -> new FilteringGeneratorDelegate(
+                gen, rootFilter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true).writeObject(dto));
+    }
+
+    /**
+     * Writes rows with a custom row writer.
+     *
+     * @param rows the rows to write
+     * @param out the stream to write to; closed when the export completes
+     * @param layout the output layout
+     * @param flushEvery the number of rows between flushes, must be positive
+     * @param rowWriter writes a single row as one JSON value
+     * @param <T> the row type
+     * @throws IOException if writing fails
+     */
+    public <T> void write(Iterator<T> rows, OutputStream out, Layout layout, int flushEvery,
+                          RowWriter<T> rowWriter) throws IOException {
+        if (flushEvery <= 0) {
+            throw new IllegalArgumentException("flushEvery must be positive: " + flushEvery);
+        }
+        boolean text = JsonFactory.FORMAT_NAME_JSON.equals(mapper.getFactory().getFormatName());
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            if (text) {
+                gen.setRootValueSeparator(null);
+            }
+            if (layout == Layout.ARRAY) {
+                gen.writeStartArray();
+            }
+            int written = 0;
+            while (rows.hasNext()) {
+                rowWriter.write(rows.next(), gen);
+                if (layout == Layout.NDJSON && text) {
+                    gen.writeRaw('\n');
+                }
+                if (++written % flushEvery == 0) {
+                    gen.flush();
+                }
+            }
+            if (layout == Layout.ARRAY) {
+                gen.writeEndArray();
+            }
+            gen.flush();
+        }
+    }
+
+    /**
+     * Token filter applying {@link ExportRequest} rules by dot-separated field path.
+     * Scalars, nulls and empty arrays are kept only when the field itself is included;
+     * objects are kept when at least one of their fields is. Objects nested deeper than
+     * {@code maxDepth} are dropped.
+     */
+    private static final class FieldFilter extends TokenFilter {
+        private final ExportRequest exportRequest;
+        private final String path;
+        private final boolean included;
+        private final int depth;
+        private final int maxDepth;
+        private final boolean root;
+
+        FieldFilter(ExportRequest exportRequest, String path, boolean included,
+                    int depth, int maxDepth, boolean root) {
+            this.exportRequest = exportRequest;
+            this.path = path;
+            this.included = included;
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+            this.root = root;
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            String fieldPath = path.isEmpty() ? name : path + "." + name;
+            boolean include = exportRequest.shouldIncludeField(fieldPath);
+            if (!include && !exportRequest.hasIncludedDescendants(fieldPath)) {
+                return null;
+            }
+            return new FieldFilter(exportRequest, fieldPath, include, depth, maxDepth, false);
+        }
+
+        @Override
+        public TokenFilter includeElement(int index) {
+            return this;
+        }
+
+        @Override
+        public TokenFilter filterStartArray() {
+            return this;
+        }
+
+        @Override
+        public TokenFilter filterStartObject() {
+            if (root) {
+                return this;
+            }
+            if (depth + 1 > maxDepth) {
+                return null;
+            }
+            return new FieldFilter(exportRequest, path, included, depth + 1, maxDepth, false);
+        }
+
+        @Override
+        public boolean includeNull() {
+            return included;
+        }
+
+        @Override
+        public boolean includeEmptyArray(boolean contentsFiltered) {
+            return included && !contentsFiltered;
+        }
+
+        @Override
+        public boolean includeEmptyObject(boolean contentsFiltered) {
+            return root;
+        }
+
+        @Override
+        protected boolean _includeScalar() {
+            return included;
+        }
+    }
+}
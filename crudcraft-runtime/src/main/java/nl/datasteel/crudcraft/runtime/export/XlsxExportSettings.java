@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+/**
+ * Settings for the streaming XLSX writer.
+ *
+ * <p>Only {@code windowSize} rows are kept in memory; older rows are flushed to a temporary
+ * file that is optionally gzip-compressed. Strings are written inline by default so no shared
+ * strings table accumulates in memory. Sheets roll over to a new sheet once they reach
+ * {@code maxRowsPerSheet} rows, including the header row.
+ */
+public final class XlsxExportSettings {
+
+    /** Maximum number of rows on a single sheet in the XLSX format. */
+    public static final int MAX_SHEET_ROWS = 1_048_576;
+
+    /** Default number of rows kept in memory before flushing to the temp file. */
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+
+    private final int windowSize;
+    private final boolean compressTempFiles;
+    private final boolean inlineStrings;
+    private final int maxRowsPerSheet;
+
+    /**
+     * Creates XLSX settings that roll over at the XLSX sheet limit.
+     *
+     * @param windowSize the number of rows kept in memory, must be positive
+     * @param compressTempFiles whether temp files are gzip-compressed
+     * @param inlineStrings whether strings are written inline instead of to a shared table
+     */
+    public XlsxExportSettings(int windowSize, boolean compressTempFiles, boolean inlineStrings) {
+        this(windowSize, compressTempFiles, inlineStrings, MAX_SHEET_ROWS);
+    }
+
+    /**
+     * Creates XLSX settings.
+     *
+     * @param windowSize the number of rows kept in memory, must be positive
+     * @param compressTempFiles whether temp files are gzip-compressed
+     * @param inlineStrings whether strings are written inline instead of to a shared table
+     * @param maxRowsPerSheet rows per sheet including the header, between 2 and {@link #MAX_SHEET_ROWS}
+     */
+    public XlsxExportSettings(int windowSize, boolean compressTempFiles, boolean inlineStrings,
+                              int maxRowsPerSheet) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("XLSX window size must be positive: " + windowSize);
+        }
+        if (maxRowsPerSheet < 2 || maxRowsPerSheet > MAX_SHEET_ROWS) {
+            throw new IllegalArgumentException(
+                    "XLSX rows per sheet must be between 2 and " + MAX_SHEET_ROWS + ": " + maxRowsPerSheet);
+        }
+        this.windowSize = windowSize;
+        this.compressTempFiles = compressTempFiles;
+        this.inlineStrings = inlineStrings;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+    }
+
+    /**
+     * Returns the default settings: a 100 row window, compressed temp files and inline strings.
+     *
+     * @return the default settings
+     */
+    public static XlsxExportSettings defaults() {
+        return new XlsxExportSettings(DEFAULT_WINDOW_SIZE, true, true);
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    public boolean isInlineStrings() {
+        return inlineStrings;
+    }
+
+    public int getMaxRowsPerSheet() {
+        return maxRowsPerSheet;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.fields;
+
+import java.util.List;
+
+/**
+ * Describes which properties of a response DTO can be requested in a sparse fieldset
+ * ({@code ?fields=...}) and which entity attribute each one is read from.
+ * The projection module provides an implementation backed by the generated projection
+ * metadata; types a catalog does not know are described by {@link ReflectiveFieldCatalog}.
+ */
+public interface FieldCatalog {
+
+    /**
+     * Returns the selectable properties of a DTO type.
+     *
+     * @param dtoType the DTO type
+     * @return the properties in declaration order, or null when this catalog has no
+     *     information about the type
+     */
+    List<Property> properties(Class<?> dtoType);
+
+    /**
+     * A DTO property with the entity attribute it is mapped from.
+     *
+     * @param name the DTO property name, as it appears in the JSON response
+     * @param entityPath the entity attribute path, relative to the owning entity
+     * @param type the declared DTO property type
+     * @param collection whether the property holds a collection
+     */
+    record Property(String name, String entityPath, Class<?> type, boolean collection) {
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.fields;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import nl.datasteel.crudcraft.runtime.exception.BadRequestException;
+import nl.datasteel.crudcraft.runtime.security.FieldSecurityUtil;
+
+/**
+ * A sparse fieldset requested with {@code ?fields=id,title,author.name}.
+ * Paths name response DTO properties; nested DTO properties are addressed with dots, and
+ * naming a nested DTO selects all of its single-valued properties. Collections cannot be
+ * selected, because they cannot be read in the same query as the row.
+ */
+public final class FieldSelection {
+
+    /** The request parameter carrying the fieldset. */
+    public static final String PARAMETER = "fields";
+
+    /** The maximum number of paths in one fieldset. */
+    static final int MAX_PATHS = 64;
+
+    /** The maximum number of segments in a path, and the depth nested DTOs expand to. */
+    static final int MAX_DEPTH = 4;
+
+    private static final Pattern SEGMENT = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private final List<String> paths;
+
+    private FieldSelection(List<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Parses a comma separated fieldset. Blank entries are ignored and duplicates removed.
+     *
+     * @param fields the parameter value
+     * @return the selection
+     * @throws BadRequestException if the value is empty, too long or malformed
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new BadRequestException("The fields parameter must name at least one field");
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (String raw : fields.split(",")) {
+            String path = raw.strip();
+            if (path.isEmpty()) {
+                continue;
+            }
+            String[] segments = path.split("\\.", -1);
+            if (segments.length > MAX_DEPTH) {
+                throw new BadRequestException("Field '" + path + "' is nested deeper than "
+                        + MAX_DEPTH + " levels");
+            }
+            for (String segment : segments) {
+                if (!SEGMENT.matcher(segment).matches()) {
+                    throw new BadRequestException("Invalid field '" + path + "'");
+                }
+            }
+            paths.add(path);
+        }
+        if (paths.isEmpty()) {
+            throw new BadRequestException("The fields parameter must name at least one field");
+        }
+        if (paths.size() > MAX_PATHS) {
+            throw new BadRequestException("At most " + MAX_PATHS + " fields can be selected");
+        }
+        return new FieldSelection(List.copyOf(paths));
+    }
+
+    /**
+     * Returns the requested paths in request order.
+     *
+     * @return the dotted paths
+     */
+    public List<String> paths() {
+        return paths;
+    }
+
+    /**
+     * Qualifies an entity version with this selection, so the entity tags of different
+     * fieldsets of the same entity version differ.
+     *
+     * @param entityVersion the entity version, may be null
+     * @return the qualified version, or null when the entity version is null
+     */
+    public String version(String entityVersion) {
+        return entityVersion == null
+                ? null
+                : entityVersion + '-' + Integer.toHexString(paths.hashCode());
+    }
+
+    /**
+     * Validates the selection against a response DTO type and resolves it to the values to
+     * read, expanding nested DTOs and applying field security.
+     *
+     * @param dtoType the response DTO type
+     * @param catalog the catalog describing DTO properties (null for reflection only)
+     * @return the values to read, in request order
+     * @throws BadRequestException if a path names an unknown or collection property
+     */
+    public List<SelectedField> resolve(Class<?> dtoType, FieldCatalog catalog) {
+        Map<String, SelectedField> selected = new LinkedHashMap<>();
+        for (String path : paths) {
+            Class<?> owner = dtoType;
+            List<String> names = new ArrayList<>();
+            List<String> entityPath = new ArrayList<>();
+            boolean readable = true;
+            String[] segments = path.split("\\.");
+            for (int i = 0; i < segments.length; i++) {
+                FieldCatalog.Property property = property(owner, segments[i], catalog);
+                if (property == null) {
+                    throw new BadRequestException("Unknown field '" + path + "'");
+                }
+                if (property.collection()) {
+                    throw new BadRequestException("Collection field '" + path
+                            + "' cannot be selected");
+                }
+                readable &= FieldSecurityUtil.canReadField(owner, property.name());
+                names.add(property.name());
+                entityPath.addAll(List.of(property.entityPath().split("\\.")));
+                boolean last = i == segments.length - 1;
+                if (isValue(property.type())) {
+                    if (!last) {
+                        throw new BadRequestException("Field '" + path + "' has no nested fields");
+                    }
+                    put(selected, new SelectedField(names, entityPath, readable));
+                } else if (last) {
+                    expand(selected, property.type(), names, entityPath, readable, catalog);
+                } else {
+                    owner = property.type();
+                }
+            }
+        }
+        return List.copyOf(selected.values());
+    }
+
+    private static void expand(Map<String, SelectedField> selected, Class<?> type,
+                               List<String> names, List<String> entityPath, boolean readable,
+                               FieldCatalog catalog) {
+        for (FieldCatalog.Property property : properties(type, catalog)) {
+            if (property.collection()) {
+                continue;
+            }
+            List<String> childNames = new ArrayList<>(names);
+            childNames.add(property.name());
+            List<String> childPath = new ArrayList<>(entityPath);
+            childPath.addAll(List.of(property.entityPath().split("\\.")));
+            boolean childReadable = readable
+                    && FieldSecurityUtil.canReadField(type, property.name());
+            if (isValue(property.type())) {
+                put(selected, new SelectedField(childNames, childPath, childReadable));
+            } else if (childNames.size() < MAX_DEPTH) {
+                expand(selected, property.type(), childNames, childPath, childReadable, catalog);
+            }
+        }
+    }
+
+    private static void put(Map<String, SelectedField> selected, SelectedField field) {
+        selected.putIfAbsent(field.path(), field);
+    }
+
+    private static FieldCatalog.Property property(Class<?> type, String name,
+                                                  FieldCatalog catalog) {
+        for (FieldCatalog.Property property : properties(type, catalog)) {
+            if (property.name().equals(name)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static List<FieldCatalog.Property> properties(Class<?> type, FieldCatalog catalog) {
+        List<FieldCatalog.Property> properties = catalog == null ? null : catalog.properties(type);
+        return properties != null ? properties : ReflectiveFieldCatalog.INSTANCE.properties(type);
+    }
+
+    /**
+     * Returns whether a property type is a single value rather than a nested DTO.
+     */
+    private static boolean isValue(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || type.isArray()
+                || type.getName().startsWith("java.");
+    }
+
+    /**
+     * Builds the response row for query results, nesting values by their DTO path.
+     * Unreadable values are null.
+     *
+     * @param fields the resolved fields
+     * @param values the selected values, one per readable field in order
+     * @return the row
+     */
+    public static Map<String, Object> row(List<SelectedField> fields, List<?> values) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int column = 0;
+        for (SelectedField field : fields) {
+            put(row, field, field.readable() ? values.get(column++) : null);
+        }
+        return row;
+    }
+
+    /**
+     * Builds the response row from a loaded DTO, for when the selection cannot be pushed
+     * down to the query. The DTO is expected to be filtered for reading already.
+     *
+     * @param fields the resolved fields
+     * @param dto the DTO
+     * @return the row
+     */
+    public static Map<String, Object> row(List<SelectedField> fields, Object dto) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (SelectedField field : fields) {
+            put(row, field, field.readable() ? read(dto, field.names()) : null);
+        }
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> row, SelectedField field, Object value) {
+        Map<String, Object> target = row;
+        List<String> names = field.names();
+        for (int i = 0; i < names.size() - 1; i++) {
+            target = (Map<String, Object>) target.computeIfAbsent(names.get(i),
+                    k -> new LinkedHashMap<String, Object>());
+        }
+        target.put(names.getLast(), value);
+    }
+
+    private static Object read(Object value, List<String> names) {
+        for (String name : names) {
+            if (value == null) {
+                return null;
+            }
+            value = readField(value, name);
+        }
+        return value;
+    }
+
+    private static Object readField(Object target, String name) {
+        for (Class<?> c = target.getClass(); c != null && c != Object.class;
+             c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(target);
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return null;
+    }
+}
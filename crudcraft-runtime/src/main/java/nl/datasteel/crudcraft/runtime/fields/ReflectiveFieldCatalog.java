@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.fields;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field catalog that reads the declared fields of a DTO type, assuming each DTO property
+ * is mapped from the entity attribute of the same name, as generated mappers do.
+ */
+public final class ReflectiveFieldCatalog implements FieldCatalog {
+
+    /** Shared instance; the catalog is stateless apart from its cache. */
+    public static final ReflectiveFieldCatalog INSTANCE = new ReflectiveFieldCatalog();
+
+    private static final ClassValue<List<Property>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<Property> computeValue(Class<?> type) {
+            List<Property> properties = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(f.getModifiers()) && !f.isSynthetic()) {
+                        properties.add(new Property(f.getName(), f.getName(), f.getType(),
+                                isCollection(f.getType())));
+                    }
+                }
+            }
+            return List.copyOf(properties);
+        }
+    };
+
+    private ReflectiveFieldCatalog() {
+    }
+
+    @Override
+    public List<Property> properties(Class<?> dtoType) {
+        return PROPERTIES.get(dtoType);
+    }
+
+    /**
+     * Returns whether a property type holds several values: collections, maps and arrays
+     * of objects. Primitive arrays such as {@code byte[]} are single values.
+     *
+     * @param type the property type
+     * @return true for multi-valued types
+     */
+    public static boolean isCollection(Class<?> type) {
+        return Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)
+                || type.isArray() && !type.getComponentType().isPrimitive();
+    }
+}
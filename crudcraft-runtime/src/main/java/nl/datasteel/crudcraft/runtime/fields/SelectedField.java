@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.fields;
+
+import java.util.List;
+
+/**
+ * A single value of a resolved sparse fieldset.
+ *
+ * @param names the DTO property names leading to the value, e.g. {@code [author, name]}
+ * @param entityPath the entity attribute path the value is read from
+ * @param readable whether field security lets the current user read the value; unreadable
+ *     values are not queried and are returned as null, like {@code filterRead} redacts them
+ */
+public record SelectedField(List<String> names, List<String> entityPath, boolean readable) {
+
+    /**
+     * Copies the paths.
+     */
+    public SelectedField {
+        names = List.copyOf(names);
+        entityPath = List.copyOf(entityPath);
+    }
+
+    /**
+     * Returns the dotted DTO path of the value.
+     *
+     * @return the path, e.g. {@code author.name}
+     */
+    public String path() {
+        return String.join(".", names);
+    }
+}
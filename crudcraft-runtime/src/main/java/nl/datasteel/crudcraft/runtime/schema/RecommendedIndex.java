@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.schema;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A composite index CrudCraft recommends for an entity table, with its columns in order.
+ *
+ * @param table the table name
+ * @param name the suggested index name
+ * @param columns the indexed columns, leading column first
+ */
+public record RecommendedIndex(String table, String name, List<String> columns) {
+
+    /**
+     * Validates the components and copies the column list.
+     */
+    public RecommendedIndex {
+        Objects.requireNonNull(table, "table must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+        columns = List.copyOf(columns);
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("An index needs at least one column");
+        }
+    }
+
+    /**
+     * Returns whether an existing index serves this recommendation, i.e. whether the
+     * recommended columns form a prefix of the existing index columns. Names are compared
+     * case-insensitively because databases differ in how they fold unquoted identifiers.
+     *
+     * @param indexColumns the columns of an existing index, in order
+     * @return true if the existing index covers this recommendation
+     */
+    public boolean isCoveredBy(List<String> indexColumns) {
+        if (indexColumns.size() < columns.size()) {
+            return false;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (!columns.get(i).equalsIgnoreCase(indexColumns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the DDL that creates this index.
+     *
+     * @return a {@code CREATE INDEX} statement
+     */
+    public String toDdl() {
+        return "CREATE INDEX " + name + " ON " + table + " (" + String.join(", ", columns) + ");";
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.schema;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares generated {@link RecommendedIndexes} against the live schema through JDBC
+ * {@link DatabaseMetaData} and logs a warning with the DDL for every recommendation that
+ * no existing index covers. Verification never fails startup: metadata errors are logged
+ * and the affected tables are skipped.
+ */
+public class RecommendedIndexVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendedIndexVerifier.class);
+
+    private final DataSource dataSource;
+
+    /**
+     * Creates a verifier reading metadata from the given data source.
+     *
+     * @param dataSource the data source of the entities
+     */
+    public RecommendedIndexVerifier(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+    }
+
+    /**
+     * Verifies the generated recommendations of the given entity types.
+     *
+     * @param entityTypes the managed entity types
+     * @return the recommendations that no existing index covers
+     */
+    public List<RecommendedIndex> verifyEntities(Collection<Class<?>> entityTypes) {
+        List<RecommendedIndex> recommended = new ArrayList<>();
+        for (Class<?> type : entityTypes) {
+            RecommendedIndexes indexes = RecommendedIndexes.find(type);
+            if (indexes != null) {
+                recommended.addAll(indexes.indexes());
+            }
+        }
+        return verify(recommended);
+    }
+
+    /**
+     * Verifies recommendations against the live schema and warns about missing indexes.
+     *
+     * @param recommended the recommended indexes
+     * @return the recommendations that no existing index covers
+     */
+    public List<RecommendedIndex> verify(Collection<RecommendedIndex> recommended) {
+        if (recommended.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<RecommendedIndex>> byTable = new LinkedHashMap<>();
+        for (RecommendedIndex index : recommended) {
+            byTable.computeIfAbsent(index.table(), t -> new ArrayList<>()).add(index);
+        }
+        List<RecommendedIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<RecommendedIndex>> entry : byTable.entrySet()) {
+                missing.addAll(verifyTable(metaData, connection, entry.getKey(), entry.getValue()));
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not verify recommended indexes: {}", e.getMessage());
+            return List.of();
+        }
+        for (RecommendedIndex index : missing) {
+            logger.warn("No index on {} leads with ({}); row-security filtered queries may scan "
+                    + "the table. Suggested DDL: {}", index.table(),
+                    String.join(", ", index.columns()), index.toDdl());
+        }
+        return missing;
+    }
+
+    private List<RecommendedIndex> verifyTable(DatabaseMetaData metaData, Connection connection,
+                                               String table, List<RecommendedIndex> recommended)
+            throws SQLException {
+        Collection<List<String>> existing = existingIndexes(metaData, connection, table);
+        if (existing == null) {
+            logger.debug("Table {} not found; skipping index verification", table);
+            return List.of();
+        }
+        List<RecommendedIndex> missing = new ArrayList<>();
+        for (RecommendedIndex index : recommended) {
+            if (existing.stream().noneMatch(index::isCoveredBy)) {
+                missing.add(index);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Reads the columns of every index on a table, trying the name as given and in the
+     * upper and lower case databases fold unquoted identifiers to.
+     *
+     * @return the index columns in order, or null when the table does not exist
+     */
+    private Collection<List<String>> existingIndexes(DatabaseMetaData metaData,
+                                                     Connection connection, String table)
+            throws SQLException {
+        Set<String> candidates = new LinkedHashSet<>(List.of(table,
+                table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)));
+        for (String candidate : candidates) {
+            if (!tableExists(metaData, connection, candidate)) {
+                continue;
+            }
+            Map<String, TreeMap<Short, String>> indexes = new LinkedHashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(),
+                    connection.getSchema(), candidate, false, true)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (name != null && column != null) {
+                        indexes.computeIfAbsent(name, n -> new TreeMap<>())
+                                .put(rs.getShort("ORDINAL_POSITION"), column);
+                    }
+                }
+            }
+            return indexes.values().stream().map(columns -> List.copyOf(columns.values())).toList();
+        }
+        return null;
+    }
+
+    private boolean tableExists(DatabaseMetaData metaData, Connection connection, String table)
+            throws SQLException {
+        try (ResultSet rs = metaData.getTables(connection.getCatalog(), connection.getSchema(),
+                table, null)) {
+            return rs.next();
+        }
+    }
+}
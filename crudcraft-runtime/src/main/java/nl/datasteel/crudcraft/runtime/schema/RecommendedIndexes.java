@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.schema;
+
+import java.util.List;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessors;
+
+/**
+ * Index recommendations generated for one entity. The recommendations of
+ * {@code com.example.Post} are found by convention in {@code com.example.meta.PostIndexes}.
+ */
+public interface RecommendedIndexes {
+
+    /**
+     * Suffix appended to the entity name to form the name of the generated class.
+     */
+    String SUFFIX = "Indexes";
+
+    /**
+     * Returns the entity type the recommendations apply to.
+     *
+     * @return the entity type
+     */
+    Class<?> entityType();
+
+    /**
+     * Returns the recommended indexes.
+     *
+     * @return the recommended indexes, never null
+     */
+    List<RecommendedIndex> indexes();
+
+    /**
+     * Loads the generated recommendations of an entity type.
+     *
+     * @param type the entity type
+     * @return the recommendations, or {@code null} if none were generated
+     */
+    static RecommendedIndexes find(Class<?> type) {
+        if (type == null || type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+        String name = type.getPackageName() + "." + EntityAccessors.META_PACKAGE + "."
+                + type.getSimpleName() + SUFFIX;
+        try {
+            Class<?> generated = Class.forName(name, true, type.getClassLoader());
+            if (!RecommendedIndexes.class.isAssignableFrom(generated)) {
+                return null;
+            }
+            RecommendedIndexes indexes =
+                    (RecommendedIndexes) generated.getDeclaredConstructor().newInstance();
+            return indexes.entityType() == type ? indexes : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            // Nothing generated, e.g. for entities without row security
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to instantiate index recommendations " + name, e);
+        }
+    }
+}
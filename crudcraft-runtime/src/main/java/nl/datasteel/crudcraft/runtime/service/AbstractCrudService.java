@@ -18,26 +18,61 @@ package nl.datasteel.crudcraft.runtime.service;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.Version;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import jakarta.transaction.Transactional;
 import java.beans.Introspector;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import nl.datasteel.crudcraft.annotations.security.RowSecurityHandler;
 import nl.datasteel.crudcraft.runtime.Identified;
 import nl.datasteel.crudcraft.runtime.exception.ResourceNotFoundException;
+import nl.datasteel.crudcraft.runtime.exception.BadRequestException;
+import nl.datasteel.crudcraft.runtime.extensions.AuditableExtension;
+import nl.datasteel.crudcraft.runtime.fields.FieldCatalog;
+import nl.datasteel.crudcraft.runtime.fields.FieldSelection;
+import nl.datasteel.crudcraft.runtime.fields.SelectedField;
 import nl.datasteel.crudcraft.runtime.mapper.EntityMapper;
 import nl.datasteel.crudcraft.runtime.search.SearchRequest;
 import nl.datasteel.crudcraft.runtime.security.FieldSecurityUtil;
+import nl.datasteel.crudcraft.runtime.security.RequestScopedCache;
 import nl.datasteel.crudcraft.runtime.service.strategy.JpaSpecificationExecutionStrategy;
 import nl.datasteel.crudcraft.runtime.service.strategy.QueryExecutionStrategy;
 import nl.datasteel.crudcraft.runtime.service.strategy.QuerydslExecutionStrategy;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
 
 /**
  * Generic abstract base for CRUD operations, with hooks for custom business logic,
@@ -88,6 +123,36 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
      */
     protected static final String ID_ATTRIBUTE = "id";
 
+    /**
+     * Publishes an {@link EntityWriteEvent} after every write operation when available.
+     */
+    @Autowired(required = false)
+    protected ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Used to look up entity versions for conditional reads and to push sparse fieldsets
+     * down to the query when available.
+     */
+    @Autowired(required = false)
+    protected EntityManager entityManager;
+
+    /**
+     * Describes the response DTO properties for sparse fieldsets; reflection is used when
+     * no catalog is available.
+     */
+    @Autowired(required = false)
+    protected FieldCatalog fieldCatalog;
+
+    /**
+     * The attribute path holding the entity version, or null when the entity has none.
+     */
+    private final String versionPath;
+
+    /**
+     * Identifies this service's row-security filters in the request-scoped cache.
+     */
+    private final Object rowSecurityKey = new Object();
+
     /**
      * Constructor to initialize the service with repository, mapper, and entity classes.
      *
@@ -124,9 +189,70 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
                 (JpaSpecificationExecutor<T>) repository);
         }
 
+        this.versionPath = entityClass == null ? null : resolveVersionPath(entityClass);
+
         // TODO: ADD A DYNAMIC WAY TO RETRIEVE ID ATTRIBUTE NAME
     }
 
+    /**
+     * Resolves the attribute that changes on every update: a {@link Version} attribute, or
+     * else the update timestamp of an embedded {@link AuditableExtension}. Entities with
+     * associations or element collections get none, since their responses can change
+     * without the root row changing; their reads are tagged by content instead.
+     *
+     * @param type the entity class
+     * @return the attribute path, or null when the entity is not versioned
+     */
+    static String resolveVersionPath(Class<?> type) {
+        String version = null;
+        String audited = null;
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (isAssociation(field)) {
+                    return null;
+                }
+                if (version == null && field.isAnnotationPresent(Version.class)) {
+                    version = field.getName();
+                }
+                if (audited == null && field.getType() == AuditableExtension.class) {
+                    audited = field.getName() + ".updatedAt";
+                }
+            }
+        }
+        return version != null ? version : audited;
+    }
+
+    private static boolean isAssociation(Field field) {
+        return field.isAnnotationPresent(ManyToOne.class)
+                || field.isAnnotationPresent(OneToOne.class)
+                || field.isAnnotationPresent(OneToMany.class)
+                || field.isAnnotationPresent(ManyToMany.class)
+                || field.isAnnotationPresent(ElementCollection.class);
+    }
+
+    /**
+     * Returns the row-security filters for the current request. They are composed once per
+     * request and service, resolving the principal a single time, and only in the form the
+     * query strategy evaluates: a specification for JPA Specifications, and a predicate for
+     * QueryDSL unless the handlers only provide a specification. Other strategies get both.
+     *
+     * @return the row-security filters, never null
+     */
+    protected RowSecurityFilters<T> rowSecurity() {
+        return RequestScopedCache.get(rowSecurityKey, this::buildRowSecurity);
+    }
+
+    private RowSecurityFilters<T> buildRowSecurity() {
+        if (queryExecutor instanceof JpaSpecificationExecutionStrategy) {
+            return new RowSecurityFilters<>(null, rowSecurityFilter());
+        }
+        Predicate predicate = rowSecurityPredicate();
+        if (queryExecutor instanceof QuerydslExecutionStrategy<?, ?, ?> && predicate != null) {
+            return new RowSecurityFilters<>(predicate, null);
+        }
+        return new RowSecurityFilters<>(predicate, rowSecurityFilter());
+    }
+
     /**
      * Override to provide row-level security filter using QueryDSL.
      */
@@ -169,7 +295,8 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     @SuppressWarnings("unchecked")
     public <P> Page<P> search(SearchRequest<T> request, Pageable pageable, Class<P> projection) {
         Predicate searchPredicate = request == null ? null : request.toPredicate();
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         Predicate finalPred;
 
         if (searchPredicate != null && rowPred != null) {
@@ -178,18 +305,83 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
             finalPred = searchPredicate != null ? searchPredicate : rowPred;
         }
 
-        Specification<T> searchSpec = request == null ? null : request.toSpecification();
-        Specification<T> rowSpec = rowSecurityFilter();
-        Specification<T> spec;
-        if (searchSpec != null && rowSpec != null) {
-            spec = searchSpec.and(rowSpec);
-        } else {
-            spec = searchSpec != null ? searchSpec : rowSpec;
-        }
+        Specification<T> spec = combine(request == null ? null : request.toSpecification(),
+                rowSecurity.specification());
 
         // Use responseClass if projection is null
         Class<P> effectiveProjection = projection != null ? projection : (Class<P>) responseClass;
-        return queryExecutor.findAll(finalPred, spec, pageable, effectiveProjection);
+        return queryExecutor.findAll(finalPred, spec, withIdTiebreaker(pageable),
+                effectiveProjection);
+    }
+
+    /**
+     * Appends the ID to the sort of a paged request unless it already sorts by it.
+     * Without a total order the database may return rows in a different order for each
+     * page, so consecutive pages could skip or repeat rows.
+     *
+     * @param pageable the requested page, may be null
+     * @return the page with a total order, or the pageable itself when unpaged
+     */
+    protected static Pageable withIdTiebreaker(Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()
+                || pageable.getSort().getOrderFor(ID_ATTRIBUTE) != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().and(Sort.by(ID_ATTRIBUTE)));
+    }
+
+    /**
+     * Returns the filter {@link #search} applies, as a single JPA specification:
+     * the search criteria combined with every row-security handler's row filter.
+     * Entity-mode exports run their own criteria queries and use this to filter in SQL
+     * exactly like the regular search does.
+     *
+     * @param request the search request containing criteria (can be null)
+     * @return the combined specification, or null when nothing needs filtering
+     * @throws IllegalStateException if any row-security rule only provides a QueryDSL
+     *                               predicate, which cannot be applied to a criteria query
+     */
+    public Specification<T> searchSpecification(SearchRequest<T> request) {
+        Specification<T> rowSpec = rowSecurityFilter();
+        if (hasPredicateOnlyRowSecurity(rowSpec)) {
+            throw new IllegalStateException("Row security for " + entityClass.getSimpleName()
+                    + " includes a rule that only provides a QueryDSL predicate;"
+                    + " a Specification is required");
+        }
+        return combine(request == null ? null : request.toSpecification(), rowSpec);
+    }
+
+    /**
+     * Returns whether row security includes a rule that {@link #rowSecurityFilter()} does not
+     * express: only {@link #rowSecurityPredicate()} is provided, or one of several handlers
+     * offers a QueryDSL predicate without a specification. A criteria query filtered by
+     * {@code rowSpec} alone would then return rows that rule hides.
+     *
+     * @param rowSpec the specification returned by {@link #rowSecurityFilter()}
+     * @return true if some row security is only available as a QueryDSL predicate
+     */
+    private boolean hasPredicateOnlyRowSecurity(Specification<T> rowSpec) {
+        if (rowSpec == null) {
+            return rowSecurityPredicate() != null;
+        }
+        List<RowSecurityHandler<?>> handlers = rowSecurityHandlers();
+        if (handlers != null) {
+            for (RowSecurityHandler<?> h : handlers) {
+                if (h.rowFilter() == null && h.rowFilterPredicate() != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <T> Specification<T> combine(Specification<T> searchSpec,
+                                                Specification<T> rowSpec) {
+        if (searchSpec != null && rowSpec != null) {
+            return searchSpec.and(rowSpec);
+        }
+        return searchSpec != null ? searchSpec : rowSpec;
     }
 
     /**
@@ -206,6 +398,35 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
         return search(request, pageable, responseClass);
     }
 
+    /**
+     * Execute a typed search returning only a sparse fieldset of the response DTO.
+     * The selected attributes are read with a single tuple query, left joining the
+     * associations nested fields come from, so neither unused columns nor the DTO mapping
+     * cost anything. Search criteria and row security apply as in {@link #search}; without
+     * an entity manager, or when any row-security rule only provides a QueryDSL predicate,
+     * the full DTOs are loaded and pruned instead.
+     *
+     * @param request the search request containing criteria (can be null)
+     * @param pageable pagination information
+     * @param selection the requested fields
+     * @return page of rows holding the selected fields, nested by DTO path
+     * @throws BadRequestException if the selection names unknown fields
+     */
+    @Transactional
+    public Page<Map<String, Object>> searchFields(SearchRequest<T> request, Pageable pageable,
+                                                  FieldSelection selection) {
+        List<SelectedField> fields = selection.resolve(responseClass, fieldCatalog);
+        Specification<T> rowSpec = entityManager == null ? null : rowSecurityFilter();
+        if (entityManager == null || hasPredicateOnlyRowSecurity(rowSpec)) {
+            return search(request, pageable)
+                    .map(dto -> FieldSelection.row(fields, FieldSecurityUtil.filterRead(dto)));
+        }
+        Specification<T> spec = combine(request == null ? null : request.toSpecification(),
+                rowSpec);
+        List<Map<String, Object>> rows = selectFields(fields, spec, withIdTiebreaker(pageable));
+        return PageableExecutionUtils.getPage(rows, pageable, () -> countFields(spec));
+    }
+
     /**
      * Execute a typed search returning reference DTOs.
      * This is a convenience method that delegates to search(request, pageable, refClass).
@@ -220,6 +441,78 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
         return search(request, pageable, refClass);
     }
 
+    /**
+     * Reads the next chunk of a keyset scan: up to {@code size} entities matching the
+     * search criteria and row security whose ID is greater than {@code after}, in ID order.
+     * Every chunk is a single bounded query however deep the scan is, no count query runs,
+     * and each chunk runs in its own short transaction, so callers can stream an unbounded
+     * result set without holding a connection between chunks.
+     *
+     * @param request the search request containing criteria (can be null)
+     * @param after the ID of the last entity of the previous chunk, or null for the first
+     * @param size the maximum number of entities to read
+     * @return the chunk, each response DTO paired with the ID to continue after
+     */
+    @Transactional
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Identified<ID, R>> searchAfter(SearchRequest<T> request, ID after, int size) {
+        Specification<T> rowSpec = entityManager == null ? null : rowSecurityFilter();
+        List<T> entities;
+        if (entityManager == null || hasPredicateOnlyRowSecurity(rowSpec)) {
+            Predicate searchPredicate = request == null ? null : request.toPredicate();
+            RowSecurityFilters<T> rowSecurity = rowSecurity();
+            BooleanBuilder builder = new BooleanBuilder();
+            if (after != null) {
+                String alias = Introspector.decapitalize(entityClass.getSimpleName());
+                builder.and(new PathBuilder<>(entityClass, alias)
+                        .getComparable(ID_ATTRIBUTE, (Class) after.getClass())
+                        .gt((Comparable) after));
+            }
+            Predicate finalPred = builder.and(searchPredicate).and(rowSecurity.predicate())
+                    .getValue();
+            Specification<T> spec = combine(request == null ? null : request.toSpecification(),
+                    rowSecurity.specification());
+            if (after != null) {
+                spec = combine(spec, (root, query, cb) ->
+                        cb.greaterThan(root.get(ID_ATTRIBUTE), (Comparable) after));
+            }
+            entities = queryExecutor.findAll(finalPred, spec,
+                    PageRequest.of(0, size, Sort.by(ID_ATTRIBUTE))).getContent();
+        } else {
+            Specification<T> spec = combine(request == null ? null : request.toSpecification(),
+                    rowSpec);
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<T> query = cb.createQuery(entityClass);
+            Root<T> root = query.from(entityClass);
+            List<jakarta.persistence.criteria.Predicate> where = new ArrayList<>();
+            if (spec != null) {
+                where.add(spec.toPredicate(root, query, cb));
+            }
+            if (after != null) {
+                where.add(cb.greaterThan(root.get(ID_ATTRIBUTE), (Comparable) after));
+            }
+            query.select(root)
+                    .where(where.toArray(jakarta.persistence.criteria.Predicate[]::new))
+                    .orderBy(cb.asc(root.get(ID_ATTRIBUTE)));
+            entities = entityManager.createQuery(query).setMaxResults(size).getResultList();
+        }
+        List<Identified<ID, R>> chunk = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            chunk.add(new Identified<>(entityId(entity), mapper.toResponse(entity)));
+        }
+        return chunk;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ID entityId(T entity) {
+        if (entityManager != null) {
+            return (ID) entityManager.getEntityManagerFactory().getPersistenceUnitUtil()
+                    .getIdentifier(entity);
+        }
+        return (ID) PropertyAccessorFactory.forDirectFieldAccess(entity)
+                .getPropertyValue(ID_ATTRIBUTE);
+    }
+
     /**
      * Override to provide row-level security filter.
      */
@@ -259,6 +552,20 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
         }
     }
 
+    /**
+     * Apply row-security validation/mutation to a batch of entities prior to persistence,
+     * calling each handler once for the whole batch.
+     */
+    @SuppressWarnings("unchecked")
+    protected void applyRowSecurityAll(List<T> entities) {
+        List<RowSecurityHandler<?>> handlers = rowSecurityHandlers();
+        if (handlers != null && !entities.isEmpty()) {
+            for (RowSecurityHandler<?> h : handlers) {
+                ((RowSecurityHandler<T>) h).applyAll(entities);
+            }
+        }
+    }
+
     /**
      * Return a QueryDSL predicate for a single ID.
      *
@@ -300,14 +607,15 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
         if (idPredicate != null) {
             builder.and(idPredicate);
         }
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         if (rowPred != null) {
             builder.and(rowPred);
         }
         Predicate finalPred = builder.hasValue() ? builder : null;
 
         Specification<T> idSpec = (root, query, cb) -> root.get(ID_ATTRIBUTE).in(ids);
-        Specification<T> spec = idSpec.and(rowSecurityFilter());
+        Specification<T> spec = idSpec.and(rowSecurity.specification());
         return queryExecutor.findAll(finalPred, spec, responseClass);
     }
 
@@ -322,12 +630,13 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     public Optional<R> findByIdOptional(ID id) {
         Predicate idPred = idPredicate(id);
         BooleanBuilder builder = new BooleanBuilder().and(idPred);
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         if (rowPred != null) {
             builder.and(rowPred);
         }
         Predicate finalPred = builder.hasValue() ? builder : null;
-        Specification<T> spec = byId(id).and(rowSecurityFilter());
+        Specification<T> spec = byId(id).and(rowSecurity.specification());
 
         return queryExecutor.findOne(finalPred, spec, responseClass);
     }
@@ -348,12 +657,13 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     public <P> P findById(ID id, Class<P> projection) {
         Predicate idPred = idPredicate(id);
         BooleanBuilder builder = new BooleanBuilder().and(idPred);
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         if (rowPred != null) {
             builder.and(rowPred);
         }
         Predicate finalPred = builder.hasValue() ? builder : null;
-        Specification<T> spec = byId(id).and(rowSecurityFilter());
+        Specification<T> spec = byId(id).and(rowSecurity.specification());
 
         // Use responseClass if projection is null
         Class<P> effectiveProjection = projection != null ? projection : (Class<P>) responseClass;
@@ -378,6 +688,228 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
         return findById(id, responseClass);
     }
 
+    /**
+     * Find by ID together with the version the entity was read at, so a conditional read
+     * can tag the response without a separate version lookup.
+     *
+     * @param id identifier
+     * @return the response DTO and its version, which is null for unversioned entities
+     * @throws ResourceNotFoundException if not found
+     */
+    @Transactional
+    public Versioned<R> findVersionedById(ID id) {
+        if (versionPath == null) {
+            return new Versioned<>(null, findById(id));
+        }
+        T entity = loadEntity(id);
+        return new Versioned<>(versionOf(entity), mapper.toResponse(entity));
+    }
+
+    /**
+     * Find by ID holding only the requested fields, together with the version the entity
+     * was read at qualified by the selection; the version is selected by the same tuple
+     * query.
+     *
+     * @param id identifier
+     * @param selection the requested fields
+     * @return the row and its version, which is null for unversioned entities
+     * @throws ResourceNotFoundException if not found
+     * @throws BadRequestException if the selection names unknown fields
+     */
+    @Transactional
+    public Versioned<Map<String, Object>> findVersionedFieldsById(ID id,
+                                                                  FieldSelection selection) {
+        if (versionPath == null) {
+            return new Versioned<>(null, findFieldsById(id, selection));
+        }
+        List<SelectedField> fields = selection.resolve(responseClass, fieldCatalog);
+        Specification<T> rowSpec = entityManager == null ? null : rowSecurityFilter();
+        if (entityManager == null || hasPredicateOnlyRowSecurity(rowSpec)) {
+            Versioned<R> found = findVersionedById(id);
+            return new Versioned<>(selection.version(found.version()),
+                    FieldSelection.row(fields, FieldSecurityUtil.filterRead(found.body())));
+        }
+        List<Object[]> rows = selectColumns(fields, byId(id).and(rowSpec), Pageable.ofSize(1), true);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(String.format(
+                    "%s with ID '%s' could not be found", entityClass.getSimpleName(), id));
+        }
+        Object[] values = rows.getFirst();
+        Object version = values[values.length - 1];
+        return new Versioned<>(selection.version(version == null ? null : version.toString()),
+                FieldSelection.row(fields, Arrays.asList(values).subList(0, values.length - 1)));
+    }
+
+    /**
+     * Find by ID returning only a sparse fieldset of the response DTO, read with a single
+     * tuple query like {@link #searchFields}.
+     *
+     * @param id identifier
+     * @param selection the requested fields
+     * @return the row holding the selected fields, nested by DTO path
+     * @throws ResourceNotFoundException if not found
+     * @throws BadRequestException if the selection names unknown fields
+     */
+    @Transactional
+    public Map<String, Object> findFieldsById(ID id, FieldSelection selection) {
+        List<SelectedField> fields = selection.resolve(responseClass, fieldCatalog);
+        Specification<T> rowSpec = entityManager == null ? null : rowSecurityFilter();
+        if (entityManager == null || hasPredicateOnlyRowSecurity(rowSpec)) {
+            return FieldSelection.row(fields, FieldSecurityUtil.filterRead(findById(id)));
+        }
+        List<Map<String, Object>> rows = selectFields(fields, byId(id).and(rowSpec),
+                Pageable.ofSize(1));
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(String.format(
+                    "%s with ID '%s' could not be found", entityClass.getSimpleName(), id));
+        }
+        return rows.getFirst();
+    }
+
+    private List<Map<String, Object>> selectFields(List<SelectedField> fields,
+                                                   Specification<T> spec, Pageable pageable) {
+        return selectColumns(fields, spec, pageable, false).stream()
+                .map(values -> FieldSelection.row(fields, Arrays.asList(values)))
+                .toList();
+    }
+
+    /**
+     * Selects the readable columns of the fields, followed by the entity version when asked.
+     */
+    private List<Object[]> selectColumns(List<SelectedField> fields, Specification<T> spec,
+                                         Pageable pageable, boolean withVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> columns = new ArrayList<>();
+        for (SelectedField field : fields) {
+            if (field.readable()) {
+                columns.add(fieldPath(root, joins, field));
+            }
+        }
+        if (columns.isEmpty()) {
+            // every selected field is redacted; the rows still have to be counted out
+            columns.add(root.get(ID_ATTRIBUTE));
+        }
+        if (withVersion) {
+            columns.add(versionPath(root));
+        }
+        query.multiselect(columns);
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        Sort sort = pageable.getSort();
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return typed.getResultList().stream()
+                .map(Tuple::toArray)
+                .toList();
+    }
+
+    private static Path<?> fieldPath(Root<?> root, Map<String, From<?, ?>> joins,
+                                     SelectedField field) {
+        List<String> path = field.entityPath();
+        try {
+            From<?, ?> from = root;
+            for (int i = 0; i < path.size() - 1; i++) {
+                From<?, ?> parent = from;
+                String attribute = path.get(i);
+                from = joins.computeIfAbsent(String.join(".", path.subList(0, i + 1)),
+                        k -> parent.join(attribute, JoinType.LEFT));
+            }
+            return from.get(path.getLast());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Field '" + field.path() + "' cannot be selected", e);
+        }
+    }
+
+    private long countFields(Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Looks up only the version of an entity, applying row security, so conditional reads
+     * can answer {@code 304 Not Modified} without loading the entity.
+     *
+     * @param id identifier
+     * @return the version as text, or null when the entity is not versioned, not visible,
+     *     or no entity manager is available
+     */
+    @Transactional
+    public String versionTag(ID id) {
+        if (versionPath == null || entityManager == null) {
+            return null;
+        }
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Object version = rowSecurity.specification() == null && rowSecurity.predicate() != null
+                ? versionByPredicate(id, rowSecurity.predicate())
+                : versionBySpecification(id, rowSecurity.specification());
+        return version == null ? null : version.toString();
+    }
+
+    /**
+     * QueryDSL predicates cannot be applied to a criteria query, so predicate-only row
+     * security selects the version with a QueryDSL query instead.
+     */
+    private Object versionByPredicate(ID id, Predicate rowPred) {
+        PathBuilder<T> root = new PathBuilder<>(entityClass,
+                Introspector.decapitalize(entityClass.getSimpleName()));
+        PathBuilder<?> version = root;
+        for (String part : versionPath.split("\\.")) {
+            version = version.get(part);
+        }
+        return new JPAQuery<>(entityManager)
+                .select(version)
+                .from(root)
+                .where(idPredicate(id), rowPred)
+                .fetchFirst();
+    }
+
+    /**
+     * Reads the version of a loaded entity.
+     */
+    private String versionOf(T entity) {
+        Object value = entity;
+        for (String part : versionPath.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            value = PropertyAccessorFactory.forDirectFieldAccess(value).getPropertyValue(part);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private Path<Object> versionPath(Root<T> root) {
+        Path<Object> version = null;
+        for (String part : versionPath.split("\\.")) {
+            version = version == null ? root.get(part) : version.get(part);
+        }
+        return version;
+    }
+
+    private Object versionBySpecification(ID id, Specification<T> rowSpec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(Object.class);
+        Root<T> root = query.from(entityClass);
+        Specification<T> spec = byId(id).and(rowSpec);
+        query.select(versionPath(root)).where(spec.toPredicate(root, query, cb));
+        List<Object> rows = entityManager.createQuery(query).setMaxResults(1).getResultList();
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
     /**
      * Return a reference proxy to the entity without hitting the database immediately.
      *
@@ -389,12 +921,13 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     public T findReferenceById(ID id) {
         Predicate idPred = idPredicate(id);
         BooleanBuilder builder = new BooleanBuilder().and(idPred);
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         if (rowPred != null) {
             builder.and(rowPred);
         }
         Predicate finalPred = builder.hasValue() ? builder : null;
-        Specification<T> spec = byId(id).and(rowSecurityFilter());
+        Specification<T> spec = byId(id).and(rowSecurity.specification());
 
         if (!queryExecutor.exists(finalPred, spec)) {
             throw new ResourceNotFoundException(
@@ -410,12 +943,13 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     protected T loadEntity(ID id) {
         Predicate idPred = idPredicate(id);
         BooleanBuilder builder = new BooleanBuilder().and(idPred);
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         if (rowPred != null) {
             builder.and(rowPred);
         }
         Predicate finalPred = builder.hasValue() ? builder : null;
-        Specification<T> spec = byId(id).and(rowSecurityFilter());
+        Specification<T> spec = byId(id).and(rowSecurity.specification());
 
         return queryExecutor.findOne(finalPred, spec)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -438,6 +972,7 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
 
         T saved = repository.save(entity);
         postSave(saved);
+        publishWrite();
 
         return mapper.toResponse(saved);
     }
@@ -460,6 +995,7 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
 
         T saved = repository.save(entity);
         postSave(saved);
+        publishWrite();
 
         return mapper.toResponse(saved);
     }
@@ -483,6 +1019,7 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
 
         T saved = repository.save(entity);
         postSave(saved);
+        publishWrite();
 
         return mapper.toResponse(saved);
     }
@@ -504,6 +1041,8 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
 
     /**
      * Bulk create entities from a collection of request DTOs.
+     * The batch is saved as a whole and does not go through {@link #create(Object)};
+     * customise it with {@link #preSaveAll(List, List)} and {@link #postSaveAll(List)}.
      *
      * @param requests collection of creation DTOs
      * @return list of created DTOs
@@ -511,22 +1050,37 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     @Override
     @Transactional
     public List<R> createAll(Collection<U> requests) {
-        List<T> entities = requests.stream()
-                .map(mapper::fromRequest)
-                .toList();
-        entities.forEach(e -> {
-            applyRowSecurity(e);
-            preSave(e, null);
-        });
+        List<T> entities = new ArrayList<>(requests.size());
+        List<U> data = new ArrayList<>(requests.size());
+        for (U request : requests) {
+            entities.add(mapper.fromRequest(request));
+            data.add(request);
+        }
+        return saveAll(entities, data);
+    }
+
+    /**
+     * Applies row security to a batch once, then runs the batch save hooks and saves the batch.
+     *
+     * @param entities the mapped entities
+     * @param requests the request of each entity
+     * @return list of saved DTOs
+     */
+    private List<R> saveAll(List<T> entities, List<U> requests) {
+        applyRowSecurityAll(entities);
+        preSaveAll(entities, requests);
 
         List<T> saved = repository.saveAll(entities);
-        saved.forEach(this::postSave);
+        postSaveAll(saved);
+        publishWrite();
 
         return saved.stream().map(mapper::toResponse).toList();
     }
 
     /**
      * Bulk upsert: create or update for each request in the batch.
+     * The batch is saved as a whole and does not go through {@link #upsert(Object)};
+     * customise it with {@link #preSaveAll(List, List)} and {@link #postSaveAll(List)}.
      *
      * @param requests collection of upsert DTOs
      * @return list of created or updated DTOs
@@ -534,13 +1088,27 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     @Override
     @Transactional
     public List<R> upsertAll(Collection<U> requests) {
-        return requests.stream()
-                .map(this::upsert)
-                .toList();
+        List<T> entities = new ArrayList<>(requests.size());
+        List<U> data = new ArrayList<>(requests.size());
+        for (U request : requests) {
+            ID id = mapper.getIdFromRequest(request);
+            if (id != null && existsById(id)) {
+                T entity = loadEntity(id);
+                FieldSecurityUtil.filterWrite(request, entity);
+                mapper.update(entity, request);
+                entities.add(entity);
+            } else {
+                entities.add(mapper.fromRequest(request));
+            }
+            data.add(request);
+        }
+        return saveAll(entities, data);
     }
 
     /**
      * Bulk update entities by their IDs.
+     * The batch is saved as a whole and does not go through {@link #update(Object, Object)};
+     * customise it with {@link #preSaveAll(List, List)} and {@link #postSaveAll(List)}.
      *
      * @param requests collection of update DTOs
      * @return list of updated DTOs
@@ -548,13 +1116,22 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     @Override
     @Transactional
     public List<R> updateAll(List<Identified<ID, U>> requests) {
-        return requests.stream()
-                .map(r -> update(r.getId(), r.getData()))
-                .toList();
+        List<T> entities = new ArrayList<>(requests.size());
+        List<U> data = new ArrayList<>(requests.size());
+        for (Identified<ID, U> r : requests) {
+            T entity = loadEntity(r.getId());
+            FieldSecurityUtil.filterWrite(r.getData(), entity);
+            mapper.update(entity, r.getData());
+            entities.add(entity);
+            data.add(r.getData());
+        }
+        return saveAll(entities, data);
     }
 
     /**
      * Bulk patch entities by their IDs.
+     * The batch is saved as a whole and does not go through {@link #patch(Object, Object)};
+     * customise it with {@link #preSaveAll(List, List)} and {@link #postSaveAll(List)}.
      *
      * @param requests collection of patch DTOs
      * @return list of patched DTOs
@@ -562,9 +1139,16 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     @Override
     @Transactional
     public List<R> patchAll(List<Identified<ID, U>> requests) {
-        return requests.stream()
-                .map(r -> patch(r.getId(), r.getData()))
-                .toList();
+        List<T> entities = new ArrayList<>(requests.size());
+        List<U> data = new ArrayList<>(requests.size());
+        for (Identified<ID, U> r : requests) {
+            T entity = loadEntity(r.getId());
+            FieldSecurityUtil.filterWrite(r.getData(), entity);
+            mapper.patch(entity, r.getData());
+            entities.add(entity);
+            data.add(r.getData());
+        }
+        return saveAll(entities, data);
     }
 
     /**
@@ -581,17 +1165,26 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
 
         repository.delete(entity);
         postDelete(entity);
+        publishWrite();
     }
 
     /**
      * Bulk delete entities by their IDs.
+     * The batch is deleted as a whole and does not go through {@link #delete(Object)};
+     * customise it with {@link #preDeleteAll(List)} and {@link #postDeleteAll(List)}.
      *
      * @param ids collection of identifiers to delete
      */
     @Override
     @Transactional
     public void deleteAllByIds(Collection<ID> ids) {
-        ids.forEach(this::delete);
+        List<T> entities = ids.stream().map(this::loadEntity).toList();
+        applyRowSecurityAll(entities);
+        preDeleteAll(entities);
+
+        repository.deleteAll(entities);
+        postDeleteAll(entities);
+        publishWrite();
     }
 
     /**
@@ -605,12 +1198,13 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     public boolean existsById(ID id) {
         Predicate idPred = idPredicate(id);
         BooleanBuilder builder = new BooleanBuilder().and(idPred);
-        Predicate rowPred = rowSecurityPredicate();
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        Predicate rowPred = rowSecurity.predicate();
         if (rowPred != null) {
             builder.and(rowPred);
         }
         Predicate finalPred = builder.hasValue() ? builder : null;
-        Specification<T> spec = byId(id).and(rowSecurityFilter());
+        Specification<T> spec = byId(id).and(rowSecurity.specification());
 
         return queryExecutor.exists(finalPred, spec);
     }
@@ -623,9 +1217,8 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     @Override
     @Transactional
     public long count() {
-        Predicate predicate = rowSecurityPredicate();
-        Specification<T> spec = rowSecurityFilter();
-        return queryExecutor.count(predicate, spec);
+        RowSecurityFilters<T> rowSecurity = rowSecurity();
+        return queryExecutor.count(rowSecurity.predicate(), rowSecurity.specification());
     }
 
     // -------------------------------------------------------------------------
@@ -686,4 +1279,58 @@ public abstract class AbstractCrudService<T, U, R, F, ID> implements CrudService
     protected void postDelete(T entity) {
         // no-op by default
     }
+
+    /**
+     * Pre-save hook for a bulk create, update, patch or upsert, called once per batch after
+     * row security has been applied. Calls {@link #preSave(Object, Object)} for each entity
+     * by default; override it to handle the batch at once.
+     *
+     * @param entities the entities to be saved
+     * @param requests the request DTO of each entity, in the same order
+     */
+    protected void preSaveAll(List<T> entities, List<U> requests) {
+        for (int i = 0; i < entities.size(); i++) {
+            preSave(entities.get(i), requests.get(i));
+        }
+    }
+
+    /**
+     * Post-save hook for a bulk create, update, patch or upsert, called once per batch.
+     * Calls {@link #postSave(Object)} for each entity by default.
+     *
+     * @param entities the entities that were saved
+     */
+    protected void postSaveAll(List<T> entities) {
+        entities.forEach(this::postSave);
+    }
+
+    /**
+     * Pre-delete hook for a bulk delete, called once per batch after row security has been
+     * applied. Calls {@link #preDelete(Object)} for each entity by default.
+     *
+     * @param entities the entities that will be deleted
+     */
+    protected void preDeleteAll(List<T> entities) {
+        entities.forEach(this::preDelete);
+    }
+
+    /**
+     * Post-delete hook for a bulk delete, called once per batch.
+     * Calls {@link #postDelete(Object)} for each entity by default.
+     *
+     * @param entities the entities that were deleted
+     */
+    protected void postDeleteAll(List<T> entities) {
+        entities.forEach(this::postDelete);
+    }
+
+    /**
+     * Publishes an {@link EntityWriteEvent} for the entity type of this service.
+     * Called once per write operation, after its post-save or post-delete hooks.
+     */
+    protected void publishWrite() {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new EntityWriteEvent(entityClass));
+        }
+    }
 }
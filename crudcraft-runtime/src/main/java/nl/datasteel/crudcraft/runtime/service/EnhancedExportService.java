@@ -21,10 +21,15 @@ import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import nl.datasteel.crudcraft.runtime.export.EntityExportAdapter;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import nl.datasteel.crudcraft.runtime.export.ExportCompression;
+import nl.datasteel.crudcraft.runtime.export.JsonExportWriter;
 import nl.datasteel.crudcraft.runtime.export.ExportRequest;
+import nl.datasteel.crudcraft.runtime.search.SearchRequest;
 import nl.datasteel.crudcraft.runtime.util.ExportUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -42,11 +47,14 @@ public class EnhancedExportService<R, E, S> {
     
     private final ExportService<R, S> dtoExportService;
     private final EntityExportAdapter entityExportAdapter;
+    private final AbstractCrudService<E, ?, ?, ?, ?> crudService;
     private final Class<E> entityClass;
     private final ExportService.ExportConfig config;
+    private final ExportAdmissionController admission;
     
     /**
      * Creates a new enhanced export service.
+     * Without a CRUD service, entity-mode exports need an explicit entity filter.
      *
      * @param config the export configuration
      * @param entityExportAdapter the entity export adapter (nullable if entity mode not needed)
@@ -55,10 +63,54 @@ public class EnhancedExportService<R, E, S> {
     public EnhancedExportService(ExportService.ExportConfig config,
                                   EntityExportAdapter entityExportAdapter,
                                   Class<E> entityClass) {
-        this.dtoExportService = new ExportService<>(config);
+        this(config, entityExportAdapter, entityClass, null);
+    }
+    
+    /**
+     * Creates a new enhanced export service that limits concurrent exports.
+     * Without a CRUD service, entity-mode exports need an explicit entity filter.
+     *
+     * @param config the export configuration
+     * @param entityExportAdapter the entity export adapter (nullable if entity mode not needed)
+     * @param entityClass the entity class for entity mode exports
+     * @param admission the admission controller limiting concurrent exports (null for no limit)
+     */
+    public EnhancedExportService(ExportService.ExportConfig config,
+                                  EntityExportAdapter entityExportAdapter,
+                                  Class<E> entityClass,
+                                  ExportAdmissionController admission) {
+        this(config, entityExportAdapter, null, entityClass, admission);
+    }
+
+    /**
+     * Creates a new enhanced export service for the entities of a CRUD service.
+     * Entity-mode exports are filtered by {@link AbstractCrudService#searchSpecification}
+     * unless an explicit entity filter is passed, so they see the same rows as a search,
+     * including row security.
+     *
+     * @param config the export configuration
+     * @param entityExportAdapter the entity export adapter (nullable if entity mode not needed)
+     * @param crudService the service whose search criteria and row security filter the export
+     * @param admission the admission controller limiting concurrent exports (null for no limit)
+     */
+    public EnhancedExportService(ExportService.ExportConfig config,
+                                  EntityExportAdapter entityExportAdapter,
+                                  AbstractCrudService<E, ?, ?, ?, ?> crudService,
+                                  ExportAdmissionController admission) {
+        this(config, entityExportAdapter, crudService, crudService.entityClass, admission);
+    }
+
+    private EnhancedExportService(ExportService.ExportConfig config,
+                                  EntityExportAdapter entityExportAdapter,
+                                  AbstractCrudService<E, ?, ?, ?, ?> crudService,
+                                  Class<E> entityClass,
+                                  ExportAdmissionController admission) {
+        this.dtoExportService = new ExportService<>(config, admission);
         this.entityExportAdapter = entityExportAdapter;
+        this.crudService = crudService;
         this.entityClass = entityClass;
         this.config = config;
+        this.admission = admission;
     }
     
     /**
@@ -66,24 +118,112 @@ public class EnhancedExportService<R, E, S> {
      *
      * @param searchRequest the search request for filtering data
      * @param limit the maximum number of rows to export (null for default)
-     * @param format the export format (csv, json, xlsx)
+     * @param format the export format (csv, json, ndjson, xlsx)
+     * @param exportRequest the export request for field filtering and mode selection
+     * @param searchFunction function to search and fetch data with pagination (for DTO mode)
+     * @param securityFilter function to apply security filtering to each DTO (for DTO mode)
+     * @return ResponseEntity with streaming response body
+     * @throws IllegalStateException in entity mode when no CRUD service provides the filter
+     */
+    public ResponseEntity<StreamingResponseBody> export(
+            S searchRequest,
+            Integer limit,
+            String format,
+            ExportRequest exportRequest,
+            Function<PageRequest, Page<R>> searchFunction,
+            Function<R, R> securityFilter) {
+        return export(searchRequest, limit, format, exportRequest, null, null,
+                searchFunction, securityFilter);
+    }
+
+    /**
+     * Exports data in the specified format, using either DTO or entity mode based on
+     * ExportRequest, compressing CSV and JSON output when an encoding is negotiated.
+     * Entity mode is filtered by the CRUD service's search criteria and row security.
+     *
+     * @param searchRequest the search request for filtering data
+     * @param limit the maximum number of rows to export (null for default)
+     * @param format the export format (csv, json, ndjson, xlsx)
      * @param exportRequest the export request for field filtering and mode selection
+     * @param compression explicit compression ({@code gzip}, {@code deflate}, {@code none}),
+     *                    or null to negotiate from {@code acceptEncoding}
+     * @param acceptEncoding the client's {@code Accept-Encoding} header (may be null)
      * @param searchFunction function to search and fetch data with pagination (for DTO mode)
      * @param securityFilter function to apply security filtering to each DTO (for DTO mode)
      * @return ResponseEntity with streaming response body
+     * @throws IllegalStateException in entity mode when no CRUD service provides the filter
      */
     public ResponseEntity<StreamingResponseBody> export(
             S searchRequest,
             Integer limit,
             String format,
             ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
+            Function<PageRequest, Page<R>> searchFunction,
+            Function<R, R> securityFilter) {
+        Specification<E> entityFilter = exportRequest != null && exportRequest.isEntityModeEnabled()
+                ? defaultEntityFilter(searchRequest)
+                : null;
+        return export(searchRequest, limit, format, exportRequest, compression, acceptEncoding,
+                entityFilter, searchFunction, securityFilter);
+    }
+
+    /**
+     * Builds the entity-mode filter from the CRUD service: the search criteria combined with
+     * every row-security rule.
+     *
+     * @param searchRequest the search request for filtering data (may be null)
+     * @return the filter, or null when nothing needs filtering
+     * @throws IllegalStateException if there is no CRUD service, or its row security cannot
+     *                               be expressed as a specification
+     */
+    @SuppressWarnings("unchecked")
+    private Specification<E> defaultEntityFilter(S searchRequest) {
+        if (crudService == null) {
+            throw new IllegalStateException("Entity export mode needs a row filter: create the"
+                    + " EnhancedExportService with the CRUD service or pass an entity filter");
+        }
+        return crudService.searchSpecification(searchRequest instanceof SearchRequest<?> request
+                ? (SearchRequest<E>) request
+                : null);
+    }
+
+    /**
+     * Exports data in the specified format, using either DTO or entity mode based on
+     * ExportRequest. Entity mode applies {@code entityFilter} in the SQL of its page and
+     * count queries instead of the CRUD service's filter; pass
+     * {@link AbstractCrudService#searchSpecification} so the export sees the same rows as a
+     * search, including row security. A null filter exports every row.
+     *
+     * @param searchRequest the search request for filtering data
+     * @param limit the maximum number of rows to export (null for default)
+     * @param format the export format (csv, json, ndjson, xlsx)
+     * @param exportRequest the export request for field filtering and mode selection
+     * @param compression explicit compression ({@code gzip}, {@code deflate}, {@code none}),
+     *                    or null to negotiate from {@code acceptEncoding}
+     * @param acceptEncoding the client's {@code Accept-Encoding} header (may be null)
+     * @param entityFilter the specification restricting exported entities (for entity mode,
+     *                     null exports every row)
+     * @param searchFunction function to search and fetch data with pagination (for DTO mode)
+     * @param securityFilter function to apply security filtering to each DTO (for DTO mode)
+     * @return ResponseEntity with streaming response body
+     */
+    public ResponseEntity<StreamingResponseBody> export(
+            S searchRequest,
+            Integer limit,
+            String format,
+            ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
+            Specification<E> entityFilter,
             Function<PageRequest, Page<R>> searchFunction,
             Function<R, R> securityFilter) {
         
         // If export request is null or DTO mode, use standard DTO export
         if (exportRequest == null || !exportRequest.isEntityModeEnabled()) {
-            return dtoExportService.export(
-                searchRequest, limit, format, exportRequest, searchFunction, securityFilter);
+            return dtoExportService.export(searchRequest, limit, format, exportRequest,
+                compression, acceptEncoding, searchFunction, securityFilter);
         }
         
         // Entity mode
@@ -92,7 +232,7 @@ public class EnhancedExportService<R, E, S> {
                 "Entity export mode is not available. Ensure EntityExportAdapter is configured.");
         }
         
-        return exportEntityMode(limit, format, exportRequest);
+        return exportEntityMode(limit, format, exportRequest, compression, acceptEncoding, entityFilter);
     }
     
     /**
@@ -101,12 +241,18 @@ public class EnhancedExportService<R, E, S> {
      * @param limit the maximum number of rows to export
      * @param format the export format
      * @param exportRequest the export request
+     * @param compression explicit compression, or null to negotiate
+     * @param acceptEncoding the client's {@code Accept-Encoding} header (may be null)
+     * @param entityFilter the specification restricting exported entities (may be null)
      * @return ResponseEntity with streaming response body
      */
     private ResponseEntity<StreamingResponseBody> exportEntityMode(
             Integer limit,
             String format,
-            ExportRequest exportRequest) {
+            ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
+            Specification<E> entityFilter) {
         
         // Validate limit parameter
         if (limit != null && limit < 0) {
@@ -118,17 +264,21 @@ public class EnhancedExportService<R, E, S> {
         
         // Get format info
         FormatInfo formatInfo = getFormatInfo(lower);
-        if (formatInfo == null) {
+        if (formatInfo == null || !ExportCompression.isValidRequest(compression)) {
             return ResponseEntity.badRequest().build();
         }
+        ExportCompression.Encoding encoding = formatInfo.compressible
+            ? config.getCompression().negotiate(compression, acceptEncoding)
+            : null;
         
         // Handle empty export
         if (effectiveLimit == 0) {
             Iterator<Map<String, Object>> emptyIterator = java.util.Collections.emptyIterator();
             BiConsumer<Iterator<Map<String, Object>>, OutputStream> exporter = getMapExporter(lower, exportRequest);
-            StreamingResponseBody body = out -> exporter.accept(emptyIterator, out);
+            StreamingResponseBody body = out -> ExportService.stream(
+                exporter, emptyIterator, out, config.getCompression(), encoding, 1);
             
-            return createResponse(formatInfo, body);
+            return createResponse(formatInfo, encoding, body);
         }
         
         // Clamp limit and calculate page size
@@ -136,15 +286,40 @@ public class EnhancedExportService<R, E, S> {
         int pageSize = Math.min(config.getMaxPageSize(), clamped);
         pageSize = Math.max(1, pageSize);
         
-        // Create entity iterator
-        Iterator<Map<String, Object>> iterator = entityExportAdapter.createIterator(
-            entityClass, exportRequest, clamped, pageSize);
-        
-        // Create streaming response
-        BiConsumer<Iterator<Map<String, Object>>, OutputStream> exporter = getMapExporter(lower, exportRequest);
-        StreamingResponseBody body = out -> exporter.accept(iterator, out);
+        int chunkSize = pageSize;
+        StreamingResponseBody body;
+        JsonExportWriter.Layout layout = jsonLayout(lower);
+        if (layout != null) {
+            // JSON layouts write entities straight to the generator, without intermediate maps
+            Iterator<E> entities = entityExportAdapter.createEntityIterator(
+                entityClass, exportRequest, clamped, pageSize, entityFilter);
+            BiConsumer<Iterator<E>, OutputStream> exporter = (iter, out) ->
+                entityExportAdapter.writeJson(iter, out, exportRequest, layout, chunkSize);
+            body = out -> ExportService.stream(
+                exporter, entities, out, config.getCompression(), encoding, chunkSize);
+        } else {
+            Iterator<Map<String, Object>> iterator = entityExportAdapter.createIterator(
+                entityClass, exportRequest, clamped, pageSize, entityFilter);
+            BiConsumer<Iterator<Map<String, Object>>, OutputStream> exporter = getMapExporter(lower, exportRequest);
+            body = out -> ExportService.stream(
+                exporter, iterator, out, config.getCompression(), encoding, chunkSize);
+        }
         
-        return createResponse(formatInfo, body);
+        return createResponse(formatInfo, encoding, ExportService.admit(admission, lower, body));
+    }
+    
+    /**
+     * Gets the JSON layout for a format.
+     *
+     * @param format the format string
+     * @return the layout, or null if the format is not JSON based
+     */
+    private static JsonExportWriter.Layout jsonLayout(String format) {
+        return switch (format) {
+            case "json" -> JsonExportWriter.Layout.ARRAY;
+            case "ndjson" -> JsonExportWriter.Layout.NDJSON;
+            default -> null;
+        };
     }
     
     /**
@@ -160,7 +335,9 @@ public class EnhancedExportService<R, E, S> {
         return switch (format) {
             case "csv" -> (iter, out) -> ExportUtil.streamCsv((Iterator) iter, out, exportRequest);
             case "json" -> (iter, out) -> ExportUtil.streamJson((Iterator) iter, out, exportRequest);
-            case "xlsx" -> (iter, out) -> ExportUtil.streamXlsx((Iterator) iter, out, exportRequest);
+            case "ndjson" -> (iter, out) -> ExportUtil.streamNdjson((Iterator) iter, out, exportRequest);
+            case "xlsx" -> (iter, out) -> ExportUtil.streamXlsx(
+                (Iterator) iter, out, exportRequest, config.getXlsx());
             default -> throw new IllegalArgumentException("Unsupported format: " + format);
         };
     }
@@ -169,16 +346,23 @@ public class EnhancedExportService<R, E, S> {
      * Creates the HTTP response with appropriate headers.
      *
      * @param formatInfo the format information
+     * @param encoding the negotiated content encoding, or null for none
      * @param body the streaming response body
      * @return the response entity
      */
     private ResponseEntity<StreamingResponseBody> createResponse(
-            FormatInfo formatInfo, StreamingResponseBody body) {
+            FormatInfo formatInfo, ExportCompression.Encoding encoding, StreamingResponseBody body) {
         String filename = "export-" + System.currentTimeMillis() + "." + formatInfo.extension;
-        return ResponseEntity.ok()
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_TYPE, formatInfo.contentType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                .body(body);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+        if (formatInfo.compressible && config.getCompression().isEnabled()) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return builder.body(body);
     }
     
     /**
@@ -188,26 +372,29 @@ public class EnhancedExportService<R, E, S> {
         final int maxRows;
         final String contentType;
         final String extension;
+        final boolean compressible;
         
-        FormatInfo(int maxRows, String contentType, String extension) {
+        FormatInfo(int maxRows, String contentType, String extension, boolean compressible) {
             this.maxRows = maxRows;
             this.contentType = contentType;
             this.extension = extension;
+            this.compressible = compressible;
         }
     }
     
     /**
      * Gets format information for the specified format string.
      *
-     * @param format the format string (csv, json, xlsx)
+     * @param format the format string (csv, json, ndjson, xlsx)
      * @return FormatInfo or null if format is invalid
      */
     private FormatInfo getFormatInfo(String format) {
         return switch (format) {
-            case "csv" -> new FormatInfo(config.getMaxCsvRows(), "text/csv", "csv");
-            case "json" -> new FormatInfo(config.getMaxJsonRows(), "application/json", "json");
+            case "csv" -> new FormatInfo(config.getMaxCsvRows(), "text/csv", "csv", true);
+            case "json" -> new FormatInfo(config.getMaxJsonRows(), "application/json", "json", true);
+            case "ndjson" -> new FormatInfo(config.getMaxJsonRows(), "application/x-ndjson", "ndjson", true);
             case "xlsx" -> new FormatInfo(config.getMaxXlsxRows(),
-                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", false);
             default -> null;
         };
     }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.service;
+
+/**
+ * Published by {@link AbstractCrudService} whenever one of its write operations changes
+ * entities of a type. Listeners that keep derived state, such as cached projections, can
+ * use {@code @TransactionalEventListener} to react once the transaction has committed.
+ *
+ * @param entityType the JPA entity type that was created, updated or deleted
+ */
+public record EntityWriteEvent(Class<?> entityType) {
+}
@@ -15,20 +15,47 @@
  */
 package nl.datasteel.crudcraft.runtime.service;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import nl.datasteel.crudcraft.runtime.Identified;
+import nl.datasteel.crudcraft.runtime.export.ChunkFlushingIterator;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import nl.datasteel.crudcraft.runtime.export.ExportCompression;
 import nl.datasteel.crudcraft.runtime.export.ExportRequest;
+import nl.datasteel.crudcraft.runtime.export.JsonExportWriter;
+import nl.datasteel.crudcraft.runtime.export.XlsxExportSettings;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
 import nl.datasteel.crudcraft.runtime.util.ExportUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
- * Service for exporting data in various formats (CSV, JSON, XLSX).
+ * Service for exporting data in various formats (CSV, JSON, NDJSON, Smile, CBOR, XLSX).
  * Handles pagination, format selection, and streaming of large datasets.
  *
  * @param <R> the response DTO type to export
@@ -36,6 +63,16 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
  */
 public class ExportService<R, S> {
 
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    /** Exceptions containers and Spring MVC raise when the client has gone away. */
+    private static final Set<String> DISCONNECT_EXCEPTIONS = Set.of(
+            "ClientAbortException", "AsyncRequestNotUsableException", "EofException");
+
+    /** Socket error messages that mean the peer closed the connection. */
+    private static final List<String> DISCONNECT_MESSAGES = List.of(
+            "broken pipe", "connection reset", "connection abort");
+
     /**
      * Configuration for export limits per format.
      */
@@ -44,9 +81,11 @@ public class ExportService<R, S> {
         private final int maxJsonRows;
         private final int maxXlsxRows;
         private final int maxPageSize;
+        private final ExportCompression compression;
+        private final XlsxExportSettings xlsx;
 
         /**
-         * Creates a new export configuration.
+         * Creates a new export configuration without response compression.
          *
          * @param maxCsvRows maximum rows for CSV export
          * @param maxJsonRows maximum rows for JSON export
@@ -54,10 +93,41 @@ public class ExportService<R, S> {
          * @param maxPageSize maximum page size for pagination
          */
         public ExportConfig(int maxCsvRows, int maxJsonRows, int maxXlsxRows, int maxPageSize) {
+            this(maxCsvRows, maxJsonRows, maxXlsxRows, maxPageSize, ExportCompression.disabled());
+        }
+
+        /**
+         * Creates a new export configuration.
+         *
+         * @param maxCsvRows maximum rows for CSV export
+         * @param maxJsonRows maximum rows for JSON export
+         * @param maxXlsxRows maximum rows for XLSX export
+         * @param maxPageSize maximum page size for pagination
+         * @param compression compression settings for CSV and JSON exports
+         */
+        public ExportConfig(int maxCsvRows, int maxJsonRows, int maxXlsxRows, int maxPageSize,
+                            ExportCompression compression) {
+            this(maxCsvRows, maxJsonRows, maxXlsxRows, maxPageSize, compression, XlsxExportSettings.defaults());
+        }
+
+        /**
+         * Creates a new export configuration.
+         *
+         * @param maxCsvRows maximum rows for CSV export
+         * @param maxJsonRows maximum rows for JSON export
+         * @param maxXlsxRows maximum rows for XLSX export
+         * @param maxPageSize maximum page size for pagination
+         * @param compression compression settings for CSV and JSON exports
+         * @param xlsx settings for the XLSX writer
+         */
+        public ExportConfig(int maxCsvRows, int maxJsonRows, int maxXlsxRows, int maxPageSize,
+                            ExportCompression compression, XlsxExportSettings xlsx) {
             this.maxCsvRows = maxCsvRows;
             this.maxJsonRows = maxJsonRows;
             this.maxXlsxRows = maxXlsxRows;
             this.maxPageSize = maxPageSize;
+            this.compression = compression == null ? ExportCompression.disabled() : compression;
+            this.xlsx = xlsx == null ? XlsxExportSettings.defaults() : xlsx;
         }
 
         public int getMaxCsvRows() {
@@ -75,6 +145,14 @@ public class ExportService<R, S> {
         public int getMaxPageSize() {
             return maxPageSize;
         }
+
+        public ExportCompression getCompression() {
+            return compression;
+        }
+
+        public XlsxExportSettings getXlsx() {
+            return xlsx;
+        }
     }
 
     /**
@@ -84,15 +162,20 @@ public class ExportService<R, S> {
         final int maxRows;
         final String contentType;
         final String extension;
+        final boolean compressible;
 
-        FormatInfo(int maxRows, String contentType, String extension) {
+        FormatInfo(int maxRows, String contentType, String extension, boolean compressible) {
             this.maxRows = maxRows;
             this.contentType = contentType;
             this.extension = extension;
+            this.compressible = compressible;
         }
     }
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ExportConfig config;
+    private final ExportAdmissionController admission;
 
     /**
      * Creates a new export service with the specified configuration.
@@ -100,7 +183,18 @@ public class ExportService<R, S> {
      * @param config the export configuration
      */
     public ExportService(ExportConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Creates a new export service that admits exports through an admission controller.
+     *
+     * @param config the export configuration
+     * @param admission the admission controller limiting concurrent exports (null for no limit)
+     */
+    public ExportService(ExportConfig config, ExportAdmissionController admission) {
         this.config = config;
+        this.admission = admission;
     }
 
     /**
@@ -108,8 +202,11 @@ public class ExportService<R, S> {
      *
      * @param searchRequest the search request for filtering data
      * @param limit the maximum number of rows to export (null for default)
-     * @param format the export format (csv, json, xlsx)
+     * @param format the export format (csv, json, ndjson, smile, cbor, xlsx)
      * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param compression explicit compression ({@code gzip}, {@code deflate}, {@code none}),
+     *                    or null to negotiate from {@code acceptEncoding}
+     * @param acceptEncoding the client's {@code Accept-Encoding} header (may be null)
      * @param searchFunction function to search and fetch data with pagination
      * @param securityFilter function to apply security filtering to each DTO
      * @return ResponseEntity with streaming response body
@@ -119,8 +216,57 @@ public class ExportService<R, S> {
             Integer limit,
             String format,
             ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
             Function<PageRequest, Page<R>> searchFunction,
             Function<R, R> securityFilter) {
+        return export(limit, format, exportRequest, compression, acceptEncoding,
+                (max, pageSize) -> StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                        new PaginatedIterator<>(searchFunction, securityFilter, max, pageSize),
+                        Spliterator.ORDERED), false));
+    }
+
+    /**
+     * Exports a stream of rows in the specified format. Use this with sources that fetch
+     * rows in chunks themselves, such as streaming projections; the stream is closed once
+     * the body has been written or the export fails.
+     *
+     * @param searchRequest the search request for filtering data
+     * @param limit the maximum number of rows to export (null for default)
+     * @param format the export format (csv, json, ndjson, smile, cbor, xlsx)
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param compression explicit compression ({@code gzip}, {@code deflate}, {@code none}),
+     *                    or null to negotiate from {@code acceptEncoding}
+     * @param acceptEncoding the client's {@code Accept-Encoding} header (may be null)
+     * @param streamFunction function opening the rows, given the number of rows per chunk
+     * @param securityFilter function to apply security filtering to each DTO
+     * @return ResponseEntity with streaming response body
+     */
+    public ResponseEntity<StreamingResponseBody> exportStream(
+            S searchRequest,
+            Integer limit,
+            String format,
+            ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
+            IntFunction<Stream<R>> streamFunction,
+            Function<R, R> securityFilter) {
+        return export(limit, format, exportRequest, compression, acceptEncoding,
+                (max, pageSize) -> streamFunction.apply(pageSize).limit(max).map(securityFilter));
+    }
+
+    /**
+     * Validates the request and builds the streaming response for a source of rows.
+     *
+     * @param rows opens the rows to export, given the clamped limit and the page size
+     */
+    private ResponseEntity<StreamingResponseBody> export(
+            Integer limit,
+            String format,
+            ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
+            BiFunction<Integer, Integer, Stream<R>> rows) {
 
         // Validate limit parameter - reject negative values, but allow 0 for empty export
         if (limit != null && limit < 0) {
@@ -132,22 +278,21 @@ public class ExportService<R, S> {
 
         // Determine format configuration
         FormatInfo formatInfo = getFormatInfo(lower);
-        if (formatInfo == null) {
+        if (formatInfo == null || !ExportCompression.isValidRequest(compression)) {
             return ResponseEntity.badRequest().build();
         }
+        ExportCompression.Encoding encoding = formatInfo.compressible
+                ? config.compression.negotiate(compression, acceptEncoding)
+                : null;
 
-        // Handle limit == 0 as empty export
+        // Handle limit == 0 as empty export, which needs no export capacity
         if (effectiveLimit == 0) {
             // Create empty iterator for empty export
             Iterator<R> emptyIterator = java.util.Collections.emptyIterator();
-            BiConsumer<Iterator<R>, OutputStream> exporter = getExporter(lower, exportRequest);
-            StreamingResponseBody body = out -> exporter.accept(emptyIterator, out);
-            
-            String filename = "export-" + System.currentTimeMillis() + "." + formatInfo.extension;
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, formatInfo.contentType)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                    .body(body);
+            BiConsumer<Iterator<R>, OutputStream> exporter = getExporter(lower, exportRequest, 1);
+            StreamingResponseBody body = out -> stream(
+                    exporter, emptyIterator, out, config.compression, encoding, 1);
+            return createResponse(formatInfo, encoding, body);
         }
 
         // Clamp limit to format maximum
@@ -159,18 +304,38 @@ public class ExportService<R, S> {
             pageSize = 1;
         }
 
-        // Create paginated iterator
-        Iterator<R> iterator = new PaginatedIterator<>(searchFunction, securityFilter, clamped, pageSize);
-
         // Create streaming response
-        BiConsumer<Iterator<R>, OutputStream> exporter = getExporter(lower, exportRequest);
-        StreamingResponseBody body = out -> exporter.accept(iterator, out);
+        int chunkSize = pageSize;
+        BiConsumer<Iterator<R>, OutputStream> exporter = getExporter(lower, exportRequest, chunkSize);
+        StreamingResponseBody body = out -> {
+            try (Stream<R> source = rows.apply(clamped, chunkSize)) {
+                stream(exporter, source.iterator(), out, config.compression, encoding, chunkSize);
+            }
+        };
+        return createResponse(formatInfo, encoding, admit(admission, lower, body));
+    }
 
-        String filename = "export-" + System.currentTimeMillis() + "." + formatInfo.extension;
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, formatInfo.contentType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                .body(body);
+    /**
+     * Exports data in the specified format with streaming support.
+     * The response is sent uncompressed.
+     *
+     * @param searchRequest the search request for filtering data
+     * @param limit the maximum number of rows to export (null for default)
+     * @param format the export format (csv, json, ndjson, smile, cbor, xlsx)
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param searchFunction function to search and fetch data with pagination
+     * @param securityFilter function to apply security filtering to each DTO
+     * @return ResponseEntity with streaming response body
+     */
+    public ResponseEntity<StreamingResponseBody> export(
+            S searchRequest,
+            Integer limit,
+            String format,
+            ExportRequest exportRequest,
+            Function<PageRequest, Page<R>> searchFunction,
+            Function<R, R> securityFilter) {
+        return export(searchRequest, limit, format, exportRequest, null, null,
+                searchFunction, securityFilter);
     }
 
     /**
@@ -178,7 +343,7 @@ public class ExportService<R, S> {
      *
      * @param searchRequest the search request for filtering data
      * @param limit the maximum number of rows to export (null for default)
-     * @param format the export format (csv, json, xlsx)
+     * @param format the export format (csv, json, ndjson, smile, cbor, xlsx)
      * @param searchFunction function to search and fetch data with pagination
      * @param securityFilter function to apply security filtering to each DTO
      * @return ResponseEntity with streaming response body
@@ -192,18 +357,101 @@ public class ExportService<R, S> {
         return export(searchRequest, limit, format, null, searchFunction, securityFilter);
     }
 
+    /**
+     * Streams rows as newline-delimited JSON for as long as the source has rows, reusing
+     * the export writers, compression and admission but answering inline instead of as a
+     * download. Rows are read in keyset chunks of the configured page size and the
+     * response is flushed after every chunk, so memory stays flat however many rows match.
+     * When the client disconnects the next write fails and the scan stops without reading
+     * further chunks.
+     *
+     * @param limit the maximum number of rows to stream (null for no limit)
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param compression explicit compression ({@code gzip}, {@code deflate}, {@code none}),
+     *                    or null to negotiate from {@code acceptEncoding}
+     * @param acceptEncoding the client's {@code Accept-Encoding} header (may be null)
+     * @param fetchAfter reads the next chunk of rows after the given ID (null for the first
+     *                   chunk), at most the given number of rows, each paired with its ID
+     * @param securityFilter function to apply security filtering to each DTO
+     * @param <ID> the identifier type rows are ordered by
+     * @return ResponseEntity with streaming response body
+     */
+    public <ID> ResponseEntity<StreamingResponseBody> streamNdjson(
+            Integer limit,
+            ExportRequest exportRequest,
+            String compression,
+            String acceptEncoding,
+            BiFunction<ID, Integer, List<Identified<ID, R>>> fetchAfter,
+            Function<R, R> securityFilter) {
+        if (limit != null && limit < 0 || !ExportCompression.isValidRequest(compression)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ExportCompression.Encoding encoding = config.compression.negotiate(compression, acceptEncoding);
+        int chunkSize = Math.max(1, config.maxPageSize);
+        long max = limit == null ? Long.MAX_VALUE : limit;
+        BiConsumer<Iterator<R>, OutputStream> exporter = getExporter("ndjson", exportRequest, chunkSize);
+        StreamingResponseBody body = out -> {
+            Iterator<R> rows = new KeysetIterator<>(fetchAfter, securityFilter, max, chunkSize);
+            try {
+                stream(exporter, rows, out, config.compression, encoding, chunkSize);
+            } catch (IOException | RuntimeException e) {
+                if (!isDisconnect(e)) {
+                    log.error("NDJSON stream failed", e);
+                    throw e;
+                }
+                log.debug("NDJSON stream stopped, client disconnected: {}", e.toString());
+            }
+        };
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, NDJSON);
+        if (config.compression.isEnabled()) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return builder.body(max == 0 ? body : admit(admission, "ndjson", body));
+    }
+
+    /**
+     * Whether a failure while writing a stream means the client went away: the container
+     * reported an aborted or unusable response, or the socket was closed under the write.
+     * Matched by name so no particular servlet container is required. Other I/O failures,
+     * such as serialization errors, are not disconnects.
+     */
+    private static boolean isDisconnect(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            String type = t.getClass().getSimpleName();
+            if (DISCONNECT_EXCEPTIONS.contains(type)) {
+                return true;
+            }
+            if (t instanceof IOException && t.getMessage() != null) {
+                String message = t.getMessage().toLowerCase(Locale.ROOT);
+                if (DISCONNECT_MESSAGES.stream().anyMatch(message::contains)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the appropriate exporter for the format.
      *
      * @param format the format string
      * @param exportRequest the export request for field filtering (applied to all formats)
+     * @param chunkSize the number of rows between flushes of CSV and JSON output
      * @return the exporter function
      */
-    private BiConsumer<Iterator<R>, OutputStream> getExporter(String format, ExportRequest exportRequest) {
+    private BiConsumer<Iterator<R>, OutputStream> getExporter(String format, ExportRequest exportRequest,
+                                                              int chunkSize) {
         return switch (format) {
-            case "csv" -> (iter, out) -> ExportUtil.streamCsv(iter, out, exportRequest);
-            case "json" -> (iter, out) -> ExportUtil.streamJson(iter, out, exportRequest);
-            case "xlsx" -> (iter, out) -> ExportUtil.streamXlsx(iter, out, exportRequest);
+            case "csv" -> (iter, out) -> ExportUtil.streamCsv(iter, out, exportRequest, chunkSize);
+            case "json" -> (iter, out) -> ExportUtil.streamJson(iter, out, exportRequest, chunkSize);
+            case "ndjson" -> (iter, out) -> ExportUtil.streamNdjson(iter, out, exportRequest, chunkSize);
+            case "smile" -> (iter, out) -> ExportUtil.streamSmile(iter, out, exportRequest, chunkSize);
+            case "cbor" -> (iter, out) -> ExportUtil.streamCbor(iter, out, exportRequest, chunkSize);
+            case "xlsx" -> (iter, out) -> ExportUtil.streamXlsx(iter, out, exportRequest, config.getXlsx());
             default -> throw new IllegalArgumentException("Unsupported format: " + format);
         };
     }
@@ -217,28 +465,198 @@ public class ExportService<R, S> {
      */
     @SuppressWarnings("PMD.UnusedPrivateMethod")
     private BiConsumer<Iterator<R>, OutputStream> getExporter(String format) {
-        return getExporter(format, null);
+        return getExporter(format, null, JsonExportWriter.DEFAULT_FLUSH_EVERY);
+    }
+
+    /**
+     * Builds the export response with download and encoding headers.
+     *
+     * @param formatInfo the format information
+     * @param encoding the negotiated content encoding, or null for none
+     * @param body the streaming response body
+     * @return the response entity
+     */
+    private ResponseEntity<StreamingResponseBody> createResponse(
+            FormatInfo formatInfo, ExportCompression.Encoding encoding, StreamingResponseBody body) {
+        String filename = "export-" + System.currentTimeMillis() + "." + formatInfo.extension;
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, formatInfo.contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+        if (formatInfo.compressible && config.compression.isEnabled()) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Acquires export capacity for the request and releases it once the body has been written.
+     *
+     * <p>Within a web request the capacity is also released when the request completes without
+     * the body being written: when asynchronous processing times out, fails or completes before
+     * the body ran, or when the request ends without starting asynchronous processing at all.
+     * Releasing is idempotent, so whichever happens first wins.
+     *
+     * @param admission the admission controller, or null to admit without limits
+     * @param format the export format
+     * @param body the streaming body to guard
+     * @return the guarded body
+     * @throws nl.datasteel.crudcraft.runtime.exception.TooManyRequestsException
+     *         if the export cannot be admitted
+     */
+    public static StreamingResponseBody admit(ExportAdmissionController admission, String format,
+                                              StreamingResponseBody body) {
+        if (admission == null) {
+            return body;
+        }
+        ExportAdmissionController.Permit permit = admission.acquire(format);
+        releaseWithRequest(permit);
+        return out -> {
+            try (permit) {
+                body.writeTo(out);
+            }
+        };
+    }
+
+    /**
+     * Ties a permit to the current web request, if any, so it cannot outlive it.
+     * Asynchronous requests release it from the async completion callback, which also runs on
+     * timeouts and errors; requests that never start asynchronous processing release it when
+     * the request completes.
+     *
+     * @param permit the permit to release
+     */
+    private static void releaseWithRequest(ExportAdmissionController.Permit permit) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(permit,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        permit.close();
+                    }
+                });
+        attributes.registerDestructionCallback(
+                ExportAdmissionController.Permit.class.getName() + "@" + System.identityHashCode(permit),
+                () -> {
+                    if (!request.isAsyncStarted()) {
+                        permit.close();
+                    }
+                },
+                RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Runs the exporter against the response stream, compressing it when an encoding was
+     * negotiated. Compressed output is flushed after every {@code chunkSize} rows so the
+     * client receives data while later pages are still being fetched.
+     *
+     * @param exporter the format-specific exporter
+     * @param iterator the rows to export
+     * @param out the response output stream
+     * @param compression the compression settings
+     * @param encoding the negotiated encoding, or null to write uncompressed
+     * @param chunkSize the number of rows between flushes
+     * @param <T> the row type
+     * @throws IOException if the compressed stream cannot be opened or finished
+     */
+    public static <T> void stream(BiConsumer<Iterator<T>, OutputStream> exporter,
+                           Iterator<T> iterator,
+                           OutputStream out,
+                           ExportCompression compression,
+                           ExportCompression.Encoding encoding,
+                           int chunkSize) throws IOException {
+        if (encoding == null) {
+            exporter.accept(iterator, out);
+            return;
+        }
+        try (OutputStream compressed = compression.wrap(out, encoding)) {
+            exporter.accept(new ChunkFlushingIterator<>(iterator, compressed, chunkSize), compressed);
+        }
     }
 
     /**
      * Gets format information for the specified format string.
      *
-     * @param format the format string (csv, json, xlsx)
+     * @param format the format string (csv, json, ndjson, smile, cbor, xlsx)
      * @return FormatInfo or null if format is invalid
      */
     private FormatInfo getFormatInfo(String format) {
         return switch (format) {
-            case "csv" -> new FormatInfo(config.maxCsvRows, "text/csv", "csv");
-            case "json" -> new FormatInfo(config.maxJsonRows, "application/json", "json");
+            case "csv" -> new FormatInfo(config.maxCsvRows, "text/csv", "csv", true);
+            case "json" -> new FormatInfo(config.maxJsonRows, "application/json", "json", true);
+            case "ndjson" -> new FormatInfo(config.maxJsonRows, NDJSON, "ndjson", true);
+            case "smile" -> new FormatInfo(config.maxJsonRows, BinaryFormats.SMILE_VALUE, "sml", true);
+            case "cbor" -> new FormatInfo(config.maxJsonRows, BinaryFormats.CBOR_VALUE, "cbor", true);
+            // XLSX is already a zip archive; compressing it again only costs CPU
             case "xlsx" -> new FormatInfo(
                     config.maxXlsxRows,
                     "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
-                    "xlsx"
+                    "xlsx",
+                    false
             );
             default -> null;
         };
     }
 
+    /**
+     * Iterator that lazily fetches keyset chunks, continuing after the ID of the last row
+     * read, and applies security filtering.
+     *
+     * @param <ID> the identifier type
+     * @param <R> the response DTO type
+     */
+    private static class KeysetIterator<ID, R> implements Iterator<R> {
+        private final BiFunction<ID, Integer, List<Identified<ID, R>>> fetchAfter;
+        private final Function<R, R> securityFilter;
+        private final int chunkSize;
+
+        private long remaining;
+        private ID after;
+        private boolean exhausted;
+        private Iterator<Identified<ID, R>> current = java.util.Collections.emptyIterator();
+
+        KeysetIterator(BiFunction<ID, Integer, List<Identified<ID, R>>> fetchAfter,
+                       Function<R, R> securityFilter,
+                       long maxItems,
+                       int chunkSize) {
+            this.fetchAfter = fetchAfter;
+            this.securityFilter = securityFilter;
+            this.remaining = maxItems;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (remaining <= 0) {
+                return false;
+            }
+            if (!current.hasNext() && !exhausted) {
+                int size = (int) Math.min(chunkSize, remaining);
+                List<Identified<ID, R>> chunk = fetchAfter.apply(after, size);
+                // a short chunk is the last one; skip the query that would come back empty
+                exhausted = chunk.size() < size;
+                current = chunk.iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new java.util.NoSuchElementException();
+            }
+            Identified<ID, R> row = current.next();
+            after = row.getId();
+            remaining--;
+            return securityFilter.apply(row.getData());
+        }
+    }
+
     /**
      * Iterator that lazily fetches data in pages and applies security filtering.
      *
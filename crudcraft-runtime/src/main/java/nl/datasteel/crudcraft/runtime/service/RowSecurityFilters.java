@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.service;
+
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * The row-security filters of a service for the current request. Only the form the
+ * service's query strategy evaluates is built; the other one is {@code null}.
+ *
+ * @param predicate the composed QueryDSL predicate, or null
+ * @param specification the composed JPA specification, or null
+ * @param <T> the entity type
+ */
+public record RowSecurityFilters<T>(Predicate predicate, Specification<T> specification) {
+}
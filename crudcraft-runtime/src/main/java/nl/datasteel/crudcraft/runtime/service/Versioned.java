@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package nl.datasteel.crudcraft.runtime.service;
+
+import java.util.function.Function;
+
+/**
+ * A response body together with the version of the entity it was read from, so
+ * conditional reads can tag the body without a second version lookup.
+ *
+ * @param version the entity version as text, or null when the entity is not versioned
+ * @param body the response body
+ * @param <B> the body type
+ */
+public record Versioned<B>(String version, B body) {
+
+    /**
+     * Transforms the body, keeping the version.
+     *
+     * @param mapping the body transformation
+     * @param <N> the new body type
+     * @return the transformed body with the same version
+     */
+    public <N> Versioned<N> map(Function<? super B, ? extends N> mapping) {
+        return new Versioned<>(version, mapping.apply(body));
+    }
+}
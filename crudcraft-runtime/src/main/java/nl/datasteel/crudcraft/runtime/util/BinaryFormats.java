@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+/**
+ * Binary Jackson encodings offered next to JSON for service-to-service callers.
+ *
+ * <p>Smile and CBOR carry the same data model as JSON, so DTOs serialize unchanged; the
+ * mappers derived here keep every module and setting of the JSON mapper they are derived
+ * from and only swap the token format.
+ */
+public final class BinaryFormats {
+
+    /** Media type of Smile, Jackson's binary JSON encoding. */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    /** Media type of Smile, Jackson's binary JSON encoding. */
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    /** Media type of CBOR (RFC 8949). */
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+    /** Media type of CBOR (RFC 8949). */
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This class provides static utility methods only.
+     */
+    private BinaryFormats() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Derives a Smile mapper from a JSON mapper.
+     *
+     * @param json the mapper whose modules and settings to use
+     * @return a new mapper writing and reading Smile
+     */
+    public static ObjectMapper smileMapper(ObjectMapper json) {
+        return json.copyWith(new SmileFactory());
+    }
+
+    /**
+     * Derives a CBOR mapper from a JSON mapper.
+     *
+     * @param json the mapper whose modules and settings to use
+     * @return a new mapper writing and reading CBOR
+     */
+    public static ObjectMapper cborMapper(ObjectMapper json) {
+        return json.copyWith(new CBORFactory());
+    }
+}
@@ -15,14 +15,16 @@
  */
 package nl.datasteel.crudcraft.runtime.util;
 
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,8 +36,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import nl.datasteel.crudcraft.runtime.export.ExportRequest;
+import nl.datasteel.crudcraft.runtime.export.JsonExportWriter;
+import nl.datasteel.crudcraft.runtime.export.XlsxExportSettings;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
@@ -45,11 +51,31 @@ import org.apache.poi.xssf.streaming.SXSSFWorkbook;
  */
 public final class ExportUtil {
 
+    /**
+     * Number of leading rows buffered to determine the columns of CSV and XLSX exports.
+     * Later rows are written as they are read, so memory no longer grows with the row count.
+     */
+    static final int HEADER_SAMPLE_ROWS = 1_000;
+
+    /** Largest integer magnitude a double represents exactly (2^53). */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
     /** The ObjectMapper instance used for JSON serialization. */
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
+    /** Streaming writer for JSON and NDJSON exports. */
+    private static final JsonExportWriter JSON_WRITER = new JsonExportWriter(objectMapper);
+
+    /** Streaming writer for Smile exports. */
+    private static final JsonExportWriter SMILE_WRITER =
+            new JsonExportWriter(BinaryFormats.smileMapper(objectMapper));
+
+    /** Streaming writer for CBOR exports. */
+    private static final JsonExportWriter CBOR_WRITER =
+            new JsonExportWriter(BinaryFormats.cborMapper(objectMapper));
+
     /**
      * Private constructor to prevent instantiation.
      * This class provides static utility methods only.
@@ -233,69 +259,43 @@ public final class ExportUtil {
      * @return a byte array containing the XLSX file data
      */
     public static <R> byte[] toXlsx(List<R> dtos) {
-        try (SXSSFWorkbook workbook = new SXSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("export");
-
-            if (!dtos.isEmpty()) {
-                List<Map<String, Object>> maps = dtos.stream()
-                        .map(ExportUtil::toFlatMap)
-                        .collect(Collectors.toList());
-                String[] headers = maps.get(0).keySet().toArray(new String[0]);
-                Row headerRow = sheet.createRow(0);
-                for (int c = 0; c < headers.length; c++) {
-                    headerRow.createCell(c).setCellValue(headers[c]);
-                }
-                int r = 1;
-                for (Map<String, Object> row : maps) {
-                    Row excelRow = sheet.createRow(r++);
-                    for (int c = 0; c < headers.length; c++) {
-                        Object val = row.get(headers[c]);
-                        excelRow.createCell(c).setCellValue(val != null ? val.toString() : "");
-                    }
-                }
-            }
-            workbook.write(out);
-            workbook.dispose();
-            return out.toByteArray();
-        } catch (Exception e)   {
-            throw new RuntimeException("Failed to export XLSX", e);
-        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamXlsx(dtos.iterator(), out);
+        return out.toByteArray();
     }
 
     /**
      * Streams a list of DTOs to a CSV file.
+     * The columns are taken from the first {@value #HEADER_SAMPLE_ROWS} rows; every record is
+     * written as soon as it is read and the output is flushed every {@code flushEvery} rows.
      *
      * @param dtos the iterator of DTOs to export
      * @param out  the output stream to write the CSV to
      * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param flushEvery the number of rows written between flushes, must be positive
      */
-    public static <R> void streamCsv(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest) {
+    public static <R> void streamCsv(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                                     int flushEvery) {
+        if (flushEvery <= 0) {
+            throw new IllegalArgumentException("flushEvery must be positive: " + flushEvery);
+        }
         try {
-            if (!dtos.hasNext()) {
+            List<Map<String, Object>> sample = sampleRows(dtos, exportRequest);
+            if (sample.isEmpty()) {
                 return;
             }
-            
-            // Collect all rows first to determine complete header set
-            List<Map<String, Object>> rows = new ArrayList<>();
-            Set<String> allHeaders = new LinkedHashSet<>();
-            
-            while (dtos.hasNext()) {
-                Map<String, Object> row = toFlatMap(dtos.next(), exportRequest);
-                rows.add(row);
-                allHeaders.addAll(row.keySet());
-            }
-            
-            if (rows.isEmpty()) {
-                return;
-            }
-            
-            String[] headers = allHeaders.toArray(new String[0]);
+
+            String[] headers = headersOf(sample);
             try (CSVPrinter printer = new CSVPrinter(
                     new OutputStreamWriter(out, StandardCharsets.UTF_8),
                     CSVFormat.DEFAULT.withHeader(headers))) {
-                for (Map<String, Object> row : rows) {
-                    writeCsvRow(printer, headers, row);
+                Iterator<Map<String, Object>> rows = flatRows(sample, dtos, exportRequest);
+                long written = 0;
+                while (rows.hasNext()) {
+                    writeCsvRow(printer, headers, rows.next());
+                    if (++written % flushEvery == 0) {
+                        printer.flush();
+                    }
                 }
                 printer.flush();
             }
@@ -304,6 +304,17 @@ public final class ExportUtil {
         }
     }
 
+    /**
+     * Streams a list of DTOs to a CSV file.
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the CSV to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     */
+    public static <R> void streamCsv(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest) {
+        streamCsv(dtos, out, exportRequest, JsonExportWriter.DEFAULT_FLUSH_EVERY);
+    }
+
     /**
      * Streams a list of DTOs to a CSV file.
      *
@@ -324,11 +335,108 @@ public final class ExportUtil {
     private static void writeCsvRow(CSVPrinter printer, String[] headers,
                                     Map<String, Object> row) throws Exception {
         for (String h : headers) {
-            printer.print(row.get(h));
+            printer.print(columnValue(row, h));
         }
         printer.println();
     }
 
+    /**
+     * Reads and flattens up to {@link #HEADER_SAMPLE_ROWS} rows to plan the export columns.
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @return the flattened leading rows
+     */
+    private static <R> List<Map<String, Object>> sampleRows(Iterator<R> dtos, ExportRequest exportRequest) {
+        List<Map<String, Object>> sample = new ArrayList<>();
+        while (sample.size() < HEADER_SAMPLE_ROWS && dtos.hasNext()) {
+            sample.add(toFlatMap(dtos.next(), exportRequest));
+        }
+        return sample;
+    }
+
+    /**
+     * Collects the union of the keys of the sampled rows, in first-seen order.
+     *
+     * @param sample the flattened leading rows
+     * @return the column headers
+     */
+    private static String[] headersOf(List<Map<String, Object>> sample) {
+        Set<String> headers = new LinkedHashSet<>();
+        for (Map<String, Object> row : sample) {
+            headers.addAll(row.keySet());
+        }
+        return headers.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the sampled rows followed by the remaining DTOs, flattened one at a time.
+     *
+     * @param sample the flattened leading rows
+     * @param rest the iterator supplying the remaining DTOs
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @return an iterator over all flattened rows
+     */
+    private static <R> Iterator<Map<String, Object>> flatRows(List<Map<String, Object>> sample,
+                                                              Iterator<R> rest,
+                                                              ExportRequest exportRequest) {
+        Iterator<Map<String, Object>> head = sample.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return head.hasNext() || rest.hasNext();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                return head.hasNext() ? head.next() : toFlatMap(rest.next(), exportRequest);
+            }
+        };
+    }
+
+    /**
+     * Looks up the value of a column in a flattened row.
+     * A nested object that was null throughout the sample has a single column; when a later
+     * row does carry it, its flattened properties are written to that column as JSON.
+     * Properties that match no column at all are left out.
+     *
+     * @param row the flattened row
+     * @param header the column header
+     * @return the cell value, or null when the row has none
+     */
+    private static Object columnValue(Map<String, Object> row, String header) {
+        if (row.containsKey(header)) {
+            return row.get(header);
+        }
+        String prefix = header + ".";
+        Map<String, Object> nested = null;
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                if (nested == null) {
+                    nested = new LinkedHashMap<>();
+                }
+                nested.put(entry.getKey().substring(prefix.length()), entry.getValue());
+            }
+        }
+        if (nested == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(nested);
+        } catch (Exception e) {
+            return nested.toString();
+        }
+    }
+
+    /**
+     * Returns the shared JSON export writer, configured like the JSON exports of this class.
+     *
+     * @return the JSON export writer
+     */
+    public static JsonExportWriter jsonWriter() {
+        return JSON_WRITER;
+    }
+
     /**
      * Streams a list of DTOs to a JSON array.
      * If exportRequest is provided, filters fields according to include/exclude rules.
@@ -337,29 +445,30 @@ public final class ExportUtil {
      * @param dtos the iterator of DTOs to export
      * @param out  the output stream to write the JSON to
      * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param flushEvery the number of rows written between flushes
      */
-    public static <R> void streamJson(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest) {
-        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
-            gen.writeStartArray();
-            while (dtos.hasNext()) {
-                R dto = dtos.next();
-                if (exportRequest == null) {
-                    objectMapper.writeValue(gen, dto);
-                } else {
-                    // Convert to map and filter fields
-                    Map<String, Object> map = objectMapper.convertValue(
-                            dto, new TypeReference<Map<String, Object>>() {});
-                    Map<String, Object> filtered = filterJsonMap(map, exportRequest, "");
-                    objectMapper.writeValue(gen, filtered);
-                }
-            }
-            gen.writeEndArray();
-            gen.flush();
+    public static <R> void streamJson(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                                      int flushEvery) {
+        try {
+            JSON_WRITER.writeDtos(dtos, out, exportRequest, JsonExportWriter.Layout.ARRAY, flushEvery);
         } catch (Exception e) {
             throw new RuntimeException("Failed to export JSON", e);
         }
     }
 
+    /**
+     * Streams a list of DTOs to a JSON array.
+     * If exportRequest is provided, filters fields according to include/exclude rules.
+     * Unlike CSV/XLSX, JSON exports keep the nested object structure (no flattening).
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the JSON to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     */
+    public static <R> void streamJson(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest) {
+        streamJson(dtos, out, exportRequest, JsonExportWriter.DEFAULT_FLUSH_EVERY);
+    }
+
     /**
      * Streams a list of DTOs to a JSON array (without field filtering).
      *
@@ -371,133 +480,126 @@ public final class ExportUtil {
     }
 
     /**
-     * Filters a map structure based on ExportRequest rules, keeping nested structure intact.
-     * Unlike flattenMap, this preserves the hierarchical structure for JSON exports.
+     * Streams a list of DTOs as newline-delimited JSON, one object per line.
+     * If exportRequest is provided, filters fields according to include/exclude rules.
      *
-     * @param map the map to filter
-     * @param exportRequest the export request with filtering rules
-     * @param prefix the current path prefix for nested fields
-     * @return filtered map
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the NDJSON to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param flushEvery the number of rows written between flushes
      */
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> filterJsonMap(Map<String, Object> map, 
-                                                      ExportRequest exportRequest, 
-                                                      String prefix) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String key = entry.getKey();
-            String fullPath = prefix.isEmpty() ? key : prefix + "." + key;
-            Object value = entry.getValue();
-            
-            // Check if this field or any of its descendants should be included
-            boolean shouldInclude = exportRequest.shouldIncludeField(fullPath);
-            boolean hasIncludedDescendants = exportRequest.hasIncludedDescendants(fullPath);
-            
-            // Skip if this field is not included and has no included descendants
-            if (!shouldInclude && !hasIncludedDescendants) {
-                continue;
-            }
-            
-            // Process the value
-            if (value == null) {
-                // Only include null if the field itself is included (not just descendants)
-                if (shouldInclude) {
-                    result.put(key, null);
-                }
-            } else if (value instanceof Map) {
-                // Recursively filter nested maps
-                Map<String, Object> nestedMap = (Map<String, Object>) value;
-                Map<String, Object> filteredNested = filterJsonMap(nestedMap, exportRequest, fullPath);
-                if (!filteredNested.isEmpty()) {
-                    result.put(key, filteredNested);
-                }
-            } else if (value instanceof Collection) {
-                // Process collections
-                Collection<?> collection = (Collection<?>) value;
-                if (!collection.isEmpty()) {
-                    List<Object> filteredList = new ArrayList<>();
-                    for (Object item : collection) {
-                        if (item instanceof Map) {
-                            Map<String, Object> itemMap = (Map<String, Object>) item;
-                            Map<String, Object> filteredItem = filterJsonMap(itemMap, exportRequest, fullPath);
-                            if (!filteredItem.isEmpty()) {
-                                filteredList.add(filteredItem);
-                            }
-                        } else {
-                            // Scalar items in collection: only include if parent is included
-                            if (shouldInclude) {
-                                filteredList.add(item);
-                            }
-                        }
-                    }
-                    if (!filteredList.isEmpty()) {
-                        result.put(key, filteredList);
-                    }
-                } else {
-                    // Empty collection: only include if the field itself is included
-                    if (shouldInclude) {
-                        result.put(key, collection);
-                    }
-                }
-            } else {
-                // Scalar value: only include if the field itself is included
-                if (shouldInclude) {
-                    result.put(key, value);
-                }
-            }
+    public static <R> void streamNdjson(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                                        int flushEvery) {
+        try {
+            JSON_WRITER.writeDtos(dtos, out, exportRequest, JsonExportWriter.Layout.NDJSON, flushEvery);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to export NDJSON", e);
         }
-        
-        return result;
     }
 
     /**
-     * Streams a list of DTOs to an XLSX file.
+     * Streams a list of DTOs as newline-delimited JSON, one object per line.
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the NDJSON to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     */
+    public static <R> void streamNdjson(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest) {
+        streamNdjson(dtos, out, exportRequest, JsonExportWriter.DEFAULT_FLUSH_EVERY);
+    }
+
+    /**
+     * Streams a list of DTOs as a Smile-encoded array, the binary equivalent of
+     * {@link #streamJson(Iterator, OutputStream, ExportRequest, int)}.
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the Smile document to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param flushEvery the number of rows between flushes
+     */
+    public static <R> void streamSmile(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                                       int flushEvery) {
+        try {
+            SMILE_WRITER.writeDtos(dtos, out, exportRequest, JsonExportWriter.Layout.ARRAY, flushEvery);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to export Smile", e);
+        }
+    }
+
+    /**
+     * Streams a list of DTOs as a CBOR-encoded array, the binary equivalent of
+     * {@link #streamJson(Iterator, OutputStream, ExportRequest, int)}.
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the CBOR document to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param flushEvery the number of rows between flushes
+     */
+    public static <R> void streamCbor(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                                      int flushEvery) {
+        try {
+            CBOR_WRITER.writeDtos(dtos, out, exportRequest, JsonExportWriter.Layout.ARRAY, flushEvery);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to export CBOR", e);
+        }
+    }
+
+    /**
+     * Streams a list of DTOs to an XLSX file using the default {@link XlsxExportSettings}.
      *
      * @param dtos the iterator of DTOs to export
      * @param out  the output stream to write the XLSX file to
      * @param exportRequest the export request for field filtering (null for no filtering)
      */
     public static <R> void streamXlsx(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest) {
-        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("export");
-            if (!dtos.hasNext()) {
-                workbook.write(out);
-                workbook.dispose();
-                return;
-            }
-            
-            // Collect all rows first to determine complete header set
-            List<Map<String, Object>> rows = new ArrayList<>();
-            Set<String> allHeaders = new LinkedHashSet<>();
-            
-            while (dtos.hasNext()) {
-                Map<String, Object> rowMap = toFlatMap(dtos.next(), exportRequest);
-                rows.add(rowMap);
-                allHeaders.addAll(rowMap.keySet());
-            }
-            
-            if (rows.isEmpty()) {
-                workbook.write(out);
-                workbook.dispose();
-                return;
-            }
-            
-            String[] headers = allHeaders.toArray(new String[0]);
-            Row headerRow = sheet.createRow(0);
-            for (int c = 0; c < headers.length; c++) {
-                headerRow.createCell(c).setCellValue(headers[c]);
-            }
-            
-            int r = 1;
-            for (Map<String, Object> rowMap : rows) {
-                writeXlsxRow(sheet.createRow(r++), headers, rowMap);
+        streamXlsx(dtos, out, exportRequest, XlsxExportSettings.defaults());
+    }
+
+    /**
+     * Streams a list of DTOs to an XLSX file.
+     * Rows beyond the per-sheet limit continue on a new sheet with its own header row, and
+     * cells are typed per column: numeric and boolean columns keep their type, everything
+     * else is written as text. Columns and their types are planned from the first
+     * {@value #HEADER_SAMPLE_ROWS} rows; later rows are written as they are read, so only the
+     * sample and the SXSSF window are held in memory. Temporary files are always removed,
+     * also when writing fails.
+     *
+     * @param dtos the iterator of DTOs to export
+     * @param out  the output stream to write the XLSX file to
+     * @param exportRequest the export request for field filtering (null for no filtering)
+     * @param settings the XLSX writer settings
+     */
+    public static <R> void streamXlsx(Iterator<R> dtos, OutputStream out, ExportRequest exportRequest,
+                                      XlsxExportSettings settings) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, settings.getWindowSize(),
+                settings.isCompressTempFiles(), !settings.isInlineStrings());
+        try {
+            List<Map<String, Object>> sample = sampleRows(dtos, exportRequest);
+            String[] headers = headersOf(sample);
+            CellType[] columnTypes = planColumns(headers, sample);
+
+            int sheetNumber = 1;
+            Sheet sheet = createXlsxSheet(workbook, sheetNumber, headers);
+            int r = headers.length > 0 ? 1 : 0;
+            Iterator<Map<String, Object>> rows = flatRows(sample, dtos, exportRequest);
+            while (rows.hasNext()) {
+                if (r >= settings.getMaxRowsPerSheet()) {
+                    sheet = createXlsxSheet(workbook, ++sheetNumber, headers);
+                    r = 1;
+                }
+                writeXlsxRow(sheet.createRow(r++), headers, columnTypes, rows.next());
             }
             
             workbook.write(out);
-            workbook.dispose();
         } catch (Exception e) {
             throw new RuntimeException("Failed to export XLSX", e);
+        } finally {
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (IOException ignored) {
+                // Nothing left to release once the temp files are disposed
+            }
         }
     }
 
@@ -511,17 +613,103 @@ public final class ExportUtil {
         streamXlsx(dtos, out, null);
     }
 
+    /**
+     * Creates an export sheet and writes its header row.
+     * The first sheet is named {@code export}, rollover sheets {@code export-2}, {@code export-3}, ...
+     *
+     * @param workbook the workbook to add the sheet to
+     * @param number   the 1-based sheet number
+     * @param headers  the column headers
+     * @return the new sheet
+     */
+    private static Sheet createXlsxSheet(SXSSFWorkbook workbook, int number, String[] headers) {
+        Sheet sheet = workbook.createSheet(number == 1 ? "export" : "export-" + number);
+        if (headers.length > 0) {
+            Row headerRow = sheet.createRow(0);
+            for (int c = 0; c < headers.length; c++) {
+                headerRow.createCell(c).setCellValue(headers[c]);
+            }
+        }
+        return sheet;
+    }
+
+    /**
+     * Determines the cell type of every column from the sampled rows.
+     * A column is numeric or boolean only when all its sampled non-null values are; numbers that
+     * do not fit a double exactly (such as large identifiers) force the column to text.
+     *
+     * @param headers the column headers
+     * @param rows    the flattened leading rows
+     * @return the cell type per column
+     */
+    private static CellType[] planColumns(String[] headers, List<Map<String, Object>> rows) {
+        CellType[] types = new CellType[headers.length];
+        for (int c = 0; c < headers.length; c++) {
+            CellType type = CellType.BLANK;
+            for (Map<String, Object> row : rows) {
+                Object val = row.get(headers[c]);
+                if (val == null) {
+                    continue;
+                }
+                CellType valueType = val instanceof Number number && isExactDouble(number)
+                        ? CellType.NUMERIC
+                        : val instanceof Boolean ? CellType.BOOLEAN : CellType.STRING;
+                if (type == CellType.BLANK) {
+                    type = valueType;
+                } else if (type != valueType) {
+                    type = CellType.STRING;
+                }
+                if (type == CellType.STRING) {
+                    break;
+                }
+            }
+            types[c] = type == CellType.BLANK ? CellType.STRING : type;
+        }
+        return types;
+    }
+
+    private static boolean isExactDouble(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte
+                || number instanceof Double || number instanceof Float) {
+            return true;
+        }
+        if (number instanceof Long l) {
+            return Math.abs(l) <= MAX_EXACT_DOUBLE;
+        }
+        if (number instanceof BigInteger bi) {
+            return bi.abs().compareTo(BigInteger.valueOf(MAX_EXACT_DOUBLE)) <= 0;
+        }
+        if (number instanceof BigDecimal bd) {
+            return bd.compareTo(BigDecimal.valueOf(bd.doubleValue())) == 0;
+        }
+        return false;
+    }
+
     /**
      * Writes a single row to the XLSX sheet.
+     * A value that does not match the planned type of its column, which can only happen
+     * after the sample, is written as text.
      *
-     * @param excelRow the row to write to
-     * @param headers  the headers for the columns
-     * @param row      the data for the row
+     * @param excelRow    the row to write to
+     * @param headers     the headers for the columns
+     * @param columnTypes the cell type per column
+     * @param row         the data for the row
      */
-    private static void writeXlsxRow(Row excelRow, String[] headers, Map<String, Object> row) {
+    private static void writeXlsxRow(Row excelRow, String[] headers, CellType[] columnTypes,
+                                     Map<String, Object> row) {
         for (int c = 0; c < headers.length; c++) {
-            Object val = row.get(headers[c]);
-            excelRow.createCell(c).setCellValue(val != null ? val.toString() : "");
+            Object val = columnValue(row, headers[c]);
+            Cell cell = excelRow.createCell(c);
+            if (val == null) {
+                cell.setCellValue("");
+            } else if (columnTypes[c] == CellType.NUMERIC && val instanceof Number number
+                    && isExactDouble(number)) {
+                cell.setCellValue(number.doubleValue());
+            } else if (columnTypes[c] == CellType.BOOLEAN && val instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(val.toString());
+            }
         }
     }
-}
\ No newline at end of file
+}
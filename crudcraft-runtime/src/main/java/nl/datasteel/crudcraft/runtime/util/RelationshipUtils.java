@@ -17,49 +17,95 @@ package nl.datasteel.crudcraft.runtime.util;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessor;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessors;
 import nl.datasteel.crudcraft.runtime.exception.RelationshipException;
 
 /**
  * Utility class for fixing or clearing bidirectional relationships in entities.
+ *
+ * <p>Entities with a generated {@link EntityAccessor} are handled through it. Otherwise the
+ * static {@code fix}/{@code clear} methods of the generated {@code RelationshipMeta} class are
+ * invoked; they are looked up once per entity class, and classes without metadata are
+ * remembered and skipped.
  */
 public final class RelationshipUtils {
+
+    private static final Map<Class<?>, MetaMethods> META = new ConcurrentHashMap<>();
+
     private RelationshipUtils() {
         throw new IllegalStateException("Utility class should not be instantiated");
     }
 
     /**
-     * Call after save: invoke compile-generated Meta.fix(entity), if present.
+     * Call after save: fix the inverse side of the entity's bidirectional relationships.
      */
-    @SuppressWarnings("PMD.EmptyCatchBlock")
     public static <E> void fixBidirectional(E entity) {
-        try {
-            String pkg = entity.getClass().getPackageName() + ".meta";
-            String metaClass = pkg + "." + entity.getClass().getSimpleName() + "RelationshipMeta";
-            Method m = Class.forName(metaClass).getMethod("fix", entity.getClass());
-            m.invoke(null, entity);
-        } catch (ClassNotFoundException cnf) {
-            // No generated metadata means skip the class,
-            // this is normal for entities without relationships
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new RelationshipException("Failed to fix bidirectional relationship", e);
+        EntityAccessor<E> accessor = EntityAccessors.find(entity.getClass());
+        if (accessor != null) {
+            accessor.fixRelationships(entity);
+            return;
         }
+        invoke(meta(entity.getClass()).fix(), entity, "Failed to fix bidirectional relationship");
     }
 
     /**
-     * Call before delete: invoke compile-generated Meta.clear(entity), if present.
+     * Call before delete: clear the inverse side of the entity's bidirectional relationships.
      */
-    @SuppressWarnings("PMD.EmptyCatchBlock")
     public static <E> void clearBidirectional(E entity) {
+        EntityAccessor<E> accessor = EntityAccessors.find(entity.getClass());
+        if (accessor != null) {
+            accessor.clearRelationships(entity);
+            return;
+        }
+        invoke(meta(entity.getClass()).clear(), entity, "Failed to clear bidirectional relationship");
+    }
+
+    private static void invoke(Method method, Object entity, String failure) {
+        if (method == null) {
+            return;
+        }
         try {
-            String pkg = entity.getClass().getPackageName() + ".meta";
-            String metaClass = pkg + "." + entity.getClass().getSimpleName() + "RelationshipMeta";
-            Method m = Class.forName(metaClass).getMethod("clear", entity.getClass());
-            m.invoke(null, entity);
+            method.invoke(null, entity);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RelationshipException(failure, e);
+        }
+    }
 
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private static MetaMethods meta(Class<?> type) {
+        MetaMethods cached = META.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        MetaMethods methods = MetaMethods.NONE;
+        try {
+            String metaClass = type.getPackageName() + ".meta." + type.getSimpleName()
+                    + "RelationshipMeta";
+            Class<?> meta = Class.forName(metaClass, true, type.getClassLoader());
+            methods = new MetaMethods(lookup(meta, "fix", type), lookup(meta, "clear", type));
         } catch (ClassNotFoundException cnf) {
-            // No generated metadata means skip the class
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new RelationshipException("Failed to clear bidirectional relationship", e);
+            // No generated metadata means skip the class,
+            // this is normal for entities without relationships
+        }
+        META.putIfAbsent(type, methods);
+        return methods;
+    }
+
+    private static Method lookup(Class<?> meta, String name, Class<?> type) {
+        try {
+            return meta.getMethod(name, type);
+        } catch (NoSuchMethodException e) {
+            throw new RelationshipException("Failed to resolve " + meta.getName() + "." + name, e);
         }
     }
+
+    /**
+     * The resolved {@code fix}/{@code clear} methods of a RelationshipMeta class.
+     */
+    private record MetaMethods(Method fix, Method clear) {
+        static final MetaMethods NONE = new MetaMethods(null, null);
+    }
 }
@@ -15,14 +15,19 @@
  */
 package nl.datasteel.crudcraft.runtime.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import nl.datasteel.crudcraft.runtime.Identified;
 import nl.datasteel.crudcraft.runtime.controller.response.PaginatedResponse;
+import nl.datasteel.crudcraft.runtime.exception.BadRequestException;
+import nl.datasteel.crudcraft.runtime.fields.FieldSelection;
 import nl.datasteel.crudcraft.runtime.search.SearchRequest;
 import nl.datasteel.crudcraft.runtime.service.AbstractCrudService;
+import nl.datasteel.crudcraft.runtime.service.Versioned;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,8 +37,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 class AbstractCrudControllerTest {
@@ -48,6 +64,10 @@ class AbstractCrudControllerTest {
     static class Ctrl extends AbstractCrudController<Entity,Req,Resp,Ref,SR,Integer>{
         Ctrl(AbstractCrudService<Entity,Req,Resp,Ref,Integer> s){super(s);}
     }
+    @RestController
+    static class WebCtrl extends Ctrl{
+        WebCtrl(AbstractCrudService<Entity,Req,Resp,Ref,Integer> s){super(s);}
+    }
 
     AbstractCrudService<Entity,Req,Resp,Ref,Integer> service;
     Ctrl controller;
@@ -101,11 +121,106 @@ class AbstractCrudControllerTest {
     @Test
     void getByIdReturnsDto(){
         Resp resp = new Resp(1,"a");
-        when(service.findById(1)).thenReturn(resp);
+        when(service.findVersionedById(1)).thenReturn(new Versioned<>(null, resp));
         ResponseEntity<Resp> entity = controller.getById(1);
         assertEquals(resp, entity.getBody());
     }
 
+    @Test
+    void getByIdAnswersNotModifiedWithoutLoadingWhenVersionMatches(){
+        Resp resp = new Resp(1,"a");
+        when(service.versionTag(1)).thenReturn("3");
+        when(service.findVersionedById(1)).thenReturn(new Versioned<>("3", resp));
+        controller.cacheControl = "private, no-cache";
+
+        ResponseEntity<Resp> first = controller.getById(1, null);
+        String etag = first.getHeaders().getETag();
+        assertEquals(HttpCaching.versionTag("3"), etag);
+        assertEquals("private, no-cache", first.getHeaders().getCacheControl());
+        verify(service, never()).versionTag(any());
+
+        ResponseEntity<Resp> second = controller.getById(1, etag);
+        assertEquals(304, second.getStatusCode().value());
+        assertNull(second.getBody());
+        assertEquals(etag, second.getHeaders().getETag());
+        verify(service, times(1)).findVersionedById(1);
+    }
+
+    @Test
+    void getByIdFallsBackToContentTagWithoutVersion() throws Exception {
+        when(service.findVersionedById(1)).thenReturn(new Versioned<>(null, new Resp(1,"a")));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new WebCtrl(service))
+                .addFilters(new ContentTagFilter())
+                .build();
+
+        String etag = mvc.perform(get("/1")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals(304, mvc.perform(get("/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse().getStatus());
+
+        when(service.findVersionedById(1)).thenReturn(new Versioned<>(null, new Resp(1,"b")));
+        assertEquals(200, mvc.perform(get("/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse().getStatus());
+        verify(service, times(2)).versionTag(1);
+    }
+
+    @Test
+    void getAllAnswersNotModifiedForUnchangedPage() throws Exception {
+        Page<Resp> page = new PageImpl<>(List.of(new Resp(1,"a")), PageRequest.of(0,10), 1);
+        when(service.search(any(), any())).thenReturn(page);
+        WebCtrl web = new WebCtrl(service);
+        web.maxPageSize = 50;
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(web)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .addFilters(new ContentTagFilter())
+                .build();
+
+        MockHttpServletResponse first = mvc.perform(get("/")).andReturn().getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals(HttpCaching.contentTag(first.getContentAsByteArray()), etag);
+
+        MockHttpServletResponse second = mvc.perform(get("/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse();
+        assertEquals(304, second.getStatus());
+        assertEquals(0, second.getContentAsByteArray().length);
+    }
+
+    @Test
+    void getAllFieldsClampsPageAndParsesSelection(){
+        Page<Map<String, Object>> page = new PageImpl<>(List.of(Map.of("name", "a")));
+        when(service.searchFields(any(), any(), any())).thenReturn(page);
+
+        ResponseEntity<PaginatedResponse<Map<String, Object>>> entity =
+                controller.getAllFields(PageRequest.of(0, 100), searchRequest, "name");
+
+        assertEquals(List.of(Map.of("name", "a")), entity.getBody().content());
+        verify(service).searchFields(eq(searchRequest), eq(PageRequest.of(0, 50)),
+                argThat(s -> s.paths().equals(List.of("name"))));
+    }
+
+    @Test
+    void getAllFieldsRejectsMalformedSelection(){
+        assertThrows(BadRequestException.class,
+                () -> controller.getAllFields(null, searchRequest, "a..b"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void getByIdFieldsTagsVersionPerSelection(){
+        when(service.versionTag(1)).thenReturn("3");
+        when(service.findVersionedFieldsById(eq(1), any())).thenAnswer(inv -> new Versioned<>(
+                inv.<FieldSelection>getArgument(1).version("3"), Map.of("name", "a")));
+        when(service.findVersionedById(1)).thenReturn(new Versioned<>("3", new Resp(1, "a")));
+
+        ResponseEntity<Map<String, Object>> first = controller.getByIdFields(1, "name", null);
+        String etag = first.getHeaders().getETag();
+        assertEquals(Map.of("name", "a"), first.getBody());
+        assertEquals(304, controller.getByIdFields(1, "name", etag).getStatusCode().value());
+        assertEquals(200, controller.getByIdFields(1, "id,name", etag).getStatusCode().value());
+        assertEquals(200, controller.getById(1, etag).getStatusCode().value());
+    }
+
     @Test
     void createReturnsCreatedStatus(){
         Resp resp = new Resp(1,"a");
@@ -282,4 +397,50 @@ class AbstractCrudControllerTest {
     void exportNegativeLimitThrows() {
         assertThrows(IllegalArgumentException.class, () -> controller.export(searchRequest, -1, "csv"));
     }
+
+    @Test
+    void streamIsNotServedUnlessEnabled() {
+        assertEquals(404, controller.stream(searchRequest, null, null, null).getStatusCode().value());
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void streamWritesNdjsonFromKeysetChunks() throws Exception {
+        controller.streamEnabled = true;
+        controller.maxPageSize = 2;
+        when(service.searchAfter(searchRequest, null, 2)).thenReturn(List.of(
+                new Identified<>(1, new Resp(1, "a")), new Identified<>(2, new Resp(2, "b"))));
+        when(service.searchAfter(searchRequest, 2, 2)).thenReturn(List.of(
+                new Identified<>(3, new Resp(3, "c"))));
+
+        ResponseEntity<StreamingResponseBody> resp = controller.stream(searchRequest, null, null, null);
+        assertEquals("application/x-ndjson", resp.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resp.getBody().writeTo(out);
+
+        assertEquals(3, out.toString().strip().split("\n").length);
+        verify(service, times(2)).searchAfter(eq(searchRequest), any(), eq(2));
+    }
+
+    @Test
+    void negotiatesBinaryRequestAndResponseBodies() throws Exception {
+        ObjectMapper cbor = BinaryFormats.cborMapper(new ObjectMapper());
+        ObjectMapper smile = BinaryFormats.smileMapper(new ObjectMapper());
+        when(service.findByIds(List.of(1, 2))).thenReturn(List.of(new Resp(1, "a"), new Resp(2, "b")));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new WebCtrl(service))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(),
+                        new MappingJackson2SmileHttpMessageConverter(smile),
+                        new MappingJackson2CborHttpMessageConverter(cbor))
+                .build();
+
+        MvcResult result = mvc.perform(post("/batch/ids")
+                        .contentType(BinaryFormats.CBOR)
+                        .accept(BinaryFormats.SMILE)
+                        .content(cbor.writeValueAsBytes(List.of(1, 2))))
+                .andReturn();
+
+        assertEquals(BinaryFormats.SMILE_VALUE, result.getResponse().getContentType());
+        Resp[] body = smile.readValue(result.getResponse().getContentAsByteArray(), Resp[].class);
+        assertEquals(List.of(new Resp(1, "a"), new Resp(2, "b")), List.of(body));
+    }
 }
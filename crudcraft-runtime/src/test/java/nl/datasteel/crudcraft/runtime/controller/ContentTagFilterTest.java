@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package nl.datasteel.crudcraft.runtime.controller;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ContentTagFilterTest {
+
+    private static final byte[] BODY = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final ContentTagFilter filter = new ContentTagFilter();
+
+    /** Writes the body, asking for a content tag when {@code tagged}. */
+    private static MockFilterChain chain(boolean tagged, int status) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                if (tagged) {
+                    req.setAttribute(HttpCaching.CONTENT_TAG_ATTRIBUTE, Boolean.TRUE);
+                }
+                resp.setStatus(status);
+                resp.getOutputStream().write(BODY);
+                resp.flushBuffer();
+            }
+        });
+    }
+
+    @Test
+    void tagsRequestedResponsesWithHashOfWrittenBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), response, chain(true, 200));
+
+        assertEquals(HttpCaching.contentTag(BODY), response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+        assertEquals(BODY.length, response.getContentLength());
+    }
+
+    @Test
+    void answersMatchingIfNoneMatchWithoutBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, HttpCaching.contentTag(BODY));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain(true, 200));
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void writesOtherResponsesStraightThrough() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.getOutputStream().write(BODY);
+                resp.flushBuffer();
+                assertTrue(resp.isCommitted());
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), response, chain);
+
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void handsOutUnderlyingStreamAndLengthWhenUntagged() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentLength(BODY.length);
+                assertSame(response.getOutputStream(), resp.getOutputStream());
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), response, chain);
+
+        assertEquals(BODY.length, response.getContentLength());
+    }
+
+    @Test
+    void leavesErrorsAndWritesUntagged() throws Exception {
+        MockHttpServletResponse error = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), error, chain(true, 404));
+        assertNull(error.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(BODY, error.getContentAsByteArray());
+
+        MockHttpServletResponse post = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/"), post, chain(true, 200));
+        assertNull(post.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(BODY, post.getContentAsByteArray());
+    }
+}
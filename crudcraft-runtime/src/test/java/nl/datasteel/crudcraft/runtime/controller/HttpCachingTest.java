@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import nl.datasteel.crudcraft.runtime.service.Versioned;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class HttpCachingTest {
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static void login(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(
+                        "user", "n/a", AuthorityUtils.createAuthorityList(authorities)));
+    }
+
+    @Test
+    void matchesUsesWeakComparisonListsAndWildcard() {
+        assertTrue(HttpCaching.matches("W/\"a\"", "W/\"a\""));
+        assertTrue(HttpCaching.matches("\"a\"", "W/\"a\""));
+        assertTrue(HttpCaching.matches("\"x\", W/\"a\"", "W/\"a\""));
+        assertTrue(HttpCaching.matches("*", "W/\"a\""));
+        assertFalse(HttpCaching.matches("W/\"b\"", "W/\"a\""));
+        assertFalse(HttpCaching.matches(null, "W/\"a\""));
+        assertFalse(HttpCaching.matches(" ", "W/\"a\""));
+    }
+
+    @Test
+    void versionTagVariesWithAuthorities() {
+        login("ROLE_A");
+        String a = HttpCaching.versionTag("7");
+        login("ROLE_B");
+        String b = HttpCaching.versionTag("7");
+
+        assertTrue(a.startsWith("W/\"7-"));
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    void contentTagIsStableAndSensitiveToContent() {
+        byte[] body = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        assertEquals(HttpCaching.contentTag(body), HttpCaching.contentTag(body.clone()));
+        assertNotEquals(HttpCaching.contentTag(body),
+                HttpCaching.contentTag("{\"a\":2}".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(HttpCaching.contentTag(body).startsWith("W/\""));
+    }
+
+    @Test
+    void tagContentMarksRequestForContentTagFilter() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        ResponseEntity<String> entity = HttpCaching.tagContent("private, no-cache", "body");
+
+        assertEquals(200, entity.getStatusCode().value());
+        assertEquals("body", entity.getBody());
+        assertNull(entity.getHeaders().getETag());
+        assertEquals(Boolean.TRUE, request.getAttribute(HttpCaching.CONTENT_TAG_ATTRIBUTE));
+    }
+
+    @Test
+    void matchingVersionSkipsBody() {
+        AtomicInteger built = new AtomicInteger();
+        String etag = HttpCaching.versionTag("1");
+
+        ResponseEntity<String> entity = HttpCaching.conditional(etag, "private, no-cache",
+                () -> "1", () -> new Versioned<>("1", "body" + built.incrementAndGet()));
+
+        assertEquals(304, entity.getStatusCode().value());
+        assertEquals(0, built.get());
+        assertEquals("private, no-cache", entity.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL));
+        assertEquals(HttpHeaders.ACCEPT, entity.getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    void changedVersionReturnsBodyWithNewTag() {
+        String stale = HttpCaching.versionTag("1");
+
+        ResponseEntity<String> entity = HttpCaching.conditional(stale, "", () -> "2",
+                () -> new Versioned<>("2", "body"));
+
+        assertEquals(200, entity.getStatusCode().value());
+        assertEquals("body", entity.getBody());
+        assertEquals(HttpCaching.versionTag("2"), entity.getHeaders().getETag());
+        assertFalse(entity.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void missingIfNoneMatchSkipsVersionLookupAndTagsLoadedVersion() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        ResponseEntity<String> entity = HttpCaching.conditional(null, "",
+                () -> String.valueOf(lookups.incrementAndGet()), () -> new Versioned<>("5", "body"));
+
+        assertEquals(0, lookups.get());
+        assertEquals(200, entity.getStatusCode().value());
+        assertEquals(HttpCaching.versionTag("5"), entity.getHeaders().getETag());
+    }
+}
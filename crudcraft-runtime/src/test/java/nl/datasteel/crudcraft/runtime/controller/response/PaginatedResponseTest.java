@@ -15,10 +15,16 @@
  */
 package nl.datasteel.crudcraft.runtime.controller.response;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 class PaginatedResponseTest {
 
@@ -36,4 +42,58 @@ class PaginatedResponseTest {
         PaginatedResponse<String> resp = new PaginatedResponse<>(null, 1, 1, 1, 0, false, false);
         assertTrue(resp.content().isEmpty());
     }
+
+    @Test
+    void ofFiltersRowsAsTheyAreReadWithoutCopying() {
+        Page<String> page = new PageImpl<>(List.of("a", "b"), PageRequest.of(1, 2), 6);
+        AtomicInteger filtered = new AtomicInteger();
+
+        PaginatedResponse<String> resp = PaginatedResponse.of(page, row -> {
+            filtered.incrementAndGet();
+            return row.toUpperCase();
+        });
+
+        assertEquals(0, filtered.get());
+        assertEquals("B", resp.content().get(1));
+        assertEquals(1, filtered.get());
+        assertEquals(List.of("A"), resp.content().subList(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> resp.content().add("c"));
+        assertEquals(1, resp.page());
+        assertEquals(2, resp.size());
+        assertEquals(3, resp.totalPages());
+        assertEquals(6, resp.totalElements());
+        assertFalse(resp.first());
+        assertFalse(resp.last());
+    }
+
+    @Test
+    void ofFiltersEachRowOnlyOnce() {
+        Page<String> page = new PageImpl<>(List.of("a", "b", "c"), PageRequest.of(0, 3), 3);
+        AtomicInteger filtered = new AtomicInteger();
+
+        PaginatedResponse<String> resp = PaginatedResponse.of(page, row -> {
+            filtered.incrementAndGet();
+            return "b".equals(row) ? null : row.toUpperCase();
+        });
+
+        assertEquals(Arrays.asList("A", null, "C"), resp.content());
+        assertEquals(Arrays.asList("A", null, "C"), resp.content());
+        assertEquals(Arrays.asList(null, "C"), resp.content().subList(1, 3));
+        assertEquals(List.of("C"), resp.content().subList(1, 3).subList(1, 2));
+        assertEquals(3, filtered.get());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> resp.content().subList(1, 2).get(1));
+    }
+
+    @Test
+    void ofSerializesLikeCopiedContent() throws Exception {
+        Page<String> page = new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 2);
+        ObjectMapper mapper = new ObjectMapper();
+
+        String streamed = mapper.writeValueAsString(PaginatedResponse.of(page, String::toUpperCase));
+        String copied = mapper.writeValueAsString(
+                new PaginatedResponse<>(List.of("A", "B"), 0, 2, 1, 2, true, true));
+
+        assertEquals(copied, streamed);
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class ChunkFlushingIteratorTest {
+
+    @Test
+    void flushesOncePerCompletedChunk() {
+        int[] flushes = new int[1];
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+        ChunkFlushingIterator<Integer> iterator =
+                new ChunkFlushingIterator<>(List.of(1, 2, 3, 4, 5).iterator(), out, 2);
+
+        List<Integer> seen = new ArrayList<>();
+        while (iterator.hasNext()) {
+            iterator.hasNext();
+            seen.add(iterator.next());
+        }
+
+        assertEquals(List.of(1, 2, 3, 4, 5), seen);
+        assertEquals(2, flushes[0]);
+    }
+
+    @Test
+    void rejectsNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkFlushingIterator<>(List.of().iterator(), OutputStream.nullOutputStream(), 0));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class EntityExportServiceTest {
+
+    static class Item {
+        Long id;
+    }
+
+    private EntityManager entityManager;
+    private CriteriaBuilder cb;
+    private CriteriaQuery<Item> query;
+    private Root<Item> root;
+    private CriteriaQuery<Long> countQuery;
+    private Root<Item> countRoot;
+    private TypedQuery<Item> typedQuery;
+    private TypedQuery<Long> countTypedQuery;
+    private Path<Object> idPath;
+    private EntityExportService service;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        cb = mock(CriteriaBuilder.class);
+        query = mock(CriteriaQuery.class);
+        root = mock(Root.class);
+        countQuery = mock(CriteriaQuery.class);
+        countRoot = mock(Root.class);
+        typedQuery = mock(TypedQuery.class);
+        countTypedQuery = mock(TypedQuery.class);
+
+        when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createQuery(Item.class)).thenReturn(query);
+        when(query.from(Item.class)).thenReturn(root);
+        Metamodel metamodel = mock(Metamodel.class);
+        EntityType<Item> entityType = mock(EntityType.class);
+        Type<Long> idType = mock(Type.class);
+        SingularAttribute<Item, Long> idAttribute = mock(SingularAttribute.class);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(metamodel.entity(Item.class)).thenReturn(entityType);
+        doReturn(idType).when(entityType).getIdType();
+        when(idType.getJavaType()).thenReturn(Long.class);
+        doReturn(idAttribute).when(entityType).getId(Long.class);
+        when(idAttribute.getName()).thenReturn("id");
+        idPath = mock(Path.class);
+        when(root.get("id")).thenReturn(idPath);
+        when(query.select(root)).thenReturn(query);
+        when(query.distinct(true)).thenReturn(query);
+        when(entityManager.createQuery(query)).thenReturn(typedQuery);
+        when(typedQuery.getResultList()).thenReturn(List.of());
+
+        when(cb.createQuery(Long.class)).thenReturn(countQuery);
+        when(countQuery.from(Item.class)).thenReturn(countRoot);
+        when(cb.countDistinct(countRoot)).thenReturn(mock(Expression.class));
+        when(entityManager.createQuery(countQuery)).thenReturn(countTypedQuery);
+        when(countTypedQuery.getSingleResult()).thenReturn(3L);
+
+        EntityMetadataRegistry registry = mock(EntityMetadataRegistry.class);
+        when(registry.getMetadata(Item.class)).thenReturn(new EntityMetadata(Item.class, List.of()));
+        service = new EntityExportService(entityManager, registry);
+    }
+
+    @Test
+    void fetchAppliesFilterToPageAndCountQueries() {
+        Predicate pagePredicate = mock(Predicate.class);
+        Predicate countPredicate = mock(Predicate.class);
+        Specification<Item> filter = mock(Specification.class);
+        when(filter.toPredicate(root, query, cb)).thenReturn(pagePredicate);
+        when(filter.toPredicate(countRoot, countQuery, cb)).thenReturn(countPredicate);
+
+        Page<Item> page = service.fetchWithRelationships(
+                Item.class, new ExportRequest(), PageRequest.of(1, 10), filter);
+
+        verify(query).where(pagePredicate);
+        verify(countQuery).where(countPredicate);
+        verify(typedQuery).setFirstResult(10);
+        verify(typedQuery).setMaxResults(10);
+        assertEquals(3L, page.getTotalElements());
+    }
+
+    @Test
+    void fetchContentSkipsCountQuery() {
+        Specification<Item> filter = mock(Specification.class);
+
+        service.fetchContent(Item.class, new ExportRequest(), PageRequest.of(0, 5), filter);
+
+        verify(filter).toPredicate(root, query, cb);
+        verify(cb, never()).createQuery(Long.class);
+    }
+
+    @Test
+    void fetchContentOrdersPagesById() {
+        Order byId = mock(Order.class);
+        when(cb.asc(idPath)).thenReturn(byId);
+
+        service.fetchContent(Item.class, new ExportRequest(), PageRequest.of(2, 5), null);
+
+        verify(query).orderBy(List.of(byId));
+    }
+
+    @Test
+    void fetchWithoutFilterLeavesQueriesUnrestricted() {
+        service.fetchWithRelationships(Item.class, new ExportRequest(), PageRequest.of(0, 5));
+
+        verify(query, never()).where(any(Predicate.class));
+        verify(countQuery, never()).where(any(Predicate.class));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class EntitySerializerTest {
+
+    @Entity
+    static class Node {
+        @Id
+        private Long id;
+
+        private String name;
+
+        @ManyToOne
+        private Node parent;
+
+        @OneToMany(mappedBy = "parent")
+        private List<Node> children = new ArrayList<>();
+
+        Node(Long id, String name, Node parent) {
+            this.id = id;
+            this.name = name;
+            this.parent = parent;
+            if (parent != null) {
+                parent.children.add(this);
+            }
+        }
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final EntitySerializer serializer = new EntitySerializer(new EntityMetadataRegistry());
+
+    private String written(Object entity, ExportRequest request) throws Exception {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(json)) {
+            serializer.write(entity, request, gen);
+        }
+        return json.toString();
+    }
+
+    @Test
+    void writeMatchesSerializedMap() throws Exception {
+        Node root = new Node(1L, "root", null);
+        Node child = new Node(2L, "child", root);
+        new Node(3L, "grandchild", child);
+
+        for (int depth = 0; depth <= 2; depth++) {
+            ExportRequest request = new ExportRequest();
+            request.setMaxDepth(depth);
+            assertEquals(mapper.writeValueAsString(serializer.serialize(child, request)),
+                    written(child, request));
+        }
+    }
+
+    @Test
+    void writeAppliesFieldFilters() throws Exception {
+        Node root = new Node(1L, "root", null);
+        Node child = new Node(2L, "child", root);
+        ExportRequest request = new ExportRequest();
+        request.setIncludeFields(Set.of("name", "parent.name"));
+
+        assertEquals("{\"name\":\"child\",\"parent\":{\"name\":\"root\"}}", written(child, request));
+        assertEquals(mapper.writeValueAsString(serializer.serialize(child, request)), written(child, request));
+    }
+}
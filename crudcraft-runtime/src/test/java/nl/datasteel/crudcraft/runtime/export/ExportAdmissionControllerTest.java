@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import nl.datasteel.crudcraft.runtime.exception.TooManyRequestsException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ExportAdmissionControllerTest {
+
+    @Test
+    void enforcesPerPrincipalLimit() {
+        ExportAdmissionController admission = new ExportAdmissionController(10, 1, 0, Duration.ZERO, null);
+
+        ExportAdmissionController.Permit permit = admission.acquire("alice", "csv");
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire("alice", "csv"));
+        admission.acquire("bob", "csv").close();
+
+        permit.close();
+        admission.acquire("alice", "csv").close();
+        assertEquals(1, admission.getRejectedCount());
+    }
+
+    @Test
+    void anonymousCallersAreOnlyBoundByCapacity() {
+        ExportAdmissionController admission = new ExportAdmissionController(3, 1, 0, Duration.ZERO, null);
+
+        admission.acquire(null, "csv");
+        admission.acquire(null, "csv");
+        admission.acquire(null, "csv");
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> admission.acquire(null, "csv"));
+        assertTrue(e.getMessage().contains("capacity"));
+    }
+
+    @Test
+    void currentPrincipalLimitSkipsAnonymousAuthentication() {
+        ExportAdmissionController admission = new ExportAdmissionController(10, 1, 0, Duration.ZERO, null);
+        try {
+            SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                    "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+            admission.acquire("csv");
+            admission.acquire("csv");
+
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated("alice", null, List.of()));
+            admission.acquire("csv");
+            assertThrows(TooManyRequestsException.class, () -> admission.acquire("csv"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void weighsFormatsAgainstCapacity() {
+        ExportAdmissionController admission = new ExportAdmissionController(
+                4, 5, 0, Duration.ZERO, Map.of("xlsx", 3, "csv", 1));
+
+        try (ExportAdmissionController.Permit xlsx = admission.acquire("alice", "XLSX")) {
+            assertEquals(3, xlsx.getWeight());
+            assertEquals(1, admission.getAvailableCapacity());
+            admission.acquire("bob", "csv").close();
+            assertThrows(TooManyRequestsException.class, () -> admission.acquire("carol", "xlsx"));
+            assertEquals(1, admission.getRunning());
+        }
+        assertEquals(4, admission.getAvailableCapacity());
+        assertEquals(0, admission.getRunning());
+    }
+
+    @Test
+    void capsWeightAtCapacity() {
+        ExportAdmissionController admission = new ExportAdmissionController(
+                2, 1, 0, Duration.ZERO, Map.of("xlsx", 10));
+        assertEquals(2, admission.weightOf("xlsx"));
+        assertEquals(1, admission.weightOf("unknown"));
+    }
+
+    @Test
+    void queuedRequestIsAdmittedWhenCapacityFrees() throws Exception {
+        ExportAdmissionController admission = new ExportAdmissionController(
+                1, 5, 1, Duration.ofSeconds(5), null);
+        ExportAdmissionController.Permit first = admission.acquire("alice", "csv");
+
+        CompletableFuture<ExportAdmissionController.Permit> waiting =
+                CompletableFuture.supplyAsync(() -> admission.acquire("bob", "csv"));
+        while (admission.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        // The queue holds a single request
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire("carol", "csv"));
+
+        first.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+        assertEquals(0, admission.getQueued());
+        assertEquals(2, admission.getAdmittedCount());
+    }
+
+    @Test
+    void rejectsAfterQueueTimeout() {
+        ExportAdmissionController admission = new ExportAdmissionController(
+                1, 5, 4, Duration.ofMillis(20), null);
+        try (ExportAdmissionController.Permit ignored = admission.acquire("alice", "csv")) {
+            assertThrows(TooManyRequestsException.class, () -> admission.acquire("bob", "csv"));
+        }
+        assertEquals(0, admission.getQueued());
+    }
+
+    @Test
+    void closingPermitTwiceReleasesOnce() {
+        ExportAdmissionController admission = new ExportAdmissionController(2, 5, 0, Duration.ZERO, null);
+        ExportAdmissionController.Permit permit = admission.acquire("alice", "csv");
+        permit.close();
+        permit.close();
+        assertEquals(2, admission.getAvailableCapacity());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class ExportCompressionTest {
+
+    private final ExportCompression compression =
+            new ExportCompression(true, ExportCompression.DEFAULT_LEVEL, ExportCompression.DEFAULT_BUFFER_SIZE);
+
+    @Test
+    void explicitRequestOverridesAcceptEncoding() {
+        assertEquals(ExportCompression.Encoding.DEFLATE, compression.negotiate("deflate", "gzip"));
+        assertNull(compression.negotiate("none", "gzip"));
+        assertNull(compression.negotiate("identity", "gzip"));
+    }
+
+    @Test
+    void negotiatesHighestQualityEncoding() {
+        assertEquals(ExportCompression.Encoding.GZIP, compression.negotiate(null, "gzip, deflate"));
+        assertEquals(ExportCompression.Encoding.DEFLATE, compression.negotiate(null, "gzip;q=0.5, deflate"));
+        assertEquals(ExportCompression.Encoding.GZIP, compression.negotiate(null, "br, *"));
+        assertNull(compression.negotiate(null, "gzip;q=0, br"));
+        assertNull(compression.negotiate(null, null));
+    }
+
+    @Test
+    void disabledNeverCompresses() {
+        assertNull(ExportCompression.disabled().negotiate("gzip", "gzip"));
+    }
+
+    @Test
+    void validatesRequestedValue() {
+        assertTrue(ExportCompression.isValidRequest(null));
+        assertTrue(ExportCompression.isValidRequest("GZIP"));
+        assertTrue(ExportCompression.isValidRequest("none"));
+        assertFalse(ExportCompression.isValidRequest("zstd"));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ExportCompression(true, 10, 8192));
+        assertThrows(IllegalArgumentException.class, () -> new ExportCompression(true, 6, 0));
+    }
+
+    @Test
+    void gzipRoundTripsAndFlushesData() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        OutputStream out = compression.wrap(target, ExportCompression.Encoding.GZIP);
+        out.write("a,b\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        assertTrue(target.size() > 10, "sync flush should emit compressed bytes");
+        out.write("c,d\n".getBytes(StandardCharsets.UTF_8));
+        out.close();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+            assertEquals("a,b\nc,d\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void deflateRoundTrips() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (OutputStream out = compression.wrap(target, ExportCompression.Encoding.DEFLATE)) {
+            out.write("payload".getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+            assertEquals("payload", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.export;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class JsonExportWriterTest {
+
+    record Author(String name, String email) {}
+
+    record Post(String title, Author author, List<String> tags) {}
+
+    record Thread(String title, Post post) {}
+
+    private final JsonExportWriter writer = new JsonExportWriter(new ObjectMapper());
+
+    private String write(List<?> rows, ExportRequest request, JsonExportWriter.Layout layout) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeDtos(rows.iterator(), out, request, layout, 10);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void writesArrayAndNdjsonLayouts() throws IOException {
+        List<Author> rows = List.of(new Author("a", "a@x"), new Author("b", "b@x"));
+
+        assertEquals("[{\"name\":\"a\",\"email\":\"a@x\"},{\"name\":\"b\",\"email\":\"b@x\"}]",
+                write(rows, null, JsonExportWriter.Layout.ARRAY));
+        assertEquals("{\"name\":\"a\",\"email\":\"a@x\"}\n{\"name\":\"b\",\"email\":\"b@x\"}\n",
+                write(rows, null, JsonExportWriter.Layout.NDJSON));
+        assertEquals("[]", write(List.of(), null, JsonExportWriter.Layout.ARRAY));
+    }
+
+    @Test
+    void binaryMapperWritesSameRowsWithoutSeparators() throws IOException {
+        ObjectMapper cbor = BinaryFormats.cborMapper(new ObjectMapper());
+        JsonExportWriter binary = new JsonExportWriter(cbor);
+        List<Author> rows = List.of(new Author("a", "a@x"), new Author("b", "b@x"));
+        ExportRequest request = new ExportRequest();
+        request.setExcludeFields(Set.of("email"));
+
+        ByteArrayOutputStream array = new ByteArrayOutputStream();
+        binary.writeDtos(rows.iterator(), array, request, JsonExportWriter.Layout.ARRAY, 10);
+        assertEquals("[{\"name\":\"a\"},{\"name\":\"b\"}]",
+                new ObjectMapper().writeValueAsString(cbor.readTree(array.toByteArray())));
+
+        ByteArrayOutputStream sequence = new ByteArrayOutputStream();
+        binary.writeDtos(rows.iterator(), sequence, null, JsonExportWriter.Layout.NDJSON, 10);
+        try (MappingIterator<Author> values = cbor.readerFor(Author.class).readValues(sequence.toByteArray())) {
+            assertEquals(rows, values.readAll());
+        }
+    }
+
+    @Test
+    void appliesIncludeAndExcludeWhileWriting() throws IOException {
+        Post post = new Post("Tips", new Author("John", "john@x"), List.of("java"));
+
+        ExportRequest include = new ExportRequest();
+        include.setIncludeFields(Set.of("title", "author.name"));
+        assertEquals("[{\"title\":\"Tips\",\"author\":{\"name\":\"John\"}}]",
+                write(List.of(post), include, JsonExportWriter.Layout.ARRAY));
+
+        ExportRequest exclude = new ExportRequest();
+        exclude.setExcludeFields(Set.of("author.email", "tags"));
+        assertEquals("[{\"title\":\"Tips\",\"author\":{\"name\":\"John\"}}]",
+                write(List.of(post), exclude, JsonExportWriter.Layout.ARRAY));
+    }
+
+    @Test
+    void keepsEmptyRowsAndIncludedEmptyCollections() throws IOException {
+        ExportRequest request = new ExportRequest();
+        request.setIncludeFields(Set.of("tags", "missing"));
+
+        assertEquals("[{\"tags\":[]}]",
+                write(List.of(new Post("Tips", null, List.of())), request, JsonExportWriter.Layout.ARRAY));
+
+        request.setIncludeFields(Set.of("missing"));
+        assertEquals("[{}]",
+                write(List.of(new Post("Tips", null, List.of())), request, JsonExportWriter.Layout.ARRAY));
+    }
+
+    @Test
+    void honorsExplicitMaxDepth() throws IOException {
+        Thread thread = new Thread("t", new Post("p", new Author("a", "a@x"), List.of()));
+        ExportRequest request = new ExportRequest();
+        request.setMaxDepth(1);
+
+        assertEquals("[{\"title\":\"t\",\"post\":{\"title\":\"p\",\"tags\":[]}}]",
+                write(List.of(thread), request, JsonExportWriter.Layout.ARRAY));
+    }
+
+    @Test
+    void flushesEveryNRows() throws IOException {
+        int[] flushes = new int[1];
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+
+        writer.writeDtos(List.of(1, 2, 3, 4, 5).iterator(), out, null, JsonExportWriter.Layout.NDJSON, 2);
+
+        // two chunk flushes and the final flush
+        assertEquals(3, flushes[0]);
+    }
+
+    @Test
+    void rejectsNonPositiveFlushInterval() {
+        assertThrows(IllegalArgumentException.class, () -> writer.writeDtos(
+                List.of().iterator(), OutputStream.nullOutputStream(), null, JsonExportWriter.Layout.ARRAY, 0));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.fields;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import nl.datasteel.crudcraft.annotations.security.FieldSecurity;
+import nl.datasteel.crudcraft.runtime.exception.BadRequestException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class FieldSelectionTest {
+
+    static class AuthorRef {
+        private Long id;
+        private String name;
+    }
+
+    static class PostDto {
+        private Long id;
+        private String title;
+        private String content;
+        @FieldSecurity(readRoles = {"ADMIN"})
+        private String notes;
+        private AuthorRef author;
+        private Set<String> tags;
+    }
+
+    @Test
+    void parseTrimsAndDeduplicates() {
+        FieldSelection selection = FieldSelection.parse(" id, title,,id ,author.name");
+        assertEquals(List.of("id", "title", "author.name"), selection.paths());
+    }
+
+    @Test
+    void parseRejectsMalformedFieldsets() {
+        assertThrows(BadRequestException.class, () -> FieldSelection.parse(" "));
+        assertThrows(BadRequestException.class, () -> FieldSelection.parse(",,"));
+        assertThrows(BadRequestException.class, () -> FieldSelection.parse("author..name"));
+        assertThrows(BadRequestException.class, () -> FieldSelection.parse("title desc"));
+        assertThrows(BadRequestException.class, () -> FieldSelection.parse("a.b.c.d.e"));
+    }
+
+    @Test
+    void versionDependsOnSelection() {
+        String first = FieldSelection.parse("id").version("3");
+        assertTrue(first.startsWith("3-"));
+        assertNotEquals(first, FieldSelection.parse("id,title").version("3"));
+        assertNull(FieldSelection.parse("id").version(null));
+    }
+
+    @Test
+    void resolveExpandsNestedDtos() {
+        List<SelectedField> fields = FieldSelection.parse("title,author,author.id")
+                .resolve(PostDto.class, null);
+        assertEquals(List.of("title", "author.id", "author.name"),
+                fields.stream().map(SelectedField::path).toList());
+        assertEquals(List.of("author", "name"), fields.get(2).entityPath());
+    }
+
+    @Test
+    void resolveRejectsUnknownCollectionAndNonNestedPaths() {
+        assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("missing").resolve(PostDto.class, null));
+        assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("tags").resolve(PostDto.class, null));
+        assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("title.length").resolve(PostDto.class, null));
+    }
+
+    @Test
+    void resolveUsesCatalogEntityPaths() {
+        FieldCatalog catalog = type -> type == PostDto.class
+                ? List.of(new FieldCatalog.Property("title", "headline", String.class, false))
+                : null;
+        List<SelectedField> fields = FieldSelection.parse("title").resolve(PostDto.class, catalog);
+        assertEquals(List.of("headline"), fields.getFirst().entityPath());
+        assertThrows(BadRequestException.class,
+                () -> FieldSelection.parse("content").resolve(PostDto.class, catalog));
+    }
+
+    @Test
+    void unreadableFieldsAreRedactedInRows() {
+        List<SelectedField> fields = FieldSelection.parse("id,notes,author.name")
+                .resolve(PostDto.class, null);
+        assertFalse(fields.get(1).readable());
+
+        Map<String, Object> row = FieldSelection.row(fields, Arrays.asList(1L, "Ann"));
+        assertEquals(1L, row.get("id"));
+        assertTrue(row.containsKey("notes"));
+        assertNull(row.get("notes"));
+        assertEquals(Map.of("name", "Ann"), row.get("author"));
+    }
+
+    @Test
+    void rowReadsLoadedDto() {
+        PostDto dto = new PostDto();
+        dto.title = "Hello";
+        List<SelectedField> fields = FieldSelection.parse("title,author.name")
+                .resolve(PostDto.class, null);
+
+        Map<String, Object> row = FieldSelection.row(fields, dto);
+
+        assertEquals("Hello", row.get("title"));
+        assertNull(((Map<?, ?>) row.get("author")).get("name"));
+    }
+}
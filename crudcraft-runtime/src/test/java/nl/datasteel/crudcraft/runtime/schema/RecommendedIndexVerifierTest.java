@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.schema;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import static org.junit.jupiter.api.Assertions.*;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RecommendedIndexVerifierTest {
+
+    /** Entity with generated recommendations in {@code meta.WidgetIndexes}. */
+    public static class Widget {
+    }
+
+    private JdbcDataSource dataSource;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:indexes;DB_CLOSE_DELAY=-1");
+        keepAlive = dataSource.getConnection();
+        try (Statement st = keepAlive.createStatement()) {
+            st.execute("create table widget (id uuid primary key, owner_id uuid, "
+                    + "name varchar(50), status varchar(20), created_at timestamp)");
+            st.execute("create index idx_widget_owner_name on widget (owner_id, name, created_at)");
+        }
+    }
+
+    @AfterEach
+    void teardown() throws SQLException {
+        try (Statement st = keepAlive.createStatement()) {
+            st.execute("drop all objects");
+        }
+        keepAlive.close();
+    }
+
+    @Test
+    void reportsOnlyRecommendationsWithoutCoveringIndex() {
+        RecommendedIndex covered = new RecommendedIndex("widget", "idx_a", List.of("owner_id", "name"));
+        RecommendedIndex ownerOnly = new RecommendedIndex("widget", "idx_b", List.of("owner_id"));
+        RecommendedIndex missing = new RecommendedIndex("widget", "idx_c", List.of("owner_id", "status"));
+        RecommendedIndex wrongOrder = new RecommendedIndex("widget", "idx_d", List.of("name", "owner_id"));
+
+        List<RecommendedIndex> result = new RecommendedIndexVerifier(dataSource)
+                .verify(List.of(covered, ownerOnly, missing, wrongOrder));
+
+        assertEquals(List.of(missing, wrongOrder), result);
+    }
+
+    @Test
+    void skipsTablesThatDoNotExist() {
+        RecommendedIndex index = new RecommendedIndex("gadget", "idx_g", List.of("owner_id"));
+        assertTrue(new RecommendedIndexVerifier(dataSource).verify(List.of(index)).isEmpty());
+    }
+
+    @Test
+    void loadsGeneratedRecommendationsByConvention() {
+        assertNotNull(RecommendedIndexes.find(Widget.class));
+        assertNull(RecommendedIndexes.find(String.class));
+
+        List<RecommendedIndex> result = new RecommendedIndexVerifier(dataSource)
+                .verifyEntities(List.of(Widget.class, String.class));
+
+        assertEquals(List.of(List.of("owner_id", "status")),
+                result.stream().map(RecommendedIndex::columns).toList());
+    }
+
+    @Test
+    void metadataFailuresDoNotPropagate() throws SQLException {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("down"));
+        RecommendedIndex index = new RecommendedIndex("widget", "idx_a", List.of("owner_id"));
+        assertTrue(new RecommendedIndexVerifier(failing).verify(List.of(index)).isEmpty());
+    }
+
+    @Test
+    void recommendationRendersDdlAndMatchesPrefixes() {
+        RecommendedIndex index = new RecommendedIndex("widget", "idx_w", List.of("owner_id", "name"));
+        assertEquals("CREATE INDEX idx_w ON widget (owner_id, name);", index.toDdl());
+        assertTrue(index.isCoveredBy(List.of("OWNER_ID", "NAME", "STATUS")));
+        assertFalse(index.isCoveredBy(List.of("OWNER_ID")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RecommendedIndex("widget", "idx", List.of()));
+    }
+}
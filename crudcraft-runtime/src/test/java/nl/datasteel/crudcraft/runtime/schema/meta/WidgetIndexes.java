@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.schema.meta;
+
+import java.util.List;
+import nl.datasteel.crudcraft.runtime.schema.RecommendedIndex;
+import nl.datasteel.crudcraft.runtime.schema.RecommendedIndexVerifierTest;
+import nl.datasteel.crudcraft.runtime.schema.RecommendedIndexes;
+
+/** Hand-written equivalent of a generated Indexes class, used by RecommendedIndexVerifierTest. */
+public final class WidgetIndexes implements RecommendedIndexes {
+
+    @Override
+    public Class<?> entityType() {
+        return RecommendedIndexVerifierTest.Widget.class;
+    }
+
+    @Override
+    public List<RecommendedIndex> indexes() {
+        return List.of(
+                new RecommendedIndex("widget", "idx_widget_owner_id_name", List.of("owner_id", "name")),
+                new RecommendedIndex("widget", "idx_widget_owner_id_status", List.of("owner_id", "status")));
+    }
+}
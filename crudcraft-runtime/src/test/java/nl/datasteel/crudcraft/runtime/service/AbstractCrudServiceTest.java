@@ -16,12 +16,31 @@
 package nl.datasteel.crudcraft.runtime.service;
 
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.PathBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.Version;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import nl.datasteel.crudcraft.annotations.security.RowSecurityHandler;
 import nl.datasteel.crudcraft.runtime.Identified;
+import nl.datasteel.crudcraft.runtime.exception.BadRequestException;
 import nl.datasteel.crudcraft.runtime.exception.ResourceNotFoundException;
+import nl.datasteel.crudcraft.runtime.extensions.AuditableExtension;
+import nl.datasteel.crudcraft.runtime.fields.FieldSelection;
 import nl.datasteel.crudcraft.runtime.mapper.EntityMapper;
 import nl.datasteel.crudcraft.runtime.search.SearchRequest;
 import nl.datasteel.crudcraft.runtime.service.strategy.QueryExecutionStrategy;
@@ -32,11 +51,16 @@ import static org.mockito.ArgumentMatchers.*;
 import org.mockito.MockedStatic;
 import static org.mockito.Mockito.nullable;
 import static org.mockito.Mockito.*;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 class AbstractCrudServiceTest {
 
@@ -145,7 +169,7 @@ class AbstractCrudServiceTest {
         Resp resp = new Resp();
         when(mapper.fromRequest(any())).thenReturn(entity);
         when(repo.save(entity)).thenReturn(entity);
-        when(mapper.toResponse(entity)).thenReturn(resp);
+        doReturn(resp).when(mapper).toResponse(any());
         assertSame(resp, service.create(new Dto()));
     }
 
@@ -172,6 +196,27 @@ class AbstractCrudServiceTest {
         verify(repo).delete(entity);
     }
 
+    @Test
+    void writesPublishEntityWriteEvent() {
+        org.springframework.context.ApplicationEventPublisher publisher =
+                mock(org.springframework.context.ApplicationEventPublisher.class);
+        service.eventPublisher = publisher;
+        Entity entity = new Entity();
+        when(mapper.fromRequest(any())).thenReturn(entity);
+        when(repo.save(entity)).thenReturn(entity);
+        when(executor.findOne(any(), any())).thenReturn(Optional.of(entity));
+        service.create(new Dto());
+        service.delete(1L);
+        verify(publisher, times(2)).publishEvent(new EntityWriteEvent(Entity.class));
+    }
+
+    @Test
+    void deleteWithoutPublisherDoesNotFail() {
+        Entity entity = new Entity();
+        when(executor.findOne(any(), any())).thenReturn(Optional.of(entity));
+        assertDoesNotThrow(() -> service.delete(1L));
+    }
+
     @Test
     void deleteThrowsWhenEntityMissing() {
         when(executor.findOne(any(), any())).thenReturn(Optional.empty());
@@ -225,7 +270,29 @@ class AbstractCrudServiceTest {
         Entity found = new Entity();
         when(executor.findOne(any(), any())).thenReturn(Optional.of(found)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> service.deleteAllByIds(List.of(1L,2L)));
-        verify(repo).delete(found);
+        verify(repo, never()).deleteAll(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteAllByIdsAppliesRowSecurityOncePerBatch() throws Exception {
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
+        Entity e1 = new Entity();
+        Entity e2 = new Entity();
+        when(executor.findOne(any(), any())).thenReturn(Optional.of(e1)).thenReturn(Optional.of(e2));
+        TestService spySvc = spy(new TestService(repo, mapper));
+        spySvc.setExecutor(executor);
+        spySvc.handlers = List.of(handler);
+
+        spySvc.deleteAllByIds(List.of(1L, 2L));
+
+        verify(handler).applyAll(List.of(e1, e2));
+        verify(handler, never()).apply(any());
+        verify(spySvc).preDeleteAll(List.of(e1, e2));
+        verify(spySvc).postDeleteAll(List.of(e1, e2));
+        verify(spySvc).preDelete(e1);
+        verify(spySvc).postDelete(e2);
+        verify(repo).deleteAll(List.of(e1, e2));
     }
 
     @Test
@@ -257,6 +324,57 @@ class AbstractCrudServiceTest {
         );
     }
 
+    @Test
+    void searchSpecificationReturnsRowFilterWithoutRequest() {
+        Specification<Entity> rowSpec = (root, q, cb) -> cb.conjunction();
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
+        when(handler.rowFilter()).thenReturn(rowSpec);
+        service.handlers = List.of(handler);
+
+        assertSame(rowSpec, service.searchSpecification(null));
+    }
+
+    @Test
+    void searchSpecificationCombinesSearchAndRowFilter() {
+        Specification<Entity> searchSpec = (root, q, cb) -> cb.disjunction();
+        SearchRequest<Entity> request = () -> searchSpec;
+        Specification<Entity> rowSpec = (root, q, cb) -> cb.conjunction();
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
+        when(handler.rowFilter()).thenReturn(rowSpec);
+        service.handlers = List.of(handler);
+
+        Specification<Entity> combined = service.searchSpecification(request);
+
+        assertNotNull(combined);
+        assertNotSame(searchSpec, combined);
+        assertNotSame(rowSpec, combined);
+    }
+
+    @Test
+    void searchSpecificationIsNullWithoutFilters() {
+        assertNull(service.searchSpecification(null));
+    }
+
+    @Test
+    void searchSpecificationRejectsPredicateOnlyRowSecurity() {
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
+        when(handler.rowFilterPredicate()).thenReturn(mock(Predicate.class));
+        service.handlers = List.of(handler);
+
+        assertThrows(IllegalStateException.class, () -> service.searchSpecification(null));
+    }
+
+    @Test
+    void searchSpecificationRejectsPredicateOnlyHandlerNextToSpecificationHandler() {
+        RowSecurityHandler<Entity> specHandler = mock(RowSecurityHandler.class);
+        when(specHandler.rowFilter()).thenReturn((root, q, cb) -> cb.conjunction());
+        RowSecurityHandler<Entity> predicateHandler = mock(RowSecurityHandler.class);
+        when(predicateHandler.rowFilterPredicate()).thenReturn(mock(Predicate.class));
+        service.handlers = List.of(specHandler, predicateHandler);
+
+        assertThrows(IllegalStateException.class, () -> service.searchSpecification(null));
+    }
+
     @Test
     void searchRefCombinesSearchAndSecurity() {
         Predicate searchPred = mock(Predicate.class);
@@ -311,10 +429,11 @@ class AbstractCrudServiceTest {
         spySvc.handlers = List.of(handler);
         List<Resp> res = spySvc.createAll(List.of(d1, d2));
         assertEquals(2, res.size());
-        verify(handler).apply(e1);
-        verify(handler).apply(e2);
-        verify(spySvc).preSave(e1, null);
-        verify(spySvc).preSave(e2, null);
+        verify(handler).applyAll(List.of(e1, e2));
+        verify(handler, never()).apply(any());
+        verify(spySvc).preSaveAll(List.of(e1, e2), List.of(d1, d2));
+        verify(spySvc).preSave(e1, d1);
+        verify(spySvc).preSave(e2, d2);
         verify(spySvc).postSave(e1);
         verify(spySvc).postSave(e2);
     }
@@ -346,42 +465,398 @@ class AbstractCrudServiceTest {
     }
 
     @Test
-    void upsertAllDelegatesToUpsert() throws Exception {
+    @SuppressWarnings("unchecked")
+    void upsertAllCreatesAndUpdatesInOneBatch() throws Exception {
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
         TestService spySvc = spy(new TestService(repo, mapper));
         spySvc.setExecutor(executor);
-        Dto d1 = new Dto();
-        Dto d2 = new Dto();
-        doReturn(new Resp()).when(spySvc).upsert(any());
-        List<Resp> res = spySvc.upsertAll(List.of(d1, d2));
+        spySvc.handlers = List.of(handler);
+        Dto fresh = new Dto();
+        Dto known = new Dto();
+        Entity created = new Entity();
+        Entity existing = new Entity();
+        when(mapper.getIdFromRequest(fresh)).thenReturn(null);
+        when(mapper.getIdFromRequest(known)).thenReturn(5L);
+        doReturn(true).when(spySvc).existsById(5L);
+        when(executor.findOne(any(), any())).thenReturn(Optional.of(existing));
+        when(mapper.fromRequest(fresh)).thenReturn(created);
+        when(repo.saveAll(List.of(created, existing))).thenReturn(List.of(created, existing));
+        when(mapper.toResponse(any())).thenReturn(new Resp());
+
+        List<Resp> res = spySvc.upsertAll(List.of(fresh, known));
+
         assertEquals(2, res.size());
-        verify(spySvc, times(2)).upsert(any());
+        verify(mapper).update(existing, known);
+        verify(handler).applyAll(List.of(created, existing));
+        verify(spySvc).preSave(created, fresh);
+        verify(spySvc).preSave(existing, known);
+        verify(spySvc).postSaveAll(List.of(created, existing));
     }
 
     @Test
-    void updateAllDelegatesToUpdate() throws Exception {
+    @SuppressWarnings("unchecked")
+    void updateAllAppliesRowSecurityOncePerBatch() throws Exception {
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
         TestService spySvc = spy(new TestService(repo, mapper));
         spySvc.setExecutor(executor);
+        spySvc.handlers = List.of(handler);
         Identified<Long, Dto> a = new Identified<>(1L, new Dto());
         Identified<Long, Dto> b = new Identified<>(2L, new Dto());
-        doReturn(new Resp()).when(spySvc).update(eq(1L), any());
-        doReturn(new Resp()).when(spySvc).update(eq(2L), any());
+        Entity e1 = new Entity();
+        Entity e2 = new Entity();
+        when(executor.findOne(any(), any())).thenReturn(Optional.of(e1)).thenReturn(Optional.of(e2));
+        when(repo.saveAll(List.of(e1, e2))).thenReturn(List.of(e1, e2));
+        when(mapper.toResponse(any())).thenReturn(new Resp());
+
         List<Resp> res = spySvc.updateAll(List.of(a, b));
+
         assertEquals(2, res.size());
-        verify(spySvc).update(1L, a.getData());
-        verify(spySvc).update(2L, b.getData());
+        verify(mapper).update(e1, a.getData());
+        verify(mapper).update(e2, b.getData());
+        verify(handler).applyAll(List.of(e1, e2));
+        verify(spySvc).preSave(e1, a.getData());
+        verify(spySvc).postSave(e2);
+        verify(spySvc).preSaveAll(List.of(e1, e2), List.of(a.getData(), b.getData()));
     }
 
     @Test
-    void patchAllDelegatesToPatch() throws Exception {
+    @SuppressWarnings("unchecked")
+    void patchAllAppliesRowSecurityOncePerBatch() throws Exception {
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
         TestService spySvc = spy(new TestService(repo, mapper));
         spySvc.setExecutor(executor);
+        spySvc.handlers = List.of(handler);
         Identified<Long, Dto> a = new Identified<>(1L, new Dto());
         Identified<Long, Dto> b = new Identified<>(2L, new Dto());
-        doReturn(new Resp()).when(spySvc).patch(eq(1L), any());
-        doReturn(new Resp()).when(spySvc).patch(eq(2L), any());
+        Entity e1 = new Entity();
+        Entity e2 = new Entity();
+        when(executor.findOne(any(), any())).thenReturn(Optional.of(e1)).thenReturn(Optional.of(e2));
+        when(repo.saveAll(List.of(e1, e2))).thenReturn(List.of(e1, e2));
+        when(mapper.toResponse(any())).thenReturn(new Resp());
+
         List<Resp> res = spySvc.patchAll(List.of(a, b));
+
         assertEquals(2, res.size());
-        verify(spySvc).patch(1L, a.getData());
-        verify(spySvc).patch(2L, b.getData());
+        verify(mapper).patch(e1, a.getData());
+        verify(mapper).patch(e2, b.getData());
+        verify(handler).applyAll(List.of(e1, e2));
+        verify(spySvc).preSaveAll(List.of(e1, e2), List.of(a.getData(), b.getData()));
+        verify(spySvc).postSaveAll(List.of(e1, e2));
+    }
+
+    @Test
+    void createAllRunsOverriddenBatchHookOnce() throws Exception {
+        List<List<Entity>> batches = new ArrayList<>();
+        TestService svc = new TestService(repo, mapper) {
+            @Override
+            protected void preSaveAll(List<Entity> entities, List<Dto> requests) {
+                batches.add(List.copyOf(entities));
+            }
+        };
+        svc.setExecutor(executor);
+        Entity e1 = new Entity();
+        Entity e2 = new Entity();
+        when(mapper.fromRequest(any())).thenReturn(e1).thenReturn(e2);
+        when(repo.saveAll(List.of(e1, e2))).thenReturn(List.of(e1, e2));
+
+        svc.createAll(List.of(new Dto(), new Dto()));
+
+        assertEquals(List.of(List.of(e1, e2)), batches);
+    }
+
+    @Test
+    void rowSecurityIsComposedOncePerRequest() {
+        Predicate pred = mock(Predicate.class);
+        Specification<Entity> spec = (root, q, cb) -> cb.conjunction();
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
+        when(handler.rowFilterPredicate()).thenReturn(pred);
+        when(handler.rowFilter()).thenReturn(spec);
+        service.handlers = List.of(handler);
+
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            service.count();
+            service.existsById(1L);
+            service.count();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        service.count();
+
+        verify(handler, times(2)).rowFilterPredicate();
+        verify(handler, times(2)).rowFilter();
+        verify(executor, times(3)).count(pred, spec);
+    }
+
+    @Test
+    void specificationStrategyOnlyBuildsSpecification() {
+        Specification<Entity> spec = (root, q, cb) -> cb.conjunction();
+        RowSecurityHandler<Entity> handler = mock(RowSecurityHandler.class);
+        when(handler.rowFilter()).thenReturn(spec);
+        TestService jpaService = new TestService(repo, mapper);
+        jpaService.handlers = List.of(handler);
+
+        jpaService.count();
+
+        verify(handler).rowFilter();
+        verify(handler, never()).rowFilterPredicate();
+    }
+
+    static class Versioned { Long id; @Version long version; AuditableExtension audit; }
+    static class Audited { Long id; AuditableExtension audit; }
+    static class WithChildren { Long id; @Version long version; @OneToMany List<Entity> children; }
+
+    @Test
+    void resolvesVersionAttributeBeforeAuditTimestamp() {
+        assertEquals("version", AbstractCrudService.resolveVersionPath(Versioned.class));
+        assertEquals("audit.updatedAt", AbstractCrudService.resolveVersionPath(Audited.class));
+        assertNull(AbstractCrudService.resolveVersionPath(Entity.class));
+    }
+
+    @Test
+    void entitiesWithAssociationsAreTaggedByContent() {
+        assertNull(AbstractCrudService.resolveVersionPath(WithChildren.class));
+    }
+
+    @Test
+    void versionTagIsNullForUnversionedEntities() {
+        service.entityManager = mock(EntityManager.class);
+
+        assertNull(service.versionTag(1L));
+        verifyNoInteractions(service.entityManager, executor);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static class VersionedService extends AbstractCrudService<Versioned, Dto, Resp, Ref, Long> {
+        final List<RowSecurityHandler<?>> handlers;
+        VersionedService(JpaRepository r, EntityMapper m, List<RowSecurityHandler<?>> handlers) {
+            super(r, m, Versioned.class, Resp.class, Ref.class);
+            this.handlers = handlers;
+        }
+        @Override
+        protected List<RowSecurityHandler<?>> rowSecurityHandlers() { return handlers; }
+    }
+
+    private VersionedService versionedService(List<RowSecurityHandler<?>> handlers,
+                                              QueryExecutionStrategy<Versioned> strategy) throws Exception {
+        VersionedService versioned = new VersionedService(repo, mapper, handlers);
+        Field f = AbstractCrudService.class.getDeclaredField("queryExecutor");
+        f.setAccessible(true);
+        f.set(versioned, strategy);
+        return versioned;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void versionTagSelectsOnlyVersionForPredicateOnlyRowSecurity() throws Exception {
+        RowSecurityHandler<Versioned> handler = mock(RowSecurityHandler.class);
+        when(handler.rowFilterPredicate()).thenReturn(
+                new PathBuilder<>(Versioned.class, "versioned").getNumber("id", Long.class).gt(0L));
+        QueryExecutionStrategy<Versioned> strategy = mock(QueryExecutionStrategy.class);
+        VersionedService versioned = versionedService(List.of(handler), strategy);
+        versioned.entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        Query query = mock(Query.class, RETURNS_SELF);
+        when(versioned.entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.getSingleResult()).thenReturn(4L);
+
+        assertEquals("4", versioned.versionTag(1L));
+        verify(versioned.entityManager).createQuery(argThat((String jpql) ->
+                jpql.startsWith("select versioned.version\nfrom ") && jpql.contains("versioned.id > ")));
+        verifyNoInteractions(strategy);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findVersionedByIdTagsWithVersionOfLoadedEntity() throws Exception {
+        QueryExecutionStrategy<Versioned> strategy = mock(QueryExecutionStrategy.class);
+        VersionedService versioned = versionedService(null, strategy);
+        Versioned entity = new Versioned();
+        entity.version = 7;
+        Resp resp = new Resp();
+        when(strategy.findOne(any(), any())).thenReturn(Optional.of(entity));
+        doReturn(resp).when(mapper).toResponse(any());
+
+        var found = versioned.findVersionedById(1L);
+
+        assertEquals("7", found.version());
+        assertSame(resp, found.body());
+        verify(strategy, never()).findOne(any(), any(), any());
+    }
+
+    @Test
+    void findVersionedByIdHasNoVersionForUnversionedEntities() {
+        Resp resp = new Resp();
+        when(executor.findOne(any(), any(), eq(Resp.class))).thenReturn(Optional.of(resp));
+
+        var found = service.findVersionedById(1L);
+
+        assertNull(found.version());
+        assertSame(resp, found.body());
+    }
+
+    @Test
+    void searchFieldsPrunesLoadedDtosWithoutEntityManager() {
+        Resp resp = new Resp();
+        resp.id = 5L;
+        when(executor.findAll(any(), any(), any(), eq(Resp.class)))
+                .thenReturn(new PageImpl<>(List.of(resp)));
+
+        Page<Map<String, Object>> page = service.searchFields(null, PageRequest.of(0, 10),
+                FieldSelection.parse("id"));
+
+        assertEquals(List.of(Map.of("id", 5L)), page.getContent());
+    }
+
+    @Test
+    void searchOrdersPagesByIdAfterRequestedSort() {
+        when(executor.findAll(any(), any(), any(), eq(Resp.class))).thenReturn(Page.empty());
+
+        service.search(null, PageRequest.of(1, 10, Sort.by("name")));
+        service.search(null, PageRequest.of(1, 10, Sort.by(Sort.Order.desc("id"))));
+
+        verify(executor).findAll(any(), any(),
+                eq(PageRequest.of(1, 10, Sort.by("name", "id"))), eq(Resp.class));
+        verify(executor).findAll(any(), any(),
+                eq(PageRequest.of(1, 10, Sort.by(Sort.Order.desc("id")))), eq(Resp.class));
+    }
+
+    @Test
+    void findFieldsByIdRejectsUnknownFieldsBeforeQuerying() {
+        assertThrows(BadRequestException.class,
+                () -> service.findFieldsById(1L, FieldSelection.parse("title")));
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void searchFieldsSelectsOnlyRequestedColumns() {
+        EntityManager em = mock(EntityManager.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        CriteriaQuery<Tuple> query = mock(CriteriaQuery.class);
+        Root<Entity> root = mock(Root.class);
+        Path idPath = mock(Path.class);
+        TypedQuery<Tuple> typed = mock(TypedQuery.class);
+        Tuple tuple = mock(Tuple.class);
+        when(em.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createTupleQuery()).thenReturn(query);
+        when(query.from(Entity.class)).thenReturn(root);
+        doReturn(Entity.class).when(root).getJavaType();
+        when(root.get("id")).thenReturn(idPath);
+        Order byId = mock(Order.class);
+        when(cb.asc(idPath)).thenReturn(byId);
+        when(em.createQuery(query)).thenReturn(typed);
+        when(typed.setFirstResult(0)).thenReturn(typed);
+        when(typed.setMaxResults(10)).thenReturn(typed);
+        when(typed.getResultList()).thenReturn(List.of(tuple));
+        when(tuple.toArray()).thenReturn(new Object[] {7L});
+        service.entityManager = em;
+
+        Page<Map<String, Object>> page = service.searchFields(null, PageRequest.of(0, 10),
+                FieldSelection.parse("id"));
+
+        assertEquals(List.of(Map.of("id", 7L)), page.getContent());
+        assertEquals(1, page.getTotalElements());
+        verify(query).multiselect(List.of(idPath));
+        verify(query).orderBy(List.of(byId));
+        verifyNoInteractions(executor, mapper);
+    }
+
+    @Test
+    void searchAfterContinuesAfterIdWithoutEntityManager() {
+        Entity first = new Entity();
+        first.id = 3L;
+        Resp resp = new Resp();
+        when(executor.findAll(any(), any(), eq(PageRequest.of(0, 2, Sort.by("id")))))
+                .thenReturn(new PageImpl<>(List.of(first)));
+        when(mapper.toResponse(first)).thenReturn(resp);
+
+        List<Identified<Long, Resp>> chunk = service.searchAfter(null, 2L, 2);
+
+        assertEquals(1, chunk.size());
+        assertEquals(3L, chunk.getFirst().getId());
+        assertSame(resp, chunk.getFirst().getData());
+        verify(executor).findAll(notNull(), notNull(), any(PageRequest.class));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void searchAfterSeeksByIdWithBoundedQuery() {
+        EntityManager em = mock(EntityManager.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        CriteriaQuery<Entity> query = mock(CriteriaQuery.class, RETURNS_SELF);
+        Root<Entity> root = mock(Root.class);
+        Path idPath = mock(Path.class);
+        TypedQuery<Entity> typed = mock(TypedQuery.class);
+        Entity entity = new Entity();
+        entity.id = 8L;
+        when(em.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createQuery(Entity.class)).thenReturn(query);
+        when(query.from(Entity.class)).thenReturn(root);
+        when(root.get("id")).thenReturn(idPath);
+        when(em.createQuery(query)).thenReturn(typed);
+        when(typed.setMaxResults(50)).thenReturn(typed);
+        when(typed.getResultList()).thenReturn(List.of(entity));
+        when(mapper.toResponse(entity)).thenReturn(new Resp());
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        PersistenceUnitUtil units = mock(PersistenceUnitUtil.class);
+        when(em.getEntityManagerFactory()).thenReturn(emf);
+        when(emf.getPersistenceUnitUtil()).thenReturn(units);
+        when(units.getIdentifier(entity)).thenReturn(8L);
+        service.entityManager = em;
+
+        List<Identified<Long, Resp>> chunk = service.searchAfter(null, 7L, 50);
+
+        assertEquals(8L, chunk.getFirst().getId());
+        verify(cb).greaterThan(idPath, 7L);
+        verify(cb).asc(idPath);
+        verify(typed, never()).setFirstResult(anyInt());
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void searchAfterKeepsPredicateOnlyHandlerNextToSpecificationHandler() {
+        RowSecurityHandler<Entity> specHandler = mock(RowSecurityHandler.class);
+        when(specHandler.rowFilter()).thenReturn((root, q, cb) -> cb.conjunction());
+        RowSecurityHandler<Entity> predicateHandler = mock(RowSecurityHandler.class);
+        Predicate rowPred = mock(Predicate.class);
+        when(predicateHandler.rowFilterPredicate()).thenReturn(rowPred);
+        service.handlers = List.of(specHandler, predicateHandler);
+        EntityManager em = mock(EntityManager.class);
+        service.entityManager = em;
+        Entity entity = new Entity();
+        entity.id = 4L;
+        when(executor.findAll(any(), any(), eq(PageRequest.of(0, 10, Sort.by("id")))))
+                .thenReturn(new PageImpl<>(List.of(entity)));
+        when(mapper.toResponse(entity)).thenReturn(new Resp());
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        PersistenceUnitUtil units = mock(PersistenceUnitUtil.class);
+        when(em.getEntityManagerFactory()).thenReturn(emf);
+        when(emf.getPersistenceUnitUtil()).thenReturn(units);
+        when(units.getIdentifier(entity)).thenReturn(4L);
+
+        List<Identified<Long, Resp>> chunk = service.searchAfter(null, null, 10);
+
+        assertEquals(4L, chunk.getFirst().getId());
+        verify(executor).findAll(eq(rowPred), notNull(), any(PageRequest.class));
+        verify(em, never()).getCriteriaBuilder();
+    }
+
+    @Test
+    void searchFieldsKeepsPredicateOnlyHandlerNextToSpecificationHandler() {
+        RowSecurityHandler<Entity> specHandler = mock(RowSecurityHandler.class);
+        when(specHandler.rowFilter()).thenReturn((root, q, cb) -> cb.conjunction());
+        RowSecurityHandler<Entity> predicateHandler = mock(RowSecurityHandler.class);
+        when(predicateHandler.rowFilterPredicate()).thenReturn(mock(Predicate.class));
+        service.handlers = List.of(specHandler, predicateHandler);
+        EntityManager em = mock(EntityManager.class);
+        service.entityManager = em;
+        when(executor.findAll(any(), any(), any(PageRequest.class), eq(Resp.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        service.searchFields(null, PageRequest.of(0, 5), FieldSelection.parse("id"));
+
+        verify(executor).findAll(notNull(), notNull(), any(PageRequest.class), eq(Resp.class));
+        verify(em, never()).getCriteriaBuilder();
     }
 }
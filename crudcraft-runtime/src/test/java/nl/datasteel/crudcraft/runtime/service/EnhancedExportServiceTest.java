@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.service;
+
+import java.util.Collections;
+import nl.datasteel.crudcraft.runtime.export.EntityExportAdapter;
+import nl.datasteel.crudcraft.runtime.export.ExportRequest;
+import nl.datasteel.crudcraft.runtime.search.SearchRequest;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+@SuppressWarnings("unchecked")
+class EnhancedExportServiceTest {
+
+    static class Entity {}
+
+    record Dto(String name) {}
+
+    static class Search implements SearchRequest<Entity> {
+        @Override
+        public Specification<Entity> toSpecification() {
+            return null;
+        }
+    }
+
+    EntityExportAdapter adapter;
+    ExportRequest entityMode;
+
+    @BeforeEach
+    void setup() {
+        adapter = mock(EntityExportAdapter.class);
+        when(adapter.createIterator(any(), any(), anyInt(), anyInt(), any()))
+                .thenReturn(Collections.emptyIterator());
+        entityMode = new ExportRequest();
+        entityMode.setExportMode(ExportRequest.ExportMode.ENTITY);
+    }
+
+    @Test
+    void entityModeIsFilteredByServiceSearchSpecificationByDefault() {
+        AbstractCrudService<Entity, ?, ?, ?, ?> crudService = mock(AbstractCrudService.class);
+        Search search = new Search();
+        Specification<Entity> filter = (root, query, cb) -> cb.conjunction();
+        when(crudService.searchSpecification(search)).thenReturn(filter);
+        EnhancedExportService<Dto, Entity, Search> service = new EnhancedExportService<>(
+                new ExportService.ExportConfig(1000, 500, 250, 100), adapter, crudService, null);
+
+        service.export(search, 10, "csv", entityMode,
+                pageable -> new PageImpl<Dto>(Collections.emptyList()), dto -> dto);
+
+        verify(adapter).createIterator(any(), eq(entityMode), anyInt(), anyInt(), same(filter));
+    }
+
+    @Test
+    void entityModeWithoutServiceOrFilterIsRejected() {
+        EnhancedExportService<Dto, Entity, Search> service = new EnhancedExportService<>(
+                new ExportService.ExportConfig(1000, 500, 250, 100), adapter, Entity.class);
+
+        assertThrows(IllegalStateException.class, () -> service.export(new Search(), 10, "csv",
+                entityMode, pageable -> new PageImpl<Dto>(Collections.emptyList()), dto -> dto));
+        verifyNoInteractions(adapter);
+    }
+}
@@ -15,17 +15,51 @@
  */
 package nl.datasteel.crudcraft.runtime.service;
 
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.time.Duration;
+import nl.datasteel.crudcraft.runtime.Identified;
+import nl.datasteel.crudcraft.runtime.exception.TooManyRequestsException;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import nl.datasteel.crudcraft.runtime.export.ExportCompression;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 class ExportServiceTest {
@@ -203,4 +237,275 @@ class ExportServiceTest {
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
+
+    @Test
+    void exportCompressesCsvWhenClientAcceptsGzip() throws Exception {
+        ExportService.ExportConfig config = new ExportService.ExportConfig(1000, 500, 250, 1,
+                new ExportCompression(true, ExportCompression.DEFAULT_LEVEL, ExportCompression.DEFAULT_BUFFER_SIZE));
+        ExportService<TestDto, TestSearchRequest> service = new ExportService<>(config);
+
+        Function<PageRequest, Page<TestDto>> searchFunction = pageable -> pageable.getPageNumber() < 2
+                ? new PageImpl<>(List.of(new TestDto("row" + pageable.getPageNumber(), 1)))
+                : new PageImpl<>(Collections.emptyList());
+
+        ResponseEntity<StreamingResponseBody> response = service.export(
+                new TestSearchRequest(), 10, "csv", null, null, "gzip, deflate",
+                searchFunction, dto -> dto);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(csv.contains("row0"));
+            assertTrue(csv.contains("row1"));
+        }
+    }
+
+    @Test
+    void exportWritesSmileAndCborArrays() throws Exception {
+        ExportService<TestDto, TestSearchRequest> service =
+                new ExportService<>(new ExportService.ExportConfig(1000, 500, 250, 100));
+        Function<PageRequest, Page<TestDto>> searchFunction = pageable -> pageable.getPageNumber() == 0
+                ? new PageImpl<>(List.of(new TestDto("a", 1), new TestDto("b", 2)))
+                : new PageImpl<>(Collections.emptyList());
+
+        for (String format : List.of("smile", "cbor")) {
+            ResponseEntity<StreamingResponseBody> response = service.export(
+                    new TestSearchRequest(), 10, format, searchFunction, dto -> dto);
+            ObjectMapper mapper = format.equals("smile")
+                    ? BinaryFormats.smileMapper(new ObjectMapper())
+                    : BinaryFormats.cborMapper(new ObjectMapper());
+            assertEquals(format.equals("smile") ? BinaryFormats.SMILE_VALUE : BinaryFormats.CBOR_VALUE,
+                    response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            response.getBody().writeTo(out);
+            TestDto[] rows = mapper.readValue(out.toByteArray(), TestDto[].class);
+            assertEquals(List.of(new TestDto("a", 1), new TestDto("b", 2)), List.of(rows));
+        }
+    }
+
+    @Test
+    void exportNeverCompressesXlsx() {
+        ExportService.ExportConfig config = new ExportService.ExportConfig(1000, 500, 250, 100,
+                new ExportCompression(true, ExportCompression.DEFAULT_LEVEL, ExportCompression.DEFAULT_BUFFER_SIZE));
+        ExportService<TestDto, TestSearchRequest> service = new ExportService<>(config);
+
+        ResponseEntity<StreamingResponseBody> response = service.export(
+                new TestSearchRequest(), 10, "xlsx", null, "gzip", null,
+                pageable -> new PageImpl<>(Collections.emptyList()), dto -> dto);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void exportReturns400ForUnsupportedCompression() {
+        ExportService.ExportConfig config = new ExportService.ExportConfig(1000, 500, 250, 100);
+        ExportService<TestDto, TestSearchRequest> service = new ExportService<>(config);
+
+        ResponseEntity<StreamingResponseBody> response = service.export(
+                new TestSearchRequest(), 10, "csv", null, "zstd", null,
+                pageable -> new PageImpl<>(Collections.emptyList()), dto -> dto);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void exportHoldsAdmissionUntilBodyIsWritten() throws Exception {
+        ExportAdmissionController admission = new ExportAdmissionController(1, 5, 0, Duration.ZERO, null);
+        ExportService<TestDto, TestSearchRequest> service =
+                new ExportService<>(new ExportService.ExportConfig(1000, 500, 250, 100), admission);
+        Function<PageRequest, Page<TestDto>> searchFunction = pageable ->
+                new PageImpl<>(Collections.emptyList());
+
+        ResponseEntity<StreamingResponseBody> response = service.export(
+                new TestSearchRequest(), 10, "csv", searchFunction, dto -> dto);
+
+        assertEquals(1, admission.getRunning());
+        assertThrows(TooManyRequestsException.class, () -> service.export(
+                new TestSearchRequest(), 10, "csv", searchFunction, dto -> dto));
+
+        response.getBody().writeTo(new ByteArrayOutputStream());
+        assertEquals(0, admission.getRunning());
+    }
+
+    @Test
+    void admitReleasesCapacityWhenRequestEndsWithoutWritingBody() {
+        ExportAdmissionController admission = new ExportAdmissionController(1, 5, 0, Duration.ZERO, null);
+        ServletRequestAttributes attributes =
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse());
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            ExportService.admit(admission, "csv", out -> { });
+            assertEquals(1, admission.getRunning());
+
+            attributes.requestCompleted();
+
+            assertEquals(0, admission.getRunning());
+            assertEquals(1, admission.getAvailableCapacity());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void admitReleasesCapacityWhenAsyncRequestCompletesBeforeBodyRuns() throws Exception {
+        ExportAdmissionController admission = new ExportAdmissionController(1, 5, 0, Duration.ZERO, null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            ExportService.admit(admission, "csv", out -> { });
+            WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+            asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+            // The body is never scheduled, as when the async request times out first
+            asyncManager.setTaskExecutor(mock(AsyncTaskExecutor.class));
+            asyncManager.startCallableProcessing(() -> null);
+
+            attributes.requestCompleted();
+            assertEquals(1, admission.getRunning());
+
+            request.getAsyncContext().complete();
+            assertEquals(0, admission.getRunning());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void exportStreamWritesLimitedRowsAndClosesStream() throws Exception {
+        ExportService.ExportConfig config = new ExportService.ExportConfig(1000, 500, 250, 2);
+        ExportService<TestDto, TestSearchRequest> service = new ExportService<>(config);
+        int[] chunkSize = new int[1];
+        boolean[] closed = new boolean[1];
+
+        ResponseEntity<StreamingResponseBody> response = service.exportStream(
+                new TestSearchRequest(), 3, "csv", null, null, null,
+                size -> {
+                    chunkSize[0] = size;
+                    return Stream.iterate(0, i -> i + 1).map(i -> new TestDto("row" + i, i))
+                            .onClose(() -> closed[0] = true);
+                },
+                dto -> new TestDto(dto.name().toUpperCase(), dto.value()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.contains("ROW2"));
+        assertFalse(csv.contains("ROW3"));
+        assertEquals(2, chunkSize[0]);
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void streamNdjsonReadsKeysetChunksUntilExhausted() throws Exception {
+        ExportService.ExportConfig config = new ExportService.ExportConfig(1000, 500, 250, 2);
+        ExportService<TestDto, TestSearchRequest> service = new ExportService<>(config);
+        List<Integer> afters = new ArrayList<>();
+
+        ResponseEntity<StreamingResponseBody> response = service.streamNdjson(
+                null, null, null, null,
+                (Integer after, Integer size) -> {
+                    afters.add(after);
+                    int from = after == null ? 1 : after + 1;
+                    return Stream.iterate(from, i -> i + 1).limit(size).takeWhile(i -> i <= 5)
+                            .map(i -> new Identified<>(i, new TestDto("row" + i, i)))
+                            .toList();
+                },
+                dto -> new TestDto(dto.name().toUpperCase(), dto.value()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).strip().split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[4].contains("ROW5"));
+        assertEquals(Arrays.asList(null, 2, 4), afters);
+    }
+
+    @Test
+    void streamNdjsonHonoursLimitAndRejectsNegativeLimit() throws Exception {
+        ExportService<TestDto, TestSearchRequest> service =
+                new ExportService<>(new ExportService.ExportConfig(1000, 500, 250, 2));
+        List<Integer> sizes = new ArrayList<>();
+        BiFunction<Integer, Integer, List<Identified<Integer, TestDto>>> unbounded = (after, size) -> {
+            sizes.add(size);
+            int from = after == null ? 1 : after + 1;
+            return Stream.iterate(from, i -> i + 1).limit(size)
+                    .map(i -> new Identified<>(i, new TestDto("row" + i, i)))
+                    .toList();
+        };
+
+        assertEquals(HttpStatus.BAD_REQUEST, service.streamNdjson(
+                -1, null, null, null, unbounded, dto -> dto).getStatusCode());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamNdjson(3, null, null, null, unbounded, dto -> dto).getBody().writeTo(out);
+        assertEquals(3, out.toString(StandardCharsets.UTF_8).strip().split("\n").length);
+        assertEquals(List.of(2, 1), sizes);
+    }
+
+    @Test
+    void streamNdjsonStopsQuietlyWhenClientDisconnects() throws Exception {
+        ExportService<TestDto, TestSearchRequest> service =
+                new ExportService<>(new ExportService.ExportConfig(1000, 500, 250, 2));
+        int[] fetches = new int[1];
+
+        ResponseEntity<StreamingResponseBody> response = service.streamNdjson(
+                null, null, null, null,
+                (Integer after, Integer size) -> {
+                    fetches[0]++;
+                    int from = after == null ? 1 : after + 1;
+                    return Stream.iterate(from, i -> i + 1).limit(size)
+                            .map(i -> new Identified<>(i, new TestDto("row" + i, i)))
+                            .toList();
+                },
+                dto -> dto);
+
+        OutputStream gone = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        response.getBody().writeTo(gone);
+        assertEquals(1, fetches[0]);
+    }
+
+    @Test
+    void streamNdjsonRethrowsFailuresThatAreNotDisconnects() {
+        ExportService<TestDto, TestSearchRequest> service =
+                new ExportService<>(new ExportService.ExportConfig(1000, 500, 250, 2));
+        ResponseEntity<StreamingResponseBody> response = service.streamNdjson(
+                null, null, null, null,
+                (Integer after, Integer size) -> after == null
+                        ? List.of(new Identified<>(1, new TestDto("row1", 1)))
+                        : List.of(),
+                dto -> dto);
+
+        JsonGenerationException broken = new JsonGenerationException("cannot write", (JsonGenerator) null);
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw broken;
+            }
+        };
+        Exception thrown = assertThrows(Exception.class,
+                () -> response.getBody().writeTo(failing));
+        Throwable cause = thrown;
+        while (cause != null && cause != broken) {
+            cause = cause.getCause();
+        }
+        assertSame(broken, cause);
+    }
 }
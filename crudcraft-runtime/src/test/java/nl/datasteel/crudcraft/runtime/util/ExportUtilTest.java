@@ -15,14 +15,21 @@
  */
 package nl.datasteel.crudcraft.runtime.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import nl.datasteel.crudcraft.runtime.export.ExportRequest;
+import nl.datasteel.crudcraft.runtime.export.XlsxExportSettings;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -211,6 +218,50 @@ class ExportUtilTest {
         assertTrue(text.contains("Jane"));
     }
     
+    @Test
+    void streamCsvWritesRowsBeforeIteratorIsExhausted() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int total = ExportUtil.HEADER_SAMPLE_ROWS + 50;
+        Iterator<Person> people = new Iterator<>() {
+            int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < total;
+            }
+
+            @Override
+            public Person next() {
+                if (next == total - 1) {
+                    assertTrue(out.size() > 0, "rows should be flushed while streaming");
+                }
+                return new Person("P" + next, next++);
+            }
+        };
+
+        ExportUtil.streamCsv(people, out, null, 10);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r?\n");
+        assertEquals(total + 1, lines.length);
+        assertEquals("P" + (total - 1) + "," + (total - 1), lines[total]);
+    }
+
+    @Test
+    void streamCsvWritesLateNestedObjectIntoSampledColumn() {
+        List<PostWithNullAuthor> posts = new ArrayList<>();
+        for (int i = 0; i < ExportUtil.HEADER_SAMPLE_ROWS; i++) {
+            posts.add(new PostWithNullAuthor("Post " + i, null));
+        }
+        posts.add(new PostWithNullAuthor("Late", new Author("Jane", "jane@example.com")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportUtil.streamCsv(posts.iterator(), out);
+
+        String text = out.toString(StandardCharsets.UTF_8);
+        assertTrue(text.startsWith("title,author"));
+        assertTrue(text.contains("Late,\"{\"\"name\"\":\"\"Jane\"\""));
+    }
+
     @Test
     void streamXlsxHandlesNullNestedObjects() {
         PostWithNullAuthor post1 = new PostWithNullAuthor("Post 1", null);
@@ -427,4 +478,67 @@ class ExportUtilTest {
         assertFalse(text.contains("John Doe"));
         assertFalse(text.contains("john@example.com"));
     }
+
+    record Account(long id, double balance, boolean active) {}
+
+    @Test
+    void streamXlsxWritesTypedCells() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportUtil.streamXlsx(List.of(new Account(1L << 60, 12.5, true)).iterator(), out, null,
+                XlsxExportSettings.defaults());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            var row = workbook.getSheet("export").getRow(1);
+            assertEquals(CellType.STRING, row.getCell(0).getCellType());
+            assertEquals(String.valueOf(1L << 60), row.getCell(0).getStringCellValue());
+            assertEquals(CellType.NUMERIC, row.getCell(1).getCellType());
+            assertEquals(12.5, row.getCell(1).getNumericCellValue());
+            assertEquals(CellType.BOOLEAN, row.getCell(2).getCellType());
+            assertTrue(row.getCell(2).getBooleanCellValue());
+        }
+    }
+
+    @Test
+    void streamXlsxRollsOverToNewSheet() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Person> people = List.of(new Person("A", 1), new Person("B", 2), new Person("C", 3));
+        ExportUtil.streamXlsx(people.iterator(), out, null, new XlsxExportSettings(10, true, true, 3));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            assertEquals(2, workbook.getSheet("export").getLastRowNum());
+            assertEquals("name", workbook.getSheet("export-2").getRow(0).getCell(0).getStringCellValue());
+            assertEquals("C", workbook.getSheet("export-2").getRow(1).getCell(0).getStringCellValue());
+        }
+    }
+
+    record Reading(Object value) {}
+
+    @Test
+    void streamXlsxWritesValuesAfterSampleThatDoNotFitColumnTypeAsText() throws Exception {
+        List<Reading> readings = new ArrayList<>();
+        for (int i = 0; i < ExportUtil.HEADER_SAMPLE_ROWS; i++) {
+            readings.add(new Reading(i));
+        }
+        readings.add(new Reading("n/a"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportUtil.streamXlsx(readings.iterator(), out, null, XlsxExportSettings.defaults());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            var sheet = workbook.getSheet("export");
+            assertEquals(CellType.NUMERIC, sheet.getRow(1).getCell(0).getCellType());
+            var late = sheet.getRow(ExportUtil.HEADER_SAMPLE_ROWS + 1).getCell(0);
+            assertEquals(CellType.STRING, late.getCellType());
+            assertEquals("n/a", late.getStringCellValue());
+        }
+    }
+
+    @Test
+    void xlsxSettingsRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new XlsxExportSettings(0, true, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> new XlsxExportSettings(100, true, true, XlsxExportSettings.MAX_SHEET_ROWS + 1));
+    }
 }
@@ -15,7 +15,10 @@
  */
 package nl.datasteel.crudcraft.runtime.util;
 
+import nl.datasteel.crudcraft.runtime.access.EntityAccessor;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessors;
 import nl.datasteel.crudcraft.runtime.exception.RelationshipException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,26 @@ public class RelationshipUtilsTest {
 
     public static class PlainEntity {}
 
+    public static class AccessorEntity {
+        int fixed;
+        int cleared;
+    }
+
+    static class AccessorEntityAccessor implements EntityAccessor<AccessorEntity> {
+        @Override public Class<AccessorEntity> entityType() { return AccessorEntity.class; }
+        @Override public String idProperty() { return null; }
+        @Override public boolean hasProperty(String property) { return false; }
+        @Override public boolean isWritable(String property) { return false; }
+        @Override public Object get(AccessorEntity entity, String property) {
+            throw new IllegalArgumentException(property);
+        }
+        @Override public void set(AccessorEntity entity, String property, Object value) {
+            throw new IllegalArgumentException(property);
+        }
+        @Override public void fixRelationships(AccessorEntity entity) { entity.fixed++; }
+        @Override public void clearRelationships(AccessorEntity entity) { entity.cleared++; }
+    }
+
     @Test
     void fixBidirectionalInvokesMetaWhenPresent() {
         WithMeta entity = new WithMeta();
@@ -61,4 +84,14 @@ public class RelationshipUtilsTest {
         BrokenMeta entity = new BrokenMeta();
         assertThrows(RelationshipException.class, () -> RelationshipUtils.clearBidirectional(entity));
     }
+
+    @Test
+    void registeredAccessorTakesPrecedenceOverMetaLookup() {
+        EntityAccessors.register(new AccessorEntityAccessor());
+        AccessorEntity entity = new AccessorEntity();
+        RelationshipUtils.fixBidirectional(entity);
+        RelationshipUtils.clearBidirectional(entity);
+        assertEquals(1, entity.fixed);
+        assertEquals(1, entity.cleared);
+    }
 }
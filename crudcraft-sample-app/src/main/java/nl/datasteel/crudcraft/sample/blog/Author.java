@@ -29,6 +29,7 @@ import jakarta.validation.constraints.Size;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import nl.datasteel.crudcraft.annotations.CrudEndpoint;
 import nl.datasteel.crudcraft.annotations.CrudTemplate;
 import nl.datasteel.crudcraft.annotations.classes.CrudCrafted;
 import nl.datasteel.crudcraft.annotations.fields.Dto;
@@ -43,7 +44,7 @@ import nl.datasteel.crudcraft.runtime.extensions.AuditableExtension;
  * List DTOs, and CrudTemplate.FULL with all endpoints enabled.
  */
 @Entity
-@CrudCrafted(editable = false, template = CrudTemplate.FULL)
+@CrudCrafted(editable = false, template = CrudTemplate.FULL, includeEndpoints = CrudEndpoint.STREAM)
 @Table(name = "authors")
 public class Author {
 
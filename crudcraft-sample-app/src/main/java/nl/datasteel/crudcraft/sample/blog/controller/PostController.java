@@ -51,7 +51,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -149,7 +148,6 @@ public class PostController {
             @ApiResponse(responseCode = "404", description = "Post with the specified ID was not found"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PostResponseDto> patch(@PathVariable("id") UUID id,
             @RequestBody PostRequestDto request) {
         FieldSecurityUtil.filterWrite(request);
@@ -167,7 +165,6 @@ public class PostController {
             @ApiResponse(responseCode = "201", description = "Post entities created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<List<PostResponseDto>> createAll(
             @Valid @RequestBody List<PostRequestDto> requests) {
         requests.forEach(FieldSecurityUtil::filterWrite);
@@ -190,7 +187,6 @@ public class PostController {
             @ApiResponse(responseCode = "200", description = "Post existence check result"),
             @ApiResponse(responseCode = "404", description = "Post with the specified ID was not found")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<Void> exists(@PathVariable("id") UUID id) {
         return service.existsById(id)
                 ? ResponseEntity.ok().build()
@@ -207,7 +203,6 @@ public class PostController {
             @ApiResponse(responseCode = "200", description = "Post retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Post with the specified ID was not found")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PostResponseDto> getOne(@PathVariable UUID id) {
         PostResponseDto dto = service.findById(id);
         return ResponseEntity.ok(FieldSecurityUtil.filterRead(dto));
@@ -220,7 +215,6 @@ public class PostController {
             description = "Validates Post data without persisting it. Returns validation errors if any."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Validation results"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<Void> validate(@Valid @RequestBody PostRequestDto request) {
         return ResponseEntity.ok().build();
     }
@@ -232,7 +226,6 @@ public class PostController {
             description = "Retrieves lightweight references to Post entities with support for pagination and filtering."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Paginated list of Post references"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PaginatedResponse<PostRef>> getAllRef(Pageable pageable,
             @ModelAttribute PostSearchRequest searchRequest) {
         Page<PostRef> page = service.searchRef(searchRequest, clampPageable(pageable));
@@ -255,7 +248,6 @@ public class PostController {
             @ApiResponse(responseCode = "204", description = "Post deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Post with the specified ID was not found")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<Void> delete(@PathVariable("id") UUID id) {
         service.delete(id);
         return ResponseEntity.noContent().build();
@@ -268,7 +260,6 @@ public class PostController {
             description = "Retrieves all Post entities with support for pagination, sorting, and filtering via search parameters."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Paginated list of Post entities"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PaginatedResponse<PostResponseDto>> getAll(Pageable pageable,
             @ModelAttribute PostSearchRequest searchRequest) {
         Page<PostResponseDto> page = service.search(searchRequest, clampPageable(pageable));
@@ -291,7 +282,6 @@ public class PostController {
             @ApiResponse(responseCode = "200", description = "Post entities updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<List<PostResponseDto>> updateAll(
             @Valid @RequestBody List<Identified<UUID, PostRequestDto>> requests) {
         requests.forEach(r -> FieldSecurityUtil.filterWrite(r.getData()));
@@ -308,7 +298,6 @@ public class PostController {
             description = "Searches for Post entities based on the provided search criteria."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Search results for Post entities"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PaginatedResponse<PostResponseDto>> search(
             @ModelAttribute PostSearchRequest searchRequest, @RequestParam("limit") Integer limit) {
         if (limit == null || limit <= 0) {
@@ -336,7 +325,6 @@ public class PostController {
             @ApiResponse(responseCode = "201", description = "Post created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PostResponseDto> post(@RequestBody PostRequestDto request) {
         FieldSecurityUtil.filterWrite(request);
         PostResponseDto created = service.create(request);
@@ -354,7 +342,6 @@ public class PostController {
             @ApiResponse(responseCode = "404", description = "Post with the specified ID was not found"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PostResponseDto> update(@PathVariable("id") UUID id,
             @RequestBody PostRequestDto request) {
         FieldSecurityUtil.filterWrite(request);
@@ -369,7 +356,6 @@ public class PostController {
             description = "Permanently deletes multiple Post entities by their IDs."
     )
     @ApiResponses(@ApiResponse(responseCode = "204", description = "Post entities deleted successfully"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<Void> deleteAllByIds(@RequestBody Collection<UUID> ids) {
         service.deleteAllByIds(ids);
         return ResponseEntity.noContent().build();
@@ -382,7 +368,6 @@ public class PostController {
             description = "Exports Post entities in the requested format."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Post data exported"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<StreamingResponseBody> export(
             @ModelAttribute PostSearchRequest searchRequest,
             @RequestParam(value = "limit", required = false) Integer limit,
@@ -403,7 +388,6 @@ public class PostController {
             description = "Retrieves multiple Post entities by their IDs in a single request."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Post entities retrieved successfully"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<PaginatedResponse<PostResponseDto>> findByIds(
             @RequestBody List<UUID> ids) {
         var dtos = service.findByIds(ids).stream()
@@ -428,7 +412,6 @@ public class PostController {
             description = "Counts the total number of Post entities matching the search criteria."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Count of Post entities"))
-    @PreAuthorize("permitAll()")
     public ResponseEntity<Map<String, Long>> count() {
         long total = service.count();
         return ResponseEntity.ok(Map.of("count", total));
@@ -444,7 +427,6 @@ public class PostController {
             @ApiResponse(responseCode = "200", description = "Post entities partially updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<List<PostResponseDto>> patchAll(
             @Valid @RequestBody List<Identified<UUID, PostRequestDto>> requests) {
         requests.forEach(r -> FieldSecurityUtil.filterWrite(r.getData()));
@@ -464,7 +446,6 @@ public class PostController {
             @ApiResponse(responseCode = "201", description = "Post entities created or updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("permitAll()")
     public ResponseEntity<List<PostResponseDto>> upsertAll(
             @RequestBody Collection<PostRequestDto> requests) {
         requests.forEach(FieldSecurityUtil::filterWrite);
@@ -16,8 +16,10 @@
 package nl.datasteel.crudcraft.sample.security;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import nl.datasteel.crudcraft.runtime.security.jwt.VerifiedJwtCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -43,7 +45,8 @@ public class SecurityConfig {
 
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http,
-                                            JwtAuthenticationConverter jwtAuthConverter)
+                                            JwtAuthenticationConverter jwtAuthConverter,
+                                            VerifiedJwtCache jwtCache)
             throws Exception {
 
         http
@@ -65,18 +68,27 @@ public class SecurityConfig {
                         // everything else
                         .anyRequest().authenticated()
                 )
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthConverter)))
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtCache.authenticationConverter(jwtAuthConverter))))
                 .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
 
     @Bean
-    JwtDecoder jwtDecoder(@Value("${crudcraft.security.jwt.secret}") String secret) {
+    VerifiedJwtCache verifiedJwtCache(
+            @Value("${crudcraft.security.jwt.cache.max-size:10000}") int maxSize,
+            @Value("${crudcraft.security.jwt.cache.max-age:PT10M}") Duration maxAge) {
+        return new VerifiedJwtCache(maxSize, maxAge);
+    }
+
+    @Bean
+    JwtDecoder jwtDecoder(@Value("${crudcraft.security.jwt.secret}") String secret,
+                          VerifiedJwtCache jwtCache) {
         // ensure >= 32 bytes as you had
         org.springframework.util.Assert.isTrue(secret.length() >= 32, "JWT secret must be at least 32 characters");
         SecretKey key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        return NimbusJwtDecoder.withSecretKey(key).build();
+        // repeated tokens skip the HMAC check and claim mapping until they expire
+        return jwtCache.decoder(NimbusJwtDecoder.withSecretKey(key).build());
     }
 
     @Bean
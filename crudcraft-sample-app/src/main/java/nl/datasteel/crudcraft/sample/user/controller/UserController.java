@@ -43,6 +43,7 @@ import java.util.UUID;
 import java.util.function.BiConsumer;
 import nl.datasteel.crudcraft.runtime.Identified;
 import nl.datasteel.crudcraft.runtime.controller.response.PaginatedResponse;
+import nl.datasteel.crudcraft.runtime.security.EndpointAuthorization;
 import nl.datasteel.crudcraft.runtime.security.FieldSecurityUtil;
 import nl.datasteel.crudcraft.runtime.util.ExportUtil;
 import nl.datasteel.crudcraft.sample.user.dto.ref.UserRef;
@@ -56,7 +57,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -142,9 +142,9 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "User with the specified ID was not found"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponseDto> patch(@PathVariable("id") UUID id,
             @RequestBody UserRequestDto request) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         FieldSecurityUtil.filterWrite(request);
         UserResponseDto patched = service.patch(id, request);
         return ResponseEntity.ok(FieldSecurityUtil.filterRead(patched));
@@ -159,8 +159,8 @@ public class UserController {
             @ApiResponse(responseCode = "204", description = "User deleted successfully"),
             @ApiResponse(responseCode = "404", description = "User with the specified ID was not found")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> delete(@PathVariable("id") UUID id) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
@@ -171,9 +171,9 @@ public class UserController {
             description = "Searches for User entities based on the provided search criteria."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Search results for User entities"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PaginatedResponse<UserResponseDto>> search(
             @ModelAttribute UserSearchRequest searchRequest, @RequestParam("limit") Integer limit) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         if (limit == null || limit <= 0) {
             return ResponseEntity.badRequest().build();
         }
@@ -198,9 +198,9 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User entities updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserResponseDto>> updateAll(
             @Valid @RequestBody List<Identified<UUID, UserRequestDto>> requests) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         requests.forEach(r -> FieldSecurityUtil.filterWrite(r.getData()));
         List<UserResponseDto> dtos = service.updateAll(requests).stream()
                 .map(FieldSecurityUtil::filterRead)
@@ -217,9 +217,9 @@ public class UserController {
             @ApiResponse(responseCode = "201", description = "User entities created or updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserResponseDto>> upsertAll(
             @RequestBody Collection<UserRequestDto> requests) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         requests.forEach(FieldSecurityUtil::filterWrite);
         List<UserResponseDto> dtos = service.upsertAll(requests).stream()
                 .map(FieldSecurityUtil::filterRead)
@@ -233,9 +233,9 @@ public class UserController {
             description = "Retrieves lightweight references to User entities with support for pagination and filtering."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Paginated list of User references"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PaginatedResponse<UserRef>> getAllRef(Pageable pageable,
             @ModelAttribute UserSearchRequest searchRequest) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         Page<UserRef> page = service.searchRef(searchRequest, clampPageable(pageable));
         Page<UserRef> dtoPage = page.map(FieldSecurityUtil::filterRead);
         PaginatedResponse<UserRef> response = new PaginatedResponse<>(
@@ -252,8 +252,8 @@ public class UserController {
             description = "Permanently deletes multiple User entities by their IDs."
     )
     @ApiResponses(@ApiResponse(responseCode = "204", description = "User entities deleted successfully"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteAllByIds(@RequestBody Collection<UUID> ids) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         service.deleteAllByIds(ids);
         return ResponseEntity.noContent().build();
     }
@@ -267,9 +267,9 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User entities partially updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserResponseDto>> patchAll(
             @Valid @RequestBody List<Identified<UUID, UserRequestDto>> requests) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         requests.forEach(r -> FieldSecurityUtil.filterWrite(r.getData()));
         List<UserResponseDto> dtos = service.patchAll(requests).stream()
                 .map(FieldSecurityUtil::filterRead)
@@ -283,9 +283,9 @@ public class UserController {
             description = "Retrieves multiple User entities by their IDs in a single request."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "User entities retrieved successfully"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PaginatedResponse<UserResponseDto>> findByIds(
             @RequestBody List<UUID> ids) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         var dtos = service.findByIds(ids).stream()
             .map(FieldSecurityUtil::filterRead)
             .toList();
@@ -310,8 +310,8 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "User with the specified ID was not found")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponseDto> getOne(@PathVariable UUID id) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         UserResponseDto dto = service.findById(id);
         return ResponseEntity.ok(FieldSecurityUtil.filterRead(dto));
     }
@@ -328,8 +328,8 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User existence check result"),
             @ApiResponse(responseCode = "404", description = "User with the specified ID was not found")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> exists(@PathVariable("id") UUID id) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         return service.existsById(id)
                 ? ResponseEntity.ok().build()
                 : ResponseEntity.notFound().build();
@@ -344,8 +344,8 @@ public class UserController {
             @ApiResponse(responseCode = "201", description = "User created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponseDto> post(@RequestBody UserRequestDto request) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         FieldSecurityUtil.filterWrite(request);
         UserResponseDto created = service.create(request);
         return ResponseEntity.status(201).body(FieldSecurityUtil.filterRead(created));
@@ -361,9 +361,9 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "User with the specified ID was not found"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponseDto> update(@PathVariable("id") UUID id,
             @RequestBody UserRequestDto request) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         FieldSecurityUtil.filterWrite(request);
         UserResponseDto updated = service.update(id, request);
         return ResponseEntity.ok(FieldSecurityUtil.filterRead(updated));
@@ -378,9 +378,9 @@ public class UserController {
             @ApiResponse(responseCode = "201", description = "User entities created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserResponseDto>> createAll(
             @Valid @RequestBody List<UserRequestDto> requests) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         requests.forEach(FieldSecurityUtil::filterWrite);
         List<UserResponseDto> dtos = service.createAll(requests).stream()
                 .map(FieldSecurityUtil::filterRead)
@@ -394,9 +394,9 @@ public class UserController {
             description = "Retrieves all User entities with support for pagination, sorting, and filtering via search parameters."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Paginated list of User entities"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PaginatedResponse<UserResponseDto>> getAll(Pageable pageable,
             @ModelAttribute UserSearchRequest searchRequest) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         Page<UserResponseDto> page = service.search(searchRequest, clampPageable(pageable));
         Page<UserResponseDto> dtoPage = page.map(FieldSecurityUtil::filterRead);
         PaginatedResponse<UserResponseDto> response = new PaginatedResponse<>(
@@ -413,11 +413,11 @@ public class UserController {
             description = "Exports User entities in the requested format."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "User data exported"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<StreamingResponseBody> export(
             @ModelAttribute UserSearchRequest searchRequest,
             @RequestParam(value = "limit", required = false) Integer limit,
             @RequestParam(value = "format", required = true) String format) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         final int effectiveLimit = limit != null ? limit : 1000;
         String lower = format == null ? "" : format.toLowerCase();
         int max;
@@ -508,8 +508,8 @@ public class UserController {
             description = "Validates User data without persisting it. Returns validation errors if any."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Validation results"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> validate(@Valid @RequestBody UserRequestDto request) {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         return ResponseEntity.ok().build();
     }
 
@@ -519,8 +519,8 @@ public class UserController {
             description = "Counts the total number of User entities matching the search criteria."
     )
     @ApiResponses(@ApiResponse(responseCode = "200", description = "Count of User entities"))
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Map<String, Long>> count() {
+        EndpointAuthorization.requireAnyRole("ADMIN");
         long total = service.count();
         return ResponseEntity.ok(Map.of("count", total));
     }
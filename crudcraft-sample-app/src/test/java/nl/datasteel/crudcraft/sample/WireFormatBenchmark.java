@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.sample;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
+import nl.datasteel.crudcraft.sample.blog.PostStatus;
+import nl.datasteel.crudcraft.sample.blog.dto.ref.AuthorRef;
+import nl.datasteel.crudcraft.sample.blog.dto.ref.CategoryRef;
+import nl.datasteel.crudcraft.sample.blog.dto.ref.PostStatsRef;
+import nl.datasteel.crudcraft.sample.blog.dto.ref.TagRef;
+import nl.datasteel.crudcraft.sample.blog.dto.response.PostResponseDto;
+
+/**
+ * Compares JSON, Smile and CBOR for a page of sample post DTOs: payload size and
+ * the time to encode the page and decode it back into a generic tree. This is a
+ * plain main class rather than a test so it never runs as part of the build:
+ *
+ * <pre>
+ * mvn -pl crudcraft-sample-app -am test-compile
+ * mvn -pl crudcraft-sample-app exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=nl.datasteel.crudcraft.sample.WireFormatBenchmark \
+ *     -Dexec.args="50 2000"
+ * </pre>
+ *
+ * The optional arguments are the page size and the number of measured iterations.
+ */
+public final class WireFormatBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    private WireFormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int pageSize = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("JSON", json);
+        mappers.put("Smile", BinaryFormats.smileMapper(json));
+        mappers.put("CBOR", BinaryFormats.cborMapper(json));
+
+        List<PostResponseDto> page = samplePage(pageSize);
+        int jsonSize = json.writeValueAsBytes(page).length;
+
+        System.out.printf("%d posts per page, %d iterations%n", pageSize, iterations);
+        System.out.printf("%-6s %10s %8s %12s %12s%n", "format", "bytes", "vs JSON", "encode us", "decode us");
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] payload = mapper.writeValueAsBytes(page);
+            measure(mapper, page, payload, WARMUP_ITERATIONS);
+            long[] nanos = measure(mapper, page, payload, iterations);
+            System.out.printf("%-6s %10d %7.0f%% %12.1f %12.1f%n",
+                    entry.getKey(),
+                    payload.length,
+                    100.0 * payload.length / jsonSize,
+                    nanos[0] / 1_000.0 / iterations,
+                    nanos[1] / 1_000.0 / iterations);
+        }
+    }
+
+    /**
+     * Encodes and decodes the page repeatedly.
+     *
+     * @return total encode and decode time in nanoseconds
+     */
+    private static long[] measure(ObjectMapper mapper, List<PostResponseDto> page, byte[] payload,
+                                  int iterations) throws IOException {
+        long encode = 0;
+        long decode = 0;
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            sink += mapper.writeValueAsBytes(page).length;
+            long mid = System.nanoTime();
+            sink += mapper.readTree(payload).size();
+            encode += mid - start;
+            decode += System.nanoTime() - mid;
+        }
+        if (sink == 0) {
+            throw new IllegalStateException("Nothing was encoded");
+        }
+        return new long[] {encode, decode};
+    }
+
+    private static List<PostResponseDto> samplePage(int size) {
+        Random random = new Random(42);
+        List<AuthorRef> authors = List.of(new AuthorRef(UUID.randomUUID()), new AuthorRef(UUID.randomUUID()));
+        List<CategoryRef> categories = List.of(new CategoryRef(UUID.randomUUID()),
+                new CategoryRef(UUID.randomUUID()), new CategoryRef(UUID.randomUUID()));
+        List<PostResponseDto> posts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            posts.add(new PostResponseDto(
+                    UUID.randomUUID(),
+                    "Post number " + i,
+                    "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(8 + random.nextInt(8)),
+                    "Summary of post " + i,
+                    authors.get(i % authors.size()),
+                    categories.get(i % categories.size()),
+                    OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC).plusHours(i),
+                    PostStatus.values()[i % PostStatus.values().length],
+                    Set.of(new TagRef(UUID.randomUUID()), new TagRef(UUID.randomUUID())),
+                    new PostStatsRef(UUID.randomUUID())));
+        }
+        return posts;
+    }
+}
@@ -95,5 +95,10 @@ public enum CrudEndpoint {
     /**
      * Exports resources in a specific format, based on specified criteria.
      */
-    EXPORT
+    EXPORT,
+    /**
+     * Streams every matching resource as newline-delimited JSON, for internal consumers
+     * reading unbounded result sets. Opt-in: no template enables it by default.
+     */
+    STREAM
 }
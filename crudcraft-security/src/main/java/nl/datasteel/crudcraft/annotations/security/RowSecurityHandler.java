@@ -16,6 +16,7 @@
 package nl.datasteel.crudcraft.annotations.security;
 
 import com.querydsl.core.types.Predicate;
+import java.util.Collection;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -56,4 +57,18 @@ public interface RowSecurityHandler<T> {
     default void apply(T entity) {
         // no-op by default
     }
+
+    /**
+     * Apply row-security constraints to a batch of entities prior to persistence.
+     * Bulk operations call this once per batch instead of {@link #apply(Object)} per entity,
+     * so handlers that need a lookup can validate the whole batch with a single query.
+     * The default applies {@link #apply(Object)} to each entity.
+     *
+     * @param entities the entities to check or mutate
+     */
+    default void applyAll(Collection<T> entities) {
+        for (T entity : entities) {
+            apply(entity);
+        }
+    }
 }
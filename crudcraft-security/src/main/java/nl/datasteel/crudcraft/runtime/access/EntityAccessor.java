@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.access;
+
+/**
+ * Reflection-free access to the properties of an entity type. Implementations are
+ * generated at compile time for every CrudCraft entity, as {@code <package>.meta.<Entity>Accessor},
+ * and are looked up through {@link EntityAccessors}.
+ *
+ * @param <T> the entity type
+ */
+public interface EntityAccessor<T> {
+
+    /**
+     * Returns the entity type this accessor reads and writes.
+     */
+    Class<T> entityType();
+
+    /**
+     * Returns the name of the identifier property, or {@code null} when the entity has no
+     * single identifier property.
+     */
+    String idProperty();
+
+    /**
+     * Checks whether the entity has a readable property with the given name.
+     *
+     * @param property the property name
+     * @return true if {@link #get} can read the property
+     */
+    boolean hasProperty(String property);
+
+    /**
+     * Checks whether the entity has a writable property with the given name.
+     *
+     * @param property the property name
+     * @return true if {@link #set} can write the property
+     */
+    boolean isWritable(String property);
+
+    /**
+     * Reads a property through its getter.
+     *
+     * @param entity the entity to read
+     * @param property the property name
+     * @return the property value
+     * @throws IllegalArgumentException if the property is not readable
+     */
+    Object get(T entity, String property);
+
+    /**
+     * Writes a property through its setter.
+     *
+     * @param entity the entity to write
+     * @param property the property name
+     * @param value the new value, which must be assignable to the property type
+     * @throws IllegalArgumentException if the property is not writable
+     * @throws ClassCastException if the value has the wrong type
+     */
+    void set(T entity, String property, Object value);
+
+    /**
+     * Reads the identifier of the entity.
+     *
+     * @param entity the entity to read
+     * @return the identifier
+     * @throws UnsupportedOperationException if the entity has no single identifier property
+     */
+    default Object getId(T entity) {
+        return get(entity, requireIdProperty());
+    }
+
+    /**
+     * Writes the identifier of the entity.
+     *
+     * @param entity the entity to write
+     * @param id the new identifier
+     * @throws UnsupportedOperationException if the entity has no single identifier property
+     */
+    default void setId(T entity, Object id) {
+        set(entity, requireIdProperty(), id);
+    }
+
+    /**
+     * Re-establishes the inverse side of the bidirectional relationships of the entity.
+     * Does nothing by default.
+     *
+     * @param entity the entity whose relationships to fix
+     */
+    default void fixRelationships(T entity) {
+        // no bidirectional relationships by default
+    }
+
+    /**
+     * Removes the entity from the inverse side of its bidirectional relationships.
+     * Does nothing by default.
+     *
+     * @param entity the entity whose relationships to clear
+     */
+    default void clearRelationships(T entity) {
+        // no bidirectional relationships by default
+    }
+
+    private String requireIdProperty() {
+        String id = idProperty();
+        if (id == null) {
+            throw new UnsupportedOperationException(
+                    entityType().getName() + " has no single identifier property");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.access;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Static registry of {@link EntityAccessor}s.
+ *
+ * <p>Accessors are registered explicitly or discovered by convention: the accessor of
+ * {@code com.example.Post} is {@code com.example.meta.PostAccessor}. The lookup for a type,
+ * including a missing accessor, runs once and is cached, so runtime proxies resolve to
+ * the accessor of the closest superclass that has one.
+ */
+public final class EntityAccessors {
+
+    /**
+     * Name of the package, relative to the entity package, holding generated accessors.
+     */
+    public static final String META_PACKAGE = "meta";
+
+    /**
+     * Suffix appended to the entity name to form the accessor name.
+     */
+    public static final String ACCESSOR_SUFFIX = "Accessor";
+
+    private static final Map<Class<?>, Optional<EntityAccessor<?>>> ACCESSORS =
+            new ConcurrentHashMap<>();
+
+    private EntityAccessors() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Registers an accessor for its entity type, replacing any cached lookup.
+     * Subclasses that were already resolved keep their cached accessor.
+     *
+     * @param accessor the accessor to register
+     */
+    public static void register(EntityAccessor<?> accessor) {
+        ACCESSORS.put(accessor.entityType(), Optional.of(accessor));
+    }
+
+    /**
+     * Finds the accessor for a type or its closest superclass that has one.
+     *
+     * @param type the entity type, possibly a runtime proxy subclass
+     * @param <T> the entity type
+     * @return the accessor, or {@code null} if none exists
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntityAccessor<T> find(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+        Optional<EntityAccessor<?>> cached = ACCESSORS.get(type);
+        if (cached == null) {
+            cached = resolve(type);
+            Optional<EntityAccessor<?>> raced = ACCESSORS.putIfAbsent(type, cached);
+            if (raced != null) {
+                cached = raced;
+            }
+        }
+        return (EntityAccessor<T>) cached.orElse(null);
+    }
+
+    private static Optional<EntityAccessor<?>> resolve(Class<?> type) {
+        EntityAccessor<?> accessor = load(type);
+        if (accessor == null && type.getSuperclass() != null
+                && type.getSuperclass() != Object.class) {
+            accessor = find(type.getSuperclass());
+        }
+        return Optional.ofNullable(accessor);
+    }
+
+    private static EntityAccessor<?> load(Class<?> type) {
+        if (type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+        String name = type.getPackageName() + "." + META_PACKAGE + "."
+                + type.getSimpleName() + ACCESSOR_SUFFIX;
+        try {
+            Class<?> accessorType = Class.forName(name, true, type.getClassLoader());
+            if (!EntityAccessor.class.isAssignableFrom(accessorType)) {
+                return null;
+            }
+            EntityAccessor<?> accessor =
+                    (EntityAccessor<?>) accessorType.getDeclaredConstructor().newInstance();
+            return accessor.entityType() == type ? accessor : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            // No generated accessor, e.g. for classes that are not CrudCraft entities
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to instantiate entity accessor " + name, e);
+        }
+    }
+}
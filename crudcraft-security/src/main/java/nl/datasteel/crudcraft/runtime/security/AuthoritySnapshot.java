@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Immutable view of the authorities of an authentication, taken once per request.
+ *
+ * <p>Besides the authority names, the snapshot holds the roles (authorities without their
+ * {@code ROLE_} prefix) as bits over the {@link FieldSecurityRoles} index, so a field-level
+ * role check is a bit test. Roles registered after the snapshot was taken fall back to a
+ * name lookup.</p>
+ */
+public final class AuthoritySnapshot {
+
+    private static final AuthoritySnapshot ANONYMOUS = new AuthoritySnapshot(Set.of(), Set.of());
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Set<String> authorities;
+    private final Set<String> roles;
+    private final long[] roleBits;
+    private final int coveredRoles;
+
+    private AuthoritySnapshot(Set<String> authorities, Set<String> roles) {
+        this.authorities = authorities;
+        this.roles = roles;
+        this.coveredRoles = FieldSecurityRoles.size();
+        this.roleBits = new long[(coveredRoles + 63) >> 6];
+        for (String role : roles) {
+            int index = FieldSecurityRoles.indexOf(role);
+            if (index >= 0 && index < coveredRoles) {
+                roleBits[index >> 6] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Returns the snapshot of the current authentication, or an empty snapshot when
+     * nobody is authenticated.
+     *
+     * @return the snapshot, never null
+     */
+    public static AuthoritySnapshot current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? ANONYMOUS : of(authentication);
+    }
+
+    /**
+     * Returns the snapshot of an authentication, taken once per request.
+     *
+     * @param authentication the authentication
+     * @return the snapshot
+     */
+    public static AuthoritySnapshot of(Authentication authentication) {
+        return RequestScopedCache.get(new SnapshotKey(authentication), () -> take(authentication));
+    }
+
+    private static AuthoritySnapshot take(Authentication authentication) {
+        Set<String> authorities = new HashSet<>();
+        Set<String> roles = new HashSet<>();
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            String authority = granted.getAuthority();
+            if (authority != null) {
+                authorities.add(authority);
+                roles.add(authority.replace(ROLE_PREFIX, ""));
+            }
+        }
+        return new AuthoritySnapshot(Set.copyOf(authorities), Set.copyOf(roles));
+    }
+
+    /**
+     * Checks whether the authority was granted.
+     *
+     * @param authority the authority name, e.g. {@code ROLE_ADMIN}
+     * @return true if granted
+     */
+    public boolean hasAuthority(String authority) {
+        return authorities.contains(authority);
+    }
+
+    /**
+     * Returns a short token identifying the granted authorities. Equal authority sets give
+     * the same token on every node, so it can key responses that vary with field security.
+     *
+     * @return the fingerprint as hex
+     */
+    public String fingerprint() {
+        return Integer.toHexString(authorities.hashCode());
+    }
+
+    /**
+     * Checks whether any role of the mask was granted.
+     *
+     * @param mask the roles to test
+     * @return true if the mask matches everybody or shares a role with this snapshot
+     */
+    public boolean hasAnyRole(RoleMask mask) {
+        if (mask.isEveryone()) {
+            return true;
+        }
+        long[] words = mask.words();
+        int shared = Math.min(words.length, roleBits.length);
+        for (int i = 0; i < shared; i++) {
+            if ((words[i] & roleBits[i]) != 0) {
+                return true;
+            }
+        }
+        for (int index = coveredRoles; index <= mask.highestIndex(); index++) {
+            if (mask.contains(index) && roles.contains(FieldSecurityRoles.name(index))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Request cache key matching an authentication by identity, so a replaced
+     * authentication never sees the snapshot of the previous one.
+     *
+     * @param authentication the authentication
+     */
+    private record SnapshotKey(Authentication authentication) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SnapshotKey key && key.authentication == authentication;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(authentication);
+        }
+    }
+}
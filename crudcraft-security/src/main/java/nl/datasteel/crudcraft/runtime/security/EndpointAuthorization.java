@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Precompiled endpoint authorization checks called by generated controllers instead of
+ * evaluating {@code @PreAuthorize} expressions. Failures raise the same exceptions as
+ * method security, so they are translated to 401/403 responses the same way.
+ */
+public final class EndpointAuthorization {
+
+    private static final String ACCESS_DENIED = "Access Denied";
+
+    private static final String DEFAULT_ROLE_PREFIX = "ROLE_";
+
+    private static volatile String rolePrefix = DEFAULT_ROLE_PREFIX;
+
+    private EndpointAuthorization() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Equivalent of {@code isAuthenticated()}.
+     *
+     * @throws AuthenticationCredentialsNotFoundException if there is no authentication
+     * @throws org.springframework.security.access.AccessDeniedException if the user is
+     *         anonymous or not authenticated
+     */
+    public static void requireAuthenticated() {
+        Authentication authentication = currentAuthentication();
+        if (authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            throw new org.springframework.security.access.AccessDeniedException(ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * Equivalent of {@code hasAnyRole(...)}. Roles are prefixed with the configured role
+     * prefix at call time, unless they already carry it, like Spring Security does.
+     *
+     * @param roles the accepted roles
+     * @throws AuthenticationCredentialsNotFoundException if there is no authentication
+     * @throws org.springframework.security.access.AccessDeniedException if the user has
+     *         none of the roles
+     */
+    public static void requireAnyRole(String... roles) {
+        String prefix = rolePrefix;
+        String[] authorities = new String[roles.length];
+        for (int i = 0; i < roles.length; i++) {
+            String role = roles[i];
+            authorities[i] = prefix.isEmpty() || role.startsWith(prefix) ? role : prefix + role;
+        }
+        requireAnyAuthority(authorities);
+    }
+
+    /**
+     * Equivalent of {@code hasAnyAuthority(...)}.
+     *
+     * @param authorities the accepted authorities
+     * @throws AuthenticationCredentialsNotFoundException if there is no authentication
+     * @throws org.springframework.security.access.AccessDeniedException if the user has
+     *         none of the authorities
+     */
+    public static void requireAnyAuthority(String... authorities) {
+        AuthoritySnapshot granted = AuthoritySnapshot.of(currentAuthentication());
+        for (String authority : authorities) {
+            if (granted.hasAuthority(authority)) {
+                return;
+            }
+        }
+        throw new org.springframework.security.access.AccessDeniedException(ACCESS_DENIED);
+    }
+
+    /**
+     * Equivalent of {@code denyAll()}.
+     *
+     * @throws org.springframework.security.access.AccessDeniedException always
+     */
+    public static void denyAll() {
+        throw new org.springframework.security.access.AccessDeniedException(ACCESS_DENIED);
+    }
+
+    /**
+     * Sets the prefix {@link #requireAnyRole(String...)} adds to role names, mirroring a
+     * custom {@code GrantedAuthorityDefaults} bean.
+     *
+     * @param prefix the role prefix, or null for none
+     */
+    public static void setRolePrefix(String prefix) {
+        rolePrefix = prefix == null ? "" : prefix;
+    }
+
+    /**
+     * Resets the role prefix to Spring Security's default {@code ROLE_}.
+     */
+    public static void resetRolePrefix() {
+        rolePrefix = DEFAULT_ROLE_PREFIX;
+    }
+
+    private static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AuthenticationCredentialsNotFoundException(
+                    "An Authentication object was not found in the SecurityContext");
+        }
+        return authentication;
+    }
+}
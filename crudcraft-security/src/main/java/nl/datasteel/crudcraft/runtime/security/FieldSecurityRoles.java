@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import nl.datasteel.crudcraft.annotations.security.FieldSecurity;
+
+/**
+ * Interns the role names used in {@link FieldSecurity} annotations and assigns each one a
+ * bit index, so role checks can be evaluated as bit tests against an
+ * {@link AuthoritySnapshot}. Roles are normally collected at startup with
+ * {@link #registerAnnotated(Class)}; roles seen for the first time later are added on demand.
+ */
+public final class FieldSecurityRoles {
+
+    /**
+     * Role that grants access to everyone, including anonymous users.
+     */
+    public static final String ALL = "ALL";
+
+    private static final Map<String, Integer> INDEX = new ConcurrentHashMap<>();
+
+    private static final List<String> NAMES = new CopyOnWriteArrayList<>();
+
+    private FieldSecurityRoles() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Registers a role name and returns its bit index.
+     *
+     * @param role the role name, without {@code ROLE_} prefix
+     * @return the bit index of the role
+     */
+    public static int register(String role) {
+        Integer index = INDEX.get(role);
+        if (index != null) {
+            return index;
+        }
+        synchronized (NAMES) {
+            index = INDEX.get(role);
+            if (index == null) {
+                index = NAMES.size();
+                INDEX.put(role, index);
+                NAMES.add(role);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Registers the roles of every {@link FieldSecurity} field of a type and its superclasses.
+     *
+     * @param type the type to inspect
+     */
+    public static void registerAnnotated(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                FieldSecurity fs = field.getAnnotation(FieldSecurity.class);
+                if (fs != null) {
+                    mask(fs.readRoles());
+                    mask(fs.writeRoles());
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles role names into a mask, registering unknown roles.
+     *
+     * @param roles the role names
+     * @return the mask
+     */
+    public static RoleMask mask(String[] roles) {
+        if (roles == null || roles.length == 0) {
+            return RoleMask.NONE;
+        }
+        int[] indexes = new int[roles.length];
+        int count = 0;
+        for (String role : roles) {
+            if (ALL.equals(role)) {
+                return RoleMask.EVERYONE;
+            }
+            indexes[count++] = register(role);
+        }
+        return RoleMask.of(indexes, count);
+    }
+
+    /**
+     * Returns the number of registered roles.
+     */
+    public static int size() {
+        return NAMES.size();
+    }
+
+    /**
+     * Returns the bit index of a registered role, or -1 when it is unknown.
+     */
+    static int indexOf(String role) {
+        Integer index = INDEX.get(role);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the role name at a bit index.
+     */
+    static String name(int index) {
+        return NAMES.get(index);
+    }
+}
@@ -17,26 +17,53 @@ package nl.datasteel.crudcraft.runtime.security;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import nl.datasteel.crudcraft.annotations.security.FieldSecurity;
 import nl.datasteel.crudcraft.annotations.security.WritePolicy;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * Utility methods for enforcing field-level security on DTOs.
  */
 public final class FieldSecurityUtil {
 
+    /**
+     * The fields of each class and its superclasses, made accessible once, with their
+     * compiled {@link FieldSecurity} role masks.
+     */
+    private static final ClassValue<SecuredField[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected SecuredField[] computeValue(Class<?> type) {
+            List<SecuredField> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    f.setAccessible(true);
+                    FieldSecurity fs = f.getAnnotation(FieldSecurity.class);
+                    fields.add(fs == null
+                            ? new SecuredField(f, null, null, null)
+                            : new SecuredField(f, FieldSecurityRoles.mask(fs.readRoles()),
+                                    FieldSecurityRoles.mask(fs.writeRoles()), fs.writePolicy()));
+                }
+            }
+            return fields.toArray(SecuredField[]::new);
+        }
+    };
+
     private FieldSecurityUtil() {
     }
 
+    /**
+     * A field with its compiled security settings; the masks are null when the field has no
+     * {@link FieldSecurity} annotation.
+     */
+    private record SecuredField(Field field, RoleMask readRoles, RoleMask writeRoles,
+                                WritePolicy writePolicy) {
+    }
+
     /**
      * Determines if the current user can read based on the given roles.
      *
@@ -44,7 +71,7 @@ public final class FieldSecurityUtil {
      * @return {@code true} if the user has any of the roles
      */
     public static boolean canRead(String[] roles) {
-        return hasAnyRole(roles);
+        return AuthoritySnapshot.current().hasAnyRole(FieldSecurityRoles.mask(roles));
     }
 
     /**
@@ -54,7 +81,27 @@ public final class FieldSecurityUtil {
      * @return {@code true} if the user has any of the roles
      */
     public static boolean canWrite(String[] roles) {
-        return hasAnyRole(roles);
+        return AuthoritySnapshot.current().hasAnyRole(FieldSecurityRoles.mask(roles));
+    }
+
+    /**
+     * Determines if the current user may read a single field of a DTO type, using the same
+     * {@link FieldSecurity} rules {@link #filterRead} applies. Sparse fieldsets use this to
+     * leave unreadable columns out of their queries.
+     *
+     * @param type      the DTO type declaring the field (or a subclass of it)
+     * @param fieldName the name of the field
+     * @return {@code true} if the field has no read roles or the user has one of them;
+     *     {@code false} for unreadable and unknown fields
+     */
+    public static boolean canReadField(Class<?> type, String fieldName) {
+        for (SecuredField sf : FIELDS.get(type)) {
+            if (sf.field().getName().equals(fieldName)) {
+                return sf.readRoles() == null
+                        || AuthoritySnapshot.current().hasAnyRole(sf.readRoles());
+            }
+        }
+        return false;
     }
 
     /**
@@ -64,39 +111,36 @@ public final class FieldSecurityUtil {
      * @return the filtered DTO
      */
     public static <T> T filterRead(T dto) {
-        return filterRead(dto, new IdentityHashMap<>());
+        return filterRead(dto, AuthoritySnapshot.current(), new IdentityHashMap<>());
     }
 
     /**
      * Internal helper for recursively filtering DTOs during read operations.
      *
-     * @param dto     the object to filter
-     * @param visited previously visited objects to prevent cycles
+     * @param dto         the object to filter
+     * @param authorities the authorities of the current user
+     * @param visited     previously visited objects to prevent cycles
      * @return the filtered DTO
      */
-    private static <T> T filterRead(T dto, Map<Object, Boolean> visited) {
+    private static <T> T filterRead(T dto, AuthoritySnapshot authorities,
+                                    Map<Object, Boolean> visited) {
         if (dto == null || visited.containsKey(dto)) {
             return dto;
         }
         visited.put(dto, Boolean.TRUE);
 
-        Class<?> clazz = dto.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field f : clazz.getDeclaredFields()) {
-                f.setAccessible(true);
-                try {
-                    Object value = f.get(dto);
-                    FieldSecurity fs = f.getAnnotation(FieldSecurity.class);
-                    if (fs != null && !canRead(fs.readRoles())) {
-                        setFieldToRedacted(f, dto);
-                    } else {
-                        processReadRecursively(value, visited);
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new IllegalStateException(e);
+        for (SecuredField sf : FIELDS.get(dto.getClass())) {
+            Field f = sf.field();
+            try {
+                Object value = f.get(dto);
+                if (sf.readRoles() != null && !authorities.hasAnyRole(sf.readRoles())) {
+                    setFieldToRedacted(f, dto);
+                } else {
+                    processReadRecursively(value, authorities, visited);
                 }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
             }
-            clazz = clazz.getSuperclass();
         }
         return dto;
     }
@@ -104,11 +148,13 @@ public final class FieldSecurityUtil {
     /**
      * Processes nested objects recursively applying field security rules for read operations.
      *
-     * @param value   the value to inspect
-     * @param visited already visited objects to avoid cycles
+     * @param value       the value to inspect
+     * @param authorities the authorities of the current user
+     * @param visited     already visited objects to avoid cycles
      * @throws IllegalAccessException if reflection fails
      */
-    private static void processReadRecursively(Object value, Map<Object, Boolean> visited)
+    private static void processReadRecursively(Object value, AuthoritySnapshot authorities,
+                                               Map<Object, Boolean> visited)
             throws IllegalAccessException {
         if (value == null) {
             return;
@@ -119,17 +165,17 @@ public final class FieldSecurityUtil {
             for (int i = 0; i < length; i++) {
                 Object element = Array.get(value, i);
                 if (element != null && !isJavaLangType(element.getClass())) {
-                    filterRead(element, visited);
+                    filterRead(element, authorities, visited);
                 }
             }
         } else if (value instanceof Collection<?> collection) {
             for (Object element : collection) {
                 if (element != null && !isJavaLangType(element.getClass())) {
-                    filterRead(element, visited);
+                    filterRead(element, authorities, visited);
                 }
             }
         } else if (!isJavaLangType(value.getClass())) {
-            filterRead(value, visited);
+            filterRead(value, authorities, visited);
         }
     }
 
@@ -140,7 +186,7 @@ public final class FieldSecurityUtil {
      * @return the filtered DTO
      */
     public static <T> T filterWrite(T dto) {
-        return filterWrite(dto, null, new IdentityHashMap<>());
+        return filterWrite(dto, null, AuthoritySnapshot.current(), new IdentityHashMap<>());
     }
 
     /**
@@ -152,55 +198,52 @@ public final class FieldSecurityUtil {
      * @return the filtered DTO
      */
     public static <T> T filterWrite(T dto, Object existing) {
-        return filterWrite(dto, existing, new IdentityHashMap<>());
+        return filterWrite(dto, existing, AuthoritySnapshot.current(), new IdentityHashMap<>());
     }
 
     /**
      * Internal helper for recursively filtering DTOs during write operations.
      *
-     * @param dto      the object to filter
-     * @param existing the existing object for immutable values
-     * @param visited  previously visited objects to prevent cycles
+     * @param dto         the object to filter
+     * @param existing    the existing object for immutable values
+     * @param authorities the authorities of the current user
+     * @param visited     previously visited objects to prevent cycles
      * @return the filtered DTO
      */
     @SuppressWarnings("unchecked")
-    private static <T> T filterWrite(T dto, Object existing, Map<Object, Boolean> visited) {
+    private static <T> T filterWrite(T dto, Object existing, AuthoritySnapshot authorities,
+                                     Map<Object, Boolean> visited) {
         if (dto == null || visited.containsKey(dto)) {
             return dto;
         }
         visited.put(dto, Boolean.TRUE);
 
-        Class<?> clazz = dto.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field f : clazz.getDeclaredFields()) {
-                f.setAccessible(true);
-                try {
-                    Object value = f.get(dto);
-                    Object existingValue = null;
-                    Field existingField = existing == null ? null : findField(existing.getClass(), f.getName());
+        for (SecuredField sf : FIELDS.get(dto.getClass())) {
+            Field f = sf.field();
+            try {
+                Object value = f.get(dto);
+                Object existingValue = null;
+                Field existingField = existing == null ? null : findField(existing.getClass(), f.getName());
+                if (existingField != null) {
+                    existingField.setAccessible(true);
+                    existingValue = existingField.get(existing);
+                }
+                if (sf.writeRoles() == null || authorities.hasAnyRole(sf.writeRoles())) {
+                    processWriteRecursively(value, existingValue, authorities, visited);
+                } else if (sf.writePolicy() == WritePolicy.FAIL_ON_DENIED) {
+                    throw new AccessDeniedException("Write denied to field: " + f.getName());
+                } else {
+                    // SKIP_ON_DENIED
                     if (existingField != null) {
-                        existingField.setAccessible(true);
-                        existingValue = existingField.get(existing);
-                    }
-                    FieldSecurity fs = f.getAnnotation(FieldSecurity.class);
-                    if (fs == null || canWrite(fs.writeRoles())) {
-                        processWriteRecursively(value, existingValue, visited);
-                    } else if (fs.writePolicy() == WritePolicy.FAIL_ON_DENIED) {
-                        throw new AccessDeniedException("Write denied to field: " + f.getName());
-                    } else { 
-                      // SKIP_ON_DENIED
-                        if (existingField != null) {
-                            f.set(dto, existingValue);
-                            processWriteRecursively(existingValue, existingValue, visited);
-                        } else {
-                            setFieldToRedacted(f, dto);
-                        }
+                        f.set(dto, existingValue);
+                        processWriteRecursively(existingValue, existingValue, authorities, visited);
+                    } else {
+                        setFieldToRedacted(f, dto);
                     }
-                } catch (IllegalAccessException e) {
-                    throw new IllegalStateException(e);
                 }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
             }
-            clazz = clazz.getSuperclass();
         }
         return dto;
     }
@@ -210,10 +253,12 @@ public final class FieldSecurityUtil {
      *
      * @param value         the value to inspect
      * @param existingValue the existing object to source immutable data from
+     * @param authorities   the authorities of the current user
      * @param visited       already visited objects to avoid cycles
      * @throws IllegalAccessException if reflection fails
      */
     private static void processWriteRecursively(Object value, Object existingValue,
+                                                AuthoritySnapshot authorities,
                                                 Map<Object, Boolean> visited)
             throws IllegalAccessException {
         if (value == null) {
@@ -228,7 +273,7 @@ public final class FieldSecurityUtil {
                 Object element = Array.get(value, i);
                 Object existingElement = i < existingLength ? Array.get(existingValue, i) : null;
                 if (element != null && !isJavaLangType(element.getClass())) {
-                    filterWrite(element, existingElement, visited);
+                    filterWrite(element, existingElement, authorities, visited);
                 }
             }
         } else if (value instanceof Collection<?> collection) {
@@ -242,11 +287,11 @@ public final class FieldSecurityUtil {
                 Object existingElement = existingIter != null && existingIter.hasNext()
                         ? existingIter.next() : null;
                 if (element != null && !isJavaLangType(element.getClass())) {
-                    filterWrite(element, existingElement, visited);
+                    filterWrite(element, existingElement, authorities, visited);
                 }
             }
         } else if (!isJavaLangType(value.getClass())) {
-            filterWrite(value, existingValue, visited);
+            filterWrite(value, existingValue, authorities, visited);
         }
     }
 
@@ -306,32 +351,6 @@ public final class FieldSecurityUtil {
         };
     }
 
-    /**
-     * Checks whether the current user has any of the supplied roles.
-     *
-     * @param roles the roles to verify
-     * @return {@code true} if the user has any role or none are specified
-     */
-    private static boolean hasAnyRole(String[] roles) {
-        if (roles == null || roles.length == 0) {
-            return false;
-        }
-
-        Set<String> required = Arrays.stream(roles).collect(Collectors.toSet());
-        if (required.contains("ALL")) {
-            return true;
-        }
-
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null) {
-            return false;
-        }
-
-        return auth.getAuthorities().stream()
-                .map(a -> a.getAuthority().replace("ROLE_", ""))
-                .anyMatch(required::contains);
-    }
-
     /**
      * Determines whether the given class is part of the Java standard library or primitive.
      *
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memoizes values for the duration of the current web request.
+ *
+ * <p>Values are kept in a request attribute, so they are discarded together with the
+ * request. Outside a request, or when Spring Web is not on the classpath, every call
+ * simply invokes the loader.</p>
+ */
+public final class RequestScopedCache {
+
+    /**
+     * Name of the request attribute holding the cached values.
+     */
+    public static final String ATTRIBUTE = RequestScopedCache.class.getName();
+
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.context.request.RequestContextHolder",
+            RequestScopedCache.class.getClassLoader());
+
+    private RequestScopedCache() {
+        throw new IllegalStateException("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the value cached under the key for the current request, loading it on
+     * first use. Null values are cached as well.
+     *
+     * @param key the cache key, compared by {@code equals}
+     * @param loader computes the value when it is not cached yet
+     * @param <V> the value type
+     * @return the cached or freshly loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V get(Object key, Supplier<V> loader) {
+        Map<Object, Optional<Object>> values = WEB_PRESENT ? WebRequest.values() : null;
+        if (values == null) {
+            return loader.get();
+        }
+        Optional<Object> cached = values.get(key);
+        if (cached == null) {
+            // Not computeIfAbsent: loaders may themselves read other cached values
+            cached = Optional.ofNullable(loader.get());
+            Optional<Object> raced = values.putIfAbsent(key, cached);
+            if (raced != null) {
+                cached = raced;
+            }
+        }
+        return (V) cached.orElse(null);
+    }
+
+    /**
+     * Keeps references to Spring Web types out of the outer class, so it loads without them.
+     */
+    private static final class WebRequest {
+
+        @SuppressWarnings("unchecked")
+        static Map<Object, Optional<Object>> values() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return null;
+            }
+            Object values = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (values == null) {
+                values = new ConcurrentHashMap<Object, Optional<Object>>();
+                attributes.setAttribute(ATTRIBUTE, values, RequestAttributes.SCOPE_REQUEST);
+            }
+            return (Map<Object, Optional<Object>>) values;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+/**
+ * Immutable set of roles, as bits over the {@link FieldSecurityRoles} index.
+ */
+public final class RoleMask {
+
+    /**
+     * Mask that matches nobody.
+     */
+    public static final RoleMask NONE = new RoleMask(new long[0], -1, false);
+
+    /**
+     * Mask that matches everybody, for the {@code ALL} role.
+     */
+    public static final RoleMask EVERYONE = new RoleMask(new long[0], -1, true);
+
+    private final long[] words;
+    private final int highestIndex;
+    private final boolean everyone;
+
+    private RoleMask(long[] words, int highestIndex, boolean everyone) {
+        this.words = words;
+        this.highestIndex = highestIndex;
+        this.everyone = everyone;
+    }
+
+    static RoleMask of(int[] indexes, int count) {
+        int highest = -1;
+        for (int i = 0; i < count; i++) {
+            highest = Math.max(highest, indexes[i]);
+        }
+        long[] words = new long[(highest >> 6) + 1];
+        for (int i = 0; i < count; i++) {
+            words[indexes[i] >> 6] |= 1L << indexes[i];
+        }
+        return new RoleMask(words, highest, false);
+    }
+
+    /**
+     * Returns whether the mask matches everybody.
+     */
+    public boolean isEveryone() {
+        return everyone;
+    }
+
+    /**
+     * Returns whether the mask matches nobody.
+     */
+    public boolean isEmpty() {
+        return !everyone && highestIndex < 0;
+    }
+
+    /**
+     * Returns whether the role with the given bit index is in the mask.
+     */
+    public boolean contains(int index) {
+        return index >= 0 && index <= highestIndex
+                && (words[index >> 6] & (1L << index)) != 0;
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    int highestIndex() {
+        return highestIndex;
+    }
+}
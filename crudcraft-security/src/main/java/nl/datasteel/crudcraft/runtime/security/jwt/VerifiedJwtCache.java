@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Bounded cache of verified JWTs for resource servers whose clients reuse a token for many
+ * requests.
+ *
+ * <p>{@link #decoder(JwtDecoder)} wraps the verifying decoder: a token that verified before
+ * is served from the cache until its {@code exp} claim, or the configured maximum age,
+ * passes. {@link #authenticationConverter(Converter)} wraps the authentication converter
+ * and remembers the authorities and name it derived for a cached token, so the claims are
+ * not mapped again either. Each request still gets a new authentication object.</p>
+ *
+ * <p>Entries are keyed by the SHA-256 hash of the token, so the cache holds no bearer
+ * tokens as keys, and kept in a least-recently-used map of bounded size. Tokens that fail
+ * verification are never cached.</p>
+ */
+public class VerifiedJwtCache {
+
+    private final int maxSize;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder conversionHits = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize the maximum number of cached tokens
+     * @param maxAge  the longest time a token stays cached, even if it expires later
+     */
+    public VerifiedJwtCache(int maxSize, Duration maxAge) {
+        this(maxSize, maxAge, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache with a custom clock.
+     *
+     * @param maxSize the maximum number of cached tokens
+     * @param maxAge  the longest time a token stays cached, even if it expires later
+     * @param clock   the clock the expiry of tokens is checked against
+     */
+    public VerifiedJwtCache(int maxSize, Duration maxAge, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (maxAge == null || maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Maximum age must be positive: " + maxAge);
+        }
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean full = size() > VerifiedJwtCache.this.maxSize;
+                if (full) {
+                    evictions.increment();
+                }
+                return full;
+            }
+        };
+    }
+
+    /**
+     * Wraps a verifying decoder with this cache.
+     *
+     * @param delegate the decoder that verifies tokens
+     * @return a decoder answering repeated tokens from the cache
+     */
+    public JwtDecoder decoder(JwtDecoder delegate) {
+        return token -> decode(token, delegate);
+    }
+
+    /**
+     * Wraps an authentication converter so the authorities and name of a cached token are
+     * derived once. Results other than {@link JwtAuthenticationToken} are not cached.
+     *
+     * @param delegate the converter mapping claims to an authentication
+     * @return a converter reusing the mapping of cached tokens
+     */
+    public Converter<Jwt, AbstractAuthenticationToken> authenticationConverter(
+            Converter<Jwt, ? extends AbstractAuthenticationToken> delegate) {
+        return jwt -> convert(jwt, delegate);
+    }
+
+    private Jwt decode(String token, JwtDecoder delegate) {
+        String key = hash(token);
+        Instant now = clock.instant();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now.isBefore(entry.expiresAt())) {
+                hits.increment();
+                return entry.jwt();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+
+        Jwt jwt = delegate.decode(token);
+        Instant expiresAt = now.plus(maxAge);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(expiresAt)) {
+            expiresAt = jwt.getExpiresAt();
+        }
+        if (now.isBefore(expiresAt)) {
+            synchronized (entries) {
+                entries.put(key, new Entry(jwt, expiresAt));
+            }
+        }
+        return jwt;
+    }
+
+    private AbstractAuthenticationToken convert(
+            Jwt jwt, Converter<Jwt, ? extends AbstractAuthenticationToken> delegate) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(hash(jwt.getTokenValue()));
+        }
+        if (entry == null || entry.jwt() != jwt) {
+            return delegate.convert(jwt);
+        }
+        Converted converted = entry.converted;
+        if (converted != null) {
+            conversionHits.increment();
+            return new JwtAuthenticationToken(jwt, converted.authorities(), converted.name());
+        }
+        AbstractAuthenticationToken authentication = delegate.convert(jwt);
+        if (authentication instanceof JwtAuthenticationToken token) {
+            entry.converted = new Converted(token.getAuthorities(), token.getName());
+        }
+        return authentication;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Drops all cached tokens, e.g. after rotating the signing key.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /** Returns the number of cached tokens, including expired ones not yet removed. */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Returns the number of tokens answered from the cache. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of tokens passed to the verifying decoder. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Returns the number of cached tokens dropped because they expired. */
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /** Returns the number of cached tokens dropped because the cache was full. */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** Returns the number of authentications built from cached authorities. */
+    public long getConversionHitCount() {
+        return conversionHits.sum();
+    }
+
+    /**
+     * A verified token with the time it leaves the cache and, once converted, its
+     * authorities and name.
+     */
+    private static final class Entry {
+        private final Jwt jwt;
+        private final Instant expiresAt;
+        private volatile Converted converted;
+
+        Entry(Jwt jwt, Instant expiresAt) {
+            this.jwt = jwt;
+            this.expiresAt = expiresAt;
+        }
+
+        Jwt jwt() {
+            return jwt;
+        }
+
+        Instant expiresAt() {
+            return expiresAt;
+        }
+    }
+
+    /**
+     * The authorities and principal name derived from a token.
+     *
+     * @param authorities the granted authorities
+     * @param name        the principal name
+     */
+    private record Converted(Collection<GrantedAuthority> authorities, String name) {
+    }
+}
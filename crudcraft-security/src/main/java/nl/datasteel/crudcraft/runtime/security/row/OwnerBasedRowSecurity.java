@@ -21,7 +21,10 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Supplier;
 import nl.datasteel.crudcraft.annotations.security.RowSecurityHandler;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessor;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessors;
 import nl.datasteel.crudcraft.runtime.security.AccessDeniedException;
+import nl.datasteel.crudcraft.runtime.security.RequestScopedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.jpa.domain.Specification;
@@ -68,6 +71,24 @@ public class OwnerBasedRowSecurity<T> implements RowSecurityHandler<T> {
         this.userIdSupplier = Objects.requireNonNull(userIdSupplier, "userIdSupplier must not be null");
     }
 
+    /**
+     * Resolves the current user ID once per request; handlers sharing a supplier share
+     * the resolved value.
+     *
+     * @return the current user ID, or null when nobody is authenticated
+     */
+    private UUID currentUserId() {
+        return RequestScopedCache.get(new PrincipalKey(userIdSupplier), userIdSupplier);
+    }
+
+    /**
+     * Request cache key for the user ID resolved by a supplier.
+     *
+     * @param supplier the user ID supplier
+     */
+    private record PrincipalKey(Supplier<UUID> supplier) {
+    }
+
     /**
      * Builds a row-level specification that only allows access to entities
      * where the {@code ownerField} equals the current user ID.
@@ -77,7 +98,7 @@ public class OwnerBasedRowSecurity<T> implements RowSecurityHandler<T> {
     @Override
     public Specification<T> rowFilter() {
         return (root, query, cb) -> {
-            UUID userId = userIdSupplier.get();
+            UUID userId = currentUserId();
             if (userId == null) {
                 logger.warn("No authenticated user found; denying all rows.");
                 return cb.disjunction();
@@ -88,6 +109,8 @@ public class OwnerBasedRowSecurity<T> implements RowSecurityHandler<T> {
 
     /**
      * Ensures that the entity's owner matches the current user, or sets it if not yet assigned.
+     * The owner is read and written through the generated {@link EntityAccessor} of the entity
+     * when it has one, and through bean introspection otherwise.
      *
      * @param entity the entity to secure
      * @throws IllegalStateException if reflection fails
@@ -95,11 +118,17 @@ public class OwnerBasedRowSecurity<T> implements RowSecurityHandler<T> {
      */
     @Override
     public void apply(T entity) {
-        UUID userId = userIdSupplier.get();
+        UUID userId = currentUserId();
         if (userId == null) {
             throw new AccessDeniedException("No authenticated user to apply row security.");
         }
 
+        EntityAccessor<T> accessor = EntityAccessors.find(entity.getClass());
+        if (accessor != null && accessor.hasProperty(ownerField)) {
+            ensureOwnership(accessor, entity, userId);
+            return;
+        }
+
         try {
             ensureOwnership(entity, userId);
         } catch (java.beans.IntrospectionException | ReflectiveOperationException e) {
@@ -111,6 +140,28 @@ public class OwnerBasedRowSecurity<T> implements RowSecurityHandler<T> {
         }
     }
 
+    /**
+     * Ensures that the entity's owner field matches the given user ID, or sets it if
+     * currently null, using the generated accessor of the entity.
+     *
+     * @param accessor the accessor of the entity type
+     * @param entity the entity to check or mutate
+     * @param userId the current user's ID
+     * @throws AccessDeniedException if the current user is not allowed to mutate this entity
+     */
+    private void ensureOwnership(EntityAccessor<T> accessor, T entity, UUID userId) {
+        if (!accessor.isWritable(ownerField)) {
+            throw new IllegalStateException(
+                    "No getter/setter found for '" + ownerField + "' in " + entity.getClass());
+        }
+        Object currentValue = accessor.get(entity, ownerField);
+        if (currentValue == null) {
+            accessor.set(entity, ownerField, userId);
+        } else if (!userId.equals(currentValue)) {
+            throw new AccessDeniedException("Entity ownership mismatch – access denied.");
+        }
+    }
+
     /**
      * Ensures that the entity's owner field matches the given user ID,
      * or sets it if currently null.
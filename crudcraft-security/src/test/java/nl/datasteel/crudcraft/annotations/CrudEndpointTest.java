@@ -24,7 +24,7 @@ class CrudEndpointTest {
 
     @Test
     void hasExpectedNumberOfEndpoints() {
-        assertEquals(18, CrudEndpoint.values().length);
+        assertEquals(19, CrudEndpoint.values().length);
     }
 
     @Test
@@ -47,7 +47,8 @@ class CrudEndpointTest {
                 CrudEndpoint.COUNT,
                 CrudEndpoint.SEARCH,
                 CrudEndpoint.VALIDATE,
-                CrudEndpoint.EXPORT
+                CrudEndpoint.EXPORT,
+                CrudEndpoint.STREAM
         );
         assertEquals(expected, EnumSet.allOf(CrudEndpoint.class));
     }
@@ -15,6 +15,8 @@
  */
 package nl.datasteel.crudcraft.annotations.security;
 
+import java.util.ArrayList;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
@@ -35,4 +37,22 @@ class RowSecurityHandlerTest {
         assertSame(spec, handler.rowFilter());
         assertDoesNotThrow(() -> handler.apply("entity"));
     }
+
+    @Test
+    void applyAllDefaultsToApplyPerEntity() {
+        List<String> applied = new ArrayList<>();
+        RowSecurityHandler<String> handler = new RowSecurityHandler<>() {
+            @Override
+            public Specification<String> rowFilter() {
+                return null;
+            }
+
+            @Override
+            public void apply(String entity) {
+                applied.add(entity);
+            }
+        };
+        handler.applyAll(List.of("a", "b"));
+        assertEquals(List.of("a", "b"), applied);
+    }
 }
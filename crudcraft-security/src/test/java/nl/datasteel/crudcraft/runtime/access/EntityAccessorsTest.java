@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.access;
+
+import nl.datasteel.crudcraft.runtime.access.meta.WidgetAccessor;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class EntityAccessorsTest {
+
+    public static class Widget {
+        public Long id;
+    }
+
+    public static class WidgetProxy extends Widget { }
+
+    static class Unmapped { }
+
+    static class Registered { }
+
+    static class RegisteredAccessor implements EntityAccessor<Registered> {
+        @Override public Class<Registered> entityType() { return Registered.class; }
+        @Override public String idProperty() { return null; }
+        @Override public boolean hasProperty(String property) { return false; }
+        @Override public boolean isWritable(String property) { return false; }
+        @Override public Object get(Registered entity, String property) {
+            throw new IllegalArgumentException(property);
+        }
+        @Override public void set(Registered entity, String property, Object value) {
+            throw new IllegalArgumentException(property);
+        }
+    }
+
+    @Test
+    void findsAccessorByConventionAndCachesIt() {
+        EntityAccessor<Widget> accessor = EntityAccessors.find(Widget.class);
+        assertInstanceOf(WidgetAccessor.class, accessor);
+        assertSame(accessor, EntityAccessors.find(Widget.class));
+    }
+
+    @Test
+    void proxySubclassResolvesToSuperclassAccessor() {
+        assertSame(EntityAccessors.find(Widget.class), EntityAccessors.find(WidgetProxy.class));
+    }
+
+    @Test
+    void missingAccessorYieldsNull() {
+        assertNull(EntityAccessors.find(Unmapped.class));
+        assertNull(EntityAccessors.find(Unmapped.class));
+        assertNull(EntityAccessors.find(null));
+    }
+
+    @Test
+    void registeredAccessorIsReturned() {
+        RegisteredAccessor accessor = new RegisteredAccessor();
+        EntityAccessors.register(accessor);
+        assertSame(accessor, EntityAccessors.find(Registered.class));
+    }
+
+    @Test
+    void idDefaultsUseIdProperty() {
+        EntityAccessor<Widget> accessor = EntityAccessors.find(Widget.class);
+        Widget widget = new Widget();
+        accessor.setId(widget, 7L);
+        assertEquals(7L, accessor.getId(widget));
+    }
+
+    @Test
+    void idDefaultsFailWithoutIdProperty() {
+        RegisteredAccessor accessor = new RegisteredAccessor();
+        assertThrows(UnsupportedOperationException.class,
+                () -> accessor.getId(new Registered()));
+        assertThrows(UnsupportedOperationException.class,
+                () -> accessor.setId(new Registered(), 1L));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.access.meta;
+
+import nl.datasteel.crudcraft.runtime.access.EntityAccessor;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessorsTest.Widget;
+
+/** Accessor found by convention for {@link Widget}. */
+public final class WidgetAccessor implements EntityAccessor<Widget> {
+
+    @Override
+    public Class<Widget> entityType() {
+        return Widget.class;
+    }
+
+    @Override
+    public String idProperty() {
+        return "id";
+    }
+
+    @Override
+    public boolean hasProperty(String property) {
+        return "id".equals(property);
+    }
+
+    @Override
+    public boolean isWritable(String property) {
+        return "id".equals(property);
+    }
+
+    @Override
+    public Object get(Widget entity, String property) {
+        if ("id".equals(property)) {
+            return entity.id;
+        }
+        throw new IllegalArgumentException(property);
+    }
+
+    @Override
+    public void set(Widget entity, String property, Object value) {
+        if ("id".equals(property)) {
+            entity.id = (Long) value;
+            return;
+        }
+        throw new IllegalArgumentException(property);
+    }
+}
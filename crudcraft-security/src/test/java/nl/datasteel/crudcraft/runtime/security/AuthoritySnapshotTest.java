@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+
+class AuthoritySnapshotTest {
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static Authentication login(String... authorities) {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "user", "n/a", AuthorityUtils.createAuthorityList(authorities));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return authentication;
+    }
+
+    @Test
+    void matchesRegisteredRolesAsBits() {
+        RoleMask editor = FieldSecurityRoles.mask(new String[] {"SNAP_EDITOR"});
+        RoleMask auditor = FieldSecurityRoles.mask(new String[] {"SNAP_AUDITOR"});
+        login("ROLE_SNAP_EDITOR");
+
+        AuthoritySnapshot snapshot = AuthoritySnapshot.current();
+        assertTrue(snapshot.hasAnyRole(editor));
+        assertFalse(snapshot.hasAnyRole(auditor));
+        assertTrue(snapshot.hasAuthority("ROLE_SNAP_EDITOR"));
+        assertFalse(snapshot.hasAuthority("SNAP_EDITOR"));
+    }
+
+    @Test
+    void fallsBackToNamesForRolesRegisteredAfterSnapshot() {
+        login("ROLE_SNAP_LATE");
+        AuthoritySnapshot snapshot = AuthoritySnapshot.current();
+
+        RoleMask late = FieldSecurityRoles.mask(new String[] {"SNAP_OTHER", "SNAP_LATE"});
+        assertTrue(snapshot.hasAnyRole(late));
+        assertFalse(snapshot.hasAnyRole(FieldSecurityRoles.mask(new String[] {"SNAP_NEWER"})));
+    }
+
+    @Test
+    void allGrantsEveryoneAndEmptyGrantsNobody() {
+        AuthoritySnapshot anonymous = AuthoritySnapshot.current();
+        assertTrue(anonymous.hasAnyRole(FieldSecurityRoles.mask(new String[] {"ALL"})));
+        assertFalse(anonymous.hasAnyRole(FieldSecurityRoles.mask(new String[] {"SNAP_EDITOR"})));
+
+        login("ROLE_SNAP_EDITOR");
+        assertFalse(AuthoritySnapshot.current().hasAnyRole(FieldSecurityRoles.mask(new String[0])));
+        assertFalse(AuthoritySnapshot.current().hasAnyRole(FieldSecurityRoles.mask(null)));
+    }
+
+    @Test
+    void snapshotIsTakenOncePerRequestAndAuthentication() {
+        RequestContextHolder.setRequestAttributes(new RequestScopedCacheTest.MapRequestAttributes());
+        Authentication first = login("ROLE_SNAP_EDITOR");
+        assertSame(AuthoritySnapshot.of(first), AuthoritySnapshot.current());
+
+        login("ROLE_SNAP_EDITOR");
+        assertNotSame(AuthoritySnapshot.of(first), AuthoritySnapshot.current());
+    }
+
+    @Test
+    void fingerprintDependsOnlyOnAuthorities() {
+        AuthoritySnapshot first = AuthoritySnapshot.of(login("ROLE_A", "ROLE_B"));
+        AuthoritySnapshot same = AuthoritySnapshot.of(login("ROLE_B", "ROLE_A"));
+        AuthoritySnapshot other = AuthoritySnapshot.of(login("ROLE_A"));
+
+        assertEquals(first.fingerprint(), same.fingerprint());
+        assertNotEquals(first.fingerprint(), other.fingerprint());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class EndpointAuthorizationTest {
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        EndpointAuthorization.resetRolePrefix();
+    }
+
+    private static void login(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user", "n/a",
+                        AuthorityUtils.createAuthorityList(authorities)));
+    }
+
+    @Test
+    void requireAnyAuthorityPassesWhenOneIsGranted() {
+        login("ROLE_USER", "ROLE_ADMIN");
+        assertDoesNotThrow(() -> EndpointAuthorization.requireAnyAuthority("ROLE_EDITOR", "ROLE_ADMIN"));
+    }
+
+    @Test
+    void requireAnyAuthorityDeniesWhenNoneIsGranted() {
+        login("ROLE_USER");
+        assertThrows(AccessDeniedException.class,
+                () -> EndpointAuthorization.requireAnyAuthority("ROLE_ADMIN"));
+    }
+
+    @Test
+    void requireAnyRoleAddsDefaultPrefixUnlessPresent() {
+        login("ROLE_ADMIN");
+        assertDoesNotThrow(() -> EndpointAuthorization.requireAnyRole("EDITOR", "ADMIN"));
+        assertDoesNotThrow(() -> EndpointAuthorization.requireAnyRole("ROLE_ADMIN"));
+        assertThrows(AccessDeniedException.class,
+                () -> EndpointAuthorization.requireAnyRole("EDITOR"));
+    }
+
+    @Test
+    void requireAnyRoleHonoursCustomPrefix() {
+        login("GROUP_ADMIN");
+        EndpointAuthorization.setRolePrefix("GROUP_");
+        assertDoesNotThrow(() -> EndpointAuthorization.requireAnyRole("ADMIN"));
+
+        login("ADMIN");
+        EndpointAuthorization.setRolePrefix("");
+        assertDoesNotThrow(() -> EndpointAuthorization.requireAnyRole("ADMIN"));
+        EndpointAuthorization.setRolePrefix(null);
+        assertDoesNotThrow(() -> EndpointAuthorization.requireAnyRole("ADMIN"));
+    }
+
+    @Test
+    void missingAuthenticationIsReportedLikeMethodSecurity() {
+        assertThrows(AuthenticationCredentialsNotFoundException.class,
+                () -> EndpointAuthorization.requireAnyAuthority("ROLE_ADMIN"));
+        assertThrows(AuthenticationCredentialsNotFoundException.class,
+                EndpointAuthorization::requireAuthenticated);
+    }
+
+    @Test
+    void requireAuthenticatedRejectsAnonymousUsers() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymous", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertThrows(AccessDeniedException.class, EndpointAuthorization::requireAuthenticated);
+
+        login("ROLE_USER");
+        assertDoesNotThrow(EndpointAuthorization::requireAuthenticated);
+    }
+
+    @Test
+    void denyAllAlwaysDenies() {
+        login("ROLE_ADMIN");
+        assertThrows(AccessDeniedException.class, EndpointAuthorization::denyAll);
+    }
+}
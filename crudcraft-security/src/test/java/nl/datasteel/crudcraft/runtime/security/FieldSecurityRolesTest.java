@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import nl.datasteel.crudcraft.annotations.security.FieldSecurity;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+class FieldSecurityRolesTest {
+
+    static class Base {
+        @FieldSecurity(readRoles = "ROLES_BASE_READER")
+        private String base;
+    }
+
+    static class Child extends Base {
+        @FieldSecurity(readRoles = "ALL", writeRoles = "ROLES_CHILD_WRITER")
+        private String child;
+        private String plain;
+    }
+
+    @Test
+    void registerIsIdempotent() {
+        int index = FieldSecurityRoles.register("ROLES_SAME");
+        assertEquals(index, FieldSecurityRoles.register("ROLES_SAME"));
+        assertEquals("ROLES_SAME", FieldSecurityRoles.name(index));
+        assertEquals(-1, FieldSecurityRoles.indexOf("ROLES_NEVER_SEEN"));
+    }
+
+    @Test
+    void registerAnnotatedWalksSuperclasses() {
+        FieldSecurityRoles.registerAnnotated(Child.class);
+        assertTrue(FieldSecurityRoles.indexOf("ROLES_BASE_READER") >= 0);
+        assertTrue(FieldSecurityRoles.indexOf("ROLES_CHILD_WRITER") >= 0);
+        assertEquals(-1, FieldSecurityRoles.indexOf(FieldSecurityRoles.ALL));
+    }
+
+    @Test
+    void maskContainsRegisteredIndexes() {
+        RoleMask mask = FieldSecurityRoles.mask(new String[] {"ROLES_A", "ROLES_B"});
+        assertTrue(mask.contains(FieldSecurityRoles.indexOf("ROLES_A")));
+        assertTrue(mask.contains(FieldSecurityRoles.indexOf("ROLES_B")));
+        assertFalse(mask.contains(FieldSecurityRoles.register("ROLES_C")));
+        assertFalse(mask.isEmpty());
+        assertFalse(mask.isEveryone());
+    }
+
+    @Test
+    void specialMasks() {
+        assertTrue(FieldSecurityRoles.mask(new String[] {"ROLES_A", "ALL"}).isEveryone());
+        assertTrue(FieldSecurityRoles.mask(new String[0]).isEmpty());
+        assertFalse(RoleMask.NONE.contains(0));
+    }
+
+    @Test
+    void masksSpanMultipleWords() {
+        for (int i = 0; i < 70; i++) {
+            FieldSecurityRoles.register("ROLES_FILL_" + i);
+        }
+        RoleMask mask = FieldSecurityRoles.mask(new String[] {"ROLES_FILL_69"});
+        int index = FieldSecurityRoles.indexOf("ROLES_FILL_69");
+        assertTrue(index >= 64);
+        assertTrue(mask.contains(index));
+        assertFalse(mask.contains(index - 64));
+    }
+}
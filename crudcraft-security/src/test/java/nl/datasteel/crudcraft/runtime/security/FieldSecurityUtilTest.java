@@ -101,6 +101,13 @@ class FieldSecurityUtilTest {
         }
     }
 
+    @Test
+    void canReadFieldFollowsFieldSecurityOnSubclass() {
+        assertFalse(FieldSecurityUtil.canReadField(DtoProxy.class, "secret"));
+        assertTrue(FieldSecurityUtil.canReadField(EnumCollectionDto.class, "statuses"));
+        assertFalse(FieldSecurityUtil.canReadField(EnumDto.class, "missing"));
+    }
+
     @Test
     void canWriteHandlesAllRole() {
         assertTrue(FieldSecurityUtil.canWrite(new String[]{"ALL"}));
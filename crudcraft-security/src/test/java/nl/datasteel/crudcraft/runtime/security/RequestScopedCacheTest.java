@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+class RequestScopedCacheTest {
+
+    /** Minimal in-memory request attributes. */
+    static class MapRequestAttributes implements RequestAttributes {
+        final Map<String, Object> attributes = new HashMap<>();
+        @Override public Object getAttribute(String name, int scope) { return attributes.get(name); }
+        @Override public void setAttribute(String name, Object value, int scope) { attributes.put(name, value); }
+        @Override public void removeAttribute(String name, int scope) { attributes.remove(name); }
+        @Override public String[] getAttributeNames(int scope) { return attributes.keySet().toArray(String[]::new); }
+        @Override public void registerDestructionCallback(String name, Runnable callback, int scope) { }
+        @Override public Object resolveReference(String key) { return null; }
+        @Override public String getSessionId() { return "session"; }
+        @Override public Object getSessionMutex() { return this; }
+    }
+
+    @AfterEach
+    void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void loadsEveryTimeOutsideRequest() {
+        AtomicInteger loads = new AtomicInteger();
+        RequestScopedCache.get("key", loads::incrementAndGet);
+        RequestScopedCache.get("key", loads::incrementAndGet);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadsOncePerRequest() {
+        AtomicInteger loads = new AtomicInteger();
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        assertEquals(1, RequestScopedCache.get("key", loads::incrementAndGet));
+        assertEquals(1, RequestScopedCache.get("key", loads::incrementAndGet));
+        assertEquals(2, RequestScopedCache.get("other", loads::incrementAndGet));
+
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        assertEquals(3, RequestScopedCache.get("key", loads::incrementAndGet));
+    }
+
+    @Test
+    void cachesNullValues() {
+        AtomicInteger loads = new AtomicInteger();
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        assertNull(RequestScopedCache.get("key", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(RequestScopedCache.get("key", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void loaderMayReadOtherCachedValues() {
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        String value = RequestScopedCache.get("outer",
+                () -> RequestScopedCache.get("inner", () -> "inner") + "-outer");
+        assertEquals("inner-outer", value);
+        assertEquals("inner", RequestScopedCache.get("inner", () -> "reloaded"));
+    }
+}
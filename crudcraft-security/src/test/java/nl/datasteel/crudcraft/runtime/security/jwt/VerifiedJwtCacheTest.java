@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 CrudCraft contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.datasteel.crudcraft.runtime.security.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class VerifiedJwtCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final Clock clock = new Clock() {
+        @Override public ZoneOffset getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(java.time.ZoneId zone) { return this; }
+        @Override public Instant instant() { return now.get(); }
+    };
+
+    private JwtDecoder delegate;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(JwtDecoder.class);
+        when(delegate.decode(anyString())).thenAnswer(inv -> jwt(inv.getArgument(0), NOW.plusSeconds(60)));
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject("user")
+                .claim("roles", List.of("ADMIN"))
+                .issuedAt(expiresAt.minusSeconds(120))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    void repeatedTokensAreVerifiedOnce() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(10), clock);
+        JwtDecoder decoder = cache.decoder(delegate);
+
+        Jwt first = decoder.decode("a");
+        assertSame(first, decoder.decode("a"));
+
+        verify(delegate, times(1)).decode("a");
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void tokensLeaveTheCacheWhenTheyExpire() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(10), clock);
+        JwtDecoder decoder = cache.decoder(delegate);
+
+        decoder.decode("a");
+        now.set(NOW.plusSeconds(60));
+        decoder.decode("a");
+
+        verify(delegate, times(2)).decode("a");
+        assertEquals(1, cache.getExpirationCount());
+    }
+
+    @Test
+    void maxAgeCapsTokensWithDistantExpiry() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofSeconds(5), clock);
+        JwtDecoder decoder = cache.decoder(delegate);
+
+        decoder.decode("a");
+        now.set(NOW.plusSeconds(5));
+        decoder.decode("a");
+
+        verify(delegate, times(2)).decode("a");
+    }
+
+    @Test
+    void expiredTokensAndFailuresAreNotCached() {
+        when(delegate.decode("old")).thenReturn(jwt("old", NOW.minusSeconds(1)));
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("bad signature"));
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(10), clock);
+        JwtDecoder decoder = cache.decoder(delegate);
+
+        decoder.decode("old");
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+
+        assertEquals(0, cache.size());
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    @Test
+    void leastRecentlyUsedTokenIsEvictedWhenFull() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(2, Duration.ofMinutes(10), clock);
+        JwtDecoder decoder = cache.decoder(delegate);
+
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("a");
+        decoder.decode("c");
+        decoder.decode("a");
+        decoder.decode("b");
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        verify(delegate, times(1)).decode("a");
+        verify(delegate, times(2)).decode("b");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void authoritiesOfCachedTokensAreMappedOnce() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(10), clock);
+        JwtDecoder decoder = cache.decoder(delegate);
+        Converter<Jwt, AbstractAuthenticationToken> mapper = mock(Converter.class);
+        when(mapper.convert(any())).thenAnswer(inv -> new JwtAuthenticationToken(
+                inv.getArgument(0), AuthorityUtils.createAuthorityList("ROLE_ADMIN"), "user"));
+        Converter<Jwt, AbstractAuthenticationToken> converter = cache.authenticationConverter(mapper);
+
+        AbstractAuthenticationToken first = converter.convert(decoder.decode("a"));
+        AbstractAuthenticationToken second = converter.convert(decoder.decode("a"));
+
+        assertNotSame(first, second);
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        assertEquals("user", second.getName());
+        assertTrue(second.isAuthenticated());
+        verify(mapper, times(1)).convert(any());
+        assertEquals(1, cache.getConversionHitCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tokensOutsideTheCacheAreConvertedEveryTime() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(10), clock);
+        Converter<Jwt, AbstractAuthenticationToken> mapper = mock(Converter.class);
+        Converter<Jwt, AbstractAuthenticationToken> converter = cache.authenticationConverter(mapper);
+        Jwt jwt = jwt("x", NOW.plusSeconds(60));
+
+        converter.convert(jwt);
+        converter.convert(jwt);
+
+        verify(mapper, times(2)).convert(jwt);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new VerifiedJwtCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new VerifiedJwtCache(1, Duration.ZERO));
+    }
+}
@@ -21,6 +21,8 @@ import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.util.UUID;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessor;
+import nl.datasteel.crudcraft.runtime.access.EntityAccessors;
 import nl.datasteel.crudcraft.runtime.security.AccessDeniedException;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
@@ -56,6 +58,23 @@ class OwnerBasedRowSecurityTest {
         public void setCreatorId(UUID creatorId) { this.creatorId = creatorId; }
     }
 
+    static class AccessorEntity {
+        UUID owner;
+    }
+
+    static class AccessorEntityAccessor implements EntityAccessor<AccessorEntity> {
+        int writes;
+        @Override public Class<AccessorEntity> entityType() { return AccessorEntity.class; }
+        @Override public String idProperty() { return null; }
+        @Override public boolean hasProperty(String property) { return "ownerId".equals(property); }
+        @Override public boolean isWritable(String property) { return "ownerId".equals(property); }
+        @Override public Object get(AccessorEntity entity, String property) { return entity.owner; }
+        @Override public void set(AccessorEntity entity, String property, Object value) {
+            writes++;
+            entity.owner = (UUID) value;
+        }
+    }
+
     // --- apply(): behavior & exception mapping --------------------------------
 
     @Test
@@ -214,4 +233,20 @@ class OwnerBasedRowSecurityTest {
         verify(root).get("creatorId");
         verify(cb).equal(path, user);
     }
+
+    @Test
+    void applyUsesRegisteredAccessor() {
+        UUID user = UUID.randomUUID();
+        AccessorEntityAccessor accessor = new AccessorEntityAccessor();
+        EntityAccessors.register(accessor);
+        var security = new OwnerBasedRowSecurity<AccessorEntity>(() -> user);
+        var entity = new AccessorEntity();
+
+        security.apply(entity);
+        assertEquals(user, entity.owner);
+        assertEquals(1, accessor.writes);
+
+        entity.owner = UUID.randomUUID();
+        assertThrows(AccessDeniedException.class, () -> security.apply(entity));
+    }
 }
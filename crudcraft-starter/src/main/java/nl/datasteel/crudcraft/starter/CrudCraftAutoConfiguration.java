@@ -15,21 +15,287 @@
  */
 package nl.datasteel.crudcraft.starter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Type;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
 import nl.datasteel.crudcraft.runtime.config.CrudCraftSearchProperties;
+import nl.datasteel.crudcraft.runtime.config.ExportAdmissionProperties;
+import nl.datasteel.crudcraft.runtime.controller.ContentTagFilter;
+import nl.datasteel.crudcraft.runtime.controller.CrudCraftController;
 import nl.datasteel.crudcraft.runtime.controller.CrudCraftExceptionHandler;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import nl.datasteel.crudcraft.runtime.schema.RecommendedIndexVerifier;
+import nl.datasteel.crudcraft.runtime.security.EndpointAuthorization;
+import nl.datasteel.crudcraft.runtime.security.FieldSecurityRoles;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletPath;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.security.config.core.GrantedAuthorityDefaults;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * Autoconfiguration for CrudCraft, enabling the exception handler and search properties.
+ * Autoconfiguration for CrudCraft, enabling the exception handler, search properties,
+ * export admission control and the Smile and CBOR body encodings.
  * This configuration is only active when the application is a web application (servlet type).
  */
 @Configuration
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Import({CrudCraftExceptionHandler.class})
-@EnableConfigurationProperties(CrudCraftSearchProperties.class)
+@EnableConfigurationProperties({CrudCraftSearchProperties.class, ExportAdmissionProperties.class})
 public class CrudCraftAutoConfiguration {
-    // No beans needed here — importing the advice is enough
+
+    /**
+     * Limits concurrent exports across all CrudCraft controllers.
+     * Disable with {@code crudcraft.export.admission.enabled=false}.
+     *
+     * @param properties the admission properties
+     * @return the shared export admission controller
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "crudcraft.export.admission", name = "enabled", matchIfMissing = true)
+    public ExportAdmissionController exportAdmissionController(ExportAdmissionProperties properties) {
+        return properties.toController();
+    }
+
+    /**
+     * Tags list responses and reads of unversioned entities with a hash of their serialized
+     * body and answers a matching {@code If-None-Match} with {@code 304}.
+     * The filter is only mapped to the paths of {@link CrudCraftController} beans, and left
+     * unregistered when there are none.
+     *
+     * @param beanFactory the bean factory to find the CrudCraft controllers in
+     * @param servletPath the dispatcher servlet path, if any
+     * @return the content tag filter registration
+     */
+    @Bean
+    @ConditionalOnMissingBean(ContentTagFilter.class)
+    public FilterRegistrationBean<ContentTagFilter> contentTagFilter(
+            ConfigurableListableBeanFactory beanFactory,
+            ObjectProvider<DispatcherServletPath> servletPath) {
+        FilterRegistrationBean<ContentTagFilter> registration =
+                new FilterRegistrationBean<>(new ContentTagFilter());
+        Set<String> urlPatterns = crudCraftUrlPatterns(beanFactory,
+                servletPath.getIfAvailable(() -> () -> ""));
+        registration.setUrlPatterns(urlPatterns);
+        registration.setEnabled(!urlPatterns.isEmpty());
+        return registration;
+    }
+
+    /**
+     * Derives servlet URL patterns from the class-level request mappings of the
+     * {@link CrudCraftController} beans, without instantiating any bean.
+     * Mappings are cut off at their first path variable or wildcard.
+     *
+     * @param beanFactory the bean factory to search
+     * @param servletPath the dispatcher servlet path
+     * @return the URL patterns covering every CrudCraft controller
+     */
+    static Set<String> crudCraftUrlPatterns(ConfigurableListableBeanFactory beanFactory,
+                                            DispatcherServletPath servletPath) {
+        Set<String> patterns = new LinkedHashSet<>();
+        for (String name : beanFactory.getBeanNamesForType(Object.class, true, false)) {
+            if (beanFactory.findAnnotationOnBean(name, CrudCraftController.class, false) == null) {
+                continue;
+            }
+            RequestMapping mapping = beanFactory.findAnnotationOnBean(name, RequestMapping.class, false);
+            String[] paths = mapping == null || mapping.path().length == 0
+                    ? new String[] {""} : mapping.path();
+            for (String path : paths) {
+                String resolved = String.valueOf(beanFactory.resolveEmbeddedValue(path));
+                int end = resolved.length();
+                for (char wildcard : new char[] {'{', '*'}) {
+                    int index = resolved.indexOf(wildcard);
+                    end = index < 0 ? end : Math.min(end, index);
+                }
+                String base = StringUtils.trimTrailingCharacter(resolved.substring(0, end), '/');
+                if (end == resolved.length() && !base.isEmpty()) {
+                    patterns.add(servletPath.getRelativePath(base));
+                }
+                patterns.add(servletPath.getRelativePath(base + "/*"));
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Lets controllers exchange request and response bodies as Smile when callers send
+     * {@code application/x-jackson-smile}, using the application's JSON mapper settings.
+     * Disable with {@code crudcraft.api.binary-formats.enabled=false}.
+     *
+     * @param objectMapper the application's JSON mapper, if any
+     * @return the Smile message converter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "crudcraft.api.binary-formats", name = "enabled", matchIfMissing = true)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            ObjectProvider<ObjectMapper> objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                BinaryFormats.smileMapper(objectMapper.getIfAvailable(ObjectMapper::new)));
+    }
+
+    /**
+     * Lets controllers exchange request and response bodies as CBOR when callers send
+     * {@code application/cbor}, using the application's JSON mapper settings.
+     * Disable with {@code crudcraft.api.binary-formats.enabled=false}.
+     *
+     * @param objectMapper the application's JSON mapper, if any
+     * @return the CBOR message converter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "crudcraft.api.binary-formats", name = "enabled", matchIfMissing = true)
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            ObjectProvider<ObjectMapper> objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(
+                BinaryFormats.cborMapper(objectMapper.getIfAvailable(ObjectMapper::new)));
+    }
+
+    /**
+     * Keeps Smile and CBOR off the API when {@code crudcraft.api.binary-formats.enabled=false}.
+     * Spring MVC registers its own Smile and CBOR converters whenever the Jackson data
+     * formats are on the classpath, and CrudCraft needs them there for exports, so skipping
+     * the converter beans above is not enough.
+     */
+    @Configuration
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    @ConditionalOnProperty(prefix = "crudcraft.api.binary-formats", name = "enabled", havingValue = "false")
+    static class BinaryFormatsDisabledConfiguration {
+
+        /**
+         * Removes every Smile and CBOR converter Spring MVC would negotiate with, so
+         * requests accepting only those formats are answered with {@code 406}.
+         *
+         * @return the MVC configurer
+         */
+        @Bean
+        public WebMvcConfigurer binaryFormatsRemover() {
+            return new WebMvcConfigurer() {
+                @Override
+                public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                    converters.removeIf(c -> c instanceof MappingJackson2SmileHttpMessageConverter
+                            || c instanceof MappingJackson2CborHttpMessageConverter);
+                }
+            };
+        }
+    }
+
+    /**
+     * Registers the roles named by {@code @FieldSecurity} on every managed entity at startup,
+     * so field checks test them as bits of one precomputed authority mask per request.
+     *
+     * @param entityManagerFactories the entity manager factories, if any
+     * @return the role collector
+     */
+    @Bean
+    public SmartInitializingSingleton fieldSecurityRoleCollector(
+            ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+        return () -> entityManagerFactories.orderedStream().forEach(emf ->
+                emf.getMetamodel().getManagedTypes().forEach(type -> {
+                    if (type.getJavaType() != null) {
+                        FieldSecurityRoles.registerAnnotated(type.getJavaType());
+                    }
+                }));
+    }
+
+    /**
+     * Compares the indexes recommended for row-security filtered entities against the live
+     * schema at startup and logs the DDL of missing ones.
+     * Disable with {@code crudcraft.row-security.verify-indexes=false}.
+     *
+     * @param dataSources the data source, if exactly one exists
+     * @param entityManagerFactories the entity manager factories, if any
+     * @return the index verifier
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "crudcraft.row-security", name = "verify-indexes", matchIfMissing = true)
+    public SmartInitializingSingleton rowSecurityIndexVerifier(
+            ObjectProvider<DataSource> dataSources,
+            ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+        return () -> {
+            DataSource dataSource = dataSources.getIfUnique();
+            if (dataSource == null) {
+                return;
+            }
+            List<Class<?>> entityTypes = entityManagerFactories.orderedStream()
+                    .flatMap(emf -> emf.getMetamodel().getEntities().stream())
+                    .<Class<?>>map(Type::getJavaType)
+                    .toList();
+            new RecommendedIndexVerifier(dataSource).verifyEntities(entityTypes);
+        };
+    }
+
+    /**
+     * Applies the role prefix of the application's {@link GrantedAuthorityDefaults} to the
+     * precompiled {@code hasRole} checks of generated controllers.
+     */
+    @Configuration
+    @ConditionalOnClass(GrantedAuthorityDefaults.class)
+    static class RolePrefixConfiguration {
+
+        /**
+         * Hands the custom role prefix, if exactly one is defined, to
+         * {@link EndpointAuthorization} at startup, and restores the default prefix otherwise
+         * and when the context closes, so the prefix of one context does not leak into the
+         * next one started in the same JVM.
+         *
+         * @param defaults the authority defaults, if any
+         * @return the role prefix initializer
+         */
+        @Bean
+        EndpointRolePrefixInitializer endpointRolePrefixInitializer(
+                ObjectProvider<GrantedAuthorityDefaults> defaults) {
+            return new EndpointRolePrefixInitializer(defaults);
+        }
+    }
+
+    /**
+     * Sets the role prefix of {@link EndpointAuthorization} for the lifetime of a context.
+     */
+    static final class EndpointRolePrefixInitializer
+            implements SmartInitializingSingleton, DisposableBean {
+
+        private final ObjectProvider<GrantedAuthorityDefaults> defaults;
+
+        EndpointRolePrefixInitializer(ObjectProvider<GrantedAuthorityDefaults> defaults) {
+            this.defaults = defaults;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            GrantedAuthorityDefaults custom = defaults.getIfUnique();
+            if (custom != null) {
+                EndpointAuthorization.setRolePrefix(custom.getRolePrefix());
+            } else {
+                EndpointAuthorization.resetRolePrefix();
+            }
+        }
+
+        @Override
+        public void destroy() {
+            EndpointAuthorization.resetRolePrefix();
+        }
+    }
 }
@@ -15,24 +15,79 @@
  */
 package nl.datasteel.crudcraft.starter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import java.util.Map;
+import java.util.Set;
+import nl.datasteel.crudcraft.annotations.security.FieldSecurity;
 import nl.datasteel.crudcraft.runtime.config.CrudCraftSearchProperties;
+import nl.datasteel.crudcraft.runtime.controller.ContentTagFilter;
+import nl.datasteel.crudcraft.runtime.controller.CrudCraftController;
 import nl.datasteel.crudcraft.runtime.controller.CrudCraftExceptionHandler;
+import nl.datasteel.crudcraft.runtime.export.ExportAdmissionController;
+import nl.datasteel.crudcraft.runtime.security.EndpointAuthorization;
+import nl.datasteel.crudcraft.runtime.security.FieldSecurityRoles;
+import nl.datasteel.crudcraft.runtime.util.BinaryFormats;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletPath;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.core.GrantedAuthorityDefaults;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
 
 class CrudCraftAutoConfigurationTest {
 
+    static class SecuredEntity {
+        @FieldSecurity(readRoles = "AUTOCONFIG_AUDITOR")
+        private String secret;
+    }
+
     private final ApplicationContextRunner nonWebRunner =
             new ApplicationContextRunner().withUserConfiguration(CrudCraftAutoConfiguration.class);
 
     private final WebApplicationContextRunner webRunner =
             new WebApplicationContextRunner().withUserConfiguration(CrudCraftAutoConfiguration.class);
 
+    private final WebApplicationContextRunner mvcRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class))
+            .withUserConfiguration(CrudCraftAutoConfiguration.class, GreetingController.class);
+
     private final ReactiveWebApplicationContextRunner reactiveRunner =
             new ReactiveWebApplicationContextRunner().withUserConfiguration(CrudCraftAutoConfiguration.class);
 
@@ -63,4 +118,169 @@ class CrudCraftAutoConfigurationTest {
                     () -> context.getBean(CrudCraftSearchProperties.class));
         });
     }
+
+    @Test
+    void autoConfigRegistersExportAdmissionFromProperties() {
+        webRunner.withPropertyValues("crudcraft.export.admission.weights.xlsx=5")
+                .run(context -> assertEquals(5,
+                        context.getBean(ExportAdmissionController.class).weightOf("xlsx")));
+    }
+
+    @Test
+    void autoConfigRegistersContentTagFilter() {
+        webRunner.run(context -> assertTrue(context.getBean("contentTagFilter",
+                FilterRegistrationBean.class).getFilter() instanceof ContentTagFilter));
+    }
+
+    @Test
+    void contentTagFilterIsMappedToCrudCraftControllersOnly() {
+        webRunner.withUserConfiguration(GreetingController.class, WidgetController.class,
+                        ReviewController.class)
+                .withPropertyValues("widgets.path=/widgets")
+                .withBean(DispatcherServletPath.class, () -> () -> "/api")
+                .run(context -> {
+                    FilterRegistrationBean<?> registration =
+                            context.getBean("contentTagFilter", FilterRegistrationBean.class);
+                    assertTrue(registration.isEnabled());
+                    assertEquals(Set.of("/api/widgets", "/api/widgets/*", "/api/products/*"),
+                            Set.copyOf(registration.getUrlPatterns()));
+                });
+    }
+
+    @Test
+    void contentTagFilterIsNotRegisteredWithoutCrudCraftControllers() {
+        webRunner.withUserConfiguration(GreetingController.class)
+                .run(context -> assertFalse(context.getBean("contentTagFilter",
+                        FilterRegistrationBean.class).isEnabled()));
+    }
+
+    @Test
+    void exportAdmissionCanBeDisabled() {
+        webRunner.withPropertyValues("crudcraft.export.admission.enabled=false")
+                .run(context -> assertThrows(NoSuchBeanDefinitionException.class,
+                        () -> context.getBean(ExportAdmissionController.class)));
+    }
+
+    @Test
+    void fieldSecurityRolesAreCollectedFromMetamodel() {
+        ManagedType<?> type = mock(ManagedType.class);
+        doReturn(SecuredEntity.class).when(type).getJavaType();
+        Metamodel metamodel = mock(Metamodel.class);
+        when(metamodel.getManagedTypes()).thenReturn(Set.of(type));
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        when(emf.getMetamodel()).thenReturn(metamodel);
+
+        int before = FieldSecurityRoles.size();
+        webRunner.withBean(EntityManagerFactory.class, () -> emf)
+                .run(context -> assertEquals(before + 1, FieldSecurityRoles.size()));
+        assertEquals(before, FieldSecurityRoles.register("AUTOCONFIG_AUDITOR"));
+    }
+
+    @Test
+    void rowSecurityIndexVerifierCanBeDisabled() {
+        webRunner.run(context -> assertNotNull(context.getBean("rowSecurityIndexVerifier")));
+        webRunner.withPropertyValues("crudcraft.row-security.verify-indexes=false")
+                .run(context -> assertThrows(NoSuchBeanDefinitionException.class,
+                        () -> context.getBean("rowSecurityIndexVerifier")));
+    }
+
+    @Test
+    void roleChecksUseCustomGrantedAuthorityDefaults() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user", "n/a",
+                        AuthorityUtils.createAuthorityList("GROUP_ADMIN")));
+        try {
+            webRunner.withBean(GrantedAuthorityDefaults.class, () -> new GrantedAuthorityDefaults("GROUP_"))
+                    .run(context -> assertDoesNotThrow(
+                            () -> EndpointAuthorization.requireAnyRole("ADMIN")));
+        } finally {
+            EndpointAuthorization.resetRolePrefix();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void rolePrefixIsResetWhenContextClosesOrHasNoCustomDefaults() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("user", "n/a",
+                        AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        try {
+            webRunner.withBean(GrantedAuthorityDefaults.class, () -> new GrantedAuthorityDefaults("GROUP_"))
+                    .run(context -> assertThrows(AccessDeniedException.class,
+                            () -> EndpointAuthorization.requireAnyRole("ADMIN")));
+            assertDoesNotThrow(() -> EndpointAuthorization.requireAnyRole("ADMIN"));
+
+            EndpointAuthorization.setRolePrefix("GROUP_");
+            webRunner.run(context -> assertDoesNotThrow(
+                    () -> EndpointAuthorization.requireAnyRole("ADMIN")));
+        } finally {
+            EndpointAuthorization.resetRolePrefix();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void binaryConvertersReuseApplicationObjectMapperSettings() {
+        ObjectMapper json = new ObjectMapper().enable(SerializationFeature.WRAP_ROOT_VALUE);
+        webRunner.withBean(ObjectMapper.class, () -> json).run(context -> {
+            MappingJackson2SmileHttpMessageConverter smile =
+                    context.getBean(MappingJackson2SmileHttpMessageConverter.class);
+            MappingJackson2CborHttpMessageConverter cbor =
+                    context.getBean(MappingJackson2CborHttpMessageConverter.class);
+            assertTrue(smile.getObjectMapper().getFactory() instanceof SmileFactory);
+            assertTrue(cbor.getObjectMapper().getFactory() instanceof CBORFactory);
+            assertTrue(smile.getObjectMapper().isEnabled(SerializationFeature.WRAP_ROOT_VALUE));
+            assertTrue(cbor.getObjectMapper().isEnabled(SerializationFeature.WRAP_ROOT_VALUE));
+        });
+    }
+
+    @Test
+    void binaryConvertersCanBeDisabled() {
+        webRunner.withPropertyValues("crudcraft.api.binary-formats.enabled=false")
+                .run(context -> assertThrows(NoSuchBeanDefinitionException.class,
+                        () -> context.getBean(MappingJackson2SmileHttpMessageConverter.class)));
+    }
+
+    @Test
+    void disabledBinaryFormatsAreNotNegotiated() {
+        mvcRunner.withPropertyValues("crudcraft.api.binary-formats.enabled=false").run(context -> {
+            MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+            mvc.perform(get("/greeting").accept(BinaryFormats.SMILE))
+                    .andExpect(status().isNotAcceptable());
+            mvc.perform(get("/greeting").accept(BinaryFormats.CBOR))
+                    .andExpect(status().isNotAcceptable());
+            mvc.perform(get("/greeting").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+        });
+    }
+
+    @Test
+    void enabledBinaryFormatsAreNegotiated() {
+        mvcRunner.run(context -> {
+            MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+            mvc.perform(get("/greeting").accept(BinaryFormats.SMILE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(BinaryFormats.SMILE));
+        });
+    }
+
+    @RestController
+    @CrudCraftController
+    @RequestMapping("${widgets.path}")
+    static class WidgetController {
+    }
+
+    @RestController
+    @CrudCraftController
+    @RequestMapping("/products/{productId}/reviews")
+    static class ReviewController {
+    }
+
+    @RestController
+    static class GreetingController {
+        @GetMapping("/greeting")
+        Map<String, String> greeting() {
+            return Map.of("greeting", "hello");
+        }
+    }
 }